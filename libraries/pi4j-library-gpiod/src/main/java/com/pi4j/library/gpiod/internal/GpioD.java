@@ -394,6 +394,116 @@ public class GpioD {
 
     private static native void c_gpiod_line_event_free(long eventPtr);
 
+    static void lineRequestBulkInputFlags(long[] linePtrs, int count, String consumer, int flags) {
+        int result = c_gpiod_line_request_bulk_input_flags(linePtrs, count, consumer, flags);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_request_bulk_input_flags failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_request_bulk_input_flags(long[] linePtrs, int count, String consumer, int flags);
+
+    static void lineRequestBulkOutputFlags(long[] linePtrs, int count, String consumer, int flags, int[] defaultVals) {
+        int result = c_gpiod_line_request_bulk_output_flags(linePtrs, count, consumer, flags, defaultVals);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_request_bulk_output_flags failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_request_bulk_output_flags(long[] linePtrs, int count, String consumer,
+                                                                     int flags, int[] defaultVals);
+
+    static void lineReleaseBulk(long[] linePtrs, int count) {
+        c_gpiod_line_release_bulk(linePtrs, count);
+    }
+
+    private static native void c_gpiod_line_release_bulk(long[] linePtrs, int count);
+
+    static void lineGetValueBulk(long[] linePtrs, int count, int[] values) {
+        int result = c_gpiod_line_get_value_bulk(linePtrs, count, values);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_get_value_bulk failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_get_value_bulk(long[] linePtrs, int count, int[] values);
+
+    static void lineSetValueBulk(long[] linePtrs, int count, int[] values) {
+        int result = c_gpiod_line_set_value_bulk(linePtrs, count, values);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_set_value_bulk failed: " + result + " (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_gpiod_line_set_value_bulk(long[] linePtrs, int count, int[] values);
+
+    static int lineEventGetFd(long linePtr) {
+        int fd = c_gpiod_line_event_get_fd(linePtr);
+        if (fd < 0)
+            throw new GpioDException("c_gpiod_line_event_get_fd failed: " + fd + " (" + c_gpiod_strerror() + ")");
+        return fd;
+    }
+
+    private static native int c_gpiod_line_event_get_fd(long linePtr);
+
+    static int lineEventReadFdMultiple(int fd, long lineEventsPtr, int numEvents) {
+        int result = c_gpiod_line_event_read_fd_multiple(fd, lineEventsPtr, numEvents);
+        if (result < 0)
+            throw new GpioDException("c_gpiod_line_event_read_fd_multiple failed: " + result + " (" + c_gpiod_strerror() + ")");
+        return result;
+    }
+
+    private static native int c_gpiod_line_event_read_fd_multiple(int fd, long eventsPtr, int numEvents);
+
+    static long lineEventNewArray(int numEvents) {
+        Long ptr = c_gpiod_line_event_new_array(numEvents);
+        if (ptr == null)
+            throw new GpioDException("c_gpiod_line_event_new_array failed! (" + c_gpiod_strerror() + ")");
+        return ptr;
+    }
+
+    private static native Long c_gpiod_line_event_new_array(int numEvents);
+
+    static int lineEventSize() {
+        return c_gpiod_line_event_size();
+    }
+
+    private static native int c_gpiod_line_event_size();
+
+    static int poll(int[] fds, int[] events, int[] revents, int count, long timeoutNs) {
+        int result = c_poll(fds, events, revents, count, timeoutNs);
+        if (result < 0)
+            throw new GpioDException("c_poll failed: " + result);
+        return result;
+    }
+
+    private static native int c_poll(int[] fds, int[] events, int[] revents, int count, long timeoutNs);
+
+    static int eventFdNew() {
+        int fd = c_eventfd();
+        if (fd < 0)
+            throw new GpioDException("c_eventfd failed: " + fd + " (" + c_gpiod_strerror() + ")");
+        return fd;
+    }
+
+    private static native int c_eventfd();
+
+    static void eventFdSignal(int fd) {
+        if (c_eventfd_write(fd) < 0)
+            throw new GpioDException("c_eventfd_write failed! (" + c_gpiod_strerror() + ")");
+    }
+
+    private static native int c_eventfd_write(int fd);
+
+    static void eventFdClear(int fd) {
+        // fails with EAGAIN if not signaled, which is fine
+        c_eventfd_read(fd);
+    }
+
+    private static native int c_eventfd_read(int fd);
+
+    static void close(int fd) {
+        c_close(fd);
+    }
+
+    private static native int c_close(int fd);
+
     static String getVersion() {
         return c_gpiod_version_string();
     }
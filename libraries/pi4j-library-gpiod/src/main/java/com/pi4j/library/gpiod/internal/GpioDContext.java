@@ -82,6 +82,13 @@ public class GpioDContext implements Closeable {
         });
     }
 
+    public synchronized GpioLineBulk getOrOpenLines(int... offsets) {
+        GpioLine[] lines = new GpioLine[offsets.length];
+        for (int i = 0; i < offsets.length; i++)
+            lines[i] = getOrOpenLine(offsets[i]);
+        return new GpioLineBulk(lines);
+    }
+
     public synchronized void closeLine(GpioLine gpioLine) {
         long linePtr = gpioLine.getCPointer();
         GpioD.lineRelease(linePtr);
@@ -100,6 +107,18 @@ public class GpioDContext implements Closeable {
         }
     }
 
+    public synchronized GpioLineEventBuffer openLineEventBuffer(int capacity) {
+        long lineEventsPtr = GpioD.lineEventNewArray(capacity);
+        this.openLineEvents.add(lineEventsPtr);
+        return new GpioLineEventBuffer(lineEventsPtr, capacity);
+    }
+
+    public synchronized void closeLineEventBuffer(GpioLineEventBuffer lineEventBuffer) {
+        // event arrays are released the same way as single events
+        if (this.openLineEvents.remove(lineEventBuffer.getCPointer()))
+            GpioD.lineEventFree(lineEventBuffer.getCPointer());
+    }
+
     @Override
     public synchronized void close() {
         if (this.gpioChip == null)
@@ -0,0 +1,73 @@
+package com.pi4j.library.gpiod.internal;
+
+import java.io.Closeable;
+
+/**
+ * <p>GpioDPoller</p>
+ * <p>
+ * Waits for events on any number of line event file descriptors at once, using a single ppoll(2) call. A waiting
+ * thread can be woken up by another thread through {@link #wakeup()}, e.g. after lines have been added or removed.
+ */
+public class GpioDPoller implements Closeable {
+
+    // poll(2) event bits (see <poll.h>)
+    public static final int POLLIN = 0x0001;
+    public static final int POLLPRI = 0x0002;
+    public static final int POLLERR = 0x0008;
+    public static final int POLLHUP = 0x0010;
+    public static final int POLLNVAL = 0x0020;
+
+    private final int wakeupFd;
+    private int[] fds = new int[1];
+    private int[] events = new int[1];
+    private int[] revents = new int[1];
+
+    public GpioDPoller() {
+        this.wakeupFd = GpioD.eventFdNew();
+    }
+
+    /**
+     * Wait until at least one of the given line event file descriptors has pending events, the timeout elapsed or
+     * {@link #wakeup()} has been called. Must only be called by a single thread at a time.
+     *
+     * @param lineFds     the line event file descriptors to wait on
+     * @param lineRevents receives the returned poll(2) event bits for each file descriptor
+     * @param count       the number of file descriptors to wait on
+     * @param timeoutNs   the maximum time to wait in nanoseconds, or a negative value to wait without timeout
+     * @return the number of line event file descriptors with returned events
+     */
+    public int poll(int[] lineFds, int[] lineRevents, int count, long timeoutNs) {
+        if (this.fds.length < count + 1) {
+            this.fds = new int[count + 1];
+            this.events = new int[count + 1];
+            this.revents = new int[count + 1];
+        }
+        this.fds[0] = this.wakeupFd;
+        this.events[0] = POLLIN;
+        for (int i = 0; i < count; i++) {
+            this.fds[i + 1] = lineFds[i];
+            this.events[i + 1] = POLLIN | POLLPRI;
+        }
+
+        int ready = GpioD.poll(this.fds, this.events, this.revents, count + 1, timeoutNs);
+        if (ready > 0 && this.revents[0] != 0) {
+            GpioD.eventFdClear(this.wakeupFd);
+            ready--;
+        }
+        for (int i = 0; i < count; i++)
+            lineRevents[i] = this.revents[i + 1];
+        return ready;
+    }
+
+    /**
+     * Wake up the thread waiting in {@link #poll(int[], int[], int, long)}, or make its next call return immediately.
+     */
+    public void wakeup() {
+        GpioD.eventFdSignal(this.wakeupFd);
+    }
+
+    @Override
+    public void close() {
+        GpioD.close(this.wakeupFd);
+    }
+}
@@ -142,4 +142,8 @@ public class GpioLine extends CWrapper {
         GpioD.lineEventRead(getCPointer(), lineEvent.getCPointer());
         return lineEvent;
     }
+
+    public int eventGetFd() {
+        return GpioD.lineEventGetFd(getCPointer());
+    }
 }
@@ -0,0 +1,72 @@
+package com.pi4j.library.gpiod.internal;
+
+/**
+ * <p>GpioLineBulk</p>
+ * <p>
+ * Up to 64 lines of the same chip requested together, so their values are read or set with a single ioctl each.
+ * Values are exchanged as a bitmask, bit <i>n</i> holding the value of the <i>n</i>-th line.
+ */
+public class GpioLineBulk {
+    public static final int MAX_LINES = 64;
+
+    private final GpioLine[] lines;
+    private final long[] linePtrs;
+    private final int[] values;
+
+    GpioLineBulk(GpioLine[] lines) {
+        if (lines.length == 0 || lines.length > MAX_LINES)
+            throw new IllegalArgumentException("A line bulk must have 1 to " + MAX_LINES + " lines, not " + lines.length);
+        this.lines = lines.clone();
+        this.linePtrs = new long[lines.length];
+        for (int i = 0; i < lines.length; i++)
+            this.linePtrs[i] = lines[i].getCPointer();
+        this.values = new int[lines.length];
+    }
+
+    public int size() {
+        return this.lines.length;
+    }
+
+    public GpioLine getLine(int index) {
+        return this.lines[index];
+    }
+
+    public void requestInputFlags(String consumer, int flags) {
+        GpioD.lineRequestBulkInputFlags(this.linePtrs, this.linePtrs.length, consumer, flags);
+    }
+
+    public void requestOutputFlags(String consumer, int flags, long defaultValues) {
+        synchronized (this.values) {
+            toValues(defaultValues);
+            GpioD.lineRequestBulkOutputFlags(this.linePtrs, this.linePtrs.length, consumer, flags, this.values);
+        }
+    }
+
+    public void release() {
+        GpioD.lineReleaseBulk(this.linePtrs, this.linePtrs.length);
+    }
+
+    public long getValues() {
+        synchronized (this.values) {
+            GpioD.lineGetValueBulk(this.linePtrs, this.linePtrs.length, this.values);
+            long bits = 0;
+            for (int i = 0; i < this.values.length; i++) {
+                if (this.values[i] != 0)
+                    bits |= 1L << i;
+            }
+            return bits;
+        }
+    }
+
+    public void setValues(long bits) {
+        synchronized (this.values) {
+            toValues(bits);
+            GpioD.lineSetValueBulk(this.linePtrs, this.linePtrs.length, this.values);
+        }
+    }
+
+    private void toValues(long bits) {
+        for (int i = 0; i < this.values.length; i++)
+            this.values[i] = (int) ((bits >>> i) & 1);
+    }
+}
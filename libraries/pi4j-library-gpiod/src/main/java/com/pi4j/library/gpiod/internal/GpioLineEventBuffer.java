@@ -0,0 +1,57 @@
+package com.pi4j.library.gpiod.internal;
+
+import java.util.Objects;
+
+/**
+ * <p>GpioLineEventBuffer</p>
+ * <p>
+ * Native array of line events, filled with all pending events of a line event file descriptor at once.
+ */
+public class GpioLineEventBuffer extends CWrapper {
+    private static final int EVENT_SIZE = GpioD.lineEventSize();
+
+    private final int capacity;
+    private int size;
+
+    GpioLineEventBuffer(long cPointer, int capacity) {
+        super(cPointer);
+        this.capacity = capacity;
+    }
+
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * @return the number of events read by the last call to {@link #readFd(int)}
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Read up to {@link #capacity()} pending events from a line event file descriptor, replacing the events
+     * previously held by this buffer.
+     *
+     * @param fd the line event file descriptor, see {@link GpioLine#eventGetFd()}
+     * @return the number of events read
+     */
+    public int readFd(int fd) {
+        this.size = 0;
+        this.size = GpioD.lineEventReadFdMultiple(fd, getCPointer(), this.capacity);
+        return this.size;
+    }
+
+    public long getTimeNs(int index) {
+        return GpioD.lineEventGetTimespec(eventPointer(index));
+    }
+
+    public LineEvent getType(int index) {
+        return GpioD.lineEventGetType(eventPointer(index));
+    }
+
+    private long eventPointer(int index) {
+        Objects.checkIndex(index, this.size);
+        return getCPointer() + (long) index * EVENT_SIZE;
+    }
+}
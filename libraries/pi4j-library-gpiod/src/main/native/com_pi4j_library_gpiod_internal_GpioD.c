@@ -1,8 +1,13 @@
+#define _GNU_SOURCE
 
 #include <gpiod.h>
 #include <stdint.h>
+#include <stdlib.h>
 #include <errno.h>
 #include <string.h>
+#include <poll.h>
+#include <unistd.h>
+#include <sys/eventfd.h>
 #include "com_pi4j_library_gpiod_internal_GpioD.h"
 
 // Compile using:
@@ -627,4 +632,223 @@ JNIEXPORT jstring JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1v
 JNIEXPORT jstring JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1strerror
   (JNIEnv* env, jclass javaClass) {
   return (*env)->NewStringUTF(env, strerror(errno));
-}
\ No newline at end of file
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_get_fd
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1get_1fd
+  (JNIEnv* env, jclass javaClass, jlong linePtr) {
+    return gpiod_line_event_get_fd((struct gpiod_line*) (uintptr_t) linePtr);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_read_fd_multiple
+ * Signature: (IJI)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1read_1fd_1multiple
+  (JNIEnv* env, jclass javaClass, jint fd, jlong eventsPtr, jint numEvents) {
+    return gpiod_line_event_read_fd_multiple(fd, (struct gpiod_line_event*) (uintptr_t) eventsPtr, numEvents);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_new_array
+ * Signature: (I)Ljava/lang/Long;
+ */
+JNIEXPORT jobject JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1new_1array
+  (JNIEnv* env, jclass javaClass, jint numEvents) {
+    struct gpiod_line_event* eventsPtr = (struct gpiod_line_event*) calloc(numEvents, sizeof(struct gpiod_line_event));
+    if(eventsPtr == NULL) {
+      return NULL;
+    }
+    jclass cls = (*env)->FindClass(env, "java/lang/Long");
+    jmethodID longConstructor = (*env)->GetMethodID(env, cls, "<init>","(J)V");
+    return (*env)->NewObject(env, cls, longConstructor, (jlong) (uintptr_t) eventsPtr);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_event_size
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1event_1size
+  (JNIEnv* env, jclass javaClass) {
+    return sizeof(struct gpiod_line_event);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_poll
+ * Signature: ([I[I[IIJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1poll
+  (JNIEnv* env, jclass javaClass, jintArray fds, jintArray events, jintArray revents, jint count, jlong timeoutNs) {
+    struct pollfd pfds[count];
+    jint values[count];
+    struct timespec timeout;
+    int result;
+    int i;
+
+    (*env)->GetIntArrayRegion(env, fds, 0, count, values);
+    for (i = 0; i < count; i++) {
+        pfds[i].fd = values[i];
+        pfds[i].revents = 0;
+    }
+    (*env)->GetIntArrayRegion(env, events, 0, count, values);
+    for (i = 0; i < count; i++)
+        pfds[i].events = (short) values[i];
+
+    if (timeoutNs >= 0) {
+        timeout.tv_sec = timeoutNs / 1000000000;
+        timeout.tv_nsec = timeoutNs % 1000000000;
+    }
+    result = ppoll(pfds, count, timeoutNs >= 0 ? &timeout : NULL, NULL);
+    if (result < 0)
+        return errno == EINTR ? 0 : -errno;
+
+    for (i = 0; i < count; i++)
+        values[i] = pfds[i].revents;
+    (*env)->SetIntArrayRegion(env, revents, 0, count, values);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_eventfd
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1eventfd
+  (JNIEnv* env, jclass javaClass) {
+    return eventfd(0, EFD_NONBLOCK | EFD_CLOEXEC);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_eventfd_write
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1eventfd_1write
+  (JNIEnv* env, jclass javaClass, jint fd) {
+    return eventfd_write(fd, 1);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_eventfd_read
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1eventfd_1read
+  (JNIEnv* env, jclass javaClass, jint fd) {
+    eventfd_t value;
+    return eventfd_read(fd, &value);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_close
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1close
+  (JNIEnv* env, jclass javaClass, jint fd) {
+    return close(fd);
+}
+
+/*
+ * Fill a line bulk with 'count' line pointers of a Java long array.
+ */
+static int toLineBulk(JNIEnv* env, jlongArray linePtrs, jint count, struct gpiod_line_bulk* bulk) {
+    jlong ptrs[GPIOD_LINE_BULK_MAX_LINES];
+    int i;
+
+    if (count < 1 || count > GPIOD_LINE_BULK_MAX_LINES) {
+        errno = EINVAL;
+        return -1;
+    }
+    (*env)->GetLongArrayRegion(env, linePtrs, 0, count, ptrs);
+    gpiod_line_bulk_init(bulk);
+    for (i = 0; i < count; i++)
+        gpiod_line_bulk_add(bulk, (struct gpiod_line*) (uintptr_t) ptrs[i]);
+    return 0;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_request_bulk_input_flags
+ * Signature: ([JILjava/lang/String;I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1request_1bulk_1input_1flags
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jint count, jstring consumer, jint flags) {
+    struct gpiod_line_bulk bulk;
+    if (toLineBulk(env, linePtrs, count, &bulk) < 0)
+        return -1;
+    const char* c_consumer = (*env)->GetStringUTFChars(env, consumer, NULL);
+    int result = gpiod_line_request_bulk_input_flags(&bulk, c_consumer, flags);
+    (*env)->ReleaseStringUTFChars(env, consumer, c_consumer);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_request_bulk_output_flags
+ * Signature: ([JILjava/lang/String;I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1request_1bulk_1output_1flags
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jint count, jstring consumer, jint flags, jintArray defaultVals) {
+    struct gpiod_line_bulk bulk;
+    int values[GPIOD_LINE_BULK_MAX_LINES];
+    if (toLineBulk(env, linePtrs, count, &bulk) < 0)
+        return -1;
+    (*env)->GetIntArrayRegion(env, defaultVals, 0, count, (jint*) values);
+    const char* c_consumer = (*env)->GetStringUTFChars(env, consumer, NULL);
+    int result = gpiod_line_request_bulk_output_flags(&bulk, c_consumer, flags, values);
+    (*env)->ReleaseStringUTFChars(env, consumer, c_consumer);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_release_bulk
+ * Signature: ([JI)V
+ */
+JNIEXPORT void JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1release_1bulk
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jint count) {
+    struct gpiod_line_bulk bulk;
+    if (toLineBulk(env, linePtrs, count, &bulk) == 0)
+        gpiod_line_release_bulk(&bulk);
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_get_value_bulk
+ * Signature: ([JI[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1get_1value_1bulk
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jint count, jintArray values) {
+    struct gpiod_line_bulk bulk;
+    int c_values[GPIOD_LINE_BULK_MAX_LINES];
+    if (toLineBulk(env, linePtrs, count, &bulk) < 0)
+        return -1;
+    int result = gpiod_line_get_value_bulk(&bulk, c_values);
+    if (result == 0)
+        (*env)->SetIntArrayRegion(env, values, 0, count, (jint*) c_values);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_gpiod_internal_GpioD
+ * Method:    c_gpiod_line_set_value_bulk
+ * Signature: ([JI[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_gpiod_internal_GpioD_c_1gpiod_1line_1set_1value_1bulk
+  (JNIEnv* env, jclass javaClass, jlongArray linePtrs, jint count, jintArray values) {
+    struct gpiod_line_bulk bulk;
+    int c_values[GPIOD_LINE_BULK_MAX_LINES];
+    if (toLineBulk(env, linePtrs, count, &bulk) < 0)
+        return -1;
+    (*env)->GetIntArrayRegion(env, values, 0, count, (jint*) c_values);
+    return gpiod_line_set_value_bulk(&bulk, c_values);
+}
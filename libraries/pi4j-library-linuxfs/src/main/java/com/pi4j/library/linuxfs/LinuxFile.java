@@ -34,6 +34,7 @@ import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.IntBuffer;
+import java.util.Objects;
 
 import com.pi4j.library.linuxfs.util.NativeLibraryLoader;
 
@@ -56,6 +57,21 @@ public class LinuxFile extends RandomAccessFile {
     public static final ThreadLocal<ByteBuffer> localDataBuffer = new ThreadLocal<>();
     public static final ThreadLocal<IntBuffer> localOffsetsBuffer = new ThreadLocal<>();
 
+    // poll(2) event bits (see <poll.h>)
+    public static final int POLLIN = 0x0001;
+    public static final int POLLPRI = 0x0002;
+    public static final int POLLOUT = 0x0004;
+    public static final int POLLERR = 0x0008;
+    public static final int POLLHUP = 0x0010;
+    public static final int POLLNVAL = 0x0020;
+
+    public static final int O_RDWR = 0x0002;
+    public static final int O_NOCTTY = 0x0100;
+    public static final int O_NONBLOCK = 0x0800;
+
+    private static final int EINTR = 4;
+    private static final int EAGAIN = 11;
+
     static {
         // Load the platform library
         NativeLibraryLoader.load("libpi4j-linuxfs.so", "pi4j-linuxfs");
@@ -164,8 +180,7 @@ public class LinuxFile extends RandomAccessFile {
             if ((ptrOffset + wordSize) > data.capacity() || ptrOffset < 0)
                 throw new IndexOutOfBoundsException("invalid pointer offset specified in buffer: " + ptrOffset);
         }
-        int posFD = this.getPosixFD();
-        final int response = directIOCTLStructure(posFD, command, data, data.position(), offsets,
+        final int response = directIOCTLStructure(this.fdHandle, command, data, data.position(), offsets,
             offsets.position(), offsets.limit());
 
         if (response < 0)
@@ -183,6 +198,254 @@ public class LinuxFile extends RandomAccessFile {
         }
     }
 
+    /**
+     * Waits on a set of POSIX file descriptors using poll(2).
+     *
+     * All arrays are indexed in parallel; only the first <code>count</code> entries are used. The arrays are
+     * reused by the caller between calls so that waiting does not allocate. An interrupted system call (EINTR)
+     * is reported as a timeout.
+     *
+     * @param fds
+     *     POSIX file descriptors to wait on
+     * @param events
+     *     requested events per descriptor, e.g. {@link #POLLPRI} | {@link #POLLERR}
+     * @param revents
+     *     receives the returned events per descriptor
+     * @param count
+     *     number of descriptors to wait on
+     * @param timeout
+     *     timeout in milliseconds, or a negative value to wait indefinitely
+     *
+     * @return number of descriptors with returned events, 0 on timeout
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static int poll(int[] fds, int[] events, int[] revents, int count, int timeout) throws IOException {
+        if (fds.length < count || events.length < count || revents.length < count)
+            throw new IllegalArgumentException("poll arrays must hold at least " + count + " entries!");
+        final int response = directPoll(fds, events, revents, count, timeout);
+        if (response < 0) {
+            final int code = errno();
+            if (code == EINTR)
+                return 0;
+            throw new LinuxFileException(code);
+        }
+        return response;
+    }
+
+    /**
+     * Creates a non-blocking eventfd(2) which can be included in a {@link #poll} set to wake up a waiting thread.
+     *
+     * @return the POSIX file descriptor of the new eventfd
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static int eventFd() throws IOException {
+        final int fd = directEventFd();
+        if (fd < 0)
+            throw new LinuxFileException();
+        return fd;
+    }
+
+    /**
+     * Signals an eventfd created by {@link #eventFd()}, making it readable for any thread polling on it.
+     *
+     * @param fd
+     *     eventfd file descriptor
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static void eventFdSignal(int fd) throws IOException {
+        if (directEventFdWrite(fd, 1) < 0)
+            throw new LinuxFileException();
+    }
+
+    /**
+     * Resets the counter of an eventfd created by {@link #eventFd()}.
+     *
+     * @param fd
+     *     eventfd file descriptor
+     *
+     * @return the accumulated signal count, or -1 if the eventfd was not signaled
+     */
+    public static long eventFdClear(int fd) {
+        return directEventFdRead(fd);
+    }
+
+    /**
+     * Closes a raw POSIX file descriptor that is not owned by a {@link LinuxFile} instance.
+     *
+     * @param fd
+     *     POSIX file descriptor
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static void closeFd(int fd) throws IOException {
+        if (directClose(fd) < 0)
+            throw new LinuxFileException();
+    }
+
+    /**
+     * Opens a file with open(2) flags that {@link java.io.RandomAccessFile} cannot express, e.g.
+     * {@link #O_NOCTTY} | {@link #O_NONBLOCK} for a serial port (tty). The descriptor is opened close-on-exec and
+     * must be released with {@link #closeFd(int)}.
+     *
+     * @param path
+     *     the file to open
+     * @param flags
+     *     open(2) flags, e.g. {@link #O_RDWR} | {@link #O_NOCTTY} | {@link #O_NONBLOCK}
+     *
+     * @return the POSIX file descriptor of the opened file
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static int open(String path, int flags) throws IOException {
+        final int fd = directOpen(path, flags);
+        if (fd < 0)
+            throw new LinuxFileException();
+        return fd;
+    }
+
+    /**
+     * Reads available bytes from a raw POSIX file descriptor, e.g. one opened with {@link #open(String, int)}.
+     * Interrupted reads are retried.
+     *
+     * @param fd
+     *     POSIX file descriptor
+     * @param buffer
+     *     the buffer to read into
+     * @param offset
+     *     the offset in the buffer
+     * @param length
+     *     the maximum number of bytes to read
+     *
+     * @return the number of bytes read, 0 if a non-blocking descriptor has no data or -1 at end of file
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static int read(int fd, byte[] buffer, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0)
+            return 0;
+        while (true) {
+            final int count = directRead(fd, buffer, offset, length);
+            if (count > 0)
+                return count;
+            if (count == 0)
+                return -1;
+            final int code = errno();
+            if (code == EAGAIN)
+                return 0;
+            if (code != EINTR)
+                throw new LinuxFileException(code);
+        }
+    }
+
+    /**
+     * Writes bytes to a raw POSIX file descriptor, e.g. one opened with {@link #open(String, int)}. A single call may
+     * write fewer bytes than requested; interrupted writes are retried.
+     *
+     * @param fd
+     *     POSIX file descriptor
+     * @param buffer
+     *     the buffer to write from
+     * @param offset
+     *     the offset in the buffer
+     * @param length
+     *     the number of bytes to write
+     *
+     * @return the number of bytes written, 0 if a non-blocking descriptor cannot accept data right now
+     *
+     * @throws IOException
+     *     when something goes wrong
+     */
+    public static int write(int fd, byte[] buffer, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0)
+            return 0;
+        while (true) {
+            final int count = directWrite(fd, buffer, offset, length);
+            if (count >= 0)
+                return count;
+            final int code = errno();
+            if (code == EAGAIN)
+                return 0;
+            if (code != EINTR)
+                throw new LinuxFileException(code);
+        }
+    }
+
+    /**
+     * Configures a serial port (tty) file descriptor for raw non-canonical I/O, see
+     * {@link #setSerialAttributes(int, int, int, int, int)}.
+     *
+     * @param fd
+     *     POSIX file descriptor of the serial port
+     * @param baud
+     *     the baud rate, one of the standard termios rates
+     * @param dataBits
+     *     5, 6, 7 or 8 data bits
+     * @param parity
+     *     0 = none, 1 = odd, 2 = even, 3 = mark, 4 = space
+     * @param stopBits
+     *     1 or 2 stop bits
+     * @param flowControl
+     *     0 = none, 1 = hardware (RTS/CTS), 2 = software (XON/XOFF)
+     *
+     * @throws IOException
+     *     if the baud rate is not supported or the port could not be configured
+     */
+    public static void setSerialAttributes(int fd, int baud, int dataBits, int parity, int stopBits,
+                                           int flowControl) throws IOException {
+        if (directSetSerialAttributes(fd, baud, dataBits, parity, stopBits, flowControl) < 0)
+            throw new LinuxFileException();
+    }
+
+    /**
+     * Configures this file, which must be a serial port (tty), for raw non-canonical I/O. Reads never block: VMIN and
+     * VTIME are both set to 0, so use {@link #poll(int[], int[], int[], int, int)} to wait for data.
+     *
+     * @param baud
+     *     the baud rate, one of the standard termios rates
+     * @param dataBits
+     *     5, 6, 7 or 8 data bits
+     * @param parity
+     *     0 = none, 1 = odd, 2 = even, 3 = mark, 4 = space
+     * @param stopBits
+     *     1 or 2 stop bits
+     * @param flowControl
+     *     0 = none, 1 = hardware (RTS/CTS), 2 = software (XON/XOFF)
+     *
+     * @throws IOException
+     *     if the baud rate is not supported or the port could not be configured
+     */
+    public void setSerialAttributes(int baud, int dataBits, int parity, int stopBits, int flowControl)
+        throws IOException {
+        setSerialAttributes(this.fdHandle, baud, dataBits, parity, stopBits, flowControl);
+    }
+
+    /**
+     * Gets the native memory address of a direct buffer, e.g. to reference it from a structure passed to
+     * {@link #ioctl(long, ByteBuffer, IntBuffer)} without copying its contents. The buffer must remain reachable
+     * for as long as the address is in use.
+     *
+     * @param buffer
+     *     a direct {@link ByteBuffer}
+     *
+     * @return the native address of the first byte of the buffer
+     */
+    public static long getDirectBufferAddress(ByteBuffer buffer) {
+        if (!buffer.isDirect())
+            throw new IllegalArgumentException("buffer must be direct!");
+        return directBufferAddress(buffer);
+    }
+
     /**
      * Gets the real POSIX file descriptor for use by custom jni calls.
      *
@@ -191,7 +454,7 @@ public class LinuxFile extends RandomAccessFile {
      * @throws IOException
      *     if reading fails
      */
-    protected int getPosixFD() throws IOException {
+    public int getPosixFD() throws IOException {
         final int fd = getPosixFD(getFD());
         if (fd < 1)
             throw new IOException("failed to get POSIX file descriptor!");
@@ -299,4 +562,25 @@ public class LinuxFile extends RandomAccessFile {
 
     protected static native int directIOCTLStructure(int fd, long command, ByteBuffer data, int dataOffset,
         IntBuffer offsetMap, int offsetMapOffset, int offsetCapacity);
+
+    protected static native int directPoll(int[] fds, int[] events, int[] revents, int count, int timeout);
+
+    protected static native int directEventFd();
+
+    protected static native int directEventFdWrite(int fd, long value);
+
+    protected static native long directEventFdRead(int fd);
+
+    protected static native int directClose(int fd);
+
+    protected static native long directBufferAddress(ByteBuffer buffer);
+
+    protected static native int directSetSerialAttributes(int fd, int baud, int dataBits, int parity, int stopBits,
+                                                          int flowControl);
+
+    protected static native int directOpen(String path, int flags);
+
+    protected static native int directRead(int fd, byte[] buffer, int offset, int length);
+
+    protected static native int directWrite(int fd, byte[] buffer, int offset, int length);
 }
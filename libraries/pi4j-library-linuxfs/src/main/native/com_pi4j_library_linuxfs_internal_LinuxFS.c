@@ -36,6 +36,9 @@
 #include <errno.h>
 #include <stdint.h>
 #include <sys/mman.h>
+#include <sys/eventfd.h>
+#include <poll.h>
+#include <termios.h>
 #include <linux/i2c-dev.h>
 
 
@@ -109,6 +112,226 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directIOCTLStruct
     return directIOCTLStructure(fd, command, dataBuffer, (size_t)dataOffset, offsetBuffer + offsetMapOffset, offsetCapacity);
 }
 
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directPoll
+  (JNIEnv *env, jclass obj, jintArray fds, jintArray events, jintArray revents, jint count, jint timeout) {
+    struct pollfd stackFds[64];
+    struct pollfd *pfds = stackFds;
+    jint i, rc;
+
+    if (count <= 0)
+        return 0;
+
+    // only fall back to the heap for unusually large descriptor sets
+    if (count > 64) {
+        pfds = (struct pollfd *)malloc(sizeof(struct pollfd) * count);
+        if (pfds == NULL) {
+            errno = ENOMEM;
+            return -1;
+        }
+    }
+
+    jint *fdValues = (*env)->GetIntArrayElements(env, fds, NULL);
+    jint *eventValues = (*env)->GetIntArrayElements(env, events, NULL);
+    if (fdValues == NULL || eventValues == NULL) {
+        // the JVM has already raised an OutOfMemoryError for the failed array access
+        if (fdValues != NULL)
+            (*env)->ReleaseIntArrayElements(env, fds, fdValues, JNI_ABORT);
+        if (eventValues != NULL)
+            (*env)->ReleaseIntArrayElements(env, events, eventValues, JNI_ABORT);
+        if (pfds != stackFds)
+            free(pfds);
+        errno = ENOMEM;
+        return -1;
+    }
+    for (i = 0; i < count; i++) {
+        pfds[i].fd = fdValues[i];
+        pfds[i].events = (short)eventValues[i];
+        pfds[i].revents = 0;
+    }
+    (*env)->ReleaseIntArrayElements(env, fds, fdValues, JNI_ABORT);
+    (*env)->ReleaseIntArrayElements(env, events, eventValues, JNI_ABORT);
+
+    rc = poll(pfds, (nfds_t)count, timeout);
+
+    if (rc >= 0) {
+        jint *reventValues = (*env)->GetIntArrayElements(env, revents, NULL);
+        if (reventValues == NULL) {
+            errno = ENOMEM;
+            rc = -1;
+        } else {
+            for (i = 0; i < count; i++) {
+                reventValues[i] = pfds[i].revents;
+            }
+            (*env)->ReleaseIntArrayElements(env, revents, reventValues, 0);
+        }
+    }
+
+    if (pfds != stackFds) {
+        int pollErrno = errno;
+        free(pfds);
+        errno = pollErrno;
+    }
+    return rc;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directEventFd
+  (JNIEnv *env, jclass obj) {
+    return eventfd(0, EFD_NONBLOCK | EFD_CLOEXEC);
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directEventFdWrite
+  (JNIEnv *env, jclass obj, jint fd, jlong value) {
+    uint64_t counter = (uint64_t)value;
+    return (jint)write(fd, &counter, sizeof(counter));
+}
+
+JNIEXPORT jlong JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directEventFdRead
+  (JNIEnv *env, jclass obj, jint fd) {
+    uint64_t counter = 0;
+    if (read(fd, &counter, sizeof(counter)) != sizeof(counter))
+        return -1;
+    return (jlong)counter;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directClose
+  (JNIEnv *env, jclass obj, jint fd) {
+    return close(fd);
+}
+
+JNIEXPORT jlong JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directBufferAddress
+  (JNIEnv *env, jclass obj, jobject buffer) {
+    return (jlong)(uintptr_t)((*env)->GetDirectBufferAddress(env, buffer));
+}
+
+static speed_t serialSpeed(jint baud) {
+    switch (baud) {
+        case 50: return B50;
+        case 75: return B75;
+        case 110: return B110;
+        case 134: return B134;
+        case 150: return B150;
+        case 200: return B200;
+        case 300: return B300;
+        case 600: return B600;
+        case 1200: return B1200;
+        case 1800: return B1800;
+        case 2400: return B2400;
+        case 4800: return B4800;
+        case 9600: return B9600;
+        case 19200: return B19200;
+        case 38400: return B38400;
+        case 57600: return B57600;
+        case 115200: return B115200;
+        case 230400: return B230400;
+#ifdef B460800
+        case 460800: return B460800;
+#endif
+#ifdef B500000
+        case 500000: return B500000;
+#endif
+#ifdef B576000
+        case 576000: return B576000;
+#endif
+#ifdef B921600
+        case 921600: return B921600;
+#endif
+#ifdef B1000000
+        case 1000000: return B1000000;
+#endif
+#ifdef B1152000
+        case 1152000: return B1152000;
+#endif
+#ifdef B1500000
+        case 1500000: return B1500000;
+#endif
+#ifdef B2000000
+        case 2000000: return B2000000;
+#endif
+#ifdef B2500000
+        case 2500000: return B2500000;
+#endif
+#ifdef B3000000
+        case 3000000: return B3000000;
+#endif
+#ifdef B3500000
+        case 3500000: return B3500000;
+#endif
+#ifdef B4000000
+        case 4000000: return B4000000;
+#endif
+        default: return B0;
+    }
+}
+
+/*
+ * Configures a serial port for raw, non-canonical I/O.
+ *
+ * parity:      0 = none, 1 = odd, 2 = even, 3 = mark, 4 = space
+ * flowControl: 0 = none, 1 = hardware (RTS/CTS), 2 = software (XON/XOFF)
+ *
+ * VMIN and VTIME are both 0, so read(2) returns the available bytes without blocking; callers wait for data
+ * with poll(2).
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directSetSerialAttributes
+  (JNIEnv *env, jclass obj, jint fd, jint baud, jint dataBits, jint parity, jint stopBits, jint flowControl) {
+    struct termios options;
+    speed_t speed = serialSpeed(baud);
+
+    if (speed == B0) {
+        errno = EINVAL;
+        return -1;
+    }
+    if (tcgetattr(fd, &options) < 0)
+        return -1;
+
+    cfmakeraw(&options);
+    cfsetispeed(&options, speed);
+    cfsetospeed(&options, speed);
+
+    options.c_cflag |= (CLOCAL | CREAD);
+
+    options.c_cflag &= ~CSIZE;
+    switch (dataBits) {
+        case 5: options.c_cflag |= CS5; break;
+        case 6: options.c_cflag |= CS6; break;
+        case 7: options.c_cflag |= CS7; break;
+        default: options.c_cflag |= CS8; break;
+    }
+
+    options.c_cflag &= ~(PARENB | PARODD | CMSPAR);
+    options.c_iflag &= ~INPCK;
+    switch (parity) {
+        case 1: options.c_cflag |= (PARENB | PARODD); break;
+        case 2: options.c_cflag |= PARENB; break;
+        case 3: options.c_cflag |= (PARENB | PARODD | CMSPAR); break;
+        case 4: options.c_cflag |= (PARENB | CMSPAR); break;
+        default: break;
+    }
+    if (parity != 0)
+        options.c_iflag |= INPCK;
+
+    if (stopBits == 2)
+        options.c_cflag |= CSTOPB;
+    else
+        options.c_cflag &= ~CSTOPB;
+
+    options.c_cflag &= ~CRTSCTS;
+    options.c_iflag &= ~(IXON | IXOFF | IXANY);
+    if (flowControl == 1)
+        options.c_cflag |= CRTSCTS;
+    else if (flowControl == 2)
+        options.c_iflag |= (IXON | IXOFF);
+
+    options.c_cc[VMIN] = 0;
+    options.c_cc[VTIME] = 0;
+
+    if (tcsetattr(fd, TCSANOW, &options) < 0)
+        return -1;
+
+    // discard anything received before the port was configured
+    return tcflush(fd, TCIOFLUSH);
+}
+
 int directIOCTLStructure (int fd, unsigned long command, void *data, size_t headOffset, uint32_t *offsetMap, uint32_t offsetSize) {
     uint32_t i;
 
@@ -129,4 +352,42 @@ int directIOCTLStructure (int fd, unsigned long command, void *data, size_t head
     } else{
        return ioctl(fd, command, data + headOffset);
     }
-}
\ No newline at end of file
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directOpen
+  (JNIEnv *env, jclass obj, jstring path, jint flags) {
+    const char *name = (*env)->GetStringUTFChars(env, path, NULL);
+    int fd;
+
+    if (name == NULL) {
+        errno = ENOMEM;
+        return -1;
+    }
+    fd = open(name, flags | O_CLOEXEC);
+    (*env)->ReleaseStringUTFChars(env, path, name);
+    return fd;
+}
+
+/*
+ * Reads and writes go through a bounded stack buffer; callers loop for larger transfers.
+ */
+#define DIRECT_IO_CHUNK 4096
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directRead
+  (JNIEnv *env, jclass obj, jint fd, jbyteArray buffer, jint offset, jint length) {
+    jbyte chunk[DIRECT_IO_CHUNK];
+    ssize_t count = read(fd, chunk, length < DIRECT_IO_CHUNK ? (size_t)length : DIRECT_IO_CHUNK);
+
+    if (count > 0)
+        (*env)->SetByteArrayRegion(env, buffer, offset, (jsize)count, chunk);
+    return (jint)count;
+}
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directWrite
+  (JNIEnv *env, jclass obj, jint fd, jbyteArray buffer, jint offset, jint length) {
+    jbyte chunk[DIRECT_IO_CHUNK];
+    jsize size = length < DIRECT_IO_CHUNK ? length : DIRECT_IO_CHUNK;
+
+    (*env)->GetByteArrayRegion(env, buffer, offset, size, chunk);
+    return (jint)write(fd, chunk, (size_t)size);
+}
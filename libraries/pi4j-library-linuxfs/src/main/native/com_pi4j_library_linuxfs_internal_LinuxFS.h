@@ -53,6 +53,36 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_munmapDirect
 JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directIOCTLStructure
   (JNIEnv *env, jclass obj, jint fd, jlong command, jobject data, jint dataOffset, jobject offsetMap, jint offsetMapOffset, jint offsetCapacity);
 
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directPoll
+  (JNIEnv *env, jclass obj, jintArray fds, jintArray events, jintArray revents, jint count, jint timeout);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directEventFd
+  (JNIEnv *env, jclass obj);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directEventFdWrite
+  (JNIEnv *env, jclass obj, jint fd, jlong value);
+
+JNIEXPORT jlong JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directEventFdRead
+  (JNIEnv *env, jclass obj, jint fd);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directClose
+  (JNIEnv *env, jclass obj, jint fd);
+
+JNIEXPORT jlong JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directBufferAddress
+  (JNIEnv *env, jclass obj, jobject buffer);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directSetSerialAttributes
+  (JNIEnv *env, jclass obj, jint fd, jint baud, jint dataBits, jint parity, jint stopBits, jint flowControl);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directOpen
+  (JNIEnv *env, jclass obj, jstring path, jint flags);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directRead
+  (JNIEnv *env, jclass obj, jint fd, jbyteArray buffer, jint offset, jint length);
+
+JNIEXPORT jint JNICALL Java_com_pi4j_library_linuxfs_LinuxFile_directWrite
+  (JNIEnv *env, jclass obj, jint fd, jbyteArray buffer, jint offset, jint length);
+
 #ifdef __cplusplus
 }
 #endif
@@ -42,7 +42,9 @@ public interface PiGpio extends
         PiGpio_PWM,
         PiGpio_Serial,
         PiGpio_SPI,
-        PiGpio_Servo {
+        PiGpio_Servo,
+        PiGpio_Wave,
+        PiGpio_Script {
 
     /**
      * Creates a PiGpio instance using TCP Socket communication for remote I/O access.
@@ -367,6 +369,27 @@ public interface PiGpio extends
      * <p>removeAllPinListeners.</p>
      */
     void removeAllPinListeners();
+    /**
+     * <p>addPinLevelListener.</p>
+     *
+     * Receive the level changes of the pin without a {@link com.pi4j.library.pigpio.PiGpioStateChangeEvent} being
+     * created for each change.
+     *
+     * @param pin a int.
+     * @param listener a {@link com.pi4j.library.pigpio.PiGpioPinLevelListener} object.
+     * @throws UnsupportedOperationException if this implementation does not dispatch pin levels
+     */
+    default void addPinLevelListener(int pin, PiGpioPinLevelListener listener) {
+        throw new UnsupportedOperationException("Pin level listeners are not supported by " + getClass().getName());
+    }
+    /**
+     * <p>removePinLevelListener.</p>
+     *
+     * @param pin a int.
+     * @param listener a {@link com.pi4j.library.pigpio.PiGpioPinLevelListener} object.
+     */
+    default void removePinLevelListener(int pin, PiGpioPinLevelListener listener) {
+    }
     /**
      * <p>addListener.</p>
      *
@@ -383,4 +406,15 @@ public interface PiGpio extends
      * <p>removeAllListeners.</p>
      */
     void removeAllListeners();
+    /**
+     * <p>gpioAlertOverflows.</p>
+     *
+     * The number of GPIO state changes lost before they could be dispatched to the listeners, e.g. because the
+     * listeners did not keep up with a burst of edges.
+     *
+     * @return a long.
+     */
+    default long gpioAlertOverflows() {
+        return 0;
+    }
 }
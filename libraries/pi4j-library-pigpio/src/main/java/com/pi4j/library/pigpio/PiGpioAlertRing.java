@@ -0,0 +1,169 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioAlertRing.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>PiGpioAlertRing class.</p>
+ *
+ * Bounded ring of primitive GPIO alert records (pin, level, tick) between a single producer, the pigpio alert thread
+ * calling into Java, and a single consumer dispatching the alerts to listeners. Appending a record takes constant
+ * time and never blocks or allocates, so slow listeners cannot stall pigpio's sampling; when the ring is full the
+ * record is dropped and counted as an overflow instead.
+ */
+public class PiGpioAlertRing {
+
+    /**
+     * Receives the records drained from the ring.
+     */
+    public interface Consumer {
+        /**
+         * @param pin the GPIO pin
+         * @param level the new level of the pin
+         * @param tick the pigpio tick of the level change
+         */
+        void accept(int pin, int level, long tick);
+    }
+
+    private final int mask;
+    private final int[] pins;
+    private final int[] levels;
+    private final long[] ticks;
+
+    // 'tail' is only advanced by the producer, 'head' only by the consumer
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong overflows = new AtomicLong();
+    private volatile Thread waiter = null;
+
+    /**
+     * <p>Constructor for PiGpioAlertRing.</p>
+     *
+     * @param capacity the minimum number of records the ring holds; rounded up to a power of two
+     */
+    public PiGpioAlertRing(int capacity) {
+        if(capacity < 1 || capacity > (1 << 30))
+            throw new IllegalArgumentException("PIGPIO alert ring capacity must be 1 to 2^30: " + capacity);
+        int size = Integer.highestOneBit(capacity);
+        if(size < capacity) size <<= 1;
+        this.mask = size - 1;
+        this.pins = new int[size];
+        this.levels = new int[size];
+        this.ticks = new long[size];
+    }
+
+    /**
+     * @return the number of records the ring holds
+     */
+    public int capacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * @return the number of records waiting to be drained
+     */
+    public int size() {
+        return (int) (this.tail.get() - this.head.get());
+    }
+
+    /**
+     * @return the number of records dropped because the ring was full
+     */
+    public long overflows() {
+        return this.overflows.get();
+    }
+
+    /**
+     * Append a record; must only be called by the single producer thread.
+     *
+     * @param pin the GPIO pin
+     * @param level the new level of the pin
+     * @param tick the pigpio tick of the level change
+     * @return false if the ring was full and the record has been dropped
+     */
+    public boolean offer(int pin, int level, long tick) {
+        long t = this.tail.get();
+        if(t - this.head.get() > this.mask) {
+            this.overflows.incrementAndGet();
+            return false;
+        }
+        int index = (int) t & this.mask;
+        this.pins[index] = pin;
+        this.levels[index] = level;
+        this.ticks[index] = tick;
+        this.tail.set(t + 1);
+
+        // the consumer announces itself before checking for records, so it is either woken up or sees this one
+        Thread consumer = this.waiter;
+        if(consumer != null)
+            LockSupport.unpark(consumer);
+        return true;
+    }
+
+    /**
+     * Pass the oldest records to the consumer and remove them; must only be called by the single consumer thread.
+     *
+     * @param consumer receives the records in the order they were appended
+     * @param max the maximum number of records to drain
+     * @return the number of drained records
+     */
+    public int drain(Consumer consumer, int max) {
+        long h = this.head.get();
+        int count = (int) Math.min(this.tail.get() - h, max);
+        for(int i = 0; i < count; i++) {
+            int index = (int) (h + i) & this.mask;
+            try {
+                consumer.accept(this.pins[index], this.levels[index], this.ticks[index]);
+            } finally {
+                // release the slot even if the consumer fails
+                this.head.lazySet(h + i + 1);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Wait until records are available; must only be called by the single consumer thread.
+     *
+     * @param nanos the maximum time to wait
+     * @return true if records are available
+     */
+    public boolean await(long nanos) {
+        if(size() > 0) return true;
+        this.waiter = Thread.currentThread();
+        try {
+            if(size() == 0)
+                LockSupport.parkNanos(this, nanos);
+        } finally {
+            this.waiter = null;
+        }
+        return size() > 0;
+    }
+}
@@ -76,6 +76,18 @@ public interface PiGpioConst {
     /** Constant <code>PI_TIMEOUT=2</code> */
     int PI_TIMEOUT = 2;
 
+    // ----------------------------------
+    // NOTIFICATION REPORT FLAGS
+    // ----------------------------------
+    /** Constant <code>PI_NTFY_FLAGS_EVENT=0x80</code>; event report, bits 0-4 hold the event number */
+    int PI_NTFY_FLAGS_EVENT = 1 << 7;
+    /** Constant <code>PI_NTFY_FLAGS_ALIVE=0x40</code>; keep-alive report without level change */
+    int PI_NTFY_FLAGS_ALIVE = 1 << 6;
+    /** Constant <code>PI_NTFY_FLAGS_WDOG=0x20</code>; watchdog timeout, bits 0-4 hold the GPIO */
+    int PI_NTFY_FLAGS_WDOG  = 1 << 5;
+    /** Constant <code>PI_NTFY_FLAGS_GPIO=0x1F</code>; mask of the GPIO or event number in the flags */
+    int PI_NTFY_FLAGS_GPIO  = 31;
+
     // ----------------------------------
     // PIGPIO LIBRARY COMMANDS
     // ----------------------------------
@@ -346,6 +358,70 @@ public interface PiGpioConst {
     /** Constant <code>PI_PUD_UP=2</code> */
     int PI_PUD_UP   = 2;
 
+    // ----------------------------------
+    // WAVEFORM OPTIONS
+    // ----------------------------------
+    /** Constant <code>PI_WAVE_MODE_ONE_SHOT=0</code> */
+    int PI_WAVE_MODE_ONE_SHOT      = 0;
+    /** Constant <code>PI_WAVE_MODE_REPEAT=1</code> */
+    int PI_WAVE_MODE_REPEAT        = 1;
+    /** Constant <code>PI_WAVE_MODE_ONE_SHOT_SYNC=2</code> */
+    int PI_WAVE_MODE_ONE_SHOT_SYNC = 2;
+    /** Constant <code>PI_WAVE_MODE_REPEAT_SYNC=3</code> */
+    int PI_WAVE_MODE_REPEAT_SYNC   = 3;
+    /** Constant <code>PI_WAVE_NOT_FOUND=9998</code> */
+    int PI_WAVE_NOT_FOUND          = 9998;
+    /** Constant <code>PI_NO_TX_WAVE=9999</code> */
+    int PI_NO_TX_WAVE              = 9999;
+    /** Constant <code>PI_WAVE_MAX_PULSES=12000</code> */
+    int PI_WAVE_MAX_PULSES         = 12000;
+    /** Constant <code>PI_WAVE_MAX_CHAIN_LENGTH=600</code> */
+    int PI_WAVE_MAX_CHAIN_LENGTH   = 600;
+
+    // ----------------------------------
+    // SCRIPT OPTIONS
+    // ----------------------------------
+    /** Constant <code>PI_MAX_SCRIPT_PARAMS=10</code> */
+    int PI_MAX_SCRIPT_PARAMS = 10;
+    /** Constant <code>PI_SCRIPT_INITING=0</code> */
+    int PI_SCRIPT_INITING    = 0;
+    /** Constant <code>PI_SCRIPT_HALTED=1</code> */
+    int PI_SCRIPT_HALTED     = 1;
+    /** Constant <code>PI_SCRIPT_RUNNING=2</code> */
+    int PI_SCRIPT_RUNNING    = 2;
+    /** Constant <code>PI_SCRIPT_WAITING=3</code> */
+    int PI_SCRIPT_WAITING    = 3;
+    /** Constant <code>PI_SCRIPT_FAILED=4</code> */
+    int PI_SCRIPT_FAILED     = 4;
+
+    // ----------------------------------
+    // I2C ZIP COMMANDS
+    // ----------------------------------
+    /** Constant <code>PI_I2C_END=0</code> */
+    int PI_I2C_END          = 0;
+    /** Constant <code>PI_I2C_ESC=1</code> */
+    int PI_I2C_ESC          = 1;
+    /** Constant <code>PI_I2C_START=2</code> */
+    int PI_I2C_START        = 2;
+    /** Constant <code>PI_I2C_COMBINED_ON=2</code> */
+    int PI_I2C_COMBINED_ON  = 2;
+    /** Constant <code>PI_I2C_STOP=3</code> */
+    int PI_I2C_STOP         = 3;
+    /** Constant <code>PI_I2C_COMBINED_OFF=3</code> */
+    int PI_I2C_COMBINED_OFF = 3;
+    /** Constant <code>PI_I2C_ADDR=4</code> */
+    int PI_I2C_ADDR         = 4;
+    /** Constant <code>PI_I2C_FLAGS=5</code> */
+    int PI_I2C_FLAGS        = 5;
+    /** Constant <code>PI_I2C_READ=6</code> */
+    int PI_I2C_READ         = 6;
+    /** Constant <code>PI_I2C_WRITE=7</code> */
+    int PI_I2C_WRITE        = 7;
+    /** Constant <code>PI_BB_I2C_MIN_BAUD=50</code> */
+    int PI_BB_I2C_MIN_BAUD  = 50;
+    /** Constant <code>PI_BB_I2C_MAX_BAUD=500000</code> */
+    int PI_BB_I2C_MAX_BAUD  = 500000;
+
     // ----------------------------------
     // GPIO ISR EDGE OPTIONS
     // ----------------------------------
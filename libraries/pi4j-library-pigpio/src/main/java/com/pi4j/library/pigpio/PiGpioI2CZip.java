@@ -0,0 +1,219 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioI2CZip.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static com.pi4j.library.pigpio.PiGpioConst.*;
+
+/**
+ * <p>PiGpioI2CZip class.</p>
+ *
+ * Builder for the step sequence of the PiGpio I2C "zip" commands, see {@link PiGpio_I2C#i2cZip(int, PiGpioI2CZip)}
+ * and {@link PiGpio_I2C#bbI2CZip(int, PiGpioI2CZip)}. A whole sequence of address, write and read steps is
+ * executed by a single PiGpio command; the bytes of all read steps are returned together, in step order.
+ *
+ * A sequence may be built once and executed repeatedly.
+ *
+ * <pre>
+ * {@code
+ *    PiGpioI2CZip steps = PiGpioI2CZip.newBuilder().write((byte) 0x3B).read(6);
+ *    byte[] data = piGpio.i2cZip(handle, steps);
+ * }
+ * </pre>
+ *
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+ */
+public class PiGpioI2CZip {
+
+    private byte[] steps = new byte[32];
+    private int length = 0;
+    private int readLength = 0;
+
+    /**
+     * <p>newBuilder.</p>
+     *
+     * @return a new, empty step sequence
+     */
+    public static PiGpioI2CZip newBuilder(){
+        return new PiGpioI2CZip();
+    }
+
+    /**
+     * Set the I2C device address used by the following steps.
+     *
+     * For {@link PiGpio_I2C#i2cZip(int, PiGpioI2CZip)} the sequence starts with the address of the
+     * device associated with the handle.
+     *
+     * @param address the I2C device address (7-bit, or 10-bit with the ten bit flag)
+     * @return this sequence
+     */
+    public PiGpioI2CZip address(int address){
+        return step(PI_I2C_ADDR, address);
+    }
+
+    /**
+     * Set the I2C message flags (e.g. I2C_M_IGNORE_NAK) used by the following read and write steps.
+     *
+     * @param flags the 16-bit message flags
+     * @return this sequence
+     */
+    public PiGpioI2CZip flags(int flags){
+        ensure(3);
+        steps[length++] = (byte) PI_I2C_FLAGS;
+        steps[length++] = (byte) flags;
+        steps[length++] = (byte) (flags >> 8);
+        return this;
+    }
+
+    /**
+     * Issue a START condition (bit banged buses), or switch the combined flag on (hardware buses).
+     *
+     * @return this sequence
+     */
+    public PiGpioI2CZip start(){
+        ensure(1);
+        steps[length++] = (byte) PI_I2C_START;
+        return this;
+    }
+
+    /**
+     * Issue a STOP condition (bit banged buses), or switch the combined flag off (hardware buses).
+     *
+     * @return this sequence
+     */
+    public PiGpioI2CZip stop(){
+        ensure(1);
+        steps[length++] = (byte) PI_I2C_STOP;
+        return this;
+    }
+
+    /**
+     * Write the given bytes to the current device address.
+     *
+     * @param data the bytes to write
+     * @return this sequence
+     */
+    public PiGpioI2CZip write(byte ... data){
+        return write(data, 0, data.length);
+    }
+
+    /**
+     * Write bytes to the current device address.
+     *
+     * @param data the buffer to write from
+     * @param offset the offset in the buffer
+     * @param length the number of bytes to write
+     * @return this sequence
+     */
+    public PiGpioI2CZip write(byte[] data, int offset, int length){
+        Objects.checkFromIndexSize(offset, length, data.length);
+        step(PI_I2C_WRITE, length);
+        ensure(length);
+        System.arraycopy(data, offset, steps, this.length, length);
+        this.length += length;
+        return this;
+    }
+
+    /**
+     * Read bytes from the current device address; they are appended to the result of the sequence.
+     *
+     * @param count the number of bytes to read
+     * @return this sequence
+     */
+    public PiGpioI2CZip read(int count){
+        step(PI_I2C_READ, count);
+        readLength += count;
+        return this;
+    }
+
+    /**
+     * <p>readLength.</p>
+     *
+     * @return the total number of bytes read by all read steps
+     */
+    public int readLength(){
+        return readLength;
+    }
+
+    /**
+     * <p>length.</p>
+     *
+     * @return the number of encoded step bytes, excluding the terminating end step
+     */
+    public int length(){
+        return length;
+    }
+
+    /**
+     * Remove all steps, so the builder can be reused for another sequence.
+     *
+     * @return this sequence
+     */
+    public PiGpioI2CZip clear(){
+        length = 0;
+        readLength = 0;
+        return this;
+    }
+
+    /**
+     * Get the encoded step bytes terminated by the end step.
+     *
+     * @return the step bytes as sent to PiGpio
+     */
+    public byte[] build(){
+        byte[] encoded = Arrays.copyOf(steps, length + 1);
+        encoded[length] = (byte) PI_I2C_END;
+        return encoded;
+    }
+
+    private PiGpioI2CZip step(int command, int value){
+        if(value < 0 || value > 0xFFFF)
+            throw new IllegalArgumentException("I2C zip step value must be 0-65535: " + value);
+        if(value > 0xFF){
+            // values above one byte are escaped and sent as 16-bit little endian
+            ensure(4);
+            steps[length++] = (byte) PI_I2C_ESC;
+            steps[length++] = (byte) command;
+            steps[length++] = (byte) value;
+            steps[length++] = (byte) (value >> 8);
+        }
+        else {
+            ensure(2);
+            steps[length++] = (byte) command;
+            steps[length++] = (byte) value;
+        }
+        return this;
+    }
+
+    private void ensure(int count){
+        if(length + count > steps.length)
+            steps = Arrays.copyOf(steps, Math.max(steps.length * 2, length + count));
+    }
+}
@@ -31,12 +31,14 @@ import com.pi4j.library.pigpio.util.StringUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  *
@@ -64,7 +66,19 @@ public class PiGpioPacket {
     private int p1 = 0;
     private int p2 = 0;
     private int p3 = 0;
-    private byte[] data = new byte[0];
+    private byte[] data = EMPTY;
+    private int dataOffset = 0;
+    private int dataLength = 0;
+
+    // reusable payload of 'data(int)' and 'data(byte)'
+    private byte[] word = null;
+
+    // optional caller buffer receiving the response payload
+    private byte[] target = null;
+    private int targetOffset = 0;
+    private int targetLength = 0;
+
+    private static final byte[] EMPTY = new byte[0];
 
     /**
      * <p>Constructor for PiGpioPacket.</p>
@@ -215,8 +229,7 @@ public class PiGpioPacket {
      * @return a boolean.
      */
     public boolean hasData(){
-        if(this.data == null) return false;
-        return this.data.length > 0;
+        return this.dataLength > 0;
     }
     /**
      * <p>dataLength.</p>
@@ -224,8 +237,7 @@ public class PiGpioPacket {
      * @return a int.
      */
     public int dataLength(){
-        if(this.data == null) return 0;
-        return this.data.length;
+        return this.dataLength;
     }
 
     /**
@@ -234,6 +246,11 @@ public class PiGpioPacket {
      * @return an array of {@link byte} objects.
      */
     public byte[] data(){
+        // a wrapped caller range is copied on first access
+        if(this.dataOffset != 0 || this.dataLength != this.data.length) {
+            this.data = Arrays.copyOfRange(this.data, this.dataOffset, this.dataOffset + this.dataLength);
+            this.dataOffset = 0;
+        }
         return this.data;
     }
 
@@ -279,16 +296,76 @@ public class PiGpioPacket {
     public PiGpioPacket data(byte[] data, int offset, int length){
         // check for valid data
         if(data != null && data.length > 0 && length > 0) {
-            this.p3 = length;
-            this.data = Arrays.copyOfRange(data, offset, offset+length);
+            return payload(Arrays.copyOfRange(data, offset, offset+length), 0, length);
         }
-        else{
-            this.p3 = 0;
-            this.data = new byte[0];
+        return payload(EMPTY, 0, 0);
+    }
+
+    /**
+     * Use a range of the given array as the payload of this packet without copying it; the array must not be
+     * modified until the packet has been sent.
+     *
+     * @param data an array of {@link byte} objects.
+     * @param offset a int.
+     * @param length a int.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     */
+    public PiGpioPacket wrap(byte[] data, int offset, int length){
+        Objects.checkFromIndexSize(offset, length, data.length);
+        if(length > 0) {
+            return payload(data, offset, length);
         }
+        return payload(EMPTY, 0, 0);
+    }
+
+    /**
+     * Decode the payload of the response to this packet directly into a range of the given array instead of a
+     * newly allocated one; {@link #result()} still holds the number of bytes the response provided, any bytes
+     * beyond the given length are discarded.
+     *
+     * @param buffer an array of {@link byte} objects.
+     * @param offset a int.
+     * @param length a int.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     */
+    public PiGpioPacket into(byte[] buffer, int offset, int length){
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        this.target = buffer;
+        this.targetOffset = offset;
+        this.targetLength = length;
+        return this;
+    }
+
+    /**
+     * Reset this packet to a new command without payload or response target, so it can be reused for the
+     * next request.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     */
+    public PiGpioPacket reset(PiGpioCmd cmd, int p1, int p2){
+        this.cmd = cmd;
+        this.p1 = p1;
+        this.p2 = p2;
+        this.target = null;
+        return payload(EMPTY, 0, 0);
+    }
+
+    private PiGpioPacket payload(byte[] data, int offset, int length){
+        this.p3 = length;
+        this.data = data;
+        this.dataOffset = offset;
+        this.dataLength = length;
         return this;
     }
 
+    private byte[] word(){
+        if(this.word == null) this.word = new byte[4];
+        return this.word;
+    }
+
     /**
      * <p>data.</p>
      *
@@ -298,17 +375,14 @@ public class PiGpioPacket {
     public PiGpioPacket data(int value){
         // check for valid value
         if(value > 0) {
-            this.p3 = 4; // 4 bytes length
-            ByteBuffer buffer = ByteBuffer.allocate(4);
-            buffer.order(ByteOrder.LITTLE_ENDIAN);
-            buffer.putInt(value);
-            this.data = buffer.array();
+            byte[] word = word(); // little endian
+            word[0] = (byte) value;
+            word[1] = (byte) (value >> 8);
+            word[2] = (byte) (value >> 16);
+            word[3] = (byte) (value >> 24);
+            return payload(word, 0, 4);
         }
-        else{
-            this.p3 = 0;
-            this.data = new byte[0];
-        }
-        return this;
+        return payload(EMPTY, 0, 0);
     }
 
 
@@ -321,14 +395,14 @@ public class PiGpioPacket {
     public PiGpioPacket data(byte value){
         // check for valid value
         if(value > 0) {
-            this.p3 = 4; // 4 bytes length
-            this.data = new byte[] { value, 0, 0, 0 }; // little endian
+            byte[] word = word(); // little endian
+            word[0] = value;
+            word[1] = 0;
+            word[2] = 0;
+            word[3] = 0;
+            return payload(word, 0, 4);
         }
-        else{
-            this.p3 = 0;
-            this.data = new byte[0];
-        }
-        return this;
+        return payload(EMPTY, 0, 0);
     }
 
     /**
@@ -337,9 +411,8 @@ public class PiGpioPacket {
      * @return a {@link java.lang.String} object.
      */
     public String dataToString(){
-        if(data == null) return null;
-        if(data.length == 0) return "";
-        return new String(data, StandardCharsets.US_ASCII);
+        if(dataLength == 0) return "";
+        return new String(data, dataOffset, dataLength, StandardCharsets.US_ASCII);
     }
 
     /**
@@ -352,6 +425,8 @@ public class PiGpioPacket {
     public static PiGpioPacket decode(InputStream stream) throws IOException {
         // read only header bytes
         byte[] header = stream.readNBytes(16);
+        if(header.length < 16)
+            throw new EOFException("PIGPIO socket closed while reading a response header");
 
         ByteBuffer rx = ByteBuffer.wrap(header);
         rx.order(ByteOrder.LITTLE_ENDIAN);
@@ -366,10 +441,12 @@ public class PiGpioPacket {
         PiGpioPacket packet = new PiGpioPacket(cmd, p1, p2)
             .p3(p3); // set RAW P3 value
 
-        int remaining = bytesToRead(packet, stream);
+        int remaining = bytesToRead(packet);
 
         if(remaining > 0) {
             var temp = stream.readNBytes(remaining);
+            if(temp.length < remaining)
+                throw new EOFException("PIGPIO socket closed while reading a response payload");
             packet.data(temp);
         }
         return packet;
@@ -378,20 +455,34 @@ public class PiGpioPacket {
     /**
      * The packet may indicate the number of bytes to expect from the stream.
      *
-     * E.g. I2C packets provide this value via {@link PiGpioPacket#p3}
+     * Commands with an extended response (e.g. I2C and SPI reads) provide this value via {@link PiGpioPacket#p3}
+     * when successful; all other responses consist of the header only. The payload length must not depend on
+     * the bytes already available, as further responses may follow on the same socket.
      *
      * @param packet the packet being read
-     * @param stream incoming data
      * @return the number of bytes to expect to read from the input stream
-     * @throws IOException
      */
-    static int bytesToRead(PiGpioPacket packet, InputStream stream) throws IOException {
+    static int bytesToRead(PiGpioPacket packet) {
         switch (packet.cmd) {
-            case I2CRI:
+            case BI2CZ:
+            case BSCX:
+            case BSPIX:
+            case CF2:
+            case FL:
+            case FR:
+            case I2CPK:
             case I2CRD:
-                return packet.p3;
+            case I2CRI:
+            case I2CRK:
+            case I2CZ:
+            case PROCP:
+            case SERR:
+            case SLR:
+            case SPIR:
+            case SPIX:
+                return Math.max(packet.p3, 0);
             default:
-                return stream.available();
+                return 0;
         }
     }
 
@@ -412,14 +503,86 @@ public class PiGpioPacket {
         buffer.putInt((packet.p1()));         // <P1>
         buffer.putInt((packet.p2()));         // <P2>
         buffer.putInt((packet.p3()));         // <P3>
-        if(packet.data != null && packet.data.length > 0) {
-            buffer.put(packet.data());        // <DATA>
+        if(packet.dataLength > 0) {
+            buffer.put(packet.data, packet.dataOffset, packet.dataLength); // <DATA>
         }
 
         // return byte array
         return bytes;
     }
 
+    /**
+     * <p>encodedLength.</p>
+     *
+     * @param packet a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @return the number of bytes {@link #encode(PiGpioPacket, ByteBuffer)} puts into the buffer
+     */
+    public static int encodedLength(PiGpioPacket packet){
+        return 16 + packet.dataLength;
+    }
+
+    /**
+     * Encode the packet into the given buffer, which must use LITTLE ENDIAN byte order and provide at least
+     * {@link #encodedLength(PiGpioPacket)} remaining bytes.
+     *
+     * @param packet a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @param buffer a {@link java.nio.ByteBuffer} object.
+     */
+    public static void encode(PiGpioPacket packet, ByteBuffer buffer){
+        buffer.putInt(packet.cmd().value());  // CMD
+        buffer.putInt(packet.p1());           // <P1>
+        buffer.putInt(packet.p2());           // <P2>
+        buffer.putInt(packet.p3());           // <P3>
+        if(packet.dataLength > 0) {
+            buffer.put(packet.data, packet.dataOffset, packet.dataLength); // <DATA>
+        }
+    }
+
+    /**
+     * Decode a response header for this packet in place from the given buffer, which must use LITTLE ENDIAN
+     * byte order and provide at least 16 remaining bytes.  The payload of the response, if any, must then be
+     * passed to {@link #decodeData(ByteBuffer, int, int)}.
+     *
+     * @param buffer a {@link java.nio.ByteBuffer} object.
+     * @return the number of payload bytes following the header
+     * @throws PiGpioException if the response does not belong to the command of this packet
+     */
+    public int decodeHeader(ByteBuffer buffer){
+        int cmd = buffer.getInt();                   // CMD <4 bytes :: 0-3>
+        if(this.cmd == null || cmd != this.cmd.value())
+            throw new PiGpioException("PIGPIO response for command [" + cmd + "] does not match the pending command [" + this.cmd + "]");
+        this.p1 = buffer.getInt();                   // P1  <4 bytes :: 4-7>
+        this.p2 = buffer.getInt();                   // P2  <4 bytes :: 8-11>
+        this.p3 = buffer.getInt();                   // P3  <4 bytes :: 12-15>
+
+        int remaining = bytesToRead(this);
+        this.data = (remaining > 0 && this.target == null) ? new byte[remaining] : EMPTY;
+        this.dataOffset = 0;
+        this.dataLength = this.data.length;
+        return remaining;
+    }
+
+    /**
+     * Decode a chunk of the response payload from the given buffer into the response target of this packet,
+     * or into its own data if no target was given.
+     *
+     * @param buffer a {@link java.nio.ByteBuffer} object.
+     * @param position the position of the chunk in the payload
+     * @param count the number of payload bytes to take from the buffer
+     */
+    public void decodeData(ByteBuffer buffer, int position, int count){
+        if(this.target == null) {
+            buffer.get(this.data, position, count);
+            return;
+        }
+        int copy = Math.max(0, Math.min(count, this.targetLength - position));
+        if(copy > 0) {
+            buffer.get(this.target, this.targetOffset + position, copy);
+        }
+        // payload bytes beyond the target length are discarded
+        buffer.position(buffer.position() + count - copy);
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString(){
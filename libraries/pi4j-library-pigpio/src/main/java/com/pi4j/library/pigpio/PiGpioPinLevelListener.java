@@ -0,0 +1,49 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioPinLevelListener.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpioPinLevelListener interface.</p>
+ *
+ * Receives the level changes of a single pin as primitive values, so dispatching a change to it allocates nothing;
+ * e.g. for pins toggling thousands of times per second. It is called on the thread receiving the changes, before
+ * any {@link PiGpioStateChangeListener} of the same changes, and a {@link PiGpioStateChangeEvent} is only created
+ * if such listeners are registered too.
+ */
+@FunctionalInterface
+public interface PiGpioPinLevelListener {
+    /**
+     * <p>onLevel.</p>
+     *
+     * @param pin the pin whose level changed
+     * @param state the new state; {@link PiGpioState#UNKNOWN} for a watchdog timeout
+     * @param tick the 64-bit microsecond tick of the change
+     * @param timestamp the {@link System#nanoTime()} of the change
+     */
+    void onLevel(int pin, PiGpioState state, long tick, long timestamp);
+}
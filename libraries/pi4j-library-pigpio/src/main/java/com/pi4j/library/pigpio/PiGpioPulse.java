@@ -0,0 +1,89 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioPulse.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpioPulse class.</p>
+ *
+ * A single pulse of a waveform (pigpio's <code>gpioPulse_t</code>): the GPIOs in the on mask are switched high and
+ * the GPIOs in the off mask are switched low at the same time, followed by a delay before the next pulse.
+ *
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+ */
+public final class PiGpioPulse {
+
+    private final int gpioOn;
+    private final int gpioOff;
+    private final int usDelay;
+
+    /**
+     * <p>Constructor for PiGpioPulse.</p>
+     *
+     * @param gpioOn bit mask of the GPIOs (0-31) to switch high
+     * @param gpioOff bit mask of the GPIOs (0-31) to switch low
+     * @param usDelay delay in microseconds before the next pulse
+     */
+    public PiGpioPulse(int gpioOn, int gpioOff, int usDelay){
+        this.gpioOn = gpioOn;
+        this.gpioOff = gpioOff;
+        this.usDelay = usDelay;
+    }
+
+    /**
+     * <p>gpioOn.</p>
+     *
+     * @return bit mask of the GPIOs to switch high
+     */
+    public int gpioOn(){
+        return this.gpioOn;
+    }
+
+    /**
+     * <p>gpioOff.</p>
+     *
+     * @return bit mask of the GPIOs to switch low
+     */
+    public int gpioOff(){
+        return this.gpioOff;
+    }
+
+    /**
+     * <p>usDelay.</p>
+     *
+     * @return delay in microseconds before the next pulse
+     */
+    public int usDelay(){
+        return this.usDelay;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString(){
+        return String.format("ON=0x%08X; OFF=0x%08X; DELAY=%dus", gpioOn, gpioOff, Integer.toUnsignedLong(usDelay));
+    }
+}
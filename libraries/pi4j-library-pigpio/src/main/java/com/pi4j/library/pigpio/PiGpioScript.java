@@ -0,0 +1,463 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioScript.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SCRIPT_PARAMS;
+
+/**
+ * <p>PiGpioScript class.</p>
+ *
+ * Builder for the text of scripts in the PiGpio script language, see {@link PiGpio_Script}. Every method appends
+ * one script command; operands are either literal numbers or the script parameters and variables returned by
+ * {@link #param(int)} and {@link #var(int)}. Commands without a builder method may be added with
+ * {@link #command(String, Object...)}.
+ *
+ * @see <a href="http://abyz.me.uk/rpi/pigpio/pigs.html#Scripts">PIGPIO::Scripts</a>
+ */
+public class PiGpioScript {
+
+    /** The number of script variables (v0-v149) */
+    public static final int MAX_VARIABLES = 150;
+
+    private final StringBuilder script = new StringBuilder();
+
+    /**
+     * <p>newBuilder.</p>
+     *
+     * @return a new, empty script builder
+     */
+    public static PiGpioScript newBuilder(){
+        return new PiGpioScript();
+    }
+
+    /**
+     * <p>param.</p>
+     *
+     * @param index the parameter index, 0-9
+     * @return the script operand of the parameter (p0-p9)
+     */
+    public static String param(int index){
+        if(index < 0 || index >= PI_MAX_SCRIPT_PARAMS)
+            throw new IllegalArgumentException("Script parameter index must be 0-9: " + index);
+        return "p" + index;
+    }
+
+    /**
+     * <p>var.</p>
+     *
+     * @param index the variable index, 0-149
+     * @return the script operand of the variable (v0-v149)
+     */
+    public static String var(int index){
+        if(index < 0 || index >= MAX_VARIABLES)
+            throw new IllegalArgumentException("Script variable index must be 0-149: " + index);
+        return "v" + index;
+    }
+
+    /**
+     * Append a script command.
+     *
+     * @param mnemonic the command, e.g. "W"
+     * @param operands the command operands; numbers, parameters or variables
+     * @return this script builder
+     */
+    public PiGpioScript command(String mnemonic, Object ... operands){
+        if(script.length() > 0)
+            script.append(' ');
+        script.append(mnemonic);
+        for(Object operand : operands)
+            script.append(' ').append(operand);
+        return this;
+    }
+
+    // FLOW CONTROL
+
+    /**
+     * Define a label as jump target (TAG).
+     *
+     * @param label the label
+     * @return this script builder
+     */
+    public PiGpioScript tag(int label){
+        return command("TAG", label);
+    }
+
+    /**
+     * Jump to a label (JMP).
+     *
+     * @param label the label to jump to
+     * @return this script builder
+     */
+    public PiGpioScript jmp(int label){
+        return command("JMP", label);
+    }
+
+    /**
+     * Jump to a label if the accumulator is zero (JZ).
+     *
+     * @param label the label to jump to if the accumulator is zero
+     * @return this script builder
+     */
+    public PiGpioScript jz(int label){
+        return command("JZ", label);
+    }
+
+    /**
+     * Jump to a label if the accumulator is not zero (JNZ).
+     *
+     * @param label the label to jump to if the accumulator is not zero
+     * @return this script builder
+     */
+    public PiGpioScript jnz(int label){
+        return command("JNZ", label);
+    }
+
+    /**
+     * Jump to a label if the accumulator is negative (JM).
+     *
+     * @param label the label to jump to if the accumulator is negative
+     * @return this script builder
+     */
+    public PiGpioScript jm(int label){
+        return command("JM", label);
+    }
+
+    /**
+     * Jump to a label if the accumulator is zero or positive (JP).
+     *
+     * @param label the label to jump to if the accumulator is zero or positive
+     * @return this script builder
+     */
+    public PiGpioScript jp(int label){
+        return command("JP", label);
+    }
+
+    /**
+     * Call a subroutine (CALL).
+     *
+     * @param label the label of the subroutine to call
+     * @return this script builder
+     */
+    public PiGpioScript call(int label){
+        return command("CALL", label);
+    }
+
+    /**
+     * Return from a subroutine (RET).
+     *
+     * @return this script builder
+     */
+    public PiGpioScript ret(){
+        return command("RET");
+    }
+
+    /**
+     * Halt the script (HALT).
+     *
+     * @return this script builder
+     */
+    public PiGpioScript halt(){
+        return command("HALT");
+    }
+
+    // GPIO
+
+    /**
+     * Read the level of a GPIO into the accumulator.
+     *
+     * @param gpio the GPIO operand
+     * @return this script builder
+     */
+    public PiGpioScript read(Object gpio){
+        return command("R", gpio);
+    }
+
+    /**
+     * Write a level to a GPIO.
+     *
+     * @param gpio the GPIO operand
+     * @param level the level operand, 0 or 1
+     * @return this script builder
+     */
+    public PiGpioScript write(Object gpio, Object level){
+        return command("W", gpio, level);
+    }
+
+    /**
+     * Set the mode of a GPIO.
+     *
+     * @param gpio the GPIO operand
+     * @param mode the GPIO mode
+     * @return this script builder
+     */
+    public PiGpioScript mode(Object gpio, PiGpioMode mode){
+        switch (mode){
+            case INPUT:  return command("M", gpio, "R");
+            case OUTPUT: return command("M", gpio, "W");
+            case UNKNOWN: throw new IllegalArgumentException("Unknown GPIO mode");
+            default:     return command("M", gpio, mode.name().substring(3));
+        }
+    }
+
+    /**
+     * Set the pull up/down resistor of a GPIO.
+     *
+     * @param gpio the GPIO operand
+     * @param pud the pull up/down setting
+     * @return this script builder
+     */
+    public PiGpioScript pud(Object gpio, PiGpioPud pud){
+        switch (pud){
+            case OFF:  return command("PUD", gpio, "O");
+            case DOWN: return command("PUD", gpio, "D");
+            case UP:   return command("PUD", gpio, "U");
+            default:   throw new IllegalArgumentException("Unknown pull up/down setting");
+        }
+    }
+
+    /**
+     * Start PWM on a GPIO.
+     *
+     * @param gpio the GPIO operand
+     * @param dutyCycle the duty cycle operand, 0 to the PWM range
+     * @return this script builder
+     */
+    public PiGpioScript pwm(Object gpio, Object dutyCycle){
+        return command("PWM", gpio, dutyCycle);
+    }
+
+    /**
+     * Start servo pulses on a GPIO.
+     *
+     * @param gpio the GPIO operand
+     * @param pulseWidth the pulse width operand, 0 or 500-2500 microseconds
+     * @return this script builder
+     */
+    public PiGpioScript servo(Object gpio, Object pulseWidth){
+        return command("SERVO", gpio, pulseWidth);
+    }
+
+    /**
+     * Send a trigger pulse on a GPIO.
+     *
+     * @param gpio the GPIO operand
+     * @param pulseLength the pulse length operand, 1-100 microseconds
+     * @param level the level operand of the pulse
+     * @return this script builder
+     */
+    public PiGpioScript trigger(Object gpio, Object pulseLength, Object level){
+        return command("TRIG", gpio, pulseLength, level);
+    }
+
+    // TIMING
+
+    /**
+     * Delay for a number of microseconds.
+     *
+     * @param micros the delay operand
+     * @return this script builder
+     */
+    public PiGpioScript delayMicros(Object micros){
+        return command("DLY", micros);
+    }
+
+    /**
+     * Delay for a number of milliseconds.
+     *
+     * @param millis the delay operand
+     * @return this script builder
+     */
+    public PiGpioScript delayMillis(Object millis){
+        return command("MILS", millis);
+    }
+
+    /**
+     * Wait for a level change on any of the GPIOs of a bit mask; the accumulator receives the changed GPIOs.
+     *
+     * @param bits the GPIO bit mask operand
+     * @return this script builder
+     */
+    public PiGpioScript waitBits(Object bits){
+        return command("WAIT", bits);
+    }
+
+    /**
+     * Load the current system tick (microseconds) into the accumulator.
+     *
+     * @return this script builder
+     */
+    public PiGpioScript tick(){
+        return command("TICK");
+    }
+
+    // ACCUMULATOR AND VARIABLES
+
+    /**
+     * Load the accumulator (LDA).
+     *
+     * @param value the operand to load into the accumulator
+     * @return this script builder
+     */
+    public PiGpioScript lda(Object value){
+        return command("LDA", value);
+    }
+
+    /**
+     * Load a parameter or variable (LD).
+     *
+     * @param target the parameter or variable
+     * @param value the operand to load
+     * @return this script builder
+     */
+    public PiGpioScript ld(String target, Object value){
+        return command("LD", target, value);
+    }
+
+    /**
+     * Store the accumulator (STA).
+     *
+     * @param target the parameter or variable to store the accumulator in
+     * @return this script builder
+     */
+    public PiGpioScript sta(String target){
+        return command("STA", target);
+    }
+
+    /**
+     * Add to the accumulator (ADD).
+     *
+     * @param value the operand to add to the accumulator
+     * @return this script builder
+     */
+    public PiGpioScript add(Object value){
+        return command("ADD", value);
+    }
+
+    /**
+     * Subtract from the accumulator (SUB).
+     *
+     * @param value the operand to subtract from the accumulator
+     * @return this script builder
+     */
+    public PiGpioScript sub(Object value){
+        return command("SUB", value);
+    }
+
+    /**
+     * AND with the accumulator (AND).
+     *
+     * @param value the operand to AND with the accumulator
+     * @return this script builder
+     */
+    public PiGpioScript and(Object value){
+        return command("AND", value);
+    }
+
+    /**
+     * OR with the accumulator (OR).
+     *
+     * @param value the operand to OR with the accumulator
+     * @return this script builder
+     */
+    public PiGpioScript or(Object value){
+        return command("OR", value);
+    }
+
+    /**
+     * XOR with the accumulator (XOR).
+     *
+     * @param value the operand to XOR with the accumulator
+     * @return this script builder
+     */
+    public PiGpioScript xor(Object value){
+        return command("XOR", value);
+    }
+
+    /**
+     * Compare with the accumulator, setting the flags only (CMP).
+     *
+     * @param value the operand to subtract from the accumulator, only setting the flags
+     * @return this script builder
+     */
+    public PiGpioScript cmp(Object value){
+        return command("CMP", value);
+    }
+
+    /**
+     * Increment a parameter or variable (INR).
+     *
+     * @param target the parameter or variable to increment
+     * @return this script builder
+     */
+    public PiGpioScript inr(String target){
+        return command("INR", target);
+    }
+
+    /**
+     * Decrement a parameter or variable (DCR).
+     *
+     * @param target the parameter or variable to decrement
+     * @return this script builder
+     */
+    public PiGpioScript dcr(String target){
+        return command("DCR", target);
+    }
+
+    /**
+     * Increment the accumulator (INRA).
+     *
+     * @return this script builder
+     */
+    public PiGpioScript inra(){
+        return command("INRA");
+    }
+
+    /**
+     * Decrement the accumulator (DCRA).
+     *
+     * @return this script builder
+     */
+    public PiGpioScript dcra(){
+        return command("DCRA");
+    }
+
+    /**
+     * <p>build.</p>
+     *
+     * @return the text of the script
+     */
+    public String build(){
+        return script.toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString(){
+        return build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocket.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>PiGpioSocket interface.</p>
+ *
+ * PiGpio instance communicating with a remote PiGpio daemon via TCP socket, as created by
+ * {@link PiGpio#newSocketInstance(String, int)}. Besides the synchronous {@link PiGpio} functions it allows to
+ * pipeline raw command packets: many commands can be in flight on the connection at once, instead of waiting a
+ * full network round trip for each response.
+ *
+ * <pre>
+ * {@code
+ *    PiGpioSocket pigpio = (PiGpioSocket) PiGpio.newSocketInstance("raspberrypi.local");
+ *    pigpio.gpioInitialise();
+ *    List<CompletableFuture<PiGpioPacket>> levels = new ArrayList<>();
+ *    for (int pin = 2; pin < 28; pin++)
+ *       levels.add(pigpio.sendPacketAsync(new PiGpioPacket(PiGpioCmd.READ, pin)));
+ * }
+ * </pre>
+ *
+ * Commands may be spread over a pool of connections, so independent threads do not queue behind each other on a
+ * single socket. Handles (I2C, SPI, serial) are global to the daemon and remain valid on every connection.
+ *
+ * <pre>
+ * {@code
+ *    pigpio.connections(4, PiGpioSocket.ConnectionAssignment.PER_THREAD);
+ * }
+ * </pre>
+ */
+public interface PiGpioSocket extends PiGpio {
+
+    /**
+     * Selects the pooled connection a command is sent on.
+     */
+    enum ConnectionAssignment {
+        /**
+         * Use the connection with the fewest commands in flight; connections are opened on demand when all open
+         * connections are busy. Synchronous commands of a thread complete in order, but asynchronous commands of
+         * one thread may be spread over several connections and complete in any order.
+         */
+        LEAST_BUSY,
+        /**
+         * Bind every calling thread to one connection (round robin on first use), so all commands of a thread
+         * complete in the order they were sent.
+         */
+        PER_THREAD
+    }
+
+    /**
+     * Configure the pool of connections to the PiGpio daemon. Connections are opened on first use; surplus
+     * connections of a smaller pool are closed, failing their pending commands, so the pool should be configured
+     * before commands are sent.
+     *
+     * @param count the maximum number of connections, at least 1 (the default)
+     * @param assignment how commands are assigned to connections
+     */
+    void connections(int count, ConnectionAssignment assignment);
+
+    /**
+     * @return the maximum number of connections to the PiGpio daemon
+     */
+    int connections();
+
+    /**
+     * @return how commands are assigned to the pooled connections
+     */
+    ConnectionAssignment connectionAssignment();
+
+    /**
+     * Write a command packet to a connection to the PiGpio daemon without waiting for its response. Responses are
+     * matched in command order and decoded in place into their command packet, so the packet must not be reused
+     * before the future completes.
+     *
+     * @param tx the command packet
+     * @return a future completed with the (same) response packet, or exceptionally with a {@link PiGpioException}
+     */
+    CompletableFuture<PiGpioPacket> sendPacketAsync(PiGpioPacket tx);
+}
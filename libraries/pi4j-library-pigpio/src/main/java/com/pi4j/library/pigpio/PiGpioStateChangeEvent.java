@@ -38,9 +38,10 @@ public class PiGpioStateChangeEvent {
     protected final PiGpioState state;
     protected final int pin;
     protected final long tick;
+    protected final long timestamp;
 
     /**
-     * Default constructor
+     * Default constructor, timestamping the event with the current {@link System#nanoTime()}
      *
      * @param state the value changed for this event instance
      * @param pin a int.
@@ -49,9 +50,25 @@ public class PiGpioStateChangeEvent {
     public PiGpioStateChangeEvent(final int pin,
                                   final PiGpioState state,
                                   final long tick){
+        this(pin, state, tick, System.nanoTime());
+    }
+
+    /**
+     * Constructor for an event with the timestamp derived from its tick
+     *
+     * @param pin a int.
+     * @param state the value changed for this event instance
+     * @param tick the tick of the change in microseconds
+     * @param timestamp the time of the change in nanoseconds, on the time scale of {@link System#nanoTime()}
+     */
+    public PiGpioStateChangeEvent(final int pin,
+                                  final PiGpioState state,
+                                  final long tick,
+                                  final long timestamp){
         this.state = state;
         this.pin = pin;
         this.tick = tick;
+        this.timestamp = timestamp;
     }
 
     /**
@@ -81,6 +98,15 @@ public class PiGpioStateChangeEvent {
         return this.tick;
     }
 
+    /**
+     * The time of the change in nanoseconds, on the time scale of {@link System#nanoTime()}
+     *
+     * @return a long.
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString(){
@@ -27,6 +27,8 @@ package com.pi4j.library.pigpio;
  * #L%
  */
 
+import java.util.List;
+
 /**
  * <p>PiGpioStateChangeListener interface.</p>
  *
@@ -40,4 +42,29 @@ public interface PiGpioStateChangeListener {
      * @param event a {@link com.pi4j.library.pigpio.PiGpioStateChangeEvent} object.
      */
     void onChange(PiGpioStateChangeEvent event);
+
+    /**
+     * <p>onChanges.</p>
+     *
+     * Receives the changes decoded together from a burst of notification reports, in report order. The list is
+     * only valid during the call. By default each change is passed to {@link #onChange(PiGpioStateChangeEvent)};
+     * a failing change does not keep the later ones from being delivered.
+     *
+     * @param events the {@link com.pi4j.library.pigpio.PiGpioStateChangeEvent} objects of the burst.
+     */
+    default void onChanges(List<PiGpioStateChangeEvent> events) {
+        RuntimeException failure = null;
+        for (PiGpioStateChangeEvent event : events) {
+            try {
+                onChange(event);
+            } catch (RuntimeException e) {
+                if (failure == null)
+                    failure = e;
+                else
+                    failure.addSuppressed(e);
+            }
+        }
+        if (failure != null)
+            throw failure;
+    }
 }
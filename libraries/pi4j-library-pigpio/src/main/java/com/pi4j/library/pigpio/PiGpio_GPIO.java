@@ -150,4 +150,61 @@ public interface PiGpio_GPIO {
      * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioGlitchFilter">PIGPIO::gpioGlitchFilter</a>
      */
     void gpioNoiseFilter(int pin, int steady, int active);
+
+    /**
+     * Returns the current level of GPIO 0-31.
+     *
+     * Bit n of the result holds the level of GPIO n; the result is an unsigned 32-bit value,
+     * so GPIO 31 is returned in the sign bit.
+     *
+     * @return the levels of GPIO 0-31 as a bitmask
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    int gpioRead_Bits_0_31();
+
+    /**
+     * Returns the current level of GPIO 32-53.
+     *
+     * Bit n of the result holds the level of GPIO 32+n.
+     *
+     * @return the levels of GPIO 32-53 as a bitmask
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    int gpioRead_Bits_32_53();
+
+    /**
+     * Sets GPIO 0-31 if the corresponding bit in bits is set.
+     *
+     * All selected GPIO switch with a single register write, so they change level simultaneously.
+     *
+     * @param bits a bit mask of GPIO to set (bit n for GPIO n)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    void gpioWrite_Bits_0_31_Set(int bits);
+
+    /**
+     * Clears GPIO 0-31 if the corresponding bit in bits is set.
+     *
+     * All selected GPIO switch with a single register write, so they change level simultaneously.
+     *
+     * @param bits a bit mask of GPIO to clear (bit n for GPIO n)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    void gpioWrite_Bits_0_31_Clear(int bits);
+
+    /**
+     * Sets GPIO 32-53 if the corresponding bit (0-21) in bits is set.
+     *
+     * @param bits a bit mask of GPIO to set (bit n for GPIO 32+n)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Set">PIGPIO::gpioWrite_Bits_32_53_Set</a>
+     */
+    void gpioWrite_Bits_32_53_Set(int bits);
+
+    /**
+     * Clears GPIO 32-53 if the corresponding bit (0-21) in bits is set.
+     *
+     * @param bits a bit mask of GPIO to clear (bit n for GPIO 32+n)
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Clear">PIGPIO::gpioWrite_Bits_32_53_Clear</a>
+     */
+    void gpioWrite_Bits_32_53_Clear(int bits);
 }
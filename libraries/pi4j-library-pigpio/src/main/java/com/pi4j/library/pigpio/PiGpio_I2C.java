@@ -30,6 +30,7 @@ package com.pi4j.library.pigpio;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * <p>PiGpio_I2C interface.</p>
@@ -1554,4 +1555,101 @@ public interface PiGpio_I2C {
     default int i2cWriteDevice(int handle, CharSequence data){
         return i2cWriteDevice(handle, data, data.length());
     }
+
+    /**
+     * This function executes a sequence of I2C operations on the device associated with the handle
+     * as a single PiGpio command, so e.g. a register address write followed by a burst read of
+     * several registers costs one round trip.  The write and read steps are sent as one combined
+     * transfer, separated by repeated STARTs.
+     *
+     * The bytes read by all read steps are copied into the buffer in step order.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param steps the sequence of I2C operations to execute
+     * @param buffer the array receiving the bytes read; must hold steps.readLength() bytes from the offset
+     * @param offset the starting offset position in the provided array to store the read bytes
+     * @return Returns the number of bytes read (&gt;=0) if OK, otherwise PI_BAD_HANDLE, PI_BAD_POINTER,
+     *         PI_BAD_I2C_CMD, PI_BAD_I2C_RLEN, PI_BAD_I2C_WLEN, or PI_BAD_I2C_SEG.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    int i2cZip(int handle, PiGpioI2CZip steps, byte[] buffer, int offset);
+
+    /**
+     * This function executes a sequence of I2C operations on the device associated with the handle
+     * as a single PiGpio command and returns the bytes read by all read steps in step order.
+     *
+     * @param handle the open I2C device handle; (&gt;=0, as returned by a call to i2cOpen)
+     * @param steps the sequence of I2C operations to execute
+     * @return the bytes read by the read steps
+     * @throws PiGpioException if PiGpio reports an error
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    default byte[] i2cZip(int handle, PiGpioI2CZip steps){
+        byte[] buffer = new byte[steps.readLength()];
+        return zipResult(i2cZip(handle, steps, buffer, 0), buffer);
+    }
+
+    /**
+     * This function selects a pair of GPIO for bit banging I2C at a specified baud rate.
+     *
+     * Bit banging I2C allows for certain operations which are not possible with the standard
+     * I2C driver, e.g. baud rates as low as 50, repeated starts, and clock stretching.
+     *
+     * @param sda the GPIO used for data (0-31)
+     * @param scl the GPIO used for clock (0-31)
+     * @param baud the baud rate in bits per second (50-500000)
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, PI_BAD_I2C_BAUD, or PI_GPIO_IN_USE.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2COpen">PIGPIO::bbI2COpen</a>
+     */
+    int bbI2COpen(int sda, int scl, int baud);
+
+    /**
+     * This function stops bit banging I2C on a pair of GPIO previously opened with bbI2COpen.
+     *
+     * @param sda the GPIO used for data (0-31) in a prior call to bbI2COpen
+     * @return Returns 0 if OK, otherwise PI_BAD_USER_GPIO, or PI_NOT_I2C_GPIO.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CClose">PIGPIO::bbI2CClose</a>
+     */
+    int bbI2CClose(int sda);
+
+    /**
+     * This function executes a sequence of bit banged I2C operations as a single PiGpio command.
+     * Unlike the hardware bus, the sequence must issue START and STOP conditions and set the
+     * device address explicitly.
+     *
+     * The bytes read by all read steps are copied into the buffer in step order.
+     *
+     * @param sda the GPIO used for data (0-31) in a prior call to bbI2COpen
+     * @param steps the sequence of I2C operations to execute
+     * @param buffer the array receiving the bytes read; must hold steps.readLength() bytes from the offset
+     * @param offset the starting offset position in the provided array to store the read bytes
+     * @return Returns the number of bytes read (&gt;=0) if OK, otherwise PI_BAD_USER_GPIO, PI_NOT_I2C_GPIO,
+     *         PI_BAD_POINTER, PI_BAD_I2C_CMD, PI_BAD_I2C_RLEN, PI_BAD_I2C_WLEN, PI_I2C_READ_FAILED,
+     *         or PI_I2C_WRITE_FAILED.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+     */
+    int bbI2CZip(int sda, PiGpioI2CZip steps, byte[] buffer, int offset);
+
+    /**
+     * This function executes a sequence of bit banged I2C operations as a single PiGpio command
+     * and returns the bytes read by all read steps in step order.
+     *
+     * @param sda the GPIO used for data (0-31) in a prior call to bbI2COpen
+     * @param steps the sequence of I2C operations to execute
+     * @return the bytes read by the read steps
+     * @throws PiGpioException if PiGpio reports an error
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+     */
+    default byte[] bbI2CZip(int sda, PiGpioI2CZip steps){
+        byte[] buffer = new byte[steps.readLength()];
+        return zipResult(bbI2CZip(sda, steps, buffer, 0), buffer);
+    }
+
+    private static byte[] zipResult(int result, byte[] buffer){
+        if(result < 0){
+            PiGpioError err = PiGpioError.from(result);
+            throw new PiGpioException("PIGPIO ERROR: " + err.name() + "; " + err.message());
+        }
+        return result == buffer.length ? buffer : Arrays.copyOf(buffer, result);
+    }
 }
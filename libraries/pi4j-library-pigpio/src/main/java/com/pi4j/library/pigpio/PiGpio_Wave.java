@@ -0,0 +1,265 @@
+package com.pi4j.library.pigpio;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpio_Wave.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpio_Wave interface.</p>
+ *
+ * Waveforms are sequences of pulses on any number of GPIOs (0-31) which the PiGpio library transmits with DMA
+ * timing: once started, a waveform plays with microsecond accuracy without any further work of the caller.
+ *
+ * <pre>
+ * {@code
+ *    pigpio.gpioWaveAddNew();
+ *    pigpio.gpioWaveAddGeneric(new PiGpioPulse(1 << 4, 0, 10), new PiGpioPulse(0, 1 << 4, 10));
+ *    int wave = pigpio.gpioWaveCreate();
+ *    pigpio.gpioWaveTxSend(wave, PiGpioWaveMode.REPEAT);   // 50 kHz square wave on GPIO 4
+ * }
+ * </pre>
+ */
+public interface PiGpio_Wave {
+
+    /**
+     * This function clears all waveforms and any data added by calls to the gpioWaveAdd* functions.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    void gpioWaveClear();
+
+    /**
+     * This function starts a new empty waveform.
+     * You wouldn't normally need to call this function as it is automatically called after a waveform is
+     * created with the gpioWaveCreate function.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    void gpioWaveAddNew();
+
+    /**
+     * This function adds a number of pulses to the current waveform.
+     *
+     * The pulses are interleaved in time order within the existing waveform (if any).
+     * Merging allows the waveform to be built in parts, that is the settings for GPIO#1 can be added, and then
+     * GPIO#2 etc. If the added waveform is intended to start after or within the existing waveform then the
+     * first pulse should consist of a delay.
+     *
+     * @param pulses the pulses, three consecutive ints (gpioOn, gpioOff, usDelay) per pulse
+     * @param offset the index of the first pulse in the array (in pulses, not ints)
+     * @param count the number of pulses to add
+     * @return Returns the new total number of pulses in the current waveform if OK.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    int gpioWaveAddGeneric(int[] pulses, int offset, int count);
+
+    /**
+     * This function adds a number of pulses to the current waveform.
+     *
+     * @param pulses the pulses to add
+     * @return Returns the new total number of pulses in the current waveform if OK.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    default int gpioWaveAddGeneric(PiGpioPulse ... pulses){
+        int[] raw = new int[pulses.length * 3];
+        for(int i = 0; i < pulses.length; i++){
+            raw[i * 3]     = pulses[i].gpioOn();
+            raw[i * 3 + 1] = pulses[i].gpioOff();
+            raw[i * 3 + 2] = pulses[i].usDelay();
+        }
+        return gpioWaveAddGeneric(raw, 0, pulses.length);
+    }
+
+    /**
+     * This function creates a waveform from the data provided by the prior calls to the gpioWaveAdd* functions.
+     * Upon success a wave id greater than or equal to 0 is returned.
+     *
+     * The data provided by the gpioWaveAdd* functions is consumed by this function.
+     * As many waveforms may be created as there is space available. The wave id is passed to gpioWaveTxSend
+     * to specify the waveform to transmit. Normal usage would be
+     *  - Step 1. gpioWaveClear to clear all waveforms and added data.
+     *  - Step 2. gpioWaveAdd* calls to add waveform data.
+     *  - Step 3. gpioWaveCreate to create the waveform and get a unique id
+     *  - Repeat steps 2 and 3 as needed.
+     *  - Step 4. gpioWaveTxSend with the id of the waveform to transmit.
+     *
+     * @return Returns the new waveform id if OK.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    int gpioWaveCreate();
+
+    /**
+     * This function deletes the waveform with id wave_id.
+     * The wave is flagged for deletion. The resources used by the wave will only be reused when either of the
+     * following apply.
+     *  - all waves with higher numbered wave ids have been deleted or have been flagged for deletion.
+     *  - a new wave is created which uses exactly the same resources as the current wave.
+     *
+     * @param waveId wave id returned by gpioWaveCreate
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    void gpioWaveDelete(int waveId);
+
+    /**
+     * This function transmits the waveform with id wave_id.
+     * The SYNC variants wait for the current waveform to reach the end of a cycle or finish before starting
+     * the new waveform.
+     *
+     * @param waveId wave id returned by gpioWaveCreate
+     * @param mode the transmit mode
+     * @return Returns the number of DMA control blocks in the waveform if OK.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    int gpioWaveTxSend(int waveId, PiGpioWaveMode mode);
+
+    /**
+     * This function transmits a chain of waveforms.
+     *
+     * The waves to be transmitted are specified by the contents of buf which contains an ordered list of wave
+     * ids and optional command codes and related data. Each wave is transmitted in the order specified.
+     * The following command codes are supported:
+     *  - 255 0 : loop start (identify start of a wave block)
+     *  - 255 1 x y : loop end (loop x + y*256 times)
+     *  - 255 2 x y : delay x + y*256 microseconds
+     *  - 255 3 : loop forever (loop forever, must be the last entry)
+     *
+     * @param buf the chain of wave ids and command codes
+     * @param offset the offset in the buffer
+     * @param length the number of bytes in the chain, up to 600
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    void gpioWaveChain(byte[] buf, int offset, int length);
+
+    /**
+     * This function transmits a chain of waveforms.
+     *
+     * @param buf the chain of wave ids and command codes, up to 600 bytes
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    default void gpioWaveChain(byte ... buf){
+        gpioWaveChain(buf, 0, buf.length);
+    }
+
+    /**
+     * This function returns the id of the waveform currently being transmitted.
+     *
+     * @return Returns the waveform id or one of the following special values:
+     *  - PI_WAVE_NOT_FOUND (9998) - transmitted wave not found.
+     *  - PI_NO_TX_WAVE (9999) - no wave being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    int gpioWaveTxAt();
+
+    /**
+     * This function checks to see if a waveform is currently being transmitted.
+     *
+     * @return Returns true if a waveform is currently being transmitted, otherwise false.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    boolean gpioWaveTxBusy();
+
+    /**
+     * This function aborts the transmission of the current waveform.
+     * This function is intended to stop a waveform started in repeat mode.
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    void gpioWaveTxStop();
+
+    /**
+     * This function returns the length in microseconds of the current waveform.
+     *
+     * @return the length in microseconds of the current waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMicros">PIGPIO::gpioWaveGetMicros</a>
+     */
+    int gpioWaveGetMicros();
+
+    /**
+     * This function returns the length in microseconds of the longest waveform created since gpioInitialise
+     * was called.
+     *
+     * @return the length in microseconds of the longest waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighMicros">PIGPIO::gpioWaveGetHighMicros</a>
+     */
+    int gpioWaveGetHighMicros();
+
+    /**
+     * This function returns the maximum possible size of a waveform in microseconds.
+     *
+     * @return the maximum length in microseconds of a waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxMicros">PIGPIO::gpioWaveGetMaxMicros</a>
+     */
+    int gpioWaveGetMaxMicros();
+
+    /**
+     * This function returns the length in pulses of the current waveform.
+     *
+     * @return the number of pulses of the current waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetPulses">PIGPIO::gpioWaveGetPulses</a>
+     */
+    int gpioWaveGetPulses();
+
+    /**
+     * This function returns the length in pulses of the longest waveform created since gpioInitialise was called.
+     *
+     * @return the number of pulses of the longest waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighPulses">PIGPIO::gpioWaveGetHighPulses</a>
+     */
+    int gpioWaveGetHighPulses();
+
+    /**
+     * This function returns the maximum possible size of a waveform in pulses.
+     *
+     * @return the maximum number of pulses of a waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxPulses">PIGPIO::gpioWaveGetMaxPulses</a>
+     */
+    int gpioWaveGetMaxPulses();
+
+    /**
+     * This function returns the length in DMA control blocks of the current waveform.
+     *
+     * @return the number of DMA control blocks of the current waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetCbs">PIGPIO::gpioWaveGetCbs</a>
+     */
+    int gpioWaveGetCbs();
+
+    /**
+     * This function returns the length in DMA control blocks of the longest waveform created since
+     * gpioInitialise was called.
+     *
+     * @return the number of DMA control blocks of the longest waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetHighCbs">PIGPIO::gpioWaveGetHighCbs</a>
+     */
+    int gpioWaveGetHighCbs();
+
+    /**
+     * This function returns the maximum possible size of a waveform in DMA control blocks.
+     *
+     * @return the maximum number of DMA control blocks of a waveform
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveGetMaxCbs">PIGPIO::gpioWaveGetMaxCbs</a>
+     */
+    int gpioWaveGetMaxCbs();
+}
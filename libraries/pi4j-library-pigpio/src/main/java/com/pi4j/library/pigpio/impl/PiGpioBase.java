@@ -53,6 +53,8 @@ public abstract class PiGpioBase implements PiGpio {
     protected final Set<Integer> spiHandles = Collections.synchronizedSet(new HashSet<>());
     protected List<PiGpioStateChangeListener> stateChangeListeners = new CopyOnWriteArrayList<>();
     protected Map<Integer,List<PiGpioStateChangeListener>> pinChangeListeners = new ConcurrentHashMap<>();
+    // level listeners of each pin; replaced on change so dispatching a level iterates without allocating
+    protected Map<Integer,PiGpioPinLevelListener[]> pinLevelListeners = new ConcurrentHashMap<>();
     protected boolean initialized = false;
 
     /**
@@ -60,20 +62,22 @@ public abstract class PiGpioBase implements PiGpio {
      * Returns nothing.
      */
     protected void closeAllOpenHandles() {
+        // closing a handle removes it from its set, so iterate over copies of the sets
+
         // close all open SPI handles
-        spiHandles.forEach((handle) -> {
+        List.copyOf(spiHandles).forEach((handle) -> {
             logger.trace("[SHUTDOWN] -- CLOSING OPEN SPI HANDLE: [{}]", handle);
             spiClose(handle.intValue());
         });
 
         // close all open SERIAL handles
-        serialHandles.forEach((handle) -> {
+        List.copyOf(serialHandles).forEach((handle) -> {
             logger.trace("[SHUTDOWN] -- CLOSING OPEN SERIAL HANDLE: [{}]", handle);
             serClose(handle.intValue());
         });
 
         // close all open I2C handles
-        i2cHandles.forEach((handle) -> {
+        List.copyOf(i2cHandles).forEach((handle) -> {
             logger.trace("[SHUTDOWN] -- CLOSING OPEN I2C HANDLE: [{}]", handle);
             i2cClose(handle.intValue());
         });
@@ -327,6 +331,30 @@ public abstract class PiGpioBase implements PiGpio {
         }
     }
 
+    /**
+     * <p>validateBbI2cBaud.</p>
+     *
+     * @param baud a int.
+     */
+    protected void validateBbI2cBaud(int baud) {
+        // validate bit banged I2C baud rate :: 50-500000
+        if(baud < PI_BB_I2C_MIN_BAUD || baud > PI_BB_I2C_MAX_BAUD) {
+            throw new IllegalArgumentException("PIGPIO ERROR: INVALID BIT BANGED I2C BAUD RATE [" + baud + "]; Valid range: " +
+                    PI_BB_I2C_MIN_BAUD + "-" + PI_BB_I2C_MAX_BAUD);
+        }
+    }
+
+    /**
+     * <p>validateScriptParams.</p>
+     *
+     * @param params an array of int.
+     */
+    protected void validateScriptParams(int[] params) {
+        if(params.length > PI_MAX_SCRIPT_PARAMS)
+            throw new IllegalArgumentException("Scripts accept at most " + PI_MAX_SCRIPT_PARAMS +
+                    " parameters; got " + params.length);
+    }
+
     /**
      * <p>validateGpioGlitchFilter.</p>
      *
@@ -440,6 +468,45 @@ public abstract class PiGpioBase implements PiGpio {
     public void removeAllPinListeners(){
         // remove all pin listeners
         pinChangeListeners.clear();
+        pinLevelListeners.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void addPinLevelListener(int pin, PiGpioPinLevelListener listener){
+        PiGpioPinLevelListener[] listeners = pinLevelListeners.getOrDefault(pin, new PiGpioPinLevelListener[0]);
+        if(Arrays.asList(listeners).contains(listener)){
+            return;
+        }
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        pinLevelListeners.put(pin, listeners);
+
+        // enable this GPIO pin for notification monitoring
+        this.gpioEnableNotifications(pin);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void removePinLevelListener(int pin, PiGpioPinLevelListener listener){
+        PiGpioPinLevelListener[] listeners = pinLevelListeners.get(pin);
+        if(listeners == null){
+            return;
+        }
+        listeners = Arrays.stream(listeners)
+                .filter(l -> l != listener)
+                .toArray(PiGpioPinLevelListener[]::new);
+        if(listeners.length > 0){
+            pinLevelListeners.put(pin, listeners);
+            return;
+        }
+        pinLevelListeners.remove(pin);
+
+        // disable this GPIO pin for notification monitoring, unless it has state change listeners
+        List<PiGpioStateChangeListener> changeListeners = pinChangeListeners.get(pin);
+        if(changeListeners == null || changeListeners.isEmpty()) {
+            this.gpioDisableNotifications(pin);
+        }
     }
 
     /** {@inheritDoc} */
@@ -467,6 +534,42 @@ public abstract class PiGpioBase implements PiGpio {
         stateChangeListeners.clear();
     }
 
+    /**
+     * <p>hasStateChangeListeners.</p>
+     *
+     * @param pin a int.
+     * @return true if a {@link com.pi4j.library.pigpio.PiGpioStateChangeEvent} of the pin would reach a listener
+     */
+    protected boolean hasStateChangeListeners(int pin) {
+        if (!stateChangeListeners.isEmpty())
+            return true;
+        List<PiGpioStateChangeListener> listeners = pinChangeListeners.get(pin);
+        return listeners != null && !listeners.isEmpty();
+    }
+
+    /**
+     * <p>dispatchLevel.</p>
+     *
+     * Dispatches a level change to the level listeners of its pin without allocating.
+     *
+     * @param pin a int.
+     * @param state the new state
+     * @param tick the 64-bit microsecond tick of the change
+     * @param timestamp the {@link System#nanoTime()} of the change
+     */
+    protected void dispatchLevel(int pin, PiGpioState state, long tick, long timestamp) {
+        PiGpioPinLevelListener[] listeners = pinLevelListeners.get(pin);
+        if (listeners == null)
+            return;
+        for (PiGpioPinLevelListener listener : listeners) {
+            try {
+                listener.onLevel(pin, state, tick, timestamp);
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+    }
+
     /**
      * <p>dispatchEvent.</p>
      *
@@ -502,6 +605,49 @@ public abstract class PiGpioBase implements PiGpio {
         }
     }
 
+    /**
+     * <p>dispatchEvents.</p>
+     *
+     * Dispatches a batch of events with one call per listener; each pin listener receives the events of its pin.
+     *
+     * @param events the {@link com.pi4j.library.pigpio.PiGpioStateChangeEvent} objects, in the order they occurred
+     */
+    protected void dispatchEvents(final List<PiGpioStateChangeEvent> events) {
+        try {
+            // dispatch the batch to each registered listener
+            List<PiGpioStateChangeEvent> batch = Collections.unmodifiableList(events);
+            stateChangeListeners.forEach(listener -> {
+                try {
+                    listener.onChanges(batch);
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
+                }
+            });
+
+            // dispatch the events of each pin to its registered pin listeners
+            List<PiGpioStateChangeEvent> pinEvents = new ArrayList<>(events.size());
+            List<PiGpioStateChangeEvent> pinBatch = Collections.unmodifiableList(pinEvents);
+            pinChangeListeners.forEach((pin, listeners) -> {
+                if (listeners.isEmpty()) return;
+                pinEvents.clear();
+                for (PiGpioStateChangeEvent event : events) {
+                    if (event.pin() == pin) pinEvents.add(event);
+                }
+                if (pinEvents.isEmpty()) return;
+                listeners.forEach(listener -> {
+                    try {
+                        listener.onChanges(pinBatch);
+                    } catch (Exception e) {
+                        logger.error(e.getMessage(), e);
+                    }
+                });
+            });
+        }
+        catch (Exception e){
+            logger.error(e.getMessage(), e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -35,9 +35,12 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 import static com.pi4j.library.pigpio.PiGpioConst.PI_IF_DISABLE_FIFO;
 import static com.pi4j.library.pigpio.PiGpioConst.PI_IF_DISABLE_SOCK;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SCRIPT_PARAMS;
 import static com.pi4j.library.pigpio.PiGpioConst.PI_TIME_RELATIVE;
 
 /**
@@ -54,6 +57,15 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         instance = new PiGpioNativeImpl();
     }
 
+    /** Number of GPIO alerts buffered between pigpio's alert thread and the dispatcher thread */
+    private static final int ALERT_RING_CAPACITY = 8192;
+
+    /** Maximum number of GPIO alerts dispatched before checking for overflows */
+    private static final int ALERT_DISPATCH_BATCH = 256;
+
+    private final PiGpioAlertRing alerts = new PiGpioAlertRing(ALERT_RING_CAPACITY);
+    private volatile Thread alertDispatcher = null;
+
     /**
      * <p>Creates a PiGpio instance using direct (native) JNI access to the
      * libpigpio.so shared library.  This instance may only be used
@@ -136,6 +148,9 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         // terminate PiGPio library
         PIGPIO.gpioTerminate();
 
+        // dispatch the remaining alerts and stop the alert dispatcher
+        stopAlertDispatcher();
+
         // clear initialized flag
         this.initialized = false;
         logger.trace("[SHUTDOWN] <- FINISHED");
@@ -278,6 +293,91 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    @Override
+    public int gpioRead_Bits_0_31() {
+        logger.trace("[GPIO::BR1] ->");
+        validateReady();
+        int bits = PIGPIO.gpioRead_Bits_0_31();
+        logger.trace("[GPIO::BR1] <- BITS: {}", Integer.toBinaryString(bits));
+        return bits;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    @Override
+    public int gpioRead_Bits_32_53() {
+        logger.trace("[GPIO::BR2] ->");
+        validateReady();
+        int bits = PIGPIO.gpioRead_Bits_32_53();
+        logger.trace("[GPIO::BR2] <- BITS: {}", Integer.toBinaryString(bits));
+        validateResult(bits);
+        return bits;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    @Override
+    public void gpioWrite_Bits_0_31_Set(int bits) {
+        logger.trace("[GPIO::BS1] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        int result = PIGPIO.gpioWrite_Bits_0_31_Set(bits);
+        logger.trace("[GPIO::BS1] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    @Override
+    public void gpioWrite_Bits_0_31_Clear(int bits) {
+        logger.trace("[GPIO::BC1] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        int result = PIGPIO.gpioWrite_Bits_0_31_Clear(bits);
+        logger.trace("[GPIO::BC1] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Set">PIGPIO::gpioWrite_Bits_32_53_Set</a>
+     */
+    @Override
+    public void gpioWrite_Bits_32_53_Set(int bits) {
+        logger.trace("[GPIO::BS2] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        int result = PIGPIO.gpioWrite_Bits_32_53_Set(bits);
+        logger.trace("[GPIO::BS2] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Clear">PIGPIO::gpioWrite_Bits_32_53_Clear</a>
+     */
+    @Override
+    public void gpioWrite_Bits_32_53_Clear(int bits) {
+        logger.trace("[GPIO::BC2] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        int result = PIGPIO.gpioWrite_Bits_32_53_Clear(bits);
+        logger.trace("[GPIO::BC2] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), (result>=0));
+        validateResult(result);  // Returns 0 if OK.
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -588,27 +688,86 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
 
     @Override
     public void gpioNotifications(int pin, boolean enabled) {
-        if(enabled)
+        if(enabled) {
+            startAlertDispatcher();
             PIGPIO.gpioSetAlertFunc(pin, gpioAlertCallbackHandler);
+        }
         else
             PIGPIO.gpioDisableAlertFunc(pin);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long gpioAlertOverflows() {
+        return alerts.overflows();
+    }
+
     /**
-     * This handler is used internally to dispatch GPI state change events to Java consumers
+     * This handler only appends the alert to the alert ring, so that pigpio's alert thread is never blocked by
+     * Java consumers; the alert dispatcher thread then dispatches GPIO state change events to them
      * (*this method is only invoked from native JNI code*)
      */
     private PiGpioAlertCallback gpioAlertCallbackHandler = new PiGpioAlertCallback() {
         @Override
         public void call(int pin, int state, long tick) {
+            alerts.offer(pin, state, tick);
+        }
+    };
+
+    // unwraps alert ticks into 64 bits and converts them into event timestamps, only used by the alert dispatcher
+    private final PiGpioTickClock clock = new PiGpioTickClock();
+
+    private final PiGpioAlertRing.Consumer alertConsumer = (pin, state, tick) -> {
+        try {
+            long unwrapped = clock.unwrap(tick);
+            long timestamp = clock.nanoTime(unwrapped);
+            PiGpioState level = PiGpioState.from(state);
+            dispatchLevel(pin, level, unwrapped, timestamp);
+            if (hasStateChangeListeners(pin))
+                dispatchEvent(new PiGpioStateChangeEvent(pin, level, unwrapped, timestamp));
+        }
+        catch (Exception e){
+            logger.error(e.getMessage(), e);
+        }
+    };
+
+    private synchronized void startAlertDispatcher() {
+        if(alertDispatcher == null) {
+            alertDispatcher = new Thread(this::dispatchAlerts, "pigpio-alert-dispatcher");
+            alertDispatcher.setDaemon(true);
+            alertDispatcher.start();
+        }
+    }
+
+    private synchronized void stopAlertDispatcher() {
+        Thread dispatcher = alertDispatcher;
+        alertDispatcher = null;
+        if(dispatcher != null) {
+            LockSupport.unpark(dispatcher);
             try {
-                dispatchEvent(new PiGpioStateChangeEvent(pin, PiGpioState.from(state), tick));
+                dispatcher.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
-            catch (Exception e){
-                logger.error(e.getMessage(), e);
+        }
+    }
+
+    private void dispatchAlerts() {
+        logger.trace("[ALERT] dispatcher STARTED");
+        long reported = 0;
+        while(alertDispatcher == Thread.currentThread()) {
+            if(alerts.drain(alertConsumer, ALERT_DISPATCH_BATCH) == 0)
+                alerts.await(TimeUnit.MILLISECONDS.toNanos(100));
+
+            long overflows = alerts.overflows();
+            if(overflows != reported) {
+                logger.warn("[ALERT] {} GPIO alerts dropped; the listeners do not keep up with the state changes", overflows - reported);
+                reported = overflows;
             }
         }
-    };
+        alerts.drain(alertConsumer, Integer.MAX_VALUE);
+        logger.trace("[ALERT] dispatcher ENDED");
+    }
 
     // *****************************************************************************************************
     // *****************************************************************************************************
@@ -682,6 +841,336 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
     }
 
 
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // WAVEFORM IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function clears all waveforms and any data added by calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    @Override
+    public void gpioWaveClear() {
+        logger.trace("[WAVE::CLEAR] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveClear();
+        logger.trace("[WAVE::CLEAR] <- SUCCESS={}", (result>=0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function starts a new empty waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    @Override
+    public void gpioWaveAddNew() {
+        logger.trace("[WAVE::NEW] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveAddNew();
+        logger.trace("[WAVE::NEW] <- SUCCESS={}", (result>=0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function adds a number of pulses to the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    @Override
+    public int gpioWaveAddGeneric(int[] pulses, int offset, int count) {
+        logger.trace("[WAVE::ADD] -> PULSES={}; OFFSET={}", count, offset);
+        validateReady();
+        Objects.checkFromIndexSize(offset * 3, count * 3, pulses.length);
+        int result = PIGPIO.gpioWaveAddGeneric(pulses, offset, count);
+        logger.trace("[WAVE::ADD] <- SUCCESS={}; TOTAL PULSES={}", (result>=0), result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function creates a waveform from the data provided by the prior calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    @Override
+    public int gpioWaveCreate() {
+        logger.trace("[WAVE::CREATE] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveCreate();
+        logger.trace("[WAVE::CREATE] <- SUCCESS={}; WAVE ID={}", (result>=0), result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function deletes the waveform with id wave_id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    @Override
+    public void gpioWaveDelete(int waveId) {
+        logger.trace("[WAVE::DELETE] -> WAVE ID={}", waveId);
+        validateReady();
+        int result = PIGPIO.gpioWaveDelete(waveId);
+        logger.trace("[WAVE::DELETE] <- WAVE ID={}; SUCCESS={}", waveId, (result>=0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transmits the waveform with id wave_id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    @Override
+    public int gpioWaveTxSend(int waveId, PiGpioWaveMode mode) {
+        logger.trace("[WAVE::TX] -> WAVE ID={}; MODE={}", waveId, mode);
+        validateReady();
+        int result = PIGPIO.gpioWaveTxSend(waveId, mode.value());
+        logger.trace("[WAVE::TX] <- WAVE ID={}; SUCCESS={}; CBS={}", waveId, (result>=0), result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transmits a chain of waveforms.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    @Override
+    public void gpioWaveChain(byte[] buf, int offset, int length) {
+        logger.trace("[WAVE::CHAIN] -> [{} bytes]", length);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, buf.length);
+        int result = PIGPIO.gpioWaveChain(buf, offset, length);
+        logger.trace("[WAVE::CHAIN] <- SUCCESS={}", (result>=0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the id of the waveform currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    @Override
+    public int gpioWaveTxAt() {
+        logger.trace("[WAVE::TX-AT] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveTxAt();
+        logger.trace("[WAVE::TX-AT] <- SUCCESS={}; WAVE ID={}", (result>=0), result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function checks to see if a waveform is currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    @Override
+    public boolean gpioWaveTxBusy() {
+        logger.trace("[WAVE::TX-BUSY] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveTxBusy();
+        logger.trace("[WAVE::TX-BUSY] <- SUCCESS={}; BUSY={}", (result>=0), result);
+        validateResult(result);
+        return result == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function aborts the transmission of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    @Override
+    public void gpioWaveTxStop() {
+        logger.trace("[WAVE::TX-STOP] -> ");
+        validateReady();
+        int result = PIGPIO.gpioWaveTxStop();
+        logger.trace("[WAVE::TX-STOP] <- SUCCESS={}", (result>=0));
+        validateResult(result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMicros() {
+        validateReady();
+        return PIGPIO.gpioWaveGetMicros();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetHighMicros() {
+        validateReady();
+        return PIGPIO.gpioWaveGetHighMicros();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMaxMicros() {
+        validateReady();
+        return PIGPIO.gpioWaveGetMaxMicros();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetPulses() {
+        validateReady();
+        return PIGPIO.gpioWaveGetPulses();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetHighPulses() {
+        validateReady();
+        return PIGPIO.gpioWaveGetHighPulses();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMaxPulses() {
+        validateReady();
+        return PIGPIO.gpioWaveGetMaxPulses();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetCbs() {
+        validateReady();
+        return PIGPIO.gpioWaveGetCbs();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetHighCbs() {
+        validateReady();
+        return PIGPIO.gpioWaveGetHighCbs();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMaxCbs() {
+        validateReady();
+        return PIGPIO.gpioWaveGetMaxCbs();
+    }
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // SCRIPT IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stores a null terminated script for later execution.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    @Override
+    public int gpioStoreScript(CharSequence script) {
+        logger.trace("[SCRIPT::STORE] -> [{} chars]", script.length());
+        validateReady();
+        int result = PIGPIO.gpioStoreScript(script.toString());
+        logger.trace("[SCRIPT::STORE] <- SUCCESS={}; SCRIPT ID={}", (result>=0), result);
+        validateResult(result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function runs a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    @Override
+    public void gpioRunScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::RUN] -> SCRIPT ID={}; PARAMS={}", scriptId, params.length);
+        validateReady();
+        validateScriptParams(params);
+        int result = PIGPIO.gpioRunScript(scriptId, params.length, params);
+        logger.trace("[SCRIPT::RUN] <- SCRIPT ID={}; SUCCESS={}", scriptId, (result>=0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function sets the parameters of a script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    @Override
+    public void gpioUpdateScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::UPDATE] -> SCRIPT ID={}; PARAMS={}", scriptId, params.length);
+        validateReady();
+        validateScriptParams(params);
+        int result = PIGPIO.gpioUpdateScript(scriptId, params.length, params);
+        logger.trace("[SCRIPT::UPDATE] <- SCRIPT ID={}; SUCCESS={}", scriptId, (result>=0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the run status of a stored script as well as the current values of parameters 0 to 9.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    @Override
+    public PiGpioScriptStatus gpioScriptStatus(int scriptId, int[] params) {
+        logger.trace("[SCRIPT::STATUS] -> SCRIPT ID={}", scriptId);
+        validateReady();
+        if(params != null && params.length < PI_MAX_SCRIPT_PARAMS)
+            throw new IllegalArgumentException("Script parameter array must hold " + PI_MAX_SCRIPT_PARAMS + " values");
+        int[] values = (params != null) ? params : new int[PI_MAX_SCRIPT_PARAMS];
+        int result = PIGPIO.gpioScriptStatus(scriptId, values);
+        validateResult(result);
+        PiGpioScriptStatus status = PiGpioScriptStatus.from(result);
+        logger.trace("[SCRIPT::STATUS] <- SCRIPT ID={}; SUCCESS={}; STATUS={}", scriptId, (result>=0), status);
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops a running script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    @Override
+    public void gpioStopScript(int scriptId) {
+        logger.trace("[SCRIPT::STOP] -> SCRIPT ID={}", scriptId);
+        validateReady();
+        int result = PIGPIO.gpioStopScript(scriptId);
+        logger.trace("[SCRIPT::STOP] <- SCRIPT ID={}; SUCCESS={}", scriptId, (result>=0));
+        validateResult(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function deletes a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    @Override
+    public void gpioDeleteScript(int scriptId) {
+        logger.trace("[SCRIPT::DELETE] -> SCRIPT ID={}", scriptId);
+        validateReady();
+        int result = PIGPIO.gpioDeleteScript(scriptId);
+        logger.trace("[SCRIPT::DELETE] <- SCRIPT ID={}; SUCCESS={}", scriptId, (result>=0));
+        validateResult(result);
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // DELAY/SLEEP/TIMER IMPLEMENTATION
@@ -1167,6 +1656,82 @@ public class PiGpioNativeImpl extends PiGpioBase implements PiGpio {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    @Override
+    public int i2cZip(int handle, PiGpioI2CZip steps, byte[] buffer, int offset) {
+        logger.trace("[I2C::ZIP] -> [{}]; I2C Zip [{} step bytes; {} bytes to read]; offset={}", handle, steps.length(), steps.readLength(), offset);
+        validateReady();
+        validateHandle(handle);
+        Objects.checkFromIndexSize(offset, steps.readLength(), buffer.length);
+        byte[] in = steps.build();
+        byte[] out = (offset == 0) ? buffer : new byte[steps.readLength()];
+        int result = PIGPIO.i2cZip(handle, in, in.length, out, steps.readLength());
+        logger.trace("[I2C::ZIP] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, (result>=0), result);
+        validateResult(result, false);
+        if(result > 0 && out != buffer)
+            System.arraycopy(out, 0, buffer, offset, result);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2COpen">PIGPIO::bbI2COpen</a>
+     */
+    @Override
+    public int bbI2COpen(int sda, int scl, int baud) {
+        logger.trace("[I2C::BB-OPEN] -> SDA={}; SCL={}; BAUD={}", sda, scl, baud);
+        validateReady();
+        validateUserPin(sda);
+        validateUserPin(scl);
+        validateBbI2cBaud(baud);
+        int result = PIGPIO.bbI2COpen(sda, scl, baud);
+        logger.trace("[I2C::BB-OPEN] <- SDA={}; SUCCESS={}", sda, (result>=0));
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CClose">PIGPIO::bbI2CClose</a>
+     */
+    @Override
+    public int bbI2CClose(int sda) {
+        logger.trace("[I2C::BB-CLOSE] -> SDA={}", sda);
+        validateReady();
+        validateUserPin(sda);
+        int result = PIGPIO.bbI2CClose(sda);
+        logger.trace("[I2C::BB-CLOSE] <- SDA={}; SUCCESS={}", sda, (result>=0));
+        validateResult(result, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+     */
+    @Override
+    public int bbI2CZip(int sda, PiGpioI2CZip steps, byte[] buffer, int offset) {
+        logger.trace("[I2C::BB-ZIP] -> SDA={}; I2C Zip [{} step bytes; {} bytes to read]; offset={}", sda, steps.length(), steps.readLength(), offset);
+        validateReady();
+        validateUserPin(sda);
+        Objects.checkFromIndexSize(offset, steps.readLength(), buffer.length);
+        byte[] in = steps.build();
+        byte[] out = (offset == 0) ? buffer : new byte[steps.readLength()];
+        int result = PIGPIO.bbI2CZip(sda, in, in.length, out, steps.readLength());
+        logger.trace("[I2C::BB-ZIP] <- SDA={}; SUCCESS={}; RESULT={}", sda, (result>=0), result);
+        validateResult(result, false);
+        if(result > 0 && out != buffer)
+            System.arraycopy(out, 0, buffer, offset, result);
+        return result;
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SERIAL IMPLEMENTATION
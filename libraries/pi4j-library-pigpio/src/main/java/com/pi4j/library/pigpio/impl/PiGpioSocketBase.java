@@ -33,11 +33,15 @@ import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_PORT;
 import java.io.IOException;
 import java.net.Socket;
 import java.net.SocketException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.library.pigpio.PiGpioCmd;
 import com.pi4j.library.pigpio.PiGpioException;
 import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,7 +51,7 @@ import org.slf4j.LoggerFactory;
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
-public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
+public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpioSocket {
 
     private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketBase.class);
 
@@ -55,8 +59,15 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
 
     protected String host = DEFAULT_HOST;
     protected int port = DEFAULT_PORT;
-    protected boolean connected = false;
+    protected volatile boolean connected = false;
     protected Socket socket = null;
+    protected int responseTimeout = 500; // milliseconds
+
+    private final Object connectLock = new Object();
+    private volatile PiGpioSocketPipeline[] pipelines = new PiGpioSocketPipeline[1];
+    private volatile ConnectionAssignment assignment = ConnectionAssignment.LEAST_BUSY;
+    private final AtomicInteger nextThreadSlot = new AtomicInteger();
+    private final ThreadLocal<Integer> threadSlot = ThreadLocal.withInitial(nextThreadSlot::getAndIncrement);
 
     // TODO :: IMPLEMENT CONNECTION MONITOR TO PROACTIVELY DETECT SOCKET DISCONNECTS AND AUTO-RETRY TO CONNECT IN BACKGROUND THREAD
 
@@ -138,19 +149,52 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
         }
 
         // shutdown connected socket
-        if(socket != null && socket.isConnected())
-            try {
-                socket.close();
-            }
-            catch (IOException e) {
-                throw new PiGpioException(e);
-            }
+        disconnect();
 
         // clear initialized flag
         this.initialized = false;
         logger.trace("[SHUTDOWN] <- FINISHED");
     }
 
+    /**
+     * <p>packet.</p>
+     *
+     * Get the command packet reused by the calling thread, reset to the given command. The response of
+     * {@link #sendPacket(PiGpioPacket)} is decoded into this same packet, which the next command of the calling
+     * thread overwrites again; so it must not be retained.
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     */
+    protected PiGpioPacket packet(PiGpioCmd cmd) {
+        return packet(cmd, 0, 0);
+    }
+
+    /**
+     * <p>packet.</p>
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @see #packet(PiGpioCmd)
+     */
+    protected PiGpioPacket packet(PiGpioCmd cmd, int p1) {
+        return packet(cmd, p1, 0);
+    }
+
+    /**
+     * <p>packet.</p>
+     *
+     * @param cmd a {@link com.pi4j.library.pigpio.PiGpioCmd} object.
+     * @param p1 a int.
+     * @param p2 a int.
+     * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
+     * @see #packet(PiGpioCmd)
+     */
+    protected PiGpioPacket packet(PiGpioCmd cmd, int p1, int p2) {
+        return PiGpioSocketPipeline.scratchPacket().reset(cmd, p1, p2);
+    }
+
     /**
      * <p>sendCommand.</p>
      *
@@ -158,7 +202,7 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
      */
     protected PiGpioPacket sendCommand(PiGpioCmd cmd) {
-        return sendPacket(new PiGpioPacket(cmd));
+        return sendPacket(packet(cmd));
     }
 
     /**
@@ -169,7 +213,7 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
      */
     protected PiGpioPacket sendCommand(PiGpioCmd cmd, int p1) {
-        return sendPacket(new PiGpioPacket(cmd, p1));
+        return sendPacket(packet(cmd, p1));
     }
     /**
      * <p>sendCommand.</p>
@@ -180,18 +224,122 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
      */
     protected PiGpioPacket sendCommand(PiGpioCmd cmd, int p1, int p2) {
-        return sendPacket(new PiGpioPacket(cmd, p1, p2));
+        return sendPacket(packet(cmd, p1, p2));
     }
     /**
      * <p>sendPacket.</p>
      *
+     * Sends a command packet and waits for its response, which is decoded in place into the same packet. Commands
+     * are pipelined on one of the pooled connections, see {@link #sendPacketAsync(PiGpioPacket)} and
+     * {@link #connections(int, ConnectionAssignment)}.
+     *
      * @param tx a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
      * @return a {@link com.pi4j.library.pigpio.PiGpioPacket} object.
      */
     protected PiGpioPacket sendPacket(PiGpioPacket tx) {
         validateReady();
-        return sendPacket(tx, this.socket);
+        PiGpioSocketPipeline connection = connection();
+        if(!connection.execute(tx, TimeUnit.MILLISECONDS.toNanos(responseTimeout))) {
+            // responses are matched in order, so a missing response breaks the connection for all later commands
+            closePipeline(connection);
+            throw new PiGpioException("No response to PIGPIO command " + tx.cmd() + " within " + responseTimeout + " ms");
+        }
+        return tx;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<PiGpioPacket> sendPacketAsync(PiGpioPacket tx) {
+        validateReady();
+        return connection().submit(tx);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void connections(int count, ConnectionAssignment assignment) {
+        if(count < 1)
+            throw new IllegalArgumentException("PIGPIO connection count must be at least 1: " + count);
+        if(assignment == null)
+            throw new IllegalArgumentException("PIGPIO connection assignment must not be null");
+        synchronized (connectLock) {
+            PiGpioSocketPipeline[] current = this.pipelines;
+            PiGpioSocketPipeline[] resized = new PiGpioSocketPipeline[count];
+            System.arraycopy(current, 0, resized, 0, Math.min(count, current.length));
+            for(int i = count; i < current.length; i++) {
+                if(current[i] != null)
+                    current[i].close();
+            }
+            this.assignment = assignment;
+            this.pipelines = resized;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int connections() {
+        return this.pipelines.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConnectionAssignment connectionAssignment() {
+        return this.assignment;
     }
+
+    /**
+     * Select the pooled connection for a command of the calling thread, connecting it if needed.
+     */
+    private PiGpioSocketPipeline connection() {
+        PiGpioSocketPipeline[] pool = this.pipelines;
+        int slot = 0;
+        if(pool.length > 1) {
+            if(this.assignment == ConnectionAssignment.PER_THREAD) {
+                slot = threadSlot.get() % pool.length;
+            } else {
+                // unconnected slots count as idle, so further connections are only opened while all others are busy
+                int fewest = Integer.MAX_VALUE;
+                for(int i = 0; i < pool.length && fewest > 0; i++) {
+                    PiGpioSocketPipeline candidate = pool[i];
+                    int pending = candidate == null || candidate.isClosed() ? 0 : candidate.pending();
+                    if(pending < fewest) {
+                        fewest = pending;
+                        slot = i;
+                    }
+                }
+            }
+        }
+        PiGpioSocketPipeline current = pool[slot];
+        if(current != null && !current.isClosed())
+            return current;
+        return connect(slot);
+    }
+
+    private PiGpioSocketPipeline connect(int slot) {
+        synchronized (connectLock) {
+            PiGpioSocketPipeline[] pool = this.pipelines;
+            slot = slot % pool.length;
+            PiGpioSocketPipeline current = pool[slot];
+            if(current == null || current.isClosed()){
+                // attempt to connect to PiGpio Daemon on remote Raspberry Pi
+                try {
+                    current = new PiGpioSocketPipeline(host, port, "pigpio-" + host + ":" + port + "-" + slot);
+                } catch (IOException e) {
+                    if(slot == 0)
+                        this.connected = false;
+                    throw new PiGpioException(e);
+                }
+                pool[slot] = current;
+
+                // the first connection also reflects the connection status of this instance
+                if(slot == 0) {
+                    this.socket = current.socket();
+                    this.connected = this.socket.isConnected();
+                }
+            }
+            return current;
+        }
+    }
+
     /**
      * <p>sendPacket.</p>
      *
@@ -217,9 +365,7 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
                 return rx;
             } catch (SocketException se) {
                 // socket is no longer connected
-                this.connected = false;
-                socket.close();
-                socket = null;
+                sck.close();
                 throw new PiGpioException(se);
             }
         } catch (IOException e) {
@@ -235,6 +381,12 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
         logger.trace("[GPIO] <- Pin [PIN {}] Notifications [{}]", pin, (enabled ? "ENABLED" : "DISABLED"));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long gpioAlertOverflows() {
+        return this.monitor.lostReports();
+    }
+
     /**
      * <p>disableNotifications.</p>
      */
@@ -259,20 +411,38 @@ public abstract class PiGpioSocketBase extends PiGpioBase implements PiGpio {
      */
     protected void validateConnection() {
         // if not connected, attempt to reconnect
-        if(socket == null || !this.connected){
-            // attempt to connect to PiGpio Daemon on remote Raspberry Pi
-            try {
-                this.socket = new Socket(host, port);
-                this.socket.setSoTimeout(500);
-            } catch (IOException e) {
-                throw new PiGpioException(e);
+        PiGpioSocketPipeline current = this.pipelines[0];
+        if(current == null || current.isClosed())
+            connect(0);
+//            throw new IOException("PIGPIO NOT CONNECTED TO REMOTE HOST [" + this.host + ":" + this.port +
+//                    "]; make sure the PiGpio Daemon is running on the remote Raspberry Pi and the host is accessible.");
+    }
+
+    /**
+     * Close all pooled connections to the PiGpio daemon; pending commands fail.
+     */
+    protected void disconnect() {
+        synchronized (connectLock) {
+            PiGpioSocketPipeline[] pool = this.pipelines;
+            for(int i = 0; i < pool.length; i++) {
+                if(pool[i] != null)
+                    pool[i].close();
+                pool[i] = null;
             }
+            this.socket = null;
+            this.connected = false;
+        }
+    }
 
-            // update connection status flag
-            this.connected = this.socket.isConnected();
+    private void closePipeline(PiGpioSocketPipeline connection) {
+        synchronized (connectLock) {
+            if(!connection.isClosed()) {
+                logger.warn("[SOCKET] closing PIGPIO connection {} after a response timeout", connection.socket());
+                connection.close();
+                if(connection.socket() == this.socket)
+                    this.connected = false;
+            }
         }
-//            throw new IOException("PIGPIO NOT CONNECTED TO REMOTE HOST [" + this.host + ":" + this.port +
-//                    "]; make sure the PiGpio Daemon is running on the remote Raspberry Pi and the host is accessible.");
     }
 
 //    protected void enableNotifications() {
@@ -31,11 +31,14 @@ import com.pi4j.library.pigpio.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
 
 import static com.pi4j.library.pigpio.PiGpioCmd.*;
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_HOST;
 import static com.pi4j.library.pigpio.PiGpioConst.DEFAULT_PORT;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SCRIPT_PARAMS;
 
 /**
  * <p>PiGpioSocketImpl class.</p>
@@ -235,14 +238,105 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
      */
     @Override
     public void gpioWrite(int pin, PiGpioState state) {
-        logger.trace("[GPIO::SET] -> PIN: {}; {}({});", pin, state.name(), state.value());
+        // guarded, as the varargs trace calls would allocate on every write
+        if(logger.isTraceEnabled())
+            logger.trace("[GPIO::SET] -> PIN: {}; {}({});", pin, state.name(), state.value());
         validateReady();
         validatePin(pin);
         PiGpioPacket result = sendCommand(WRITE, pin, state.value());
-        logger.trace("[GPIO::SET] <- PIN: {}; {}({}); SUCCESS={}",  pin, state.name(), state.value(), result.success());
+        if(logger.isTraceEnabled())
+            logger.trace("[GPIO::SET] <- PIN: {}; {}({}); SUCCESS={}",  pin, state.name(), state.value(), result.success());
         validateResult(result);  // Returns 0 if OK, otherwise PI_BAD_GPIO or PI_BAD_LEVEL.
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_0_31">PIGPIO::gpioRead_Bits_0_31</a>
+     */
+    @Override
+    public int gpioRead_Bits_0_31() {
+        logger.trace("[GPIO::BR1] ->");
+        validateReady();
+        PiGpioPacket result = sendCommand(BR1);
+        // the levels of GPIO 0-31 are returned as an unsigned value; GPIO 31 occupies the sign bit
+        int bits = result.p3();
+        logger.trace("[GPIO::BR1] <- BITS: {}", Integer.toBinaryString(bits));
+        return bits;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRead_Bits_32_53">PIGPIO::gpioRead_Bits_32_53</a>
+     */
+    @Override
+    public int gpioRead_Bits_32_53() {
+        logger.trace("[GPIO::BR2] ->");
+        validateReady();
+        PiGpioPacket result = sendCommand(BR2);
+        validateResult(result);
+        int bits = result.p3();
+        logger.trace("[GPIO::BR2] <- BITS: {}", Integer.toBinaryString(bits));
+        return bits;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Set">PIGPIO::gpioWrite_Bits_0_31_Set</a>
+     */
+    @Override
+    public void gpioWrite_Bits_0_31_Set(int bits) {
+        logger.trace("[GPIO::BS1] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        PiGpioPacket result = sendCommand(BS1, bits);
+        logger.trace("[GPIO::BS1] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), result.success());
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_0_31_Clear">PIGPIO::gpioWrite_Bits_0_31_Clear</a>
+     */
+    @Override
+    public void gpioWrite_Bits_0_31_Clear(int bits) {
+        logger.trace("[GPIO::BC1] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        PiGpioPacket result = sendCommand(BC1, bits);
+        logger.trace("[GPIO::BC1] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), result.success());
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Set">PIGPIO::gpioWrite_Bits_32_53_Set</a>
+     */
+    @Override
+    public void gpioWrite_Bits_32_53_Set(int bits) {
+        logger.trace("[GPIO::BS2] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        PiGpioPacket result = sendCommand(BS2, bits);
+        logger.trace("[GPIO::BS2] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), result.success());
+        validateResult(result);  // Returns 0 if OK.
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWrite_Bits_32_53_Clear">PIGPIO::gpioWrite_Bits_32_53_Clear</a>
+     */
+    @Override
+    public void gpioWrite_Bits_32_53_Clear(int bits) {
+        logger.trace("[GPIO::BC2] -> BITS: {}", Integer.toBinaryString(bits));
+        validateReady();
+        PiGpioPacket result = sendCommand(BC2, bits);
+        logger.trace("[GPIO::BC2] <- BITS: {}; SUCCESS={}", Integer.toBinaryString(bits), result.success());
+        validateResult(result);  // Returns 0 if OK.
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -552,7 +646,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateUserPin(pin);
         // validateHwPwmFrequency(frequency); TODO :: IMPLEMENT 'validateHwPwmFrequency()'
-        PiGpioPacket tx = new PiGpioPacket(HP, pin, frequency).data(dutyCycle);
+        PiGpioPacket tx = packet(HP, pin, frequency).data(dutyCycle);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[HW-PWM::SET] <- PIN: {}; SUCCESS={}",  pin, rx.success());
         validateResult(rx);  // Returns the numerically closest frequency if OK, otherwise PI_BAD_USER_GPIO.
@@ -631,6 +725,354 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
     }
 
 
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // WAVEFORM IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function clears all waveforms and any data added by calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveClear">PIGPIO::gpioWaveClear</a>
+     */
+    @Override
+    public void gpioWaveClear() {
+        logger.trace("[WAVE::CLEAR] -> ");
+        validateReady();
+        PiGpioPacket rx = sendCommand(WVCLR);
+        logger.trace("[WAVE::CLEAR] <- SUCCESS={}", rx.success());
+        validateResult(rx);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function starts a new empty waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddNew">PIGPIO::gpioWaveAddNew</a>
+     */
+    @Override
+    public void gpioWaveAddNew() {
+        logger.trace("[WAVE::NEW] -> ");
+        validateReady();
+        PiGpioPacket rx = sendCommand(WVNEW);
+        logger.trace("[WAVE::NEW] <- SUCCESS={}", rx.success());
+        validateResult(rx);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function adds a number of pulses to the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveAddGeneric">PIGPIO::gpioWaveAddGeneric</a>
+     */
+    @Override
+    public int gpioWaveAddGeneric(int[] pulses, int offset, int count) {
+        logger.trace("[WAVE::ADD] -> PULSES={}; OFFSET={}", count, offset);
+        validateReady();
+        Objects.checkFromIndexSize(offset * 3, count * 3, pulses.length);
+        byte[] data = new byte[count * 12];
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(pulses, offset * 3, count * 3);
+        PiGpioPacket rx = sendPacket(packet(WVAG).data(data));
+        logger.trace("[WAVE::ADD] <- SUCCESS={}; TOTAL PULSES={}", rx.success(), rx.result());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function creates a waveform from the data provided by the prior calls to the gpioWaveAdd* functions.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveCreate">PIGPIO::gpioWaveCreate</a>
+     */
+    @Override
+    public int gpioWaveCreate() {
+        logger.trace("[WAVE::CREATE] -> ");
+        validateReady();
+        PiGpioPacket rx = sendCommand(WVCRE);
+        logger.trace("[WAVE::CREATE] <- SUCCESS={}; WAVE ID={}", rx.success(), rx.result());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function deletes the waveform with id wave_id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveDelete">PIGPIO::gpioWaveDelete</a>
+     */
+    @Override
+    public void gpioWaveDelete(int waveId) {
+        logger.trace("[WAVE::DELETE] -> WAVE ID={}", waveId);
+        validateReady();
+        PiGpioPacket rx = sendCommand(WVDEL, waveId);
+        logger.trace("[WAVE::DELETE] <- WAVE ID={}; SUCCESS={}", waveId, rx.success());
+        validateResult(rx);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transmits the waveform with id wave_id.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxSend">PIGPIO::gpioWaveTxSend</a>
+     */
+    @Override
+    public int gpioWaveTxSend(int waveId, PiGpioWaveMode mode) {
+        logger.trace("[WAVE::TX] -> WAVE ID={}; MODE={}", waveId, mode);
+        validateReady();
+        PiGpioPacket rx = sendCommand(WVTXM, waveId, mode.value());
+        logger.trace("[WAVE::TX] <- WAVE ID={}; SUCCESS={}; CBS={}", waveId, rx.success(), rx.result());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function transmits a chain of waveforms.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveChain">PIGPIO::gpioWaveChain</a>
+     */
+    @Override
+    public void gpioWaveChain(byte[] buf, int offset, int length) {
+        logger.trace("[WAVE::CHAIN] -> [{} bytes]", length);
+        validateReady();
+        Objects.checkFromIndexSize(offset, length, buf.length);
+        PiGpioPacket rx = sendPacket(packet(WVCHA).data(buf, offset, length));
+        logger.trace("[WAVE::CHAIN] <- SUCCESS={}", rx.success());
+        validateResult(rx);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the id of the waveform currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxAt">PIGPIO::gpioWaveTxAt</a>
+     */
+    @Override
+    public int gpioWaveTxAt() {
+        logger.trace("[WAVE::TX-AT] -> ");
+        validateReady();
+        PiGpioPacket rx = sendCommand(WVTAT);
+        logger.trace("[WAVE::TX-AT] <- SUCCESS={}; WAVE ID={}", rx.success(), rx.result());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function checks to see if a waveform is currently being transmitted.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxBusy">PIGPIO::gpioWaveTxBusy</a>
+     */
+    @Override
+    public boolean gpioWaveTxBusy() {
+        logger.trace("[WAVE::TX-BUSY] -> ");
+        validateReady();
+        PiGpioPacket rx = sendCommand(WVBSY);
+        logger.trace("[WAVE::TX-BUSY] <- SUCCESS={}; BUSY={}", rx.success(), rx.result());
+        validateResult(rx);
+        return rx.result() == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function aborts the transmission of the current waveform.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioWaveTxStop">PIGPIO::gpioWaveTxStop</a>
+     */
+    @Override
+    public void gpioWaveTxStop() {
+        logger.trace("[WAVE::TX-STOP] -> ");
+        validateReady();
+        PiGpioPacket rx = sendCommand(WVHLT);
+        logger.trace("[WAVE::TX-STOP] <- SUCCESS={}", rx.success());
+        validateResult(rx);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMicros() {
+        return waveStatistic(WVSM, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetHighMicros() {
+        return waveStatistic(WVSM, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMaxMicros() {
+        return waveStatistic(WVSM, 2);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetPulses() {
+        return waveStatistic(WVSP, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetHighPulses() {
+        return waveStatistic(WVSP, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMaxPulses() {
+        return waveStatistic(WVSP, 2);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetCbs() {
+        return waveStatistic(WVSC, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetHighCbs() {
+        return waveStatistic(WVSC, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int gpioWaveGetMaxCbs() {
+        return waveStatistic(WVSC, 2);
+    }
+
+    /**
+     * The WVSM/WVSP/WVSC commands return the statistic of the current (0), longest (1) or maximum (2) waveform.
+     */
+    private int waveStatistic(PiGpioCmd cmd, int which) {
+        logger.trace("[WAVE::STAT] -> {}({})", cmd, which);
+        validateReady();
+        PiGpioPacket rx = sendCommand(cmd, which);
+        logger.trace("[WAVE::STAT] <- {}({}); SUCCESS={}; VALUE={}", cmd, which, rx.success(), rx.result());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+    // SCRIPT IMPLEMENTATION
+    // *****************************************************************************************************
+    // *****************************************************************************************************
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stores a null terminated script for later execution.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStoreScript">PIGPIO::gpioStoreScript</a>
+     */
+    @Override
+    public int gpioStoreScript(CharSequence script) {
+        logger.trace("[SCRIPT::STORE] -> [{} chars]", script.length());
+        validateReady();
+        PiGpioPacket rx = sendPacket(packet(PROC).data(script));
+        logger.trace("[SCRIPT::STORE] <- SUCCESS={}; SCRIPT ID={}", rx.success(), rx.result());
+        validateResult(rx);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function runs a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioRunScript">PIGPIO::gpioRunScript</a>
+     */
+    @Override
+    public void gpioRunScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::RUN] -> SCRIPT ID={}; PARAMS={}", scriptId, params.length);
+        validateReady();
+        validateScriptParams(params);
+        PiGpioPacket rx = sendPacket(packet(PROCR, scriptId).data(scriptParams(params)));
+        logger.trace("[SCRIPT::RUN] <- SCRIPT ID={}; SUCCESS={}", scriptId, rx.success());
+        validateResult(rx);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function sets the parameters of a script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioUpdateScript">PIGPIO::gpioUpdateScript</a>
+     */
+    @Override
+    public void gpioUpdateScript(int scriptId, int ... params) {
+        logger.trace("[SCRIPT::UPDATE] -> SCRIPT ID={}; PARAMS={}", scriptId, params.length);
+        validateReady();
+        validateScriptParams(params);
+        PiGpioPacket rx = sendPacket(packet(PROCU, scriptId).data(scriptParams(params)));
+        logger.trace("[SCRIPT::UPDATE] <- SCRIPT ID={}; SUCCESS={}", scriptId, rx.success());
+        validateResult(rx);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function returns the run status of a stored script as well as the current values of parameters 0 to 9.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioScriptStatus">PIGPIO::gpioScriptStatus</a>
+     */
+    @Override
+    public PiGpioScriptStatus gpioScriptStatus(int scriptId, int[] params) {
+        logger.trace("[SCRIPT::STATUS] -> SCRIPT ID={}", scriptId);
+        validateReady();
+        if(params != null && params.length < PI_MAX_SCRIPT_PARAMS)
+            throw new IllegalArgumentException("Script parameter array must hold " + PI_MAX_SCRIPT_PARAMS + " values");
+        PiGpioPacket rx = sendPacket(packet(PROCP, scriptId));
+        validateResult(rx);
+
+        // the response holds the run status followed by the 10 script parameters
+        ByteBuffer buffer = ByteBuffer.wrap(rx.data()).order(ByteOrder.LITTLE_ENDIAN);
+        PiGpioScriptStatus status = PiGpioScriptStatus.from(buffer.getInt());
+        if(params != null) {
+            for (int i = 0; i < PI_MAX_SCRIPT_PARAMS && buffer.remaining() >= 4; i++)
+                params[i] = buffer.getInt();
+        }
+        logger.trace("[SCRIPT::STATUS] <- SCRIPT ID={}; SUCCESS={}; STATUS={}", scriptId, rx.success(), status);
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function stops a running script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioStopScript">PIGPIO::gpioStopScript</a>
+     */
+    @Override
+    public void gpioStopScript(int scriptId) {
+        logger.trace("[SCRIPT::STOP] -> SCRIPT ID={}", scriptId);
+        validateReady();
+        PiGpioPacket rx = sendCommand(PROCS, scriptId);
+        logger.trace("[SCRIPT::STOP] <- SCRIPT ID={}; SUCCESS={}", scriptId, rx.success());
+        validateResult(rx);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This function deletes a stored script.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#gpioDeleteScript">PIGPIO::gpioDeleteScript</a>
+     */
+    @Override
+    public void gpioDeleteScript(int scriptId) {
+        logger.trace("[SCRIPT::DELETE] -> SCRIPT ID={}", scriptId);
+        validateReady();
+        PiGpioPacket rx = sendCommand(PROCD, scriptId);
+        logger.trace("[SCRIPT::DELETE] <- SCRIPT ID={}; SUCCESS={}", scriptId, rx.success());
+        validateResult(rx);
+    }
+
+    private static byte[] scriptParams(int[] params) {
+        byte[] data = new byte[params.length * 4];
+        ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(params);
+        return data;
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // DELAY/SLEEP/TIMER IMPLEMENTATION
@@ -698,7 +1140,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
     public long gpioTick() {
         logger.trace("[TICK::GET] -> Get current tick");
         validateReady();
-        PiGpioPacket tx = new PiGpioPacket(TICK);
+        PiGpioPacket tx = packet(TICK);
         PiGpioPacket rx = sendPacket(tx);
         long tick = Integer.toUnsignedLong(rx.result()); // convert (UInt32) 32-bit unsigned value to long
         logger.trace("[TICK::GET] <- TICK: {}; SUCCESS={}",  tick, rx.success());
@@ -731,7 +1173,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateI2cBus(bus);
         validateI2cDeviceAddress(device);
-        PiGpioPacket tx = new PiGpioPacket(I2CO, bus, device).data(flags);
+        PiGpioPacket tx = packet(I2CO, bus, device).data(flags);
         PiGpioPacket rx = sendPacket(tx);
         int handle = rx.result();
         logger.trace("[I2C::OPEN] <- HANDLE={}; SUCCESS={}",  handle, rx.success());
@@ -757,7 +1199,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[I2C::CLOSE] -> HANDLE={}, Close I2C Bus", handle);
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(I2CC, handle);
+        PiGpioPacket tx = packet(I2CC, handle);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::CLOSE] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
         validateResult(rx, false);
@@ -780,7 +1222,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[I2C::WRITE] -> HANDLE={}; R/W Bit [{}]", handle, bit ? 1 : 0);
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(I2CWQ, handle, bit ? 1 : 0);
+        PiGpioPacket tx = packet(I2CWQ, handle, bit ? 1 : 0);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
         validateResult(rx, false);
@@ -798,7 +1240,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[I2C::WRITE] -> HANDLE={}; Byte [{}]", handle, Byte.toUnsignedInt(value));
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(I2CWS, handle, Byte.toUnsignedInt(value));
+        PiGpioPacket tx = packet(I2CWS, handle, Byte.toUnsignedInt(value));
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
         validateResult(rx, false);
@@ -816,7 +1258,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[I2C::READ] -> [{}]; Byte", handle);
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(I2CRS, handle);
+        PiGpioPacket tx = packet(I2CRS, handle);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
         validateResult(rx, false);
@@ -835,7 +1277,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
-        PiGpioPacket tx = new PiGpioPacket(I2CWB, handle, register).data(Byte.toUnsignedInt(value));
+        PiGpioPacket tx = packet(I2CWB, handle, register).data(Byte.toUnsignedInt(value));
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
         validateResult(rx, false);
@@ -854,7 +1296,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
-        PiGpioPacket tx = new PiGpioPacket(I2CWW, handle, register).data(value);
+        PiGpioPacket tx = packet(I2CWW, handle, register).data(value);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
         validateResult(rx, false);
@@ -873,7 +1315,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
-        PiGpioPacket tx = new PiGpioPacket(I2CRB, handle, register);
+        PiGpioPacket tx = packet(I2CRB, handle, register);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
         validateResult(rx, false);
@@ -892,7 +1334,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
-        PiGpioPacket tx = new PiGpioPacket(I2CRW, handle, register);
+        PiGpioPacket tx = packet(I2CRW, handle, register);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
         validateResult(rx, false);
@@ -912,7 +1354,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         validateHandle(handle);
         validateI2cRegister(register);
-        PiGpioPacket tx = new PiGpioPacket(I2CPC, handle, register).data(value);
+        PiGpioPacket tx = packet(I2CPC, handle, register).data(value);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::W/R] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
         validateResult(rx, false);
@@ -933,7 +1375,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateHandle(handle);
         validateI2cRegister(register);
         validateI2cBlockLength(length);
-        PiGpioPacket tx = new PiGpioPacket(I2CWK, handle, register).data(data, offset, length);
+        PiGpioPacket tx = packet(I2CWK, handle, register).wrap(data, offset, length);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
         validateResult(rx, false);
@@ -953,14 +1395,9 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         Objects.checkFromIndexSize(offset, length, buffer.length);
         validateHandle(handle);
         validateI2cRegister(register);
-        PiGpioPacket tx = new PiGpioPacket(I2CRK, handle, register);
+        PiGpioPacket tx = packet(I2CRK, handle, register).into(buffer, offset, length);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
-        if(rx.success()) {
-            int actual = rx.result();
-            if(rx.dataLength() < actual) actual = rx.dataLength();
-            System.arraycopy(rx.data(), 0, buffer, offset, actual);
-        }
         return rx.result();
     }
 
@@ -987,19 +1424,15 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateI2cBlockLength(writeLength);
 
         // write/read from I2C device
-        PiGpioPacket tx = new PiGpioPacket(I2CPK, handle, register).data(write, writeOffset, writeLength);
+        PiGpioPacket tx = packet(I2CPK, handle, register).wrap(write, writeOffset, writeLength)
+            .into(read, readOffset, read.length - readOffset);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::W/R] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
         validateResult(rx, false);
 
-        // copy data bytes to provided "read" array/buffer
+        // make sure the read array had sufficient space to store the bytes returned
         if(rx.success()) {
-            int readLength = rx.result();
-            if(rx.dataLength() < readLength) readLength = rx.dataLength();
-
-            // make sure the read array has sufficient space to store the bytes returned
-            Objects.checkFromIndexSize(readOffset, readLength, read.length);
-            System.arraycopy(rx.data(), 0, read, readOffset, readLength);
+            Objects.checkFromIndexSize(readOffset, rx.result(), read.length);
         }
         return rx.result();
     }
@@ -1033,7 +1466,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         Objects.checkFromIndexSize(offset, length, buffer.length);
         validateHandle(handle);
         validateI2cRegister(register);
-        PiGpioPacket tx = new PiGpioPacket(I2CRI, handle, register).data(length);
+        PiGpioPacket tx = packet(I2CRI, handle, register).data(length).into(buffer, offset, length);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
         validateResult(rx, false);
@@ -1043,17 +1476,6 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
 //        logger.trace("[I2C::READ] <- BUFFER SIZE={}",  rx.data());
 //        logger.trace("[I2C::READ] <- OFFSET={}",  offset);
 
-        if(rx.success()) {
-            try {
-                int actual = rx.result();
-                if(rx.dataLength() < actual) actual = rx.dataLength();
-                System.arraycopy(rx.data(), 0, buffer, offset, actual);
-            }
-            catch (ArrayIndexOutOfBoundsException a){
-                logger.error(a.getMessage(), a);
-            }
-
-        }
         return rx.result();
     }
 
@@ -1070,7 +1492,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateHandle(handle);
         validateI2cRegister(register);
         validateI2cBlockLength(length);
-        PiGpioPacket tx = new PiGpioPacket(I2CWI, handle, register).data(data, offset, length);
+        PiGpioPacket tx = packet(I2CWI, handle, register).wrap(data, offset, length);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
         validateResult(rx, false);
@@ -1088,15 +1510,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[I2C::READ] -> [{}]; I2C Raw Read [{} bytes]; offset={}", handle, length, offset);
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(I2CRD, handle, length);
+        PiGpioPacket tx = packet(I2CRD, handle, length).into(buffer, offset, length);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::READ] <- HANDLE={}; SUCCESS={}; RESULT={}",  handle, rx.success(), rx.result());
         validateResult(rx, false);
-        if(rx.success()) {
-            int actual = rx.result();
-            if(rx.dataLength() < actual) actual = rx.dataLength();
-            System.arraycopy(rx.data(), 0, buffer, offset, actual);
-        }
         return rx.result();
     }
 
@@ -1111,13 +1528,88 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[I2C::WRITE] -> [{}]; I2C Raw Write [{} bytes]; offset={}", handle, length, offset);
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(I2CWD, handle).data(data, offset, length);
+        PiGpioPacket tx = packet(I2CWD, handle).wrap(data, offset, length);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[I2C::WRITE] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
         validateResult(rx, false);
         return rx.result();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The whole step sequence is sent as a single I2CZ command.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#i2cZip">PIGPIO::i2cZip</a>
+     */
+    @Override
+    public int i2cZip(int handle, PiGpioI2CZip steps, byte[] buffer, int offset) {
+        logger.trace("[I2C::ZIP] -> [{}]; I2C Zip [{} step bytes; {} bytes to read]; offset={}", handle, steps.length(), steps.readLength(), offset);
+        validateReady();
+        validateHandle(handle);
+        Objects.checkFromIndexSize(offset, steps.readLength(), buffer.length);
+        PiGpioPacket tx = packet(I2CZ, handle).data(steps.build()).into(buffer, offset, buffer.length - offset);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[I2C::ZIP] <- HANDLE={}; SUCCESS={}; RESULT={}", handle, rx.success(), rx.result());
+        validateResult(rx, false);
+        // the bytes of all read steps are returned together in the response extension
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2COpen">PIGPIO::bbI2COpen</a>
+     */
+    @Override
+    public int bbI2COpen(int sda, int scl, int baud) {
+        logger.trace("[I2C::BB-OPEN] -> SDA={}; SCL={}; BAUD={}", sda, scl, baud);
+        validateReady();
+        validateUserPin(sda);
+        validateUserPin(scl);
+        validateBbI2cBaud(baud);
+        PiGpioPacket tx = packet(BI2CO, sda, scl).data(baud);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[I2C::BB-OPEN] <- SDA={}; SUCCESS={}", sda, rx.success());
+        validateResult(rx, false);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CClose">PIGPIO::bbI2CClose</a>
+     */
+    @Override
+    public int bbI2CClose(int sda) {
+        logger.trace("[I2C::BB-CLOSE] -> SDA={}", sda);
+        validateReady();
+        validateUserPin(sda);
+        PiGpioPacket rx = sendCommand(BI2CC, sda);
+        logger.trace("[I2C::BB-CLOSE] <- SDA={}; SUCCESS={}", sda, rx.success());
+        validateResult(rx, false);
+        return rx.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The whole step sequence is sent as a single BI2CZ command.
+     * @see <a href="http://abyz.me.uk/rpi/pigpio/cif.html#bbI2CZip">PIGPIO::bbI2CZip</a>
+     */
+    @Override
+    public int bbI2CZip(int sda, PiGpioI2CZip steps, byte[] buffer, int offset) {
+        logger.trace("[I2C::BB-ZIP] -> SDA={}; I2C Zip [{} step bytes; {} bytes to read]; offset={}", sda, steps.length(), steps.readLength(), offset);
+        validateReady();
+        validateUserPin(sda);
+        Objects.checkFromIndexSize(offset, steps.readLength(), buffer.length);
+        PiGpioPacket tx = packet(BI2CZ, sda).data(steps.build()).into(buffer, offset, buffer.length - offset);
+        PiGpioPacket rx = sendPacket(tx);
+        logger.trace("[I2C::BB-ZIP] <- SDA={}; SUCCESS={}; RESULT={}", sda, rx.success(), rx.result());
+        validateResult(rx, false);
+        // the bytes of all read steps are returned together in the response extension
+        return rx.result();
+    }
+
     // *****************************************************************************************************
     // *****************************************************************************************************
     // SERIAL IMPLEMENTATION
@@ -1135,7 +1627,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
     public int serOpen(CharSequence device, int baud, int flags) {
         logger.trace("[SERIAL::OPEN] -> Open Serial Port [{}] at Baud Rate [{}]", device, baud);
         validateReady();
-        PiGpioPacket tx = new PiGpioPacket(SERO, baud, flags).data(device);
+        PiGpioPacket tx = packet(SERO, baud, flags).data(device);
         PiGpioPacket rx = sendPacket(tx);
         int handle = rx.result();
         logger.trace("[SERIAL::OPEN] <- HANDLE={}; SUCCESS={}",  handle, rx.success());
@@ -1159,7 +1651,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[SERIAL::CLOSE] -> HANDLE={}, Close Serial Port", handle);
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SERC, handle);
+        PiGpioPacket tx = packet(SERC, handle);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[SERIAL::CLOSE] <- HANDLE={}; SUCCESS={}",  handle, rx.success());
         validateResult(rx, false);
@@ -1182,7 +1674,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[SERIAL::WRITE] -> HANDLE={}; Byte [{}]", handle, Byte.toUnsignedInt(value));
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SERWB, handle, Byte.toUnsignedInt(value));
+        PiGpioPacket tx = packet(SERWB, handle, Byte.toUnsignedInt(value));
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[SERIAL::WRITE] <- HANDLE={}; SUCCESS={}", handle, rx.success());
         validateResult(rx, false);
@@ -1201,7 +1693,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[SERIAL::READ] -> [{}]; Byte", handle);
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SERRB, handle);
+        PiGpioPacket tx = packet(SERRB, handle);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[SERIAL::READ] <- HANDLE={}; SUCCESS={}",  handle, rx.p3());
         validateResult(rx, false);
@@ -1221,7 +1713,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         Objects.checkFromIndexSize(offset, length, data.length);
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SERW, handle).data(data, offset, length);
+        PiGpioPacket tx = packet(SERW, handle).wrap(data, offset, length);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[SERIAL::WRITE] <- HANDLE={}; SUCCESS={}", handle, rx.success());
         validateResult(rx, false);
@@ -1241,15 +1733,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         Objects.checkFromIndexSize(offset, length, buffer.length);
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SERR, handle, length);
+        PiGpioPacket tx = packet(SERR, handle, length).into(buffer, offset, length);
         PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[SERIAL::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, rx.success(), rx.dataLength());
+        logger.trace("[SERIAL::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, rx.success(), rx.result());
         validateResult(rx, false);
-        if(rx.success()) {
-            int actual = rx.result();
-            if(rx.dataLength() < actual) actual = rx.dataLength();
-            System.arraycopy(rx.data(), 0, buffer, offset, actual);
-        }
         return rx.result();
     }
 
@@ -1263,7 +1750,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
     public int serDataAvailable(int handle) {
         logger.trace("[SERIAL::AVAIL] -> Get number of bytes available to read");
         validateReady();
-        PiGpioPacket tx = new PiGpioPacket(SERDA, handle);
+        PiGpioPacket tx = packet(SERDA, handle);
         PiGpioPacket rx = sendPacket(tx);
         int available = rx.result();
         logger.trace("[SERIAL::AVAIL] <- HANDLE={}; SUCCESS={}; AVAILABLE={}",  handle, rx.success(), available);
@@ -1282,14 +1769,14 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
 
         // get number of bytes available
-        PiGpioPacket tx = new PiGpioPacket(SERDA, handle);
+        PiGpioPacket tx = packet(SERDA, handle);
         PiGpioPacket rx = sendPacket(tx);
         validateResult(rx, false);
         int available = rx.result();
 
         // if any bytes are available, then drain them now
         if(available > 0){
-            tx = new PiGpioPacket(SERR, handle, available);
+            tx = packet(SERR, handle, available);
             rx = sendPacket(tx);
             validateResult(rx, false);
         }
@@ -1366,7 +1853,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
     public int spiOpen(int channel, int baud, int flags) {
         logger.trace("[SPI::OPEN] -> Open SPI Channel [{}] at Baud Rate [{}]; Flags=[{}]", channel, baud, flags);
         validateReady();
-        PiGpioPacket tx = new PiGpioPacket(SPIO, channel, baud).data(flags);
+        PiGpioPacket tx = packet(SPIO, channel, baud).data(flags);
         PiGpioPacket rx = sendPacket(tx);
         int handle = rx.result();
         logger.trace("[SPI::OPEN] <- HANDLE={}; SUCCESS={}",  handle, rx.success());
@@ -1390,7 +1877,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         logger.trace("[SPI::CLOSE] -> HANDLE={}, Close Serial Port", handle);
         validateReady();
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SPIC, handle);
+        PiGpioPacket tx = packet(SPIC, handle);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[SPI::CLOSE] <- HANDLE={}; SUCCESS={}",  handle, rx.success());
         validateResult(rx, false);
@@ -1415,7 +1902,7 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         Objects.checkFromIndexSize(offset, length, data.length);
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SPIW, handle).data(data, offset, length);
+        PiGpioPacket tx = packet(SPIW, handle).wrap(data, offset, length);
         PiGpioPacket rx = sendPacket(tx);
         logger.trace("[SPI::WRITE] <- HANDLE={}; SUCCESS={}", handle, rx.success());
         validateResult(rx, false);
@@ -1437,15 +1924,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         validateReady();
         Objects.checkFromIndexSize(offset, length, buffer.length);
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SPIR, handle, length);
+        PiGpioPacket tx = packet(SPIR, handle, length).into(buffer, offset, length);
         PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[SPI::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, rx.success(), rx.dataLength());
+        logger.trace("[SPI::READ] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, rx.success(), rx.result());
         validateResult(rx, false);
-        if(rx.success()) {
-            int actual = rx.result();
-            if(rx.dataLength() < actual) actual = rx.dataLength();
-            System.arraycopy(rx.data(), 0, buffer, offset, actual);
-        }
         return rx.result();
     }
 
@@ -1467,15 +1949,10 @@ public class PiGpioSocketImpl extends PiGpioSocketBase implements PiGpio {
         Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
         Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
         validateHandle(handle);
-        PiGpioPacket tx = new PiGpioPacket(SPIX, handle).data(write, writeOffset, numberOfBytes);
+        PiGpioPacket tx = packet(SPIX, handle).wrap(write, writeOffset, numberOfBytes).into(read, readOffset, numberOfBytes);
         PiGpioPacket rx = sendPacket(tx);
-        logger.trace("[SPI::XFER] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, rx.success(), rx.dataLength());
+        logger.trace("[SPI::XFER] <- HANDLE={}; SUCCESS={}; BYTES-READ={}",  handle, rx.success(), rx.result());
         validateResult(rx, false);
-        if(rx.success()) {
-            int actual = rx.result();
-            if(rx.dataLength() < actual) actual = rx.dataLength();
-            System.arraycopy(rx.data(), 0, read, readOffset, actual);
-        }
         return rx.result();
     }
 }
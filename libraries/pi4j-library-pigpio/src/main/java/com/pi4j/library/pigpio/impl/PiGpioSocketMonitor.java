@@ -27,12 +27,21 @@ package com.pi4j.library.pigpio.impl;
  * #L%
  */
 
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_ALIVE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_EVENT;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_GPIO;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_WDOG;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.pi4j.library.pigpio.PiGpioCmd;
 import com.pi4j.library.pigpio.PiGpioPacket;
@@ -44,6 +53,17 @@ import org.slf4j.LoggerFactory;
 /**
  * <p>PiGpioSocketMonitor class.</p>
  *
+ * Receives the GPIO notification reports of the PiGpio daemon on a dedicated socket and dispatches every level
+ * change of a monitored pin. The daemon reports the levels of GPIO 0-31 (bank 1) only, so pins 32-53 cannot be
+ * monitored. {@link com.pi4j.library.pigpio.PiGpioPinLevelListener}s receive the changes while the reports are
+ * decoded, without allocating; a {@link PiGpioStateChangeEvent} is only created for a change if a
+ * {@link com.pi4j.library.pigpio.PiGpioStateChangeListener} would receive it.
+ *
+ * Each report holds a 16-bit sequence number, 16 bits of flags, the 32-bit microsecond tick and the levels of
+ * bank 1. Reports are read in large chunks and all complete reports of a chunk are decoded before the resulting
+ * changes are dispatched, so bursts of edges do not stall the socket; the tick is unwrapped into a 64-bit
+ * microsecond timestamp and converted into a {@link System#nanoTime()} event timestamp by a {@link PiGpioTickClock}.
+ *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
@@ -54,6 +74,15 @@ public class PiGpioSocketMonitor  {
     /** Constant <code>NAME="pigpio-monitor"</code> */
     public static String NAME = "pigpio-monitor";
 
+    /** Size of a notification report: seqno (u16), flags (u16), tick (u32), level (u32) */
+    protected static final int REPORT_SIZE = 12;
+
+    /** Maximum number of reports decoded from a single socket read */
+    protected static final int REPORTS_PER_READ = 4096;
+
+    /** Requested socket receive buffer size, absorbing edge bursts while changes are dispatched */
+    protected static final int RECEIVE_BUFFER_SIZE = 256 * 1024;
+
     protected final PiGpioSocketBase piGpio;
     protected Socket listener = null;
     protected boolean shutdown = false;
@@ -62,8 +91,16 @@ public class PiGpioSocketMonitor  {
 
     // 32 bits are used to store the last known states of pins 0-31
     protected int pinState = 0b00000000000000000000000000000000;
-    protected int pinMonitor = 0b00000000000000000000000000000000;
+    protected volatile int pinMonitor = 0b00000000000000000000000000000000;
+
+    // unwraps report ticks into 64 bits and converts them into event timestamps
+    protected final PiGpioTickClock clock = new PiGpioTickClock();
+
+    // the last report sequence number, to detect reports lost by the daemon
+    protected int lastSequence = -1;
+    protected volatile long lostReports = 0;
 
+    private final List<PiGpioStateChangeEvent> changes = new ArrayList<>();
 
     /**
      * <p>Constructor for PiGpioSocketMonitor.</p>
@@ -96,6 +133,15 @@ public class PiGpioSocketMonitor  {
         return (listener != null && listener.isConnected());
     }
 
+    /**
+     * <p>lostReports.</p>
+     *
+     * @return the number of notification reports the daemon could not deliver, detected by their sequence numbers
+     */
+    public long lostReports(){
+        return lostReports;
+    }
+
     /**
      * <p>enable.</p>
      *
@@ -103,6 +149,11 @@ public class PiGpioSocketMonitor  {
      * @param enabled a boolean.
      */
     public void enable(int pin, boolean enabled){
+        // the daemon only reports the levels of bank 1
+        if(pin < 0 || pin > 31) {
+            throw new IllegalArgumentException("PIGPIO ERROR: PIN [" + pin + "] CANNOT BE MONITORED; " +
+                "notifications are only available for pins 0-31");
+        }
 
         // update pin monitor
         if(enabled) {
@@ -115,7 +166,7 @@ public class PiGpioSocketMonitor  {
         if(pinMonitor != 0){
             if(monitoringThread == null || !monitoringThread.isAlive()){
                 startMonitoringThread();
-            } else {
+            } else if(handle != null) {
                 // update specific pin set to monitor
                 PiGpioPacket tx = new PiGpioPacket(PiGpioCmd.NB, this.handle, pinMonitor);
                 piGpio.sendPacket(tx);
@@ -141,6 +192,74 @@ public class PiGpioSocketMonitor  {
         piGpio.sendPacket(tx);
     }
 
+    /**
+     * Decode all complete notification reports in the buffer, collecting the resulting changes of monitored pins;
+     * an incomplete trailing report is left in the buffer.
+     *
+     * @param buffer the received bytes, in LITTLE ENDIAN byte order
+     */
+    protected void decode(ByteBuffer buffer) {
+        while (buffer.remaining() >= REPORT_SIZE) {
+            final int sequence = Short.toUnsignedInt(buffer.getShort());
+            final int flags = Short.toUnsignedInt(buffer.getShort());
+            final long tick = clock.unwrap(buffer.getInt());
+            final int level = buffer.getInt();
+            final int monitor = pinMonitor;
+
+            // the sequence number increases by one with each report of this notification handle
+            if (lastSequence >= 0 && sequence != ((lastSequence + 1) & 0xFFFF)) {
+                int lost = (sequence - lastSequence - 1) & 0xFFFF;
+                lostReports += lost;
+                logger.debug("[NOTIFY] {} notification reports lost", lost);
+            }
+            lastSequence = sequence;
+
+            // event and keep-alive reports carry no level change
+            if ((flags & (PI_NTFY_FLAGS_EVENT | PI_NTFY_FLAGS_ALIVE)) != 0) {
+                continue;
+            }
+            final long timestamp = clock.nanoTime(tick);
+
+            // a watchdog timeout is reported with the 'UNKNOWN' state, like the PI_TIMEOUT level of an alert
+            if ((flags & PI_NTFY_FLAGS_WDOG) != 0) {
+                int pin = flags & PI_NTFY_FLAGS_GPIO;
+                if (((monitor >>> pin) & 1) != 0)
+                    change(pin, PiGpioState.UNKNOWN, tick, timestamp);
+            }
+
+            // collect the changes of all monitored pins
+            int changed = (level ^ pinState) & monitor;
+            while (changed != 0) {
+                int pin = Integer.numberOfTrailingZeros(changed);
+                changed &= changed - 1;
+                change(pin, PiGpioState.from((level >>> pin) & 1), tick, timestamp);
+            }
+
+            // cache the newly read pins states for future comparisons
+            pinState = level;
+        }
+    }
+
+    private void change(int pin, PiGpioState state, long tick, long timestamp) {
+        piGpio.dispatchLevel(pin, state, tick, timestamp);
+        if (piGpio.hasStateChangeListeners(pin))
+            changes.add(new PiGpioStateChangeEvent(pin, state, tick, timestamp));
+    }
+
+    /**
+     * Dispatch the changes collected by {@link #decode(ByteBuffer)} in report order, with a single call to each
+     * listener for the whole batch.
+     */
+    protected void dispatch() {
+        if (changes.isEmpty()) {
+            return;
+        }
+        logger.trace("[DISPATCH] {} changes", changes.size());
+        piGpio.dispatchEvents(changes);
+        changes.clear();
+    }
+
+
     private void startMonitoringThread(){
         // create monitoring thread
         monitoringThread = new Thread(NAME) {
@@ -149,12 +268,14 @@ public class PiGpioSocketMonitor  {
                 logger.trace("[THREAD] STARTED");
 
                 // continue running this thread until this monitor is 'shutdown'
-                while (!shutdown && pinMonitor > 0){
+                while (!shutdown && pinMonitor != 0){
 
                     // create new listener socket instance
                     try {
                         logger.debug("[SOCKET] attempting to connect to: {}:{}", piGpio.host, piGpio.port);
-                        listener = new Socket(piGpio.host, piGpio.port);
+                        listener = new Socket();
+                        listener.setReceiveBufferSize(RECEIVE_BUFFER_SIZE);
+                        listener.connect(new InetSocketAddress(piGpio.host, piGpio.port));
                         listener.setSoTimeout(1000);
 
                         // check to see if we connected successfully
@@ -168,15 +289,11 @@ public class PiGpioSocketMonitor  {
                             pinState = rx.p3();
                             logger.trace("[GPIO] current pin states [BR1] <{}>", Integer.toBinaryString(pinState));
 
-//                        ByteBuffer b = ByteBuffer.allocate(4);
-//                        b.order(ByteOrder.LITTLE_ENDIAN);
-//                        b.putInt(rx.p3());
-//                        logger.info("[STATES] [" + Integer.toBinaryString(rx.p3()) + "]");
-
                             // enable socket notifications for pins 0-31
                             tx = new PiGpioPacket(PiGpioCmd.NOIB);
                             rx = piGpio.sendPacket(tx, listener);
                             handle = rx.p3();
+                            lastSequence = -1;
                             logger.trace("[NOTIFY] enable socket notifications [NOIB]; HANDLE={}", handle);
 
                             // enable specific pin set to monitor
@@ -185,17 +302,19 @@ public class PiGpioSocketMonitor  {
                             logger.trace("[NOTIFY] enable pin notifications [NB] <{}>", Integer.toBinaryString(pinMonitor));
 
                             // get the input stream from the listener socket
-                            var in = listener.getInputStream();
+                            InputStream in = listener.getInputStream();
 
                             boolean disconnected = false;
-                            byte[] raw = new byte[12];
+                            ByteBuffer buffer = ByteBuffer.allocate(REPORT_SIZE * REPORTS_PER_READ);
+                            buffer.order(ByteOrder.LITTLE_ENDIAN);
 
                             // continue reading from the socket until the socket has become disconnected,
                             // this monitor is being shutdown or until no pins are actively being monitored
                             while (!disconnected && !shutdown && pinMonitor != 0) {
 
                                 try {
-                                    int result = in.read(raw, 0, raw.length);
+                                    // append to a partial report left over by the previous read
+                                    int result = in.read(buffer.array(), buffer.position(), buffer.remaining());
 
                                     // check for end of stream error code
                                     if(result == -1){
@@ -205,59 +324,12 @@ public class PiGpioSocketMonitor  {
                                         break;
                                     }
 
-                                    // process the data read buffer if we have a sufficient number of bytes
-                                    if (result >= 12) {
-                                        // wrap the raw data in a byte buffer to process/decode the results (Little Endian)
-                                        ByteBuffer buffer = ByteBuffer.wrap(raw);
-                                        buffer.order(ByteOrder.LITTLE_ENDIAN);
-
-                                        // decode each event data element from the buffer
-                                        final long sequence = Integer.toUnsignedLong(buffer.getShort());
-                                        final long flags = Integer.toUnsignedLong(buffer.getShort());
-                                        final long tick = Integer.toUnsignedLong(buffer.getInt());
-                                        final int newPinState = buffer.getInt();
-
-//                        final BitSet levels = BitSet.valueOf(buffer.array());
-//                        logger.info("[BYTES] [0x" + StringUtil.toHexString(buffer) + "]");
-//                        logger.info("[SEQUE] " + sequence);
-//                        logger.info("[FLAGS] " + flags);
-//                        logger.info("[TICK ] " + tick);
-//                        logger.info("[LEVEL] " + Integer.toBinaryString(level));
-//                        logger.info("[STATE] " + BitSet.valueOf(raw).get(0));
-//                        logger.info("--------------------------------------------------------");
-                                        logger.trace("[NOTIFY] SEQ={}; FLAGS={}; TICK={}; STATES=[{}]",
-                                                sequence, flags, tick, Integer.toBinaryString(newPinState));
-
-                                        // iterate over the 32 bits in the level value
-                                        for (int i = 0; i < 32; i++) {
-                                            // determine if this pin is enabled for events
-                                            // if it is, then process the event; else ignore it
-                                            int pinNotify = (pinMonitor >> i) & 1;
-                                            if(pinNotify > 0) {
-                                                // get the states for this pin from the 32-bit value
-                                                int oldState = (pinState >> i) & 1;
-                                                int newState = (newPinState >> i) & 1;
-
-                                                // compare the old state value with the new state value to determine if there is a change
-                                                if (oldState != newState) {
-                                                    // if there is a change detected, then create a new change event and dispatch it
-                                                    final PiGpioState state = PiGpioState.from(newState);
-                                                    final PiGpioStateChangeEvent event = new PiGpioStateChangeEvent(i, state, tick);
-                                                    logger.trace("[DISPATCH] PiGpioStateChangeEvent(PIN={}; FLAGS={}; TICK={}; STATE=[{}]",
-                                                            i, flags, tick, Integer.toBinaryString(newPinState));
-                                                    try {
-                                                        piGpio.dispatchEvent(event);
-                                                    }
-                                                    catch (Exception e){
-                                                        logger.error(e.getMessage(), e);
-                                                    }
-                                                }
-                                            }
-                                        }
-
-                                        // cache the new;y read pins states for future comparisons
-                                        pinState = newPinState;
-                                    }
+                                    // decode all complete reports, then dispatch their changes together
+                                    buffer.position(buffer.position() + result);
+                                    buffer.flip();
+                                    decode(buffer);
+                                    buffer.compact();
+                                    dispatch();
                                 }
                                 catch (SocketTimeoutException ste){
                                     // ignore this timeout and continue reading
@@ -302,7 +374,7 @@ public class PiGpioSocketMonitor  {
                     }
 
                     // attempt to reconnect if we are not shutting down
-                    if(!shutdown && pinMonitor > 0) {
+                    if(!shutdown && pinMonitor != 0) {
                         // sleep for 5 seconds
                         try {
                             logger.debug("[SOCKET] will attempt to reconnect in 5 seconds");
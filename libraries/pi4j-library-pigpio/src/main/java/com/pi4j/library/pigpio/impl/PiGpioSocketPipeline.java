@@ -0,0 +1,508 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioSocketPipeline.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>PiGpioSocketPipeline class.</p>
+ *
+ * Pipelined command transport on a single socket to the PiGpio daemon. Callers encode their command into a
+ * reusable buffer of the connection, and a reader thread decodes the responses, which the daemon sends in
+ * command order, in place into the command packets. Many commands can thus be in flight at once instead of paying a
+ * full network round trip each.
+ *
+ * There is no writer thread: the caller which finds the socket idle writes the buffer itself, including the
+ * commands other callers appended meanwhile, so concurrent commands are coalesced into a single socket write
+ * without a thread hand-off for an uncontended command. The socket streams are not interruptible, unlike a socket
+ * channel, so interrupting a caller while it writes the commands of others never closes the connection.
+ *
+ * Synchronous commands ({@link #execute(PiGpioPacket, long)}) wait for their response with a request object reused
+ * by the calling thread, so steady-state commands do not allocate on either side of the connection; asynchronous
+ * commands ({@link #submit(PiGpioPacket)}) are answered with a {@link CompletableFuture}. A synchronous command
+ * abandoned after a timeout or interrupt is detached from its packet before the response is decoded, so a late
+ * response never overwrites a packet its caller already reuses.
+ *
+ * When the connection fails, all pending commands fail and the pipeline is closed.
+ */
+class PiGpioSocketPipeline implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketPipeline.class);
+
+    /** Maximum number of commands awaiting their response; further callers wait */
+    private static final int MAX_IN_FLIGHT = 1024;
+
+    /** Initial size of the transmit buffer, grown for larger payloads */
+    private static final int TX_BUFFER_SIZE = 4096;
+
+    /** Size of the receive buffer; many responses are read with a single socket read */
+    private static final int RX_BUFFER_SIZE = 64 * 1024;
+
+    private static final int PENDING = 0;
+    private static final int DECODING = 1;
+    private static final int DONE = 2;
+    private static final int FAILED = 3;
+    private static final int ABANDONED = 4;
+
+    private static final class Request {
+        private final PiGpioPacket scratch = new PiGpioPacket();
+        private final CompletableFuture<PiGpioPacket> future;
+        private PiGpioPacket packet;
+        // the command of the packet, to discard the response of an abandoned request
+        private PiGpioCmd cmd;
+        private volatile Thread waiter;
+        private volatile int state = DONE;
+        private PiGpioException error;
+
+        private Request(CompletableFuture<PiGpioPacket> future) {
+            this.future = future;
+        }
+    }
+
+    private static final AtomicIntegerFieldUpdater<Request> STATE =
+        AtomicIntegerFieldUpdater.newUpdater(Request.class, "state");
+
+    // the synchronous request of each thread, replaced when abandoned after a timeout
+    private static final ThreadLocal<Request> LOCAL = ThreadLocal.withInitial(() -> new Request(null));
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    // signalled when responses free slots of the in-flight queue, or when the pipeline is closed
+    private final Condition notFull = appendLock.newCondition();
+    private final AtomicInteger slotWaiters = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final BlockingQueue<Request> inFlight = new ArrayBlockingQueue<>(MAX_IN_FLIGHT);
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread reader;
+    // commands appended under the append lock, and the commands being written under the flush lock
+    private ByteBuffer txBuffer = ByteBuffer.allocate(TX_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private ByteBuffer txWriting = ByteBuffer.allocate(TX_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private volatile boolean closed = false;
+
+    /**
+     * Connect to the PiGpio daemon and start the reader thread.
+     *
+     * @param host hostname or IP address of the RaspberryPi to connect to via TCP/IP socket.
+     * @param port TCP port number of the RaspberryPi to connect to via TCP/IP socket.
+     * @param name name prefix of the reader thread
+     * @throws IOException if the connection fails
+     */
+    PiGpioSocketPipeline(String host, int port, String name) throws IOException {
+        this.socket = new Socket(host, port);
+        try {
+            this.socket.setTcpNoDelay(true);
+            this.in = this.socket.getInputStream();
+            this.out = this.socket.getOutputStream();
+        } catch (IOException e) {
+            this.socket.close();
+            throw e;
+        }
+        this.reader = new Thread(this::readLoop, name + "-reader");
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    /**
+     * Get the packet reused by the calling thread to build its synchronous commands; it is overwritten by the
+     * response of the command, and reused again by the next one.
+     *
+     * @return the scratch packet of the calling thread
+     */
+    static PiGpioPacket scratchPacket() {
+        return LOCAL.get().scratch;
+    }
+
+    /**
+     * Transmit a command packet and wait for its response, which is decoded into the given packet.
+     *
+     * @param tx the command packet, receiving the response
+     * @param timeoutNanos the maximum time to wait for the response
+     * @return true if the response was received, false if the command timed out
+     * @throws PiGpioException if the connection failed or the calling thread was interrupted
+     */
+    boolean execute(PiGpioPacket tx, long timeoutNanos) {
+        // the command would be abandoned right away
+        if (Thread.currentThread().isInterrupted())
+            throw new PiGpioException(new InterruptedException("Interrupted before sending PIGPIO command " + tx.cmd()));
+
+        Request request = LOCAL.get();
+        request.packet = tx;
+        request.error = null;
+        request.waiter = Thread.currentThread();
+        request.state = PENDING;
+        send(request);
+
+        long deadline = System.nanoTime() + timeoutNanos;
+        boolean interrupted = false;
+        while (request.state == PENDING) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || interrupted) {
+                if (abandon(request)) {
+                    if (!interrupted)
+                        return false;
+                    Thread.currentThread().interrupt();
+                    throw new PiGpioException(new InterruptedException("Interrupted waiting for PIGPIO command " + tx.cmd()));
+                }
+                // the response is being decoded already and completes the request shortly
+                continue;
+            }
+            LockSupport.parkNanos(this, remaining);
+            interrupted |= Thread.interrupted();
+        }
+        while (request.state == DECODING)
+            LockSupport.park(this);
+        if (interrupted)
+            Thread.currentThread().interrupt();
+        request.packet = null;
+        request.waiter = null;
+        if (request.state == FAILED)
+            throw request.error;
+        return true;
+    }
+
+    /**
+     * Transmit a command packet without waiting for its response.
+     *
+     * @param tx the command packet, receiving the response
+     * @return a future completed with the response packet, or exceptionally with a {@link PiGpioException}
+     */
+    CompletableFuture<PiGpioPacket> submit(PiGpioPacket tx) {
+        Request request = new Request(new CompletableFuture<>());
+        request.packet = tx;
+        request.state = PENDING;
+        try {
+            send(request);
+        } catch (PiGpioException e) {
+            request.future.completeExceptionally(e);
+        }
+        return request.future;
+    }
+
+    /**
+     * @return the number of commands awaiting their response
+     */
+    int pending() {
+        return this.pending.get();
+    }
+
+    /**
+     * @return true if this pipeline has been closed, e.g. because the connection failed
+     */
+    boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * @return the socket of this pipeline
+     */
+    Socket socket() {
+        return this.socket;
+    }
+
+    /**
+     * Close the connection; all pending commands fail.
+     */
+    @Override
+    public void close() {
+        close(new PiGpioException("PIGPIO socket connection is closed"));
+    }
+
+    /**
+     * Detach a synchronous request from its packet, unless its response is being decoded already. The reader then
+     * discards the response, and the request object must not be reused as it stays queued until then.
+     *
+     * @return true if the request was abandoned, false if its response is being decoded
+     */
+    private boolean abandon(Request request) {
+        if (!STATE.compareAndSet(request, PENDING, ABANDONED))
+            return false;
+        LOCAL.remove();
+        return true;
+    }
+
+    private void send(Request request) {
+        append(request);
+        flush();
+    }
+
+    /**
+     * Queue the request and encode its command into the transmit buffer; queue and buffer keep the same order.
+     */
+    private void append(Request request) {
+        PiGpioPacket tx = request.packet;
+        request.cmd = tx.cmd();
+        while (!tryAppend(request, tx)) {
+            // all queue slots are taken: write the appended commands, whose responses free them
+            flush();
+            awaitSlot();
+        }
+    }
+
+    /**
+     * Wait until the reader frees a slot of the in-flight queue, or the pipeline is closed.
+     */
+    private void awaitSlot() {
+        // registered before checking the queue, so the reader either sees the waiter or the waiter the free slot
+        this.slotWaiters.incrementAndGet();
+        this.appendLock.lock();
+        try {
+            while (this.inFlight.remainingCapacity() == 0 && !this.closed)
+                this.notFull.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PiGpioException(e);
+        } finally {
+            this.appendLock.unlock();
+            this.slotWaiters.decrementAndGet();
+        }
+    }
+
+    private void signalSlot() {
+        if (this.slotWaiters.get() == 0)
+            return;
+        this.appendLock.lock();
+        try {
+            this.notFull.signalAll();
+        } finally {
+            this.appendLock.unlock();
+        }
+    }
+
+    /**
+     * @return false if the in-flight queue is full
+     */
+    private boolean tryAppend(Request request, PiGpioPacket tx) {
+        this.appendLock.lock();
+        try {
+            if (this.closed)
+                throw new PiGpioException("PIGPIO socket connection is closed");
+
+            // responses are matched in write order, so the request is queued under the append lock
+            if (!this.inFlight.offer(request))
+                return false;
+            this.pending.incrementAndGet();
+
+            // the pipeline may have been closed concurrently, after it drained the queue
+            if (this.closed) {
+                failAll(new PiGpioException("PIGPIO socket connection is closed"));
+                return true;
+            }
+
+            logger.trace("[TX] -> {}", tx);
+            int length = PiGpioPacket.encodedLength(tx);
+            if (this.txBuffer.remaining() < length) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(this.txBuffer.position() + length,
+                    2 * this.txBuffer.capacity())).order(ByteOrder.LITTLE_ENDIAN);
+                this.txBuffer.flip();
+                grown.put(this.txBuffer);
+                this.txBuffer = grown;
+            }
+            PiGpioPacket.encode(tx, this.txBuffer);
+            return true;
+        } finally {
+            this.appendLock.unlock();
+        }
+    }
+
+    /**
+     * Write the appended commands, unless another caller is writing already; that caller then writes the commands
+     * appended meanwhile as well, with as few socket writes as possible.
+     */
+    private void flush() {
+        do {
+            if (!this.flushLock.tryLock())
+                return;
+            try {
+                while (swapBuffers()) {
+                    ByteBuffer buffer = this.txWriting;
+                    this.out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+                    buffer.clear();
+                }
+            } catch (IOException e) {
+                close(new PiGpioException(e));
+                return;
+            } finally {
+                this.flushLock.unlock();
+            }
+            // commands appended after the last swap, whose callers found the flush lock still taken
+        } while (hasUnwritten());
+    }
+
+    /**
+     * Swap the appended commands into the buffer to write; called with the flush lock held.
+     *
+     * @return false if there are no commands to write
+     */
+    private boolean swapBuffers() {
+        this.appendLock.lock();
+        try {
+            if (this.txBuffer.position() == 0)
+                return false;
+            ByteBuffer appended = this.txBuffer;
+            this.txBuffer = this.txWriting;
+            this.txWriting = appended;
+            return true;
+        } finally {
+            this.appendLock.unlock();
+        }
+    }
+
+    private boolean hasUnwritten() {
+        this.appendLock.lock();
+        try {
+            return this.txBuffer.position() > 0 && !this.closed;
+        } finally {
+            this.appendLock.unlock();
+        }
+    }
+
+    private void close(PiGpioException cause) {
+        if (!this.closed) {
+            this.closed = true;
+            try {
+                this.socket.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close PIGPIO socket; {}", e.getMessage());
+            }
+        }
+        failAll(cause);
+        signalSlot();
+    }
+
+    private void failAll(PiGpioException cause) {
+        Request request;
+        while ((request = this.inFlight.poll()) != null)
+            fail(request, cause);
+    }
+
+    private void fail(Request request, PiGpioException cause) {
+        this.pending.decrementAndGet();
+        if (request.future != null) {
+            request.future.completeExceptionally(cause);
+            return;
+        }
+        int state = request.state;
+        if (state != PENDING && state != DECODING)
+            return;
+        request.error = cause;
+        if (STATE.compareAndSet(request, state, FAILED))
+            LockSupport.unpark(request.waiter);
+    }
+
+    private void complete(Request request) {
+        this.pending.decrementAndGet();
+        if (request.future != null) {
+            request.future.complete(request.packet);
+            return;
+        }
+        if (request.state != DECODING)
+            return;
+        request.state = DONE;
+        LockSupport.unpark(request.waiter);
+    }
+
+    private void readLoop() {
+        ByteBuffer rx = ByteBuffer.allocate(RX_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        rx.flip();
+        // receives the responses of abandoned commands
+        PiGpioPacket discard = new PiGpioPacket();
+        Request request = null;
+        try {
+            while (!this.closed) {
+                fill(rx, 16);
+                request = this.inFlight.poll();
+                if (request == null) {
+                    close(new PiGpioException("Unexpected PIGPIO response without pending command"));
+                    return;
+                }
+                signalSlot();
+
+                // decode the response in place into the command packet, unless its caller abandoned it
+                PiGpioPacket packet = STATE.compareAndSet(request, PENDING, DECODING) ? request.packet : discard.cmd(request.cmd);
+                int remaining = packet.decodeHeader(rx);
+                for (int position = 0; position < remaining; ) {
+                    fill(rx, 1);
+                    int count = Math.min(rx.remaining(), remaining - position);
+                    packet.decodeData(rx, position, count);
+                    position += count;
+                }
+                logger.trace("[RX] <- {}", packet);
+
+                complete(request);
+                request = null;
+            }
+        } catch (IOException e) {
+            if (request != null)
+                fail(request, new PiGpioException(e));
+            if (!this.closed)
+                close(new PiGpioException(e));
+        } catch (PiGpioException e) {
+            if (request != null)
+                fail(request, e);
+            close(e);
+        }
+    }
+
+    /**
+     * Read from the socket until the buffer holds at least the given number of bytes.
+     */
+    private void fill(ByteBuffer buffer, int count) throws IOException {
+        while (buffer.remaining() < count) {
+            buffer.compact();
+            int read = this.in.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            if (read > 0)
+                buffer.position(buffer.position() + read);
+            buffer.flip();
+            if (read < 0)
+                throw new EOFException("PIGPIO socket closed while reading a response");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.pi4j.library.pigpio.impl;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: JNI Wrapper for PIGPIO Library
+ * FILENAME      :  PiGpioTickClock.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * <p>PiGpioTickClock class.</p>
+ *
+ * Converts the ticks of pigpio, the unsigned 32-bit microseconds since the boot of the GPIO daemon, into monotonic
+ * nanosecond timestamps on the time scale of {@link System#nanoTime()}. Ticks are first unwrapped into 64 bits; the
+ * offset between the two clocks is then taken from the first converted tick and lowered whenever a tick arrives
+ * sooner after it happened than all ticks before, so the timestamps approach the true time of the changes while the
+ * distance between two timestamps stays the distance between their ticks.
+ *
+ * This class is not thread safe; it is used by the single thread dispatching the state changes of a pigpio instance.
+ */
+class PiGpioTickClock {
+
+    // the last 32-bit tick and the number of times it wrapped, to unwrap ticks into 64 bits
+    private long lastTick = -1;
+    private long tickWraps = 0;
+
+    // the offset of System.nanoTime() to the tick in nanoseconds, and the last returned timestamp
+    private boolean anchored = false;
+    private long offset;
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    /**
+     * Unwrap a 32-bit tick into a 64-bit tick; ticks must be passed in the order they were taken.
+     *
+     * @param tick the unsigned 32-bit tick, only the lower 32 bits are used
+     * @return the 64-bit tick in microseconds
+     */
+    long unwrap(long tick) {
+        long unsigned = tick & 0xFFFFFFFFL;
+        if (lastTick >= 0 && unsigned < lastTick) {
+            tickWraps++;
+        }
+        lastTick = unsigned;
+        return (tickWraps << 32) | unsigned;
+    }
+
+    /**
+     * Convert a 64-bit tick, that was just received, into a timestamp on the time scale of {@link System#nanoTime()}.
+     *
+     * @param tick the unwrapped tick in microseconds
+     * @return the monotonic timestamp of the tick in nanoseconds
+     */
+    long nanoTime(long tick) {
+        long now = System.nanoTime();
+        long tickNanos = tick * 1000;
+        // a timestamp in the future means the tick arrived faster than the one the offset was taken from
+        if (!anchored || tickNanos + offset > now) {
+            offset = now - tickNanos;
+            anchored = true;
+        }
+        lastTimestamp = Math.max(lastTimestamp, tickNanos + offset);
+        return lastTimestamp;
+    }
+}
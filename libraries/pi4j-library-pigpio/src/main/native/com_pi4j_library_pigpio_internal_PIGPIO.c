@@ -27,6 +27,7 @@
 #include <jni.h>
 #include <stdio.h>
 #include <stdlib.h>
+#include <pthread.h>
 #include <pigpio.h>
 #include "com_pi4j_library_pigpio_internal_PIGPIO.h"
 
@@ -520,6 +521,72 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite
     return gpioWrite((unsigned)gpio, (unsigned)level);
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_0_31
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_10_131
+  (JNIEnv *env, jclass class)
+{
+    return (jint)gpioRead_Bits_0_31();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRead_Bits_32_53
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRead_1Bits_132_153
+  (JNIEnv *env, jclass class)
+{
+    return (jint)gpioRead_Bits_32_53();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_0_31_Clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_10_131_1Clear
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_0_31_Clear((uint32_t)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_32_53_Clear
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_132_153_1Clear
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_32_53_Clear((uint32_t)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_0_31_Set
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_10_131_1Set
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_0_31_Set((uint32_t)bits);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWrite_Bits_32_53_Set
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWrite_1Bits_132_153_1Set
+  (JNIEnv *env, jclass class, jint bits)
+{
+    return gpioWrite_Bits_32_53_Set((uint32_t)bits);
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    gpioTrigger
@@ -648,29 +715,395 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioNotifyCl
     return gpioNotifyClose((unsigned)handle);
 }
 
+// *****************************************************************************************************
+// *****************************************************************************************************
+// WAVEFORM IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveClear
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveClear
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveClear();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveAddNew
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveAddNew
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveAddNew();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveAddGeneric
+ * Signature: ([III)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveAddGeneric
+  (JNIEnv *env, jclass class, jintArray data, jint offset, jint numPulses)
+{
+    // copy the pulse triplets (gpioOn, gpioOff, usDelay) into a native gpioPulse_t array
+    if(numPulses <= 0) return gpioWaveAddGeneric(0, NULL);
+    gpioPulse_t *pulses = malloc(sizeof(gpioPulse_t) * (unsigned)numPulses);
+    if(pulses == NULL) return PI_TOO_MANY_PULSES;
+    jint *values = (*env)->GetIntArrayElements(env, data, 0);
+    jint *offsetValues = values + (offset * 3);
+    for(int i = 0; i < numPulses; i++){
+        pulses[i].gpioOn  = (uint32_t)offsetValues[i * 3];
+        pulses[i].gpioOff = (uint32_t)offsetValues[i * 3 + 1];
+        pulses[i].usDelay = (uint32_t)offsetValues[i * 3 + 2];
+    }
+
+	// unpin the reserved memory for 'data'; abort without copying any changes back to the Java array
+	(*env)->ReleaseIntArrayElements(env, data, values, JNI_ABORT);
+
+    jint result = gpioWaveAddGeneric((unsigned)numPulses, pulses);
+    free(pulses);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveCreate
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveCreate
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveCreate();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveDelete
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveDelete
+  (JNIEnv *env, jclass class, jint wave_id)
+{
+    return gpioWaveDelete((unsigned)wave_id);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxSend
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxSend
+  (JNIEnv *env, jclass class, jint wave_id, jint wave_mode)
+{
+    return gpioWaveTxSend((unsigned)wave_id, (unsigned)wave_mode);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveChain
+ * Signature: ([BII)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveChain
+  (JNIEnv *env, jclass class, jbyteArray data, jint offset, jint length)
+{
+	// obtain a pointer to the elements of the array and pin the memory
+    jbyte *buffer = (*env)->GetByteArrayElements(env, data, 0);
+
+    // transmit the chain starting at the offset
+    jint result = gpioWaveChain((char *)(buffer + offset), (unsigned)length);
+
+	// unpin the reserved memory for 'data'; abort without copying any changes back to the Java array
+	(*env)->ReleaseByteArrayElements(env, data, buffer, JNI_ABORT);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxAt
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxAt
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxAt();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxBusy
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxBusy
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxBusy();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveTxStop
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveTxStop
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveTxStop();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetHighMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetHighMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetHighMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMaxMicros
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMaxMicros
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMaxMicros();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetHighPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetHighPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetHighPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMaxPulses
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMaxPulses
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMaxPulses();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetCbs();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetHighCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetHighCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetHighCbs();
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioWaveGetMaxCbs
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioWaveGetMaxCbs
+  (JNIEnv *env, jclass class)
+{
+    return gpioWaveGetMaxCbs();
+}
+
+// *****************************************************************************************************
+// *****************************************************************************************************
+// SCRIPT IMPLEMENTATION
+// *****************************************************************************************************
+// *****************************************************************************************************
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioStoreScript
+ * Signature: (Ljava/lang/String;)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioStoreScript
+  (JNIEnv *env, jclass class, jstring script)
+{
+    // the script text is plain ASCII; modified UTF-8 is identical for it
+    const char *text = (*env)->GetStringUTFChars(env, script, NULL);
+    if(text == NULL) return PI_BAD_SCRIPT;
+    jint result = gpioStoreScript((char *)text);
+    (*env)->ReleaseStringUTFChars(env, script, text);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioRunScript
+ * Signature: (II[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioRunScript
+  (JNIEnv *env, jclass class, jint script_id, jint numPar, jintArray param)
+{
+    uint32_t values[PI_MAX_SCRIPT_PARAMS];
+    if(numPar < 0 || numPar > PI_MAX_SCRIPT_PARAMS) return PI_TOO_MANY_PARAM;
+    if(numPar > 0) (*env)->GetIntArrayRegion(env, param, 0, numPar, (jint *)values);
+    return gpioRunScript((unsigned)script_id, (unsigned)numPar, values);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioUpdateScript
+ * Signature: (II[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioUpdateScript
+  (JNIEnv *env, jclass class, jint script_id, jint numPar, jintArray param)
+{
+    uint32_t values[PI_MAX_SCRIPT_PARAMS];
+    if(numPar < 0 || numPar > PI_MAX_SCRIPT_PARAMS) return PI_TOO_MANY_PARAM;
+    if(numPar > 0) (*env)->GetIntArrayRegion(env, param, 0, numPar, (jint *)values);
+    return gpioUpdateScript((unsigned)script_id, (unsigned)numPar, values);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioScriptStatus
+ * Signature: (I[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioScriptStatus
+  (JNIEnv *env, jclass class, jint script_id, jintArray param)
+{
+    uint32_t values[PI_MAX_SCRIPT_PARAMS];
+    jint result = gpioScriptStatus((unsigned)script_id, values);
+
+    // copy the current parameter values back to the Java array
+    if(result >= 0 && param != NULL)
+        (*env)->SetIntArrayRegion(env, param, 0, PI_MAX_SCRIPT_PARAMS, (jint *)values);
+    return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioStopScript
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioStopScript
+  (JNIEnv *env, jclass class, jint script_id)
+{
+    return gpioStopScript((unsigned)script_id);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    gpioDeleteScript
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_gpioDeleteScript
+  (JNIEnv *env, jclass class, jint script_id)
+{
+    return gpioDeleteScript((unsigned)script_id);
+}
+
 // *****************************************************************************************************
 // *****************************************************************************************************
 // GPIO ALERTS (and callbacks) IMPLEMENTATION
 // *****************************************************************************************************
 // *****************************************************************************************************
 
-void gpioAlertCallbackDelegate(int gpio, int level, uint32_t tick)
+/*
+ * Key to detach pigpio's alert thread from the JVM when the thread exits
+ */
+static pthread_key_t alertThreadKey;
+static pthread_once_t alertThreadKeyOnce = PTHREAD_ONCE_INIT;
+
+static void alertThreadDetach(void *jvm)
 {
-    // attached to JVM thread
-    JNIEnv *env;
-    (*callback_jvm)->AttachCurrentThread(callback_jvm, (void **)&env, NULL);
+    (*((JavaVM *)jvm))->DetachCurrentThread((JavaVM *)jvm);
+}
 
-    // get local references for the callback class and method to invoke based on the GPIO pin number
-    jclass callback_class = gpioAlertCallbacks[gpio].class;
-    jmethodID callback_method = gpioAlertCallbacks[gpio].method;
-    jobject callback_userdata = gpioAlertCallbacks[gpio].userdata;
+static void alertThreadKeyCreate(void)
+{
+    pthread_key_create(&alertThreadKey, alertThreadDetach);
+}
+
+/*
+ * Get the JNI environment of pigpio's alert thread. The thread is attached to the JVM (as a daemon thread) on its
+ * first alert and stays attached until it exits, so that each alert callback takes constant time instead of
+ * attaching and detaching the thread (and creating a new Java thread object) for every level change.
+ */
+static JNIEnv* alertThreadEnv(void)
+{
+    JNIEnv *env = NULL;
+    if((*callback_jvm)->GetEnv(callback_jvm, (void **)&env, JNI_VERSION_1_2) == JNI_EDETACHED){
+        if((*callback_jvm)->AttachCurrentThreadAsDaemon(callback_jvm, (void **)&env, NULL) != JNI_OK){
+            return NULL;
+        }
+        pthread_once(&alertThreadKeyOnce, alertThreadKeyCreate);
+        pthread_setspecific(alertThreadKey, callback_jvm);
+    }
+    return env;
+}
 
+void gpioAlertCallbackDelegate(int gpio, int level, uint32_t tick)
+{
     // ensure that the JVM exists
     if(callback_jvm == NULL){
         printf("NATIVE (PIGPIO::gpioAlertCallbackDelegate) ERROR; CallbackWrapperFunc 'callback_jvm' is NULL.\n");
         return;
     }
 
+    // attached to JVM thread (only attaches on the first alert of the thread)
+    JNIEnv *env = alertThreadEnv();
+    if(env == NULL){
+        printf("NATIVE (PIGPIO::gpioAlertCallbackDelegate) ERROR; failed to attach the alert thread to the JVM.\n");
+        return;
+    }
+
+    // get local references for the callback class and method to invoke based on the GPIO pin number
+    jclass callback_class = gpioAlertCallbacks[gpio].class;
+    jmethodID callback_method = gpioAlertCallbacks[gpio].method;
+    jobject callback_userdata = gpioAlertCallbacks[gpio].userdata;
+
     // ensure the callback class is available
     if (callback_class == NULL){
         printf("NATIVE (PIGPIO::gpioAlertCallbackDelegate) ERROR; CallbackWrapperFunc 'callback_class' is NULL.\n");
@@ -700,8 +1133,7 @@ void gpioAlertCallbackDelegate(int gpio, int level, uint32_t tick)
         (*env)->ExceptionClear(env);
     }
 
-    // detach from thread
-    (*callback_jvm)->DetachCurrentThread(callback_jvm);
+    // the thread stays attached to the JVM, see 'alertThreadEnv'
 }
 
 /*
@@ -1656,6 +2088,86 @@ JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cWriteDevi
 	return result;
 }
 
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    i2cZip
+ * Signature: (I[BI[BI)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_i2cZip
+  (JNIEnv *env, jclass class, jint handle, jbyteArray inBuf, jint inLen, jbyteArray outBuf, jint outLen)
+{
+	// obtain pointers to the elements of both arrays and pin the memory
+    jbyte *in = (*env)->GetByteArrayElements(env, inBuf, 0);
+    jbyte *out = (*env)->GetByteArrayElements(env, outBuf, 0);
+
+    // bounds check to make sure the lengths do not exceed the array lengths
+    jsize inMax = (*env)->GetArrayLength(env, inBuf);
+    jsize outMax = (*env)->GetArrayLength(env, outBuf);
+    int inCount = (inLen > inMax) ? inMax : inLen;
+    int outCount = (outLen > outMax) ? outMax : outLen;
+
+    // execute the whole I2C step sequence in a single call
+	jint result = i2cZip((unsigned)handle, (char *)in, (unsigned)inCount, (char *)out, (unsigned)outCount);
+
+	// unpin the reserved memory; the step array is unchanged, persist the read bytes to the Java array
+	(*env)->ReleaseByteArrayElements(env, inBuf, in, JNI_ABORT);
+	(*env)->ReleaseByteArrayElements(env, outBuf, out, 0);
+
+    // return the result
+	return result;
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbI2COpen
+ * Signature: (III)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbI2COpen
+  (JNIEnv *env, jclass class, jint SDA, jint SCL, jint baud)
+{
+    return bbI2COpen((unsigned)SDA, (unsigned)SCL, (unsigned)baud);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbI2CClose
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbI2CClose
+  (JNIEnv *env, jclass class, jint SDA)
+{
+    return bbI2CClose((unsigned)SDA);
+}
+
+/*
+ * Class:     com_pi4j_library_pigpio_internal_PIGPIO
+ * Method:    bbI2CZip
+ * Signature: (I[BI[BI)I
+ */
+JNIEXPORT jint JNICALL Java_com_pi4j_library_pigpio_internal_PIGPIO_bbI2CZip
+  (JNIEnv *env, jclass class, jint SDA, jbyteArray inBuf, jint inLen, jbyteArray outBuf, jint outLen)
+{
+	// obtain pointers to the elements of both arrays and pin the memory
+    jbyte *in = (*env)->GetByteArrayElements(env, inBuf, 0);
+    jbyte *out = (*env)->GetByteArrayElements(env, outBuf, 0);
+
+    // bounds check to make sure the lengths do not exceed the array lengths
+    jsize inMax = (*env)->GetArrayLength(env, inBuf);
+    jsize outMax = (*env)->GetArrayLength(env, outBuf);
+    int inCount = (inLen > inMax) ? inMax : inLen;
+    int outCount = (outLen > outMax) ? outMax : outLen;
+
+    // execute the whole I2C step sequence in a single call
+	jint result = bbI2CZip((unsigned)SDA, (char *)in, (unsigned)inCount, (char *)out, (unsigned)outCount);
+
+	// unpin the reserved memory; the step array is unchanged, persist the read bytes to the Java array
+	(*env)->ReleaseByteArrayElements(env, inBuf, in, JNI_ABORT);
+	(*env)->ReleaseByteArrayElements(env, outBuf, out, 0);
+
+    // return the result
+	return result;
+}
+
 /*
  * Class:     com_pi4j_library_pigpio_internal_PIGPIO
  * Method:    i2cSwitchCombined
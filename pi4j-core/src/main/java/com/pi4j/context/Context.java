@@ -58,6 +58,7 @@ import com.pi4j.util.StringUtil;
 
 import java.util.Map;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>Context interface.</p>
@@ -112,6 +113,20 @@ public interface Context extends Describable, IOCreator, ProviderProvider, Initi
      */
     Future<?> submitTask(Runnable task);
 
+    /**
+     * Schedules the given task for async execution after the given delay
+     *
+     * @param task the task to execute asynchronously
+     * @param delay the time to wait before the task executes
+     * @param unit the unit of the delay
+     *
+     * @return the task to cancel later
+     * @throws UnsupportedOperationException if this context cannot schedule tasks
+     */
+    default Future<?> scheduleTask(Runnable task, long delay, TimeUnit unit) {
+        throw new UnsupportedOperationException("Scheduling tasks is not supported by " + getClass().getName());
+    }
+
     /**
      * <p>shutdown.</p>
      *
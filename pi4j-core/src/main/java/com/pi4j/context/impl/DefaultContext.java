@@ -47,6 +47,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>DefaultContext class.</p>
@@ -147,6 +148,12 @@ public class DefaultContext implements Context {
         return this.runtime.submitTask(task);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Future<?> scheduleTask(Runnable task, long delay, TimeUnit unit) {
+        return this.runtime.scheduleTask(task, delay, unit);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Context shutdown() throws ShutdownException {
@@ -0,0 +1,136 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  BatchEventThrottle.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivery policy handing all events to a listener in batches, at most one batch per period, in the order the events
+ * were offered.
+ * <p>
+ * A batch holds at most a given number of events, so a listener falling behind a flood of events does not exhaust
+ * the memory; further events are dropped until the batch is delivered, and counted in {@link #dropped()}.
+ *
+ * @param <EVENT_TYPE> the type of the events
+ */
+public class BatchEventThrottle<EVENT_TYPE> extends EventThrottle<List<EVENT_TYPE>> {
+
+    /** Default maximum number of events in a batch */
+    public static final int DEFAULT_CAPACITY = 16 * 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchEventThrottle.class);
+
+    private final int capacity;
+    private final EventBatchListener<EVENT_TYPE> listener;
+
+    // guarded by this
+    private List<EVENT_TYPE> batch = new ArrayList<>();
+    private long dropped;
+    private long droppedBatch;
+
+    /**
+     * <p>Constructor for BatchEventThrottle.</p>
+     *
+     * @param period    the minimum time between two deliveries
+     * @param unit      the unit of the period
+     * @param capacity  the maximum number of events in a batch
+     * @param scheduler the scheduler waiting out the period before a delivery
+     * @param executor  the executor running the deliveries
+     * @param listener  the listener receiving the batches
+     */
+    public BatchEventThrottle(long period, TimeUnit unit, int capacity, Scheduler scheduler, Executor executor,
+                              EventBatchListener<EVENT_TYPE> listener) {
+        super(period, unit, scheduler, executor);
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Batch capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        this.listener = listener;
+    }
+
+    /**
+     * Accumulate an event for the next batch, unless the batch is full.
+     *
+     * @param event the event
+     * @return false if the batch was full and the event has been dropped
+     */
+    public synchronized boolean offer(EVENT_TYPE event) {
+        if (batch.size() >= capacity) {
+            dropped++;
+            droppedBatch++;
+            return false;
+        }
+        batch.add(event);
+        pending();
+        return true;
+    }
+
+    /**
+     * @return the number of events dropped because their batch was full
+     */
+    public synchronized long dropped() {
+        return dropped;
+    }
+
+    /**
+     * @return the maximum number of events in a batch
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected List<EVENT_TYPE> take() {
+        if (droppedBatch > 0) {
+            logger.warn("{} events dropped from a full batch of {} events; the batch listener does not keep up",
+                droppedBatch, capacity);
+            droppedBatch = 0;
+        }
+        if (batch.isEmpty())
+            return null;
+        List<EVENT_TYPE> events = batch;
+        batch = new ArrayList<>(events.size());
+        return events;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean hasPending() {
+        return !batch.isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void deliver(List<EVENT_TYPE> events) {
+        listener.onEvents(events);
+    }
+}
@@ -0,0 +1,51 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventDispatchMode.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * How the events of an I/O instance are handed to its listeners and bindings.
+ */
+public enum EventDispatchMode {
+    /**
+     * Listeners run on the thread that detected the change, e.g. the monitor thread of the provider
+     */
+    SYNCHRONOUS,
+    /**
+     * Events are queued in an {@link EventQueue} and listeners run on a dispatcher thread, in event order
+     */
+    ASYNCHRONOUS;
+
+    /**
+     * <p>parse.</p>
+     *
+     * @param mode a {@link java.lang.String} object, e.g. "sync" or "async".
+     * @return a {@link com.pi4j.event.EventDispatchMode} object.
+     */
+    public static EventDispatchMode parse(String mode) {
+        if(mode.toLowerCase().startsWith("async")) return EventDispatchMode.ASYNCHRONOUS;
+        return EventDispatchMode.SYNCHRONOUS;
+    }
+}
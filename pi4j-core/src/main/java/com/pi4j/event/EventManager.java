@@ -58,6 +58,10 @@ public class EventManager<SOURCE_TYPE, LISTENER_TYPE extends Listener, EVENT_TYP
         return this.source;
     }
 
+    public boolean isEmpty(){
+        return this.listeners.isEmpty();
+    }
+
     public SOURCE_TYPE dispatch(EVENT_TYPE event){
         listeners.forEach(listener->{
             try {
@@ -0,0 +1,57 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventOverflowPolicy.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * What an {@link EventQueue} does with a new event while it is full.
+ */
+public enum EventOverflowPolicy {
+    /**
+     * Wait until the dispatcher took an event, so no event is lost but the detecting thread is held up
+     */
+    BLOCK,
+    /**
+     * Discard the oldest queued event, so listeners see the most recent events
+     */
+    DROP_OLDEST,
+    /**
+     * Replace the newest queued event, so the last event listeners see is always the current one
+     */
+    COALESCE;
+
+    /**
+     * <p>parse.</p>
+     *
+     * @param policy a {@link java.lang.String} object, e.g. "block", "drop-oldest" or "coalesce".
+     * @return a {@link com.pi4j.event.EventOverflowPolicy} object.
+     */
+    public static EventOverflowPolicy parse(String policy) {
+        String value = policy.toLowerCase();
+        if(value.startsWith("block")) return EventOverflowPolicy.BLOCK;
+        if(value.startsWith("coalesce")) return EventOverflowPolicy.COALESCE;
+        return EventOverflowPolicy.DROP_OLDEST;
+    }
+}
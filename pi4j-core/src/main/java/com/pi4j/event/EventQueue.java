@@ -0,0 +1,288 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventQueue.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue handing the events of a single source to a handler on an executor thread, one after the other in the
+ * order they were offered; so the thread that detects the events never runs slow listeners itself.
+ * <p>
+ * A queue only occupies an executor thread while it holds events, so the queues of many sources share one thread
+ * pool while the events of each source stay in order. If the queue is full, its {@link EventOverflowPolicy} decides
+ * what happens to a new event; events offered by the handler itself (e.g. a listener changing an output) are always
+ * queued, since waiting for the handler would never end.
+ *
+ * @param <EVENT_TYPE> the type of the events
+ */
+public class EventQueue<EVENT_TYPE> {
+
+    /** Default number of events a queue holds */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(EventQueue.class);
+
+    private final String name;
+    private final int capacity;
+    private final EventOverflowPolicy policy;
+    private final Executor executor;
+    private final Consumer<EVENT_TYPE> handler;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<EVENT_TYPE> events = new ArrayDeque<>();
+
+    // guarded by lock
+    private boolean scheduled = false;
+    private boolean closed = false;
+    private Thread dispatcher = null;
+    private int maxDepth = 0;
+
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * <p>Constructor for EventQueue.</p>
+     *
+     * @param name     the name of the queue for log messages, e.g. the id of the source
+     * @param capacity the number of events the queue holds
+     * @param policy   what to do with a new event while the queue is full
+     * @param executor the executor running the dispatcher of the queue
+     * @param handler  the handler receiving the events, on the dispatcher thread
+     */
+    public EventQueue(String name, int capacity, EventOverflowPolicy policy, Executor executor, Consumer<EVENT_TYPE> handler) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Event queue capacity must be at least 1: " + capacity);
+        this.name = name;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.executor = executor;
+        this.handler = handler;
+    }
+
+    /**
+     * Queue an event for the handler, applying the overflow policy if the queue is full.
+     *
+     * @param event the event
+     * @return false if the queue is closed or the executor rejected the dispatcher, so the event was discarded
+     */
+    public boolean offer(EVENT_TYPE event) {
+        boolean schedule;
+        lock.lock();
+        try {
+            if (closed)
+                return false;
+            if (events.size() >= capacity && Thread.currentThread() != dispatcher) {
+                switch (policy) {
+                    case BLOCK:
+                        while (events.size() >= capacity && !closed) {
+                            try {
+                                notFull.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                dropped.incrementAndGet();
+                                return false;
+                            }
+                        }
+                        if (closed)
+                            return false;
+                        break;
+                    case COALESCE:
+                        events.pollLast();
+                        coalesced.incrementAndGet();
+                        break;
+                    default:
+                        events.pollFirst();
+                        dropped.incrementAndGet();
+                        break;
+                }
+            }
+            events.addLast(event);
+            maxDepth = Math.max(maxDepth, events.size());
+            schedule = !scheduled;
+            scheduled = true;
+        } finally {
+            lock.unlock();
+        }
+
+        if (schedule) {
+            try {
+                executor.execute(this::dispatch);
+            } catch (RejectedExecutionException e) {
+                logger.warn("Event queue [{}] cannot dispatch; {}", name, e.getMessage());
+                lock.lock();
+                try {
+                    dropped.addAndGet(events.size());
+                    events.clear();
+                    scheduled = false;
+                } finally {
+                    lock.unlock();
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hand all queued events to the handler; runs on the executor while the queue is not empty.
+     */
+    private void dispatch() {
+        lock.lock();
+        try {
+            dispatcher = Thread.currentThread();
+        } finally {
+            lock.unlock();
+        }
+        boolean done = false;
+        try {
+            while (true) {
+                EVENT_TYPE event;
+                lock.lock();
+                try {
+                    event = events.pollFirst();
+                    if (event == null) {
+                        dispatcher = null;
+                        scheduled = false;
+                        done = true;
+                        return;
+                    }
+                    notFull.signal();
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    handler.accept(event);
+                } catch (Exception e) {
+                    logger.error(e.getMessage(), e);
+                }
+                dispatched.incrementAndGet();
+            }
+        } finally {
+            if (!done) {
+                // the handler threw an error; let the next offer start a new dispatcher
+                lock.lock();
+                try {
+                    dispatcher = null;
+                    scheduled = false;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Discard all queued events and reject further events; waiting producers return.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            dropped.addAndGet(events.size());
+            events.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the name of this queue
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the number of events this queue holds
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the overflow policy of this queue
+     */
+    public EventOverflowPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * @return the number of events currently waiting for the handler
+     */
+    public int depth() {
+        lock.lock();
+        try {
+            return events.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the largest number of events that waited for the handler at the same time
+     */
+    public int maxDepth() {
+        lock.lock();
+        try {
+            return maxDepth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of events handed to the handler
+     */
+    public long dispatched() {
+        return dispatched.get();
+    }
+
+    /**
+     * @return the number of events discarded because the queue was full, closed or could not be dispatched
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return the number of queued events replaced by a newer event under the {@link EventOverflowPolicy#COALESCE} policy
+     */
+    public long coalesced() {
+        return coalesced.get();
+    }
+}
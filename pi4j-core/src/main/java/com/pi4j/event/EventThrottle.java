@@ -0,0 +1,202 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  EventThrottle.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base of the listener delivery policies handing accumulated events to a listener at most once per period.
+ * <p>
+ * A subclass accumulates events under the monitor of the throttle and calls {@link #pending()}; the throttle then
+ * submits one delivery to an executor, immediately if the previous delivery is at least a period ago and otherwise
+ * once a shared scheduler has waited out the rest of the period. The scheduler only keeps the time, so a slow
+ * listener never holds up the timers of other throttles. No thread is held while nothing is pending, and deliveries
+ * of one throttle never overlap, so a listener is called by one thread at a time even if it is slower than its
+ * period.
+ *
+ * @param <SNAPSHOT> the type of what is taken from the accumulated events and delivered to the listener
+ */
+public abstract class EventThrottle<SNAPSHOT> {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventThrottle.class);
+
+    /**
+     * Waits out the period before a delivery of a throttle, e.g. {@link com.pi4j.context.Context#scheduleTask}.
+     */
+    @FunctionalInterface
+    public interface Scheduler {
+        /**
+         * @param task  the task to run
+         * @param delay the time to wait before the task runs
+         * @param unit  the unit of the delay
+         * @return the task to cancel later
+         */
+        Future<?> schedule(Runnable task, long delay, TimeUnit unit);
+    }
+
+    private final long period;
+    private final Scheduler scheduler;
+    private final Executor executor;
+
+    // guarded by this
+    private boolean scheduled = false;
+    private boolean closed = false;
+    private long lastDelivery;
+    private Future<?> delivery;
+
+    /**
+     * <p>Constructor for EventThrottle.</p>
+     *
+     * @param period    the minimum time between two deliveries
+     * @param unit      the unit of the period
+     * @param scheduler the scheduler waiting out the period before a delivery
+     * @param executor  the executor running the deliveries, e.g. {@link com.pi4j.context.Context#submitTask}
+     */
+    protected EventThrottle(long period, TimeUnit unit, Scheduler scheduler, Executor executor) {
+        if (period <= 0)
+            throw new IllegalArgumentException("Delivery period must be positive: " + period + " " + unit);
+        this.period = unit.toNanos(period);
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.lastDelivery = System.nanoTime() - this.period;
+    }
+
+    /**
+     * Period of a delivery rate.
+     *
+     * @param maxRate the maximum number of deliveries per second
+     * @return the minimum time between two deliveries in nanoseconds
+     */
+    public static long period(double maxRate) {
+        if (!(maxRate > 0))
+            throw new IllegalArgumentException("Delivery rate must be positive: " + maxRate);
+        return Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / maxRate));
+    }
+
+    /**
+     * Request a delivery of the accumulated events; the caller must hold the monitor of this throttle.
+     */
+    protected final void pending() {
+        if (scheduled || closed)
+            return;
+        scheduled = true;
+        schedule();
+    }
+
+    /**
+     * Take what is delivered next from the accumulated events; called holding the monitor of this throttle.
+     *
+     * @return the snapshot to deliver, or null if nothing accumulated
+     */
+    protected abstract SNAPSHOT take();
+
+    /**
+     * @return true if events accumulated since the last {@link #take()}; called holding the monitor of this throttle
+     */
+    protected abstract boolean hasPending();
+
+    /**
+     * Hand a snapshot to the listener; called on the executor without holding the monitor of this throttle.
+     *
+     * @param snapshot the snapshot returned by {@link #take()}
+     */
+    protected abstract void deliver(SNAPSHOT snapshot);
+
+    private void schedule() {
+        long delay = Math.max(0, lastDelivery + period - System.nanoTime());
+        try {
+            if (delay == 0) {
+                delivery = null;
+                executor.execute(this::flush);
+            } else {
+                delivery = scheduler.schedule(this::submit, delay, TimeUnit.NANOSECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            scheduled = false;
+            logger.warn("Event throttle cannot schedule delivery; {}", e.getMessage());
+        }
+    }
+
+    // runs on the scheduler once the period is over
+    private void submit() {
+        try {
+            executor.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                scheduled = false;
+            }
+            logger.warn("Event throttle cannot submit delivery; {}", e.getMessage());
+        }
+    }
+
+    private void flush() {
+        SNAPSHOT snapshot;
+        synchronized (this) {
+            if (closed) {
+                scheduled = false;
+                return;
+            }
+            snapshot = take();
+            lastDelivery = System.nanoTime();
+        }
+        if (snapshot != null) {
+            try {
+                deliver(snapshot);
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+        synchronized (this) {
+            if (!closed && hasPending())
+                schedule();
+            else
+                scheduled = false;
+        }
+    }
+
+    /**
+     * Stop delivering; events accumulated but not yet delivered are discarded.
+     */
+    public synchronized void close() {
+        closed = true;
+        take();
+        if (delivery != null)
+            delivery.cancel(false);
+    }
+
+    /**
+     * @return the minimum time between two deliveries in nanoseconds
+     */
+    public long period() {
+        return period;
+    }
+}
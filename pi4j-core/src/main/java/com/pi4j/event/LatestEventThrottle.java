@@ -0,0 +1,99 @@
+package com.pi4j.event;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  LatestEventThrottle.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Delivery policy handing only the latest event to a listener, at most once per period; events replaced by a newer
+ * event before their delivery are never delivered.
+ *
+ * @param <EVENT_TYPE> the type of the events
+ */
+public class LatestEventThrottle<EVENT_TYPE> extends EventThrottle<EVENT_TYPE> {
+
+    private final Consumer<EVENT_TYPE> listener;
+
+    // guarded by this
+    private EVENT_TYPE latest;
+    private long coalesced;
+
+    /**
+     * <p>Constructor for LatestEventThrottle.</p>
+     *
+     * @param period    the minimum time between two deliveries
+     * @param unit      the unit of the period
+     * @param scheduler the scheduler waiting out the period before a delivery
+     * @param executor  the executor running the deliveries
+     * @param listener  the listener receiving the latest event
+     */
+    public LatestEventThrottle(long period, TimeUnit unit, Scheduler scheduler, Executor executor,
+                               Consumer<EVENT_TYPE> listener) {
+        super(period, unit, scheduler, executor);
+        this.listener = listener;
+    }
+
+    /**
+     * Accumulate an event, replacing the event waiting for delivery.
+     *
+     * @param event the event
+     */
+    public synchronized void offer(EVENT_TYPE event) {
+        if (latest != null)
+            coalesced++;
+        latest = event;
+        pending();
+    }
+
+    /**
+     * @return the number of events replaced by a newer event before their delivery
+     */
+    public synchronized long coalesced() {
+        return coalesced;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected EVENT_TYPE take() {
+        EVENT_TYPE event = latest;
+        latest = null;
+        return event;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean hasPending() {
+        return latest != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void deliver(EVENT_TYPE event) {
+        listener.accept(event);
+    }
+}
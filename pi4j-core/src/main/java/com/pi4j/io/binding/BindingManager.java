@@ -48,6 +48,10 @@ public class BindingManager<SOURCE_TYPE, BINDING_TYPE extends Binding, EVENT_TYP
         return this.source;
     }
 
+    public boolean isEmpty(){
+        return this.bindings.isEmpty();
+    }
+
     public SOURCE_TYPE process(EVENT_TYPE event){
         bindings.forEach(binding->{
             try {
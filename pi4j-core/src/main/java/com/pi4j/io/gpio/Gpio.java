@@ -25,6 +25,7 @@ package com.pi4j.io.gpio;
  * #L%
  */
 
+import com.pi4j.event.EventQueue;
 import com.pi4j.io.IO;
 import com.pi4j.provider.Provider;
 
@@ -50,4 +51,10 @@ public interface Gpio<IO_TYPE extends IO<IO_TYPE,CONFIG_TYPE, PROVIDER_TYPE>,
      * @return a {@link java.lang.Number} object.
      */
     default Number getAddress() { return address(); };
+    /**
+     * Queue of the events waiting for asynchronous dispatch, e.g. to read its depth and drop counters.
+     *
+     * @return a {@link com.pi4j.event.EventQueue} object, or null if events are dispatched synchronously.
+     */
+    default EventQueue<?> eventQueue() { return null; }
 }
@@ -25,9 +25,21 @@ package com.pi4j.io.gpio;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.context.ContextProperties;
+import com.pi4j.event.EventDispatchMode;
+import com.pi4j.event.EventOverflowPolicy;
+import com.pi4j.event.EventQueue;
+import com.pi4j.event.EventThrottle;
+import com.pi4j.event.Listener;
 import com.pi4j.io.IOBase;
 import com.pi4j.provider.Provider;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
 /**
  * <p>Abstract GpioBase class.</p>
  *
@@ -39,6 +51,16 @@ public abstract class GpioBase<IO_TYPE extends Gpio<IO_TYPE, CONFIG_TYPE, PROVID
         extends IOBase<IO_TYPE, CONFIG_TYPE, PROVIDER_TYPE>
         implements Gpio<IO_TYPE, CONFIG_TYPE, PROVIDER_TYPE> {
 
+    /** Context property with the default {@link EventDispatchMode} of all GPIO instances */
+    public static final String DISPATCH_PROPERTY = "gpio." + GpioConfig.DISPATCH_KEY;
+    /** Context property with the default asynchronous dispatch queue capacity of all GPIO instances */
+    public static final String DISPATCH_QUEUE_PROPERTY = "gpio." + GpioConfig.DISPATCH_QUEUE_KEY;
+    /** Context property with the default {@link EventOverflowPolicy} of all GPIO instances */
+    public static final String DISPATCH_OVERFLOW_PROPERTY = "gpio." + GpioConfig.DISPATCH_OVERFLOW_KEY;
+
+    // throttled listeners and the actions removing their delivery policy
+    private final Map<Listener, Runnable> throttledListeners = new ConcurrentHashMap<>();
+
     /**
      * <p>Constructor for GpioBase.</p>
      *
@@ -49,6 +71,99 @@ public abstract class GpioBase<IO_TYPE extends Gpio<IO_TYPE, CONFIG_TYPE, PROVID
         super(provider, config);
     }
 
+    /**
+     * Create the queue handing events of this instance to the given handler on the context's runtime executor, if
+     * this instance dispatches asynchronously; the instance configuration takes precedence over the context
+     * properties.
+     *
+     * @param context the context of this instance
+     * @param handler the handler delivering an event to listeners and bindings
+     * @param <EVENT_TYPE> the type of the events
+     * @return the event queue, or null if events are dispatched synchronously
+     */
+    protected <EVENT_TYPE> EventQueue<EVENT_TYPE> createEventQueue(Context context, Consumer<EVENT_TYPE> handler) {
+        ContextProperties properties = context.properties();
+
+        EventDispatchMode mode = config().dispatch();
+        if (mode == null)
+            mode = EventDispatchMode.parse(properties.get(DISPATCH_PROPERTY, EventDispatchMode.SYNCHRONOUS.toString()));
+        if (mode != EventDispatchMode.ASYNCHRONOUS)
+            return null;
+
+        Integer capacity = config().dispatchQueue();
+        if (capacity == null)
+            capacity = properties.getInteger(DISPATCH_QUEUE_PROPERTY, EventQueue.DEFAULT_CAPACITY);
+
+        EventOverflowPolicy policy = config().dispatchOverflow();
+        if (policy == null)
+            policy = EventOverflowPolicy.parse(properties.get(DISPATCH_OVERFLOW_PROPERTY, EventOverflowPolicy.DROP_OLDEST.toString()));
+
+        return new EventQueue<>(id(), capacity, policy, context::submitTask, handler);
+    }
+
+    /**
+     * Scheduler waiting out the periods of the delivery policies of throttled listeners of this instance, running on
+     * the context's runtime scheduler.
+     *
+     * @return the scheduler
+     */
+    protected EventThrottle.Scheduler eventScheduler() {
+        return initializedContext()::scheduleTask;
+    }
+
+    /**
+     * Executor running the deliveries of the throttled listeners of this instance, the context's runtime executor.
+     *
+     * @return the executor
+     */
+    protected Executor eventExecutor() {
+        return initializedContext()::submitTask;
+    }
+
+    private Context initializedContext() {
+        Context context = context();
+        if (context == null)
+            throw new IllegalStateException("GPIO instance [" + id() + "] is not initialized");
+        return context;
+    }
+
+    /**
+     * Register the delivery policy of a throttled listener, replacing a previous policy of the same listener.
+     *
+     * @param listener   the throttled listener
+     * @param throttle   the delivery policy of the listener
+     * @param unregister the action removing the policy from the events of this instance
+     */
+    protected void addThrottled(Listener listener, EventThrottle<?> throttle, Runnable unregister) {
+        Runnable previous = throttledListeners.put(listener, () -> {
+            unregister.run();
+            throttle.close();
+        });
+        if (previous != null)
+            previous.run();
+    }
+
+    /**
+     * Remove the delivery policies of throttled listeners; listeners without one are ignored.
+     *
+     * @param listener the throttled listeners
+     */
+    protected void removeThrottled(Listener... listener) {
+        for (Listener l : listener) {
+            Runnable remove = throttledListeners.remove(l);
+            if (remove != null)
+                remove.run();
+        }
+    }
+
+    /**
+     * Remove the delivery policies of all throttled listeners, e.g. on shutdown.
+     */
+    protected void removeAllThrottled() {
+        throttledListeners.values().forEach(Runnable::run);
+        throttledListeners.clear();
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString(){
@@ -27,6 +27,8 @@ package com.pi4j.io.gpio;
 
 import com.pi4j.config.AddressConfig;
 import com.pi4j.config.Config;
+import com.pi4j.event.EventDispatchMode;
+import com.pi4j.event.EventOverflowPolicy;
 import com.pi4j.io.IOConfig;
 
 /**
@@ -37,4 +39,44 @@ import com.pi4j.io.IOConfig;
  */
 public interface GpioConfig<CONFIG_TYPE extends Config>
         extends AddressConfig<CONFIG_TYPE>, IOConfig<CONFIG_TYPE> {
+
+    /** Constant <code>DISPATCH_KEY="dispatch"</code> */
+    String DISPATCH_KEY = "dispatch";
+    /** Constant <code>DISPATCH_QUEUE_KEY="dispatch.queue"</code> */
+    String DISPATCH_QUEUE_KEY = "dispatch.queue";
+    /** Constant <code>DISPATCH_OVERFLOW_KEY="dispatch.overflow"</code> */
+    String DISPATCH_OVERFLOW_KEY = "dispatch.overflow";
+
+    /**
+     * How events of this I/O are handed to its listeners; if not configured, the <code>gpio.dispatch</code>
+     * context property applies, which defaults to synchronous dispatch.
+     *
+     * @return a {@link com.pi4j.event.EventDispatchMode} object, or null if not configured.
+     */
+    default EventDispatchMode dispatch() {
+        String value = properties().get(DISPATCH_KEY);
+        return value == null ? null : EventDispatchMode.parse(value);
+    }
+
+    /**
+     * Number of events queued for asynchronous dispatch; if not configured, the <code>gpio.dispatch.queue</code>
+     * context property applies.
+     *
+     * @return a {@link java.lang.Integer} object, or null if not configured.
+     */
+    default Integer dispatchQueue() {
+        String value = properties().get(DISPATCH_QUEUE_KEY);
+        return value == null ? null : Integer.parseInt(value);
+    }
+
+    /**
+     * What happens to new events while the asynchronous dispatch queue is full; if not configured, the
+     * <code>gpio.dispatch.overflow</code> context property applies, which defaults to dropping the oldest event.
+     *
+     * @return a {@link com.pi4j.event.EventOverflowPolicy} object, or null if not configured.
+     */
+    default EventOverflowPolicy dispatchOverflow() {
+        String value = properties().get(DISPATCH_OVERFLOW_KEY);
+        return value == null ? null : EventOverflowPolicy.parse(value);
+    }
 }
@@ -26,10 +26,13 @@ package com.pi4j.io.gpio.analog;
  */
 
 
+import com.pi4j.event.EventBatchListener;
 import com.pi4j.io.binding.AnalogBinding;
 import com.pi4j.io.binding.Bindable;
 import com.pi4j.io.gpio.Gpio;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p>Analog interface.</p>
  *
@@ -64,6 +67,31 @@ public interface Analog<ANALOG_TYPE
      * @return a ANALOG_TYPE object.
      */
     ANALOG_TYPE removeListener(AnalogValueChangeListener... listener);
+    /**
+     * Add a listener receiving only the latest value change, at most <code>maxRate</code> times per second; remove
+     * it with {@link #removeListener(AnalogValueChangeListener...)}.
+     *
+     * @param listener a {@link AnalogValueChangeListener} object.
+     * @param maxRate the maximum number of calls per second.
+     * @return a ANALOG_TYPE object.
+     */
+    ANALOG_TYPE addListener(AnalogValueChangeListener listener, double maxRate);
+    /**
+     * Add a listener receiving all value changes in batches, at most one batch per period.
+     *
+     * @param listener a {@link com.pi4j.event.EventBatchListener} object.
+     * @param period the minimum time between two batches.
+     * @param unit the unit of the period.
+     * @return a ANALOG_TYPE object.
+     */
+    ANALOG_TYPE addBatchListener(EventBatchListener<AnalogValueChangeEvent> listener, long period, TimeUnit unit);
+    /**
+     * <p>removeBatchListener.</p>
+     *
+     * @param listener a {@link com.pi4j.event.EventBatchListener} object.
+     * @return a ANALOG_TYPE object.
+     */
+    ANALOG_TYPE removeBatchListener(EventBatchListener<AnalogValueChangeEvent>... listener);
 
     /**
      * <p>equals.</p>
@@ -26,14 +26,23 @@ package com.pi4j.io.gpio.analog;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.event.BatchEventThrottle;
+import com.pi4j.event.EventBatchListener;
 import com.pi4j.event.EventDelegate;
 import com.pi4j.event.EventManager;
+import com.pi4j.event.EventQueue;
+import com.pi4j.event.EventThrottle;
+import com.pi4j.event.LatestEventThrottle;
+import com.pi4j.exception.InitializeException;
 import com.pi4j.io.binding.AnalogBinding;
 import com.pi4j.io.binding.Bindable;
 import com.pi4j.io.binding.BindingDelegate;
 import com.pi4j.io.binding.BindingManager;
 import com.pi4j.io.gpio.GpioBase;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * <p>Abstract AnalogBase class.</p>
  *
@@ -51,6 +60,12 @@ public abstract class AnalogBase<ANALOG_TYPE
     // internal listeners collection
     protected final EventManager<ANALOG_TYPE, AnalogValueChangeListener, AnalogValueChangeEvent> valueChangeEventManager;
 
+    // sequence number of the next dispatched event
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    // events waiting for asynchronous dispatch; null if dispatched synchronously
+    private volatile EventQueue<AnalogValueChangeEvent> eventQueue;
+
     // internal bindings collection
     protected BindingManager<ANALOG_TYPE, AnalogBinding, AnalogValueChangeEvent> bindings;
 
@@ -86,7 +101,38 @@ public abstract class AnalogBase<ANALOG_TYPE
     /** {@inheritDoc} */
     @Override
     public ANALOG_TYPE removeListener(AnalogValueChangeListener... listener) {
-        valueChangeEventManager.add(listener);
+        valueChangeEventManager.remove(listener);
+        removeThrottled(listener);
+        return (ANALOG_TYPE) this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ANALOG_TYPE addListener(AnalogValueChangeListener listener, double maxRate) {
+        LatestEventThrottle<AnalogValueChangeEvent> throttle = new LatestEventThrottle<>(
+                EventThrottle.period(maxRate), TimeUnit.NANOSECONDS, eventScheduler(), eventExecutor(),
+                listener::onAnalogValueChange);
+        AnalogValueChangeListener delegate = throttle::offer;
+        addThrottled(listener, throttle, () -> valueChangeEventManager.remove(delegate));
+        valueChangeEventManager.add(delegate);
+        return (ANALOG_TYPE) this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ANALOG_TYPE addBatchListener(EventBatchListener<AnalogValueChangeEvent> listener, long period, TimeUnit unit) {
+        BatchEventThrottle<AnalogValueChangeEvent> throttle = new BatchEventThrottle<>(period, unit,
+                BatchEventThrottle.DEFAULT_CAPACITY, eventScheduler(), eventExecutor(), listener);
+        AnalogValueChangeListener delegate = throttle::offer;
+        addThrottled(listener, throttle, () -> valueChangeEventManager.remove(delegate));
+        valueChangeEventManager.add(delegate);
+        return (ANALOG_TYPE) this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ANALOG_TYPE removeBatchListener(EventBatchListener<AnalogValueChangeEvent>... listener) {
+        removeThrottled(listener);
         return (ANALOG_TYPE) this;
     }
 
@@ -108,14 +154,47 @@ public abstract class AnalogBase<ANALOG_TYPE
      * @param event AnalogInputEvent
      */
     protected void dispatch(AnalogValueChangeEvent event){
+        if (event.sequence == AnalogValueChangeEvent.NO_SEQUENCE)
+            event.sequence = eventSequence.getAndIncrement();
+
+        // hand the event to the dispatcher thread, if dispatched asynchronously
+        EventQueue<AnalogValueChangeEvent> queue = eventQueue;
+        if (queue != null) {
+            queue.offer(event);
+            return;
+        }
+        deliver(event);
+    }
+
+    private void deliver(AnalogValueChangeEvent event){
         valueChangeEventManager.dispatch(event);
         bindings.process(event);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public EventQueue<?> eventQueue() {
+        return eventQueue;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ANALOG_TYPE initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        eventQueue = createEventQueue(context, this::deliver);
+        return (ANALOG_TYPE) this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public ANALOG_TYPE shutdown(Context context){
+        // discard events still waiting for asynchronous dispatch
+        if (eventQueue != null) {
+            eventQueue.close();
+        }
+
         // remove all listeners
+        removeAllThrottled();
         valueChangeEventManager.clear();
 
         // remove all bindings
@@ -25,6 +25,8 @@ package com.pi4j.io.gpio.analog;
  * #L%
  */
 
+import com.pi4j.event.EventDispatchMode;
+import com.pi4j.event.EventOverflowPolicy;
 import com.pi4j.io.gpio.GpioConfigBuilder;
 
 /**
@@ -49,4 +51,25 @@ public interface AnalogConfigBuilder<BUILDER_TYPE extends AnalogConfigBuilder, C
      * @return a BUILDER_TYPE object.
      */
     BUILDER_TYPE max(Integer value);
+    /**
+     * <p>dispatch.</p>
+     *
+     * @param mode how events are handed to listeners, on the detecting thread or by a dispatcher thread.
+     * @return a BUILDER_TYPE object.
+     */
+    BUILDER_TYPE dispatch(EventDispatchMode mode);
+    /**
+     * <p>dispatchQueue.</p>
+     *
+     * @param capacity the number of events queued for asynchronous dispatch.
+     * @return a BUILDER_TYPE object.
+     */
+    BUILDER_TYPE dispatchQueue(int capacity);
+    /**
+     * <p>dispatchOverflow.</p>
+     *
+     * @param policy what happens to new events while the asynchronous dispatch queue is full.
+     * @return a BUILDER_TYPE object.
+     */
+    BUILDER_TYPE dispatchOverflow(EventOverflowPolicy policy);
 }
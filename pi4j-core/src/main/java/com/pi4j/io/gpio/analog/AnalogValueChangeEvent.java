@@ -28,28 +28,52 @@ package com.pi4j.io.gpio.analog;
 
 /**
  * <p>AnalogChangeEvent class.</p>
+ * <p>
+ * Each event carries the {@link #timestamp()} at which the change happened and the {@link #sequence()} number of the
+ * event among all events of its source, assigned when the event is dispatched.
  *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
 public class AnalogValueChangeEvent<ANALOG_TYPE extends Analog> implements AnalogEvent {
 
+    /** Sequence number of an event that has not been dispatched yet */
+    public static final long NO_SEQUENCE = -1;
+
     // internal event copy of the changed analog values and analog I/O source
     protected Integer oldValue;
     protected Integer value;
     protected ANALOG_TYPE source;
 
+    // monotonic time of the change and the number of the event among all events of the source
+    protected long timestamp;
+    protected long sequence;
+
     /**
-     * Default constructor
+     * Default constructor, timestamping the change with the current {@link System#nanoTime()}
      *
      * @param newValue the value changed for this event instance
      * @param source a ANALOG_TYPE object.
      * @param oldValue a {@link java.lang.Integer} object.
      */
     public AnalogValueChangeEvent(ANALOG_TYPE source, Integer newValue, Integer oldValue){
+        this(source, newValue, oldValue, System.nanoTime());
+    }
+
+    /**
+     * Constructor for a change detected at the given time
+     *
+     * @param source a ANALOG_TYPE object.
+     * @param newValue the value changed for this event instance
+     * @param oldValue a {@link java.lang.Integer} object.
+     * @param timestamp the time of the change in nanoseconds, on the time scale of {@link System#nanoTime()}
+     */
+    public AnalogValueChangeEvent(ANALOG_TYPE source, Integer newValue, Integer oldValue, long timestamp){
         this.value = newValue; // cache a copy of the event instance new value
         this.oldValue = oldValue; // cache a copy of the event instance old value
         this.source = source; // cache analog I/O source
+        this.timestamp = timestamp;
+        this.sequence = NO_SEQUENCE;
     }
 
     /**
@@ -76,6 +100,24 @@ public class AnalogValueChangeEvent<ANALOG_TYPE extends Analog> implements Analo
         return this.source;
     }
 
+    /**
+     * The time of the change in nanoseconds, on the time scale of {@link System#nanoTime()}
+     *
+     * @return the monotonic timestamp of the change in nanoseconds
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * The number of this event among all events of its source, increasing by one with every event
+     *
+     * @return the sequence number, or {@link #NO_SEQUENCE} if the event was not dispatched yet
+     */
+    public long sequence() {
+        return this.sequence;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString(){
@@ -26,6 +26,9 @@ package com.pi4j.io.gpio.analog.impl;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.event.EventDispatchMode;
+import com.pi4j.event.EventOverflowPolicy;
+import com.pi4j.io.gpio.GpioConfig;
 import com.pi4j.io.gpio.analog.AnalogConfig;
 import com.pi4j.io.gpio.analog.AnalogConfigBuilder;
 import com.pi4j.io.gpio.analog.AnalogOutputConfig;
@@ -61,4 +64,25 @@ public abstract class AnalogConfigBuilderBase<BUILDER_TYPE extends AnalogConfigB
         this.properties.put(AnalogOutputConfig.RANGE_MAX_KEY, value.toString());
         return (BUILDER_TYPE)this;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public BUILDER_TYPE dispatch(EventDispatchMode mode) {
+        this.properties.put(GpioConfig.DISPATCH_KEY, mode.toString());
+        return (BUILDER_TYPE)this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BUILDER_TYPE dispatchQueue(int capacity) {
+        this.properties.put(GpioConfig.DISPATCH_QUEUE_KEY, Integer.toString(capacity));
+        return (BUILDER_TYPE)this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BUILDER_TYPE dispatchOverflow(EventOverflowPolicy policy) {
+        this.properties.put(GpioConfig.DISPATCH_OVERFLOW_KEY, policy.toString());
+        return (BUILDER_TYPE)this;
+    }
 }
@@ -25,11 +25,14 @@ package com.pi4j.io.gpio.digital;
  * #L%
  */
 
+import com.pi4j.event.EventBatchListener;
 import com.pi4j.io.OnOffRead;
 import com.pi4j.io.binding.Bindable;
 import com.pi4j.io.binding.DigitalBinding;
 import com.pi4j.io.gpio.Gpio;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p>Digital interface.</p>
  *
@@ -65,6 +68,61 @@ public interface Digital<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CONFIG_TYPE,
      * @return a DIGITAL_TYPE object.
      */
     DIGITAL_TYPE removeListener(DigitalStateChangeListener... listener);
+    /**
+     * Add a listener receiving only the latest state change, at most <code>maxRate</code> times per second; remove
+     * it with {@link #removeListener(DigitalStateChangeListener...)}.
+     *
+     * @param listener a {@link DigitalStateChangeListener} object.
+     * @param maxRate the maximum number of calls per second.
+     * @return a DIGITAL_TYPE object.
+     */
+    DIGITAL_TYPE addListener(DigitalStateChangeListener listener, double maxRate);
+    /**
+     * Add a listener receiving all state changes in batches, at most one batch per period.
+     *
+     * @param listener a {@link com.pi4j.event.EventBatchListener} object.
+     * @param period the minimum time between two batches.
+     * @param unit the unit of the period.
+     * @return a DIGITAL_TYPE object.
+     */
+    DIGITAL_TYPE addBatchListener(EventBatchListener<DigitalStateChangeEvent> listener, long period, TimeUnit unit);
+    /**
+     * <p>removeBatchListener.</p>
+     *
+     * @param listener a {@link com.pi4j.event.EventBatchListener} object.
+     * @return a DIGITAL_TYPE object.
+     */
+    DIGITAL_TYPE removeBatchListener(EventBatchListener<DigitalStateChangeEvent>... listener);
+    /**
+     * <p>addEdgeListener.</p>
+     *
+     * @param listener a {@link DigitalEdgeListener} object.
+     * @return a DIGITAL_TYPE object.
+     */
+    DIGITAL_TYPE addEdgeListener(DigitalEdgeListener... listener);
+    /**
+     * <p>removeEdgeListener.</p>
+     *
+     * @param listener a {@link DigitalEdgeListener} object.
+     * @return a DIGITAL_TYPE object.
+     */
+    DIGITAL_TYPE removeEdgeListener(DigitalEdgeListener... listener);
+    /**
+     * Add a listener receiving the number of state changes at most once per period; counting allocates nothing.
+     *
+     * @param listener a {@link DigitalEdgeCountListener} object.
+     * @param period the minimum time between two calls.
+     * @param unit the unit of the period.
+     * @return a DIGITAL_TYPE object.
+     */
+    DIGITAL_TYPE addEdgeCountListener(DigitalEdgeCountListener listener, long period, TimeUnit unit);
+    /**
+     * <p>removeEdgeCountListener.</p>
+     *
+     * @param listener a {@link DigitalEdgeCountListener} object.
+     * @return a DIGITAL_TYPE object.
+     */
+    DIGITAL_TYPE removeEdgeCountListener(DigitalEdgeCountListener... listener);
 
     /**
      * <p>equals.</p>
@@ -26,8 +26,14 @@ package com.pi4j.io.gpio.digital;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.event.BatchEventThrottle;
+import com.pi4j.event.EventBatchListener;
 import com.pi4j.event.EventDelegate;
 import com.pi4j.event.EventManager;
+import com.pi4j.event.EventQueue;
+import com.pi4j.event.EventThrottle;
+import com.pi4j.event.LatestEventThrottle;
+import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.binding.Bindable;
 import com.pi4j.io.binding.BindingDelegate;
@@ -35,6 +41,11 @@ import com.pi4j.io.binding.BindingManager;
 import com.pi4j.io.binding.DigitalBinding;
 import com.pi4j.io.gpio.GpioBase;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * <p>Abstract DigitalBase class.</p>
  *
@@ -51,6 +62,15 @@ public abstract class DigitalBase<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CON
     // internal listeners collection
     protected final EventManager<DIGITAL_TYPE, DigitalStateChangeListener, DigitalStateChangeEvent> stateChangeEventManager;
 
+    // primitive listeners; replaced on change so dispatching iterates without allocating
+    private volatile DigitalEdgeListener[] edgeListeners = new DigitalEdgeListener[0];
+
+    // sequence number of the next dispatched event
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    // events waiting for asynchronous dispatch; null if dispatched synchronously
+    private volatile EventQueue<DigitalStateChangeEvent> eventQueue;
+
     // internal bindings collection
     protected BindingManager<DIGITAL_TYPE, DigitalBinding, DigitalStateChangeEvent> bindings;
 
@@ -84,6 +104,77 @@ public abstract class DigitalBase<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CON
     @Override
     public DIGITAL_TYPE removeListener(DigitalStateChangeListener... listener) {
         stateChangeEventManager.remove(listener);
+        removeThrottled(listener);
+        return (DIGITAL_TYPE)this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DIGITAL_TYPE addListener(DigitalStateChangeListener listener, double maxRate) {
+        LatestEventThrottle<DigitalStateChangeEvent> throttle = new LatestEventThrottle<>(
+                EventThrottle.period(maxRate), TimeUnit.NANOSECONDS, eventScheduler(), eventExecutor(),
+                listener::onDigitalStateChange);
+        DigitalStateChangeListener delegate = throttle::offer;
+        addThrottled(listener, throttle, () -> stateChangeEventManager.remove(delegate));
+        stateChangeEventManager.add(delegate);
+        return (DIGITAL_TYPE)this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DIGITAL_TYPE addBatchListener(EventBatchListener<DigitalStateChangeEvent> listener, long period, TimeUnit unit) {
+        BatchEventThrottle<DigitalStateChangeEvent> throttle = new BatchEventThrottle<>(period, unit,
+                BatchEventThrottle.DEFAULT_CAPACITY, eventScheduler(), eventExecutor(), listener);
+        DigitalStateChangeListener delegate = throttle::offer;
+        addThrottled(listener, throttle, () -> stateChangeEventManager.remove(delegate));
+        stateChangeEventManager.add(delegate);
+        return (DIGITAL_TYPE)this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DIGITAL_TYPE removeBatchListener(EventBatchListener<DigitalStateChangeEvent>... listener) {
+        removeThrottled(listener);
+        return (DIGITAL_TYPE)this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DIGITAL_TYPE addEdgeCountListener(DigitalEdgeCountListener listener, long period, TimeUnit unit) {
+        DigitalEdgeCounter counter = new DigitalEdgeCounter(this, period, unit, eventScheduler(), eventExecutor(), listener);
+        addThrottled(listener, counter, () -> removeEdgeListener(counter));
+        addEdgeListener(counter);
+        return (DIGITAL_TYPE)this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DIGITAL_TYPE removeEdgeCountListener(DigitalEdgeCountListener... listener) {
+        removeThrottled(listener);
+        return (DIGITAL_TYPE)this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized DIGITAL_TYPE addEdgeListener(DigitalEdgeListener... listener) {
+        DigitalEdgeListener[] listeners = edgeListeners;
+        for (DigitalEdgeListener l : listener) {
+            if (!List.of(listeners).contains(l)) {
+                listeners = Arrays.copyOf(listeners, listeners.length + 1);
+                listeners[listeners.length - 1] = l;
+            }
+        }
+        edgeListeners = listeners;
+        return (DIGITAL_TYPE)this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized DIGITAL_TYPE removeEdgeListener(DigitalEdgeListener... listener) {
+        List<DigitalEdgeListener> removed = List.of(listener);
+        edgeListeners = Arrays.stream(edgeListeners)
+                .filter(l -> !removed.contains(l))
+                .toArray(DigitalEdgeListener[]::new);
         return (DIGITAL_TYPE)this;
     }
 
@@ -104,21 +195,102 @@ public abstract class DigitalBase<DIGITAL_TYPE extends Digital<DIGITAL_TYPE, CON
         //return (DIGITAL_TYPE)this;
     }
 
+    /**
+     * Dispatch a digital state change without allocating an event if only {@link DigitalEdgeListener}s are
+     * registered; providers should prefer this method over {@link #dispatch(DigitalStateChangeEvent)}.
+     *
+     * @param state the new state
+     * @param timestamp the {@link System#nanoTime()} the change was detected at
+     */
+    protected void dispatch(DigitalState state, long timestamp){
+        if (eventQueue != null || !stateChangeEventManager.isEmpty() || !bindings.isEmpty()) {
+            dispatch(new DigitalStateChangeEvent(this, state, timestamp));
+            return;
+        }
+        if (state != DigitalState.UNKNOWN)
+            countEdge(state == DigitalState.HIGH, timestamp);
+        eventSequence.getAndIncrement();
+        notifyEdgeListeners(state, timestamp);
+    }
+
     /**
      * Dispatch DigitalChangeEvent on digital input state changes
      *
      * @param event DigitalChangeEvent
      */
     protected void dispatch(DigitalStateChangeEvent event){
+        // edges are counted before an asynchronous queue, which may drop or coalesce events
+        if (event.state() != DigitalState.UNKNOWN)
+            countEdge(event.state() == DigitalState.HIGH, event.timestamp());
+        if (event.sequence == DigitalStateChangeEvent.NO_SEQUENCE)
+            event.sequence = eventSequence.getAndIncrement();
+
+        // hand the event to the dispatcher thread, if dispatched asynchronously
+        EventQueue<DigitalStateChangeEvent> queue = eventQueue;
+        if (queue != null) {
+            queue.offer(event);
+            return;
+        }
+        deliver(event);
+    }
+
+    /**
+     * Count an edge on the thread dispatching it, before it is queued for asynchronous delivery; does nothing by
+     * default. Changes to the 'UNKNOWN' state are no edges and not counted.
+     *
+     * @param high true if the state after the edge is {@link DigitalState#HIGH}
+     * @param timestamp the {@link System#nanoTime()} the edge occurred at
+     */
+    protected void countEdge(boolean high, long timestamp){
+    }
+
+    private void deliver(DigitalStateChangeEvent event){
+        notifyEdgeListeners(event.state(), event.timestamp());
         stateChangeEventManager.dispatch(event);
         bindings.process(event);
     }
 
+    private void notifyEdgeListeners(DigitalState state, long timestamp){
+        // a change to 'UNKNOWN' (e.g. a watchdog timeout) is no edge
+        if (state == DigitalState.UNKNOWN)
+            return;
+        boolean high = state == DigitalState.HIGH;
+        for (DigitalEdgeListener listener : edgeListeners) {
+            try {
+                listener.onEdge(this, high, timestamp);
+            }
+            catch (Exception e){
+                logger.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EventQueue<?> eventQueue() {
+        return eventQueue;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DIGITAL_TYPE initialize(Context context) throws InitializeException {
+        super.initialize(context);
+        eventQueue = createEventQueue(context, this::deliver);
+        return (DIGITAL_TYPE) this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public DIGITAL_TYPE shutdown(Context context) throws ShutdownException {
+        // discard events still waiting for asynchronous dispatch
+        if (eventQueue != null) {
+            eventQueue.close();
+        }
+
         // remove all listeners
+        removeAllThrottled();
         stateChangeEventManager.clear();
+        edgeListeners = new DigitalEdgeListener[0];
 
         // remove all bindings
         bindings.clear();
@@ -0,0 +1,103 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalCounter.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Counter and frequency meter of the edges of a digital input, e.g. for flow meters, anemometers and tachometers.
+ * <p>
+ * A counter counts without creating events or calling listeners; providers count as close to the hardware as
+ * they can, e.g. from kernel edge events, otherwise the state changes of the input are counted.
+ */
+public interface DigitalCounter extends AutoCloseable {
+
+    /**
+     * Edges counted by a counter.
+     */
+    enum Edge {
+        /** LOW to HIGH changes */
+        RISING,
+        /** HIGH to LOW changes */
+        FALLING,
+        /** all changes */
+        BOTH
+    }
+
+    /**
+     * @return the input whose edges are counted
+     */
+    DigitalInput source();
+
+    /**
+     * @return the edges counted
+     */
+    Edge edge();
+
+    /**
+     * @return the number of edges counted since the counter was created or reset
+     */
+    long count();
+
+    /**
+     * Restart counting; clears the count and the period statistics and starts a new frequency window.
+     *
+     * @return the count before the reset
+     */
+    long reset();
+
+    /**
+     * @return the length of the frequency window in nanoseconds
+     */
+    long window();
+
+    /**
+     * Edges per second in the last completed frequency window; until the first window completed, the rate since the
+     * counter was created or reset.
+     *
+     * @return the frequency in Hz
+     */
+    double frequency();
+
+    /**
+     * @return the shortest time between two counted edges in nanoseconds, or -1 if fewer than two edges were counted
+     */
+    long periodMin();
+
+    /**
+     * @return the longest time between two counted edges in nanoseconds, or -1 if fewer than two edges were counted
+     */
+    long periodMax();
+
+    /**
+     * @return the average time between two counted edges in nanoseconds, or NaN if fewer than two edges were counted
+     */
+    double periodAverage();
+
+    /**
+     * Stop counting.
+     */
+    @Override
+    void close();
+}
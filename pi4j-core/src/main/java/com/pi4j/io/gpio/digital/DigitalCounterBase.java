@@ -0,0 +1,187 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalCounterBase.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Counter of the edges of a digital input, fed with the level and timestamp of each edge. A {@link DigitalInputBase}
+ * feeds it before any asynchronous event queue; other inputs feed it on their edge listener path.
+ */
+public class DigitalCounterBase implements DigitalCounter, DigitalEdgeListener {
+
+    private final DigitalInput source;
+    private final Edge edge;
+    private final long window;
+
+    // guarded by this
+    private long count;
+    private long lastEdge;
+    private long periods;
+    private long periodMin;
+    private long periodMax;
+    private long periodSum;
+    private long windowStart;
+    private long windowCount;
+    private double frequency;
+    private boolean windowCompleted;
+
+    /**
+     * <p>Constructor for DigitalCounterBase.</p>
+     *
+     * @param source the input whose edges are counted
+     * @param edge the edges counted
+     * @param window the length of the frequency window in nanoseconds
+     */
+    public DigitalCounterBase(DigitalInput source, Edge edge, long window) {
+        if (window <= 0)
+            throw new IllegalArgumentException("Frequency window must be positive: " + window);
+        this.source = source;
+        this.edge = edge;
+        this.window = window;
+        restart(System.nanoTime());
+    }
+
+    /**
+     * Count an edge, unless the counter ignores its direction.
+     *
+     * @param high true if the state after the edge is {@link DigitalState#HIGH}
+     * @param timestamp the {@link System#nanoTime()} the edge occurred at
+     */
+    public synchronized void edge(boolean high, long timestamp) {
+        if ((edge == Edge.RISING && !high) || (edge == Edge.FALLING && high))
+            return;
+        roll(timestamp);
+        if (count > 0) {
+            long period = timestamp - lastEdge;
+            if (period >= 0) {
+                periods++;
+                periodSum += period;
+                periodMin = Math.min(periodMin, period);
+                periodMax = Math.max(periodMax, period);
+            }
+        }
+        lastEdge = timestamp;
+        count++;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onEdge(Digital<?, ?, ?> source, boolean high, long timestamp) {
+        edge(high, timestamp);
+    }
+
+    // complete the frequency window if it elapsed
+    private void roll(long now) {
+        long elapsed = now - windowStart;
+        if (elapsed >= window) {
+            frequency = (count - windowCount) * 1e9 / elapsed;
+            windowStart = now;
+            windowCount = count;
+            windowCompleted = true;
+        }
+    }
+
+    private void restart(long now) {
+        count = 0;
+        periods = 0;
+        periodSum = 0;
+        periodMin = Long.MAX_VALUE;
+        periodMax = Long.MIN_VALUE;
+        windowStart = now;
+        windowCount = 0;
+        frequency = 0;
+        windowCompleted = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput source() {
+        return source;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Edge edge() {
+        return edge;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long count() {
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long reset() {
+        long previous = count;
+        restart(System.nanoTime());
+        return previous;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long window() {
+        return window;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized double frequency() {
+        long now = System.nanoTime();
+        roll(now);
+        if (windowCompleted)
+            return frequency;
+        long elapsed = now - windowStart;
+        return elapsed > 0 ? (count - windowCount) * 1e9 / elapsed : 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long periodMin() {
+        return periods > 0 ? periodMin : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long periodMax() {
+        return periods > 0 ? periodMax : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized double periodAverage() {
+        return periods > 0 ? (double) periodSum / periods : Double.NaN;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (source instanceof DigitalInputBase)
+            ((DigitalInputBase) source).removeCounter(this);
+        else
+            source.removeEdgeListener(this);
+    }
+}
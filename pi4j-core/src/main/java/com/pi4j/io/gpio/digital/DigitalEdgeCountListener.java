@@ -0,0 +1,44 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalEdgeCountListener.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.event.Listener;
+
+/**
+ * Listener receiving the number of state changes of a digital I/O instance at most once per period instead of each
+ * change, e.g. for an encoder or a pulse counter feeding a display.
+ */
+@FunctionalInterface
+public interface DigitalEdgeCountListener extends Listener {
+    /**
+     * <p>onEdges.</p>
+     *
+     * @param source the digital I/O instance whose state changed
+     * @param count the number of state changes since the previous call
+     * @param high true if the state after the last change is {@link DigitalState#HIGH}
+     */
+    void onEdges(Digital<?, ?, ?> source, long count, boolean high);
+}
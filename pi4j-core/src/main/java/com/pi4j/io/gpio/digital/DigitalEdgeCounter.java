@@ -0,0 +1,88 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalEdgeCounter.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.event.EventThrottle;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivery policy counting state changes on the allocation-free edge path and handing the count to a
+ * {@link DigitalEdgeCountListener} at most once per period. Changes to the {@link DigitalState#UNKNOWN} state never
+ * reach the edge path, so they are not counted.
+ */
+class DigitalEdgeCounter extends EventThrottle<DigitalEdgeCounter> implements DigitalEdgeListener {
+
+    private final Digital<?, ?, ?> source;
+    private final DigitalEdgeCountListener listener;
+
+    // guarded by this
+    private long count;
+    private boolean high;
+
+    // taken by the single delivery in progress, so a delivery needs no snapshot object
+    private long deliveredCount;
+    private boolean deliveredHigh;
+
+    DigitalEdgeCounter(Digital<?, ?, ?> source, long period, TimeUnit unit, Scheduler scheduler, Executor executor,
+                       DigitalEdgeCountListener listener) {
+        super(period, unit, scheduler, executor);
+        this.source = source;
+        this.listener = listener;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void onEdge(Digital<?, ?, ?> source, boolean high, long timestamp) {
+        this.count++;
+        this.high = high;
+        pending();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected DigitalEdgeCounter take() {
+        if (count == 0)
+            return null;
+        deliveredCount = count;
+        deliveredHigh = high;
+        count = 0;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean hasPending() {
+        return count > 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void deliver(DigitalEdgeCounter counter) {
+        listener.onEdges(source, deliveredCount, deliveredHigh);
+    }
+}
@@ -0,0 +1,46 @@
+package com.pi4j.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalEdgeListener.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.event.Listener;
+
+/**
+ * Listener receiving digital state changes as primitive values, so dispatching a change to it allocates nothing;
+ * e.g. for inputs toggling thousands of times per second. A {@link DigitalStateChangeEvent} is only created if
+ * {@link DigitalStateChangeListener}s or bindings are registered too, or events are dispatched asynchronously.
+ * Changes to the {@link DigitalState#UNKNOWN} state are no edges and not passed to this listener.
+ */
+@FunctionalInterface
+public interface DigitalEdgeListener extends Listener {
+    /**
+     * <p>onEdge.</p>
+     *
+     * @param source the digital I/O instance whose state changed
+     * @param high true if the new state is {@link DigitalState#HIGH}
+     * @param timestamp the {@link System#nanoTime()} the change was detected at
+     */
+    void onEdge(Digital<?, ?, ?> source, boolean high, long timestamp);
+}
@@ -29,6 +29,8 @@ package com.pi4j.io.gpio.digital;
 import com.pi4j.context.Context;
 import com.pi4j.io.Input;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p>DigitalInput interface.</p>
  *
@@ -55,4 +57,29 @@ public interface DigitalInput extends Digital<DigitalInput, DigitalInputConfig,
      * @return a {@link com.pi4j.io.gpio.digital.PullResistance} object.
      */
     default PullResistance pull() { return config().pull(); }
+
+    /**
+     * Count the edges of this input; the counter stops when closed or when this input shuts down. The counter counts
+     * the state changes this input dispatches, so edges a debounce filter drops are not counted. By default the
+     * counter listens on the edge path of this input, see {@link #addEdgeListener(DigitalEdgeListener...)}.
+     *
+     * @param edge the edges to count
+     * @param window the length of the frequency window
+     * @param unit the unit of the window
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalCounter} object.
+     */
+    default DigitalCounter counter(DigitalCounter.Edge edge, long window, TimeUnit unit) {
+        DigitalCounterBase counter = new DigitalCounterBase(this, edge, unit.toNanos(window));
+        addEdgeListener(counter);
+        return counter;
+    }
+
+    /**
+     * Count the rising edges of this input, measuring the frequency over one second.
+     *
+     * @return a {@link com.pi4j.io.gpio.digital.DigitalCounter} object.
+     */
+    default DigitalCounter counter() {
+        return counter(DigitalCounter.Edge.RISING, 1, TimeUnit.SECONDS);
+    }
 }
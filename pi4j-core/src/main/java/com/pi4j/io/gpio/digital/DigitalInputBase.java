@@ -25,6 +25,12 @@ package com.pi4j.io.gpio.digital;
  * #L%
  */
 
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p>Abstract DigitalInputBase class.</p>
  *
@@ -32,6 +38,10 @@ package com.pi4j.io.gpio.digital;
  * @version $Id: $Id
  */
 public abstract class DigitalInputBase extends DigitalBase<DigitalInput, DigitalInputConfig, DigitalInputProvider> implements DigitalInput {
+
+    // counters of this input; replaced on change so feeding them iterates without allocating
+    private volatile DigitalCounterBase[] counters = new DigitalCounterBase[0];
+
     /**
      * <p>Constructor for DigitalInputBase.</p>
      *
@@ -41,4 +51,38 @@ public abstract class DigitalInputBase extends DigitalBase<DigitalInput, Digital
     public DigitalInputBase(DigitalInputProvider provider, DigitalInputConfig config){
         super(provider, config);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalCounter counter(DigitalCounter.Edge edge, long window, TimeUnit unit) {
+        DigitalCounterBase counter = new DigitalCounterBase(this, edge, unit.toNanos(window));
+        synchronized (this) {
+            DigitalCounterBase[] current = Arrays.copyOf(counters, counters.length + 1);
+            current[current.length - 1] = counter;
+            counters = current;
+        }
+        return counter;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void countEdge(boolean high, long timestamp) {
+        for (DigitalCounterBase counter : counters)
+            counter.edge(high, timestamp);
+    }
+
+    synchronized void removeCounter(DigitalCounterBase counter) {
+        counters = Arrays.stream(counters)
+                .filter(c -> c != counter)
+                .toArray(DigitalCounterBase[]::new);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalInput shutdown(Context context) throws ShutdownException {
+        // stop all counters
+        for (DigitalCounterBase counter : counters)
+            counter.close();
+        return super.shutdown(context);
+    }
 }
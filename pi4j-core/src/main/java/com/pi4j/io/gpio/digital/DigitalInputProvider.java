@@ -25,6 +25,8 @@ package com.pi4j.io.gpio.digital;
  * #L%
  */
 
+import com.pi4j.io.gpio.digital.impl.DefaultDigitalPort;
+
 /**
  * <p>DigitalInputProvider interface.</p>
  *
@@ -111,4 +113,28 @@ public interface DigitalInputProvider extends DigitalProvider<DigitalInputProvid
                 .build();
         return (T)create(config);
     }
+
+    /**
+     * Create a port of inputs with the given configurations, read together as a bitmask.
+     * <p>
+     * Providers supporting multi-pin access override this to access all pins with a single operation; by default
+     * every pin is created as a separate DigitalInput and accessed one after the other.
+     *
+     * @param configs the input configurations, in bit order
+     * @return a new {@link DigitalPort}, closing it shuts down its pins
+     */
+    default DigitalPort createPort(DigitalInputConfig... configs) {
+        DigitalInput[] pins = new DigitalInput[configs.length];
+        try {
+            for (int i = 0; i < configs.length; i++)
+                pins[i] = create(configs[i]);
+            return new DefaultDigitalPort(pins, true);
+        } catch (RuntimeException e) {
+            for (DigitalInput pin : pins) {
+                if (pin != null)
+                    context().shutdown(pin.id());
+            }
+            throw e;
+        }
+    }
 }
@@ -33,6 +33,7 @@ import com.pi4j.io.exception.IOException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * <p>DigitalOutput interface.</p>
@@ -115,6 +116,62 @@ public interface DigitalOutput extends Digital<DigitalOutput, DigitalOutputConfi
      */
     Future<?> blinkAsync(int delay, int duration, TimeUnit unit, DigitalState state, Callable<Void> callback);
 
+    /**
+     * Create a new pulse train on this output, a sequence of microsecond timed states played as a whole.
+     *
+     * @return a new, empty {@link com.pi4j.io.gpio.digital.PulseTrain} owned by this output
+     */
+    default PulseTrain pulseTrain() {
+        return new PulseTrain(this);
+    }
+
+    /**
+     * Start playing the given pulse train on this output. Providers able to generate hardware timed waveforms
+     * compile the train to a waveform; otherwise the train is played from a Pi4J task thread.
+     * <p>
+     * This default implementation plays the train from a Pi4J task thread. Every step is timed against an absolute
+     * deadline, so timing errors do not accumulate; steps are held by sleeping while the remaining time allows it
+     * and by spinning for the last fraction of a millisecond.
+     *
+     * @param train the pulse train to play
+     * @return a future completing when the train has been played; cancelling it stops the playback
+     * @throws IllegalArgumentException if the train has no steps
+     */
+    default Future<?> play(PulseTrain train) {
+        if(train.size() == 0)
+            throw new IllegalArgumentException("Cannot play an empty pulse train");
+        return provider().context().submitTask(() -> {
+            long deadline = System.nanoTime();
+            for (int pass = 0; train.isLoop() || pass < train.repeat(); pass++) {
+                for (int i = 0; i < train.size(); i++) {
+                    PulseTrain.Step step = train.step(i);
+                    this.state(step.state());
+                    deadline += TimeUnit.MICROSECONDS.toNanos(step.micros());
+                    if (!awaitDeadline(deadline))
+                        return;
+                }
+            }
+        });
+    }
+
+    /**
+     * Wait until the given System.nanoTime() deadline.
+     *
+     * @return false if the waiting thread was interrupted
+     */
+    private static boolean awaitDeadline(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (Thread.currentThread().isInterrupted())
+                return false;
+            if (remaining > 2_000_000)
+                LockSupport.parkNanos(remaining - 1_000_000);
+            else
+                Thread.onSpinWait();
+        }
+        return !Thread.currentThread().isInterrupted();
+    }
+
     /**
      * <p>setState.</p>
      *
@@ -24,6 +24,8 @@ package com.pi4j.io.gpio.digital;
  * limitations under the License.
  * #L%
  */
+import com.pi4j.io.gpio.digital.impl.DefaultDigitalPort;
+
 /**
  * <p>DigitalOutputProvider interface.</p>
  *
@@ -110,4 +112,28 @@ public interface DigitalOutputProvider extends DigitalProvider<DigitalOutputProv
                 .build();
         return (T)create(config);
     }
+
+    /**
+     * Create a port of outputs with the given configurations, read and written together as a bitmask.
+     * <p>
+     * Providers supporting multi-pin access override this to access all pins with a single operation; by default
+     * every pin is created as a separate DigitalOutput and accessed one after the other.
+     *
+     * @param configs the output configurations, in bit order
+     * @return a new {@link DigitalPort}, closing it shuts down its pins
+     */
+    default DigitalPort createPort(DigitalOutputConfig... configs) {
+        DigitalOutput[] pins = new DigitalOutput[configs.length];
+        try {
+            for (int i = 0; i < configs.length; i++)
+                pins[i] = create(configs[i]);
+            return new DefaultDigitalPort(pins, true);
+        } catch (RuntimeException e) {
+            for (DigitalOutput pin : pins) {
+                if (pin != null)
+                    context().shutdown(pin.id());
+            }
+            throw e;
+        }
+    }
 }
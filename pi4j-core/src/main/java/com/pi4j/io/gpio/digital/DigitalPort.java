@@ -0,0 +1,135 @@
+package com.pi4j.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DigitalPort.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.impl.DefaultDigitalPort;
+
+/**
+ * Digital Port.
+ * <p>
+ * A group of up to 64 digital input or output pins read and written together as a bitmask, where bit <i>n</i>
+ * corresponds to the <i>n</i>-th pin of the port (e.g. the data lines of a parallel bus).
+ * <p>
+ * Ports are created by {@link DigitalOutputProvider#createPort(DigitalOutputConfig...)} and
+ * {@link DigitalInputProvider#createPort(DigitalInputConfig...)}. Providers supporting multi-pin access (e.g. the
+ * GpioD provider) read or write all pins of the port with a single operation, so output pins change together; other
+ * providers fall back to accessing the pins one after the other.
+ *
+ * <pre>
+ * {@code
+ *    DigitalPort data = pi4j.dout().createPort(d0Config, d1Config, d2Config, d3Config);
+ *    data.write(0b1010);
+ * }
+ * </pre>
+ */
+public interface DigitalPort extends AutoCloseable {
+
+    /**
+     * Maximum number of pins of a port
+     */
+    int MAX_WIDTH = 64;
+
+    /**
+     * Create a port accessing the given outputs one after the other.
+     *
+     * @param outputs the outputs, in bit order
+     * @return a new {@link DigitalPort}, closing it does not shut down the outputs
+     */
+    static DigitalPort of(DigitalOutput... outputs) {
+        return new DefaultDigitalPort(outputs, false);
+    }
+
+    /**
+     * Create a port reading the given inputs one after the other.
+     *
+     * @param inputs the inputs, in bit order
+     * @return a new {@link DigitalPort}, closing it does not shut down the inputs
+     */
+    static DigitalPort of(DigitalInput... inputs) {
+        return new DefaultDigitalPort(inputs, false);
+    }
+
+    /**
+     * @return the number of pins of this port
+     */
+    int width();
+
+    /**
+     * @param bit the bit index
+     * @return the pin address mapped to the given bit
+     */
+    int address(int bit);
+
+    /**
+     * @return true if the pins of this port are outputs
+     */
+    boolean isOutput();
+
+    /**
+     * Read the state of all pins.
+     *
+     * @return the pin states, bit <i>n</i> set if pin <i>n</i> is {@link DigitalState#HIGH}
+     */
+    long read();
+
+    /**
+     * Set the state of all pins of an output port.
+     *
+     * @param value the new pin states, bit <i>n</i> set for pin <i>n</i> to become {@link DigitalState#HIGH}
+     * @return this port
+     * @throws UnsupportedOperationException if this is an input port
+     */
+    default DigitalPort write(long value) {
+        return write(value, -1L);
+    }
+
+    /**
+     * Set the state of some pins of an output port, leaving the others unchanged.
+     *
+     * @param value the new pin states, bit <i>n</i> set for pin <i>n</i> to become {@link DigitalState#HIGH}
+     * @param mask  the pins to set, bit <i>n</i> set for pin <i>n</i> to be changed
+     * @return this port
+     * @throws UnsupportedOperationException if this is an input port
+     */
+    DigitalPort write(long value, long mask);
+
+    /**
+     * Invert the state of some pins of an output port, leaving the others unchanged.
+     *
+     * @param mask the pins to toggle, bit <i>n</i> set for pin <i>n</i> to be inverted
+     * @return this port
+     * @throws UnsupportedOperationException if this is an input port
+     */
+    default DigitalPort toggle(long mask) {
+        return write(~read(), mask);
+    }
+
+    /**
+     * Release the pins of this port.
+     */
+    @Override
+    void close();
+}
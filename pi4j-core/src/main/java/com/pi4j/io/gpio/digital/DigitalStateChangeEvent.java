@@ -29,26 +29,50 @@ package com.pi4j.io.gpio.digital;
 
 /**
  * <p>DigitalChangeEvent class.</p>
+ * <p>
+ * Each event carries the {@link #timestamp()} at which the change happened, taken from the most accurate source the
+ * provider has (e.g. the kernel event time or the tick of the GPIO daemon), and the {@link #sequence()} number of
+ * the event among all events of its source, assigned when the event is dispatched.
  *
  * @author Robert Savage (<a href="http://www.savagehomeautomation.com">http://www.savagehomeautomation.com</a>)
  * @version $Id: $Id
  */
 public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements DigitalEvent {
 
+    /** Sequence number of an event that has not been dispatched yet */
+    public static final long NO_SEQUENCE = -1;
+
     // internal event copy of the changed digital state
     protected DigitalState state;
 
     protected DIGITAL_TYPE source;
 
+    // monotonic time of the change and the number of the event among all events of the source
+    protected long timestamp;
+    protected long sequence;
+
     /**
-     * Default constructor
+     * Default constructor, timestamping the change with the current {@link System#nanoTime()}
      *
      * @param state the value changed for this event instance
      * @param source a DIGITAL_TYPE object.
      */
     public DigitalStateChangeEvent(DIGITAL_TYPE source, DigitalState state){
+        this(source, state, System.nanoTime());
+    }
+
+    /**
+     * Constructor for a change detected at the given time
+     *
+     * @param source a DIGITAL_TYPE object.
+     * @param state the value changed for this event instance
+     * @param timestamp the time of the change in nanoseconds, on the time scale of {@link System#nanoTime()}
+     */
+    public DigitalStateChangeEvent(DIGITAL_TYPE source, DigitalState state, long timestamp){
         this.state = state; // cache a copy of the event instance state
         this.source = source; // cache digital I/O source
+        this.timestamp = timestamp;
+        this.sequence = NO_SEQUENCE;
     }
 
     /**
@@ -66,6 +90,28 @@ public class DigitalStateChangeEvent<DIGITAL_TYPE extends Digital> implements Di
         return this.source;
     }
 
+    /**
+     * The time of the change in nanoseconds, on the time scale of {@link System#nanoTime()}; the difference of the
+     * timestamps of two events is the time between the two changes, e.g. to measure pulse widths.
+     *
+     * @return the monotonic timestamp of the change in nanoseconds
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * The number of this event among all events of its source, increasing by one with every event dispatched by
+     * the source. A gap means that events were dropped or coalesced by the overflow policy of an asynchronous
+     * dispatch queue. Changes a provider loses before dispatching them, e.g. when its own buffer overflows, leave
+     * no gap; providers report those separately.
+     *
+     * @return the sequence number, or {@link #NO_SEQUENCE} if the event was not dispatched yet
+     */
+    public long sequence() {
+        return this.sequence;
+    }
+
 
     /** {@inheritDoc} */
     @Override
@@ -0,0 +1,241 @@
+package com.pi4j.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  PulseTrain.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Future;
+
+/**
+ * Pulse Train.
+ * <p>
+ * A sequence of timed output states, built on a {@link DigitalOutput} and played as a whole. Each step drives the
+ * output to a state and holds it for a number of microseconds; the sequence may be repeated a number of times or
+ * looped until the playback is cancelled.
+ * <p>
+ * Providers able to generate hardware timed waveforms (e.g. the PiGpio provider via DMA) compile the train into a
+ * waveform, so it plays with microsecond accuracy and without any work of the JVM; other providers play the train
+ * from a Pi4J task thread, with the timing accuracy the JVM and operating system allow.
+ * <p>
+ * A train may be built once and played repeatedly. After the last step the output keeps the state of that step.
+ *
+ * <pre>
+ * {@code
+ *    // 38 kHz IR carrier burst of 560 us followed by 560 us space, repeated 8 times
+ *    Future<?> playback = output.pulseTrain()
+ *       .pulses(21, 13, 13)
+ *       .low(560)
+ *       .repeat(8)
+ *       .play();
+ * }
+ * </pre>
+ *
+ * @see DigitalOutput#pulseTrain()
+ */
+public class PulseTrain {
+
+    /**
+     * A single step of a pulse train.
+     */
+    public static final class Step {
+        private final DigitalState state;
+        private final long micros;
+
+        private Step(DigitalState state, long micros) {
+            this.state = state;
+            this.micros = micros;
+        }
+
+        /**
+         * @return the output state of this step
+         */
+        public DigitalState state() {
+            return state;
+        }
+
+        /**
+         * @return the number of microseconds the state is held
+         */
+        public long micros() {
+            return micros;
+        }
+    }
+
+    private final DigitalOutput output;
+    private final List<Step> steps = new ArrayList<>();
+    private int repeat = 1;
+    private boolean loop = false;
+
+    /**
+     * <p>Constructor for PulseTrain.</p>
+     *
+     * @param output the digital output owning this pulse train
+     */
+    public PulseTrain(DigitalOutput output) {
+        this.output = Objects.requireNonNull(output, "output");
+    }
+
+    /**
+     * Append a step driving the output to the given state for a number of microseconds.
+     *
+     * @param state  the output state, HIGH or LOW
+     * @param micros the number of microseconds to hold the state, at least 1
+     * @return this pulse train
+     */
+    public PulseTrain state(DigitalState state, long micros) {
+        if (state != DigitalState.HIGH && state != DigitalState.LOW)
+            throw new IllegalArgumentException("Pulse train steps must be HIGH or LOW: " + state);
+        if (micros <= 0)
+            throw new IllegalArgumentException("A pulse train step of zero or less microseconds is not supported.");
+        this.steps.add(new Step(state, micros));
+        return this;
+    }
+
+    /**
+     * Append a step driving the output HIGH for a number of microseconds.
+     *
+     * @param micros the number of microseconds to hold the state
+     * @return this pulse train
+     */
+    public PulseTrain high(long micros) {
+        return state(DigitalState.HIGH, micros);
+    }
+
+    /**
+     * Append a step driving the output LOW for a number of microseconds.
+     *
+     * @param micros the number of microseconds to hold the state
+     * @return this pulse train
+     */
+    public PulseTrain low(long micros) {
+        return state(DigitalState.LOW, micros);
+    }
+
+    /**
+     * Append a number of HIGH/LOW pulse pairs.
+     *
+     * @param count      the number of pulses
+     * @param highMicros the number of microseconds of each HIGH state
+     * @param lowMicros  the number of microseconds of each LOW state
+     * @return this pulse train
+     */
+    public PulseTrain pulses(int count, long highMicros, long lowMicros) {
+        for (int i = 0; i < count; i++) {
+            high(highMicros);
+            low(lowMicros);
+        }
+        return this;
+    }
+
+    /**
+     * Play the steps of this train a number of times in a row.
+     *
+     * @param count the number of times to play the steps, at least 1 (the default)
+     * @return this pulse train
+     */
+    public PulseTrain repeat(int count) {
+        if (count < 1)
+            throw new IllegalArgumentException("A pulse train must be played at least once: " + count);
+        this.repeat = count;
+        this.loop = false;
+        return this;
+    }
+
+    /**
+     * Play the steps of this train over and over until the playback is cancelled.
+     *
+     * @return this pulse train
+     */
+    public PulseTrain loop() {
+        this.loop = true;
+        return this;
+    }
+
+    /**
+     * @return the number of times the steps are played, ignored when looping
+     */
+    public int repeat() {
+        return this.repeat;
+    }
+
+    /**
+     * @return true if the steps are played until the playback is cancelled
+     */
+    public boolean isLoop() {
+        return this.loop;
+    }
+
+    /**
+     * @return the digital output owning this pulse train
+     */
+    public DigitalOutput output() {
+        return this.output;
+    }
+
+    /**
+     * @return an unmodifiable view of the steps of this train, in playback order
+     */
+    public List<Step> steps() {
+        return Collections.unmodifiableList(this.steps);
+    }
+
+    /**
+     * @return the number of steps of this train
+     */
+    public int size() {
+        return this.steps.size();
+    }
+
+    /**
+     * @param index the step index
+     * @return the step at the given index
+     */
+    public Step step(int index) {
+        return this.steps.get(index);
+    }
+
+    /**
+     * @return the duration in microseconds of a single pass over the steps
+     */
+    public long micros() {
+        long micros = 0;
+        for (Step step : this.steps)
+            micros += step.micros;
+        return micros;
+    }
+
+    /**
+     * Start playing this train on the owning output.
+     *
+     * @return a future completing when the train has been played; cancelling it stops the playback
+     * @throws IllegalArgumentException if the train has no steps
+     */
+    public Future<?> play() {
+        return this.output.play(this);
+    }
+}
@@ -0,0 +1,108 @@
+package com.pi4j.io.gpio.digital.impl;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  DefaultDigitalPort.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.Digital;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalPort;
+import com.pi4j.io.gpio.digital.DigitalState;
+
+import java.util.Objects;
+
+/**
+ * <p>DefaultDigitalPort class.</p>
+ * <p>
+ * {@link DigitalPort} for providers without multi-pin access, reading and writing the pins one after the other.
+ */
+public class DefaultDigitalPort implements DigitalPort {
+
+    private final Digital<?, ?, ?>[] pins;
+    private final boolean output;
+    private final boolean shutdownOnClose;
+
+    /**
+     * <p>Constructor for DefaultDigitalPort.</p>
+     *
+     * @param pins            the pins, in bit order; either all outputs or all inputs
+     * @param shutdownOnClose true to shut down the pins when closing this port
+     */
+    public DefaultDigitalPort(Digital<?, ?, ?>[] pins, boolean shutdownOnClose) {
+        Objects.requireNonNull(pins, "pins");
+        if (pins.length == 0 || pins.length > MAX_WIDTH)
+            throw new IllegalArgumentException("A digital port must have 1 to " + MAX_WIDTH + " pins, not " + pins.length);
+        this.pins = pins.clone();
+        this.output = this.pins[0] instanceof DigitalOutput;
+        for (Digital<?, ?, ?> pin : this.pins) {
+            if (Objects.requireNonNull(pin, "pin") instanceof DigitalOutput != this.output)
+                throw new IllegalArgumentException("A digital port can't mix inputs and outputs");
+        }
+        this.shutdownOnClose = shutdownOnClose;
+    }
+
+    @Override
+    public int width() {
+        return this.pins.length;
+    }
+
+    @Override
+    public int address(int bit) {
+        return this.pins[bit].address().intValue();
+    }
+
+    @Override
+    public boolean isOutput() {
+        return this.output;
+    }
+
+    @Override
+    public long read() {
+        long value = 0;
+        for (int bit = 0; bit < this.pins.length; bit++) {
+            if (this.pins[bit].state() == DigitalState.HIGH)
+                value |= 1L << bit;
+        }
+        return value;
+    }
+
+    @Override
+    public DigitalPort write(long value, long mask) {
+        if (!this.output)
+            throw new UnsupportedOperationException("Can't write a digital input port");
+        for (int bit = 0; bit < this.pins.length; bit++) {
+            if ((mask & (1L << bit)) != 0)
+                ((DigitalOutput) this.pins[bit]).state(DigitalState.getState((value & (1L << bit)) != 0));
+        }
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (!this.shutdownOnClose)
+            return;
+        for (Digital<?, ?, ?> pin : this.pins)
+            pin.provider().context().shutdown(pin.id());
+    }
+}
@@ -26,6 +26,9 @@ package com.pi4j.io.gpio.digital.impl;
  */
 
 import com.pi4j.context.Context;
+import com.pi4j.event.EventDispatchMode;
+import com.pi4j.event.EventOverflowPolicy;
+import com.pi4j.io.gpio.GpioConfig;
 import com.pi4j.io.gpio.digital.DigitalConfig;
 import com.pi4j.io.gpio.digital.DigitalConfigBuilder;
 import com.pi4j.io.gpio.digital.DigitalOutputConfigBuilder;
@@ -55,4 +58,25 @@ public abstract class DigitalConfigBuilderBase<BUILDER_TYPE extends DigitalConfi
         this.properties.put(DigitalConfig.ON_STATE_KEY, state.toString());
         return (BUILDER_TYPE)this;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public BUILDER_TYPE dispatch(EventDispatchMode mode) {
+        this.properties.put(GpioConfig.DISPATCH_KEY, mode.toString());
+        return (BUILDER_TYPE)this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BUILDER_TYPE dispatchQueue(int capacity) {
+        this.properties.put(GpioConfig.DISPATCH_QUEUE_KEY, Integer.toString(capacity));
+        return (BUILDER_TYPE)this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BUILDER_TYPE dispatchOverflow(EventOverflowPolicy policy) {
+        this.properties.put(GpioConfig.DISPATCH_OVERFLOW_KEY, policy.toString());
+        return (BUILDER_TYPE)this;
+    }
 }
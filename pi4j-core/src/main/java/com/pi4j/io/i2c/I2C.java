@@ -131,12 +131,54 @@ public interface I2C
      */
     default int writeRead(byte[] writeBuffer, int writeSize, int writeOffset, byte[] readBuffer, int readSize,
         int readOffset) {
+        return transaction()
+            .write(writeBuffer, writeOffset, writeSize)
+            .read(readBuffer, readOffset, readSize)
+            .execute();
+    }
+
+    /**
+     * Create a new transaction on this I2C device, chaining write and read segments which are executed as one
+     * combined transfer (repeated START between segments) where the provider supports it.
+     *
+     * @return a new, empty {@link com.pi4j.io.i2c.I2CTransaction} owned by this device
+     */
+    default I2CTransaction transaction() {
+        return new I2CTransaction(this);
+    }
+
+    /**
+     * Execute the given transaction on the I2C bus.
+     * <p>
+     * This default implementation executes the segments sequentially using {@link #write(byte[], int, int)} and
+     * {@link #read(byte[], int, int)} while holding the bus lock. Segment flags are ignored and segments addressing
+     * other devices are not supported. Providers able to submit combined transfers override this method.
+     *
+     * @param transaction the transaction to execute
+     * @return the total number of bytes read by all read segments; or a negative error code from a failed read
+     */
+    default int transfer(I2CTransaction transaction) {
         return execute(() -> {
-            int written = write(writeBuffer, writeOffset, writeSize);
-            if (written != writeOffset)
-                throw new IllegalStateException(
-                    "Expected to write " + writeOffset + " bytes but only wrote " + written + " bytes");
-            return read(readBuffer, readOffset, readSize);
+            int total = 0;
+            for (int i = 0; i < transaction.size(); i++) {
+                I2CTransaction.Segment segment = transaction.segment(i);
+                if (segment.address() != device())
+                    throw new UnsupportedOperationException("I2C provider " + provider().id()
+                        + " does not support transaction segments addressing other devices (0x"
+                        + Integer.toHexString(segment.address()) + ")");
+                if (segment.isRead()) {
+                    int read = read(segment.buffer(), segment.offset(), segment.length());
+                    if (read < 0)
+                        return read;
+                    total += read;
+                } else {
+                    int written = write(segment.buffer(), segment.offset(), segment.length());
+                    if (written != segment.length())
+                        throw new IllegalStateException(
+                            "Expected to write " + segment.length() + " bytes but only wrote " + written + " bytes");
+                }
+            }
+            return total;
         });
     }
 
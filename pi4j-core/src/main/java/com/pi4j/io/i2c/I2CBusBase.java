@@ -38,23 +38,38 @@ public abstract class I2CBusBase implements I2CBus {
             throw new NullPointerException("Parameter 'i2c' is mandatory!");
         if (action == null)
             throw new NullPointerException("Parameter 'action' is mandatory!");
+        acquireLock();
         try {
-            if (this.lock.tryLock() || this.lock.tryLock(this.lockAquireTimeout, this.lockAquireTimeoutUnit)) {
-                try {
-                    return action.call();
-                } finally {
-                    this.lock.unlock();
-                }
-            } else {
-                throw new Pi4JException(
-                    format("Failed to get I2C lock on bus {0} after {1} {2}", this.bus, this.lockAquireTimeout,
-                        this.lockAquireTimeoutUnit));
-            }
+            return action.call();
+        } catch (Exception e) {
+            throw new Pi4JException("Failed to execute action for device " + i2c.device() + " on bus " + this.bus, e);
+        } finally {
+            releaseLock();
+        }
+    }
+
+    /**
+     * Acquires the exclusive bus lock, waiting at most the configured lock acquire timeout. Every successful call
+     * must be paired with {@link #releaseLock()} in a finally block. This allows implementations to run hot paths
+     * under the bus lock without allocating a {@link Callable} per operation.
+     */
+    protected void acquireLock() {
+        try {
+            if (this.lock.tryLock() || this.lock.tryLock(this.lockAquireTimeout, this.lockAquireTimeoutUnit))
+                return;
         } catch (InterruptedException e) {
             logger.error("Failed locking {}-{}", getClass().getSimpleName(), this.bus, e);
             throw new RuntimeException("Could not obtain an access-lock!", e);
-        } catch (Exception e) {
-            throw new Pi4JException("Failed to execute action for device " + i2c.device() + " on bus " + this.bus, e);
         }
+        throw new Pi4JException(
+            format("Failed to get I2C lock on bus {0} after {1} {2}", this.bus, this.lockAquireTimeout,
+                this.lockAquireTimeoutUnit));
+    }
+
+    /**
+     * Releases the bus lock acquired by {@link #acquireLock()}.
+     */
+    protected void releaseLock() {
+        this.lock.unlock();
     }
 }
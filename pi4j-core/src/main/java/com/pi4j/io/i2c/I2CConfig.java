@@ -40,6 +40,8 @@ public interface I2CConfig extends IOConfig<I2CConfig> {
     String BUS_KEY = "bus";
     /** Constant <code>DEVICE_KEY="device"</code> */
     String DEVICE_KEY = "device";
+    /** Constant <code>PER_DEVICE_FILE_KEY="perDeviceFile"</code> */
+    String PER_DEVICE_FILE_KEY = "perDeviceFile";
 
     /**
      * <p>bus.</p>
@@ -71,6 +73,25 @@ public interface I2CConfig extends IOConfig<I2CConfig> {
         return device();
     }
 
+    /**
+     * <p>perDeviceFile.</p>
+     *
+     * If enabled, providers supporting it open a dedicated file (descriptor) for this device with the device address
+     * bound once, instead of sharing one file per bus and re-selecting the device address whenever another device
+     * was accessed in between. Defaults to false.
+     *
+     * @return a {@link java.lang.Boolean} object.
+     */
+    Boolean perDeviceFile();
+    /**
+     * <p>getPerDeviceFile.</p>
+     *
+     * @return a {@link java.lang.Boolean} object.
+     */
+    default Boolean getPerDeviceFile() {
+        return perDeviceFile();
+    }
+
     /**
      * <p>newBuilder.</p>
      *
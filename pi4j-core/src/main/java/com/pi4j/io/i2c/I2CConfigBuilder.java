@@ -63,4 +63,11 @@ public interface I2CConfigBuilder extends
      * @return a {@link com.pi4j.io.i2c.I2CConfigBuilder} object.
      */
     I2CConfigBuilder device(Integer device);
+    /**
+     * <p>perDeviceFile.</p>
+     *
+     * @param perDeviceFile true to use a dedicated file (descriptor) for this device, see {@link I2CConfig#perDeviceFile()}
+     * @return a {@link com.pi4j.io.i2c.I2CConfigBuilder} object.
+     */
+    I2CConfigBuilder perDeviceFile(Boolean perDeviceFile);
 }
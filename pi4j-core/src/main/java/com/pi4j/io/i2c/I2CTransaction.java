@@ -0,0 +1,281 @@
+package com.pi4j.io.i2c;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: LIBRARY  :: Java Library (CORE)
+ * FILENAME      :  I2CTransaction.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * I2C Transaction.
+ * <p>
+ * A chain of write and read segments executed as one combined transfer on the I2C bus: segments are separated by a
+ * repeated START instead of a STOP, and only the last segment is followed by a STOP. Segments default to the address
+ * of the owning {@link I2C} device, but may address other devices on the same bus.
+ * <p>
+ * Providers that support combined transfers (e.g. the LinuxFS provider via a single I2C_RDWR ioctl) submit the whole
+ * transaction at once; other providers execute the segments sequentially while holding the bus lock, in which case
+ * segment flags are ignored and only segments addressing the owning device are supported.
+ * <p>
+ * A transaction only references the given buffers, so it may be built once and executed repeatedly.
+ *
+ * <pre>
+ * {@code
+ *    byte[] data = new byte[14];
+ *    i2c.transaction()
+ *       .write((byte) 0x3B)
+ *       .read(data)
+ *       .execute();
+ * }
+ * </pre>
+ *
+ * @see I2C#transaction()
+ */
+public class I2CTransaction {
+
+    /**
+     * Optional per segment flags, only honored by providers supporting combined transfers.
+     */
+    public enum Flag {
+        /**
+         * Do not issue a (repeated) START and address before this segment; the data continues the previous segment
+         */
+        NO_START,
+        /**
+         * Treat a NAK from the device as an ACK for this segment
+         */
+        IGNORE_NAK
+    }
+
+    /**
+     * A single write or read segment of a transaction.
+     */
+    public static final class Segment {
+        private final int address;
+        private final boolean read;
+        private final byte[] buffer;
+        private final int offset;
+        private final int length;
+        private final boolean noStart;
+        private final boolean ignoreNak;
+
+        private Segment(int address, boolean read, byte[] buffer, int offset, int length, Flag... flags) {
+            Objects.requireNonNull(buffer, "buffer");
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            boolean noStart = false;
+            boolean ignoreNak = false;
+            for (Flag flag : flags) {
+                if (flag == Flag.NO_START)
+                    noStart = true;
+                else if (flag == Flag.IGNORE_NAK)
+                    ignoreNak = true;
+            }
+            this.address = address;
+            this.read = read;
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+            this.noStart = noStart;
+            this.ignoreNak = ignoreNak;
+        }
+
+        /**
+         * @return the I2C device address of this segment
+         */
+        public int address() {
+            return address;
+        }
+
+        /**
+         * @return true if this segment reads from the device, false if it writes
+         */
+        public boolean isRead() {
+            return read;
+        }
+
+        /**
+         * @return the buffer to write from or read into
+         */
+        public byte[] buffer() {
+            return buffer;
+        }
+
+        /**
+         * @return the offset in the buffer
+         */
+        public int offset() {
+            return offset;
+        }
+
+        /**
+         * @return the number of bytes to transfer
+         */
+        public int length() {
+            return length;
+        }
+
+        /**
+         * @return true if no (repeated) START should be issued before this segment
+         */
+        public boolean isNoStart() {
+            return noStart;
+        }
+
+        /**
+         * @return true if a NAK from the device should be ignored for this segment
+         */
+        public boolean isIgnoreNak() {
+            return ignoreNak;
+        }
+    }
+
+    private final I2C i2c;
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * <p>Constructor for I2CTransaction.</p>
+     *
+     * @param i2c the I2C device owning this transaction
+     */
+    public I2CTransaction(I2C i2c) {
+        this.i2c = Objects.requireNonNull(i2c, "i2c");
+    }
+
+    /**
+     * Append a segment writing the given bytes to the owning device.
+     *
+     * @param data the bytes to write
+     * @return this transaction
+     */
+    public I2CTransaction write(byte... data) {
+        return write(data, 0, data.length);
+    }
+
+    /**
+     * Append a segment writing bytes to the owning device.
+     *
+     * @param data   the buffer to write from
+     * @param offset the offset in the buffer
+     * @param length the number of bytes to write
+     * @param flags  optional segment flags
+     * @return this transaction
+     */
+    public I2CTransaction write(byte[] data, int offset, int length, Flag... flags) {
+        return write(this.i2c.device(), data, offset, length, flags);
+    }
+
+    /**
+     * Append a segment writing bytes to the given device address on the same bus.
+     *
+     * @param address the I2C device address
+     * @param data    the buffer to write from
+     * @param offset  the offset in the buffer
+     * @param length  the number of bytes to write
+     * @param flags   optional segment flags
+     * @return this transaction
+     */
+    public I2CTransaction write(int address, byte[] data, int offset, int length, Flag... flags) {
+        this.segments.add(new Segment(address, false, data, offset, length, flags));
+        return this;
+    }
+
+    /**
+     * Append a segment reading from the owning device to fill the given buffer.
+     *
+     * @param buffer the buffer to read into
+     * @return this transaction
+     */
+    public I2CTransaction read(byte[] buffer) {
+        return read(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Append a segment reading bytes from the owning device.
+     *
+     * @param buffer the buffer to read into
+     * @param offset the offset in the buffer
+     * @param length the number of bytes to read
+     * @param flags  optional segment flags
+     * @return this transaction
+     */
+    public I2CTransaction read(byte[] buffer, int offset, int length, Flag... flags) {
+        return read(this.i2c.device(), buffer, offset, length, flags);
+    }
+
+    /**
+     * Append a segment reading bytes from the given device address on the same bus.
+     *
+     * @param address the I2C device address
+     * @param buffer  the buffer to read into
+     * @param offset  the offset in the buffer
+     * @param length  the number of bytes to read
+     * @param flags   optional segment flags
+     * @return this transaction
+     */
+    public I2CTransaction read(int address, byte[] buffer, int offset, int length, Flag... flags) {
+        this.segments.add(new Segment(address, true, buffer, offset, length, flags));
+        return this;
+    }
+
+    /**
+     * @return the I2C device owning this transaction
+     */
+    public I2C i2c() {
+        return this.i2c;
+    }
+
+    /**
+     * @return an unmodifiable view of the segments of this transaction, in execution order
+     */
+    public List<Segment> segments() {
+        return Collections.unmodifiableList(this.segments);
+    }
+
+    /**
+     * @return the number of segments in this transaction
+     */
+    public int size() {
+        return this.segments.size();
+    }
+
+    /**
+     * @param index the segment index
+     * @return the segment at the given index
+     */
+    public Segment segment(int index) {
+        return this.segments.get(index);
+    }
+
+    /**
+     * Execute this transaction on the owning I2C device.
+     *
+     * @return the total number of bytes read by all read segments
+     */
+    public int execute() {
+        return this.i2c.transfer(this);
+    }
+}
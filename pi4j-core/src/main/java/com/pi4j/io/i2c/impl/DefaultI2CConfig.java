@@ -46,6 +46,7 @@ public class DefaultI2CConfig
     // private configuration properties
     protected Integer bus = null;
     protected Integer device = null;
+    protected Boolean perDeviceFile = false;
 
     /**
      * PRIVATE CONSTRUCTOR
@@ -79,6 +80,11 @@ public class DefaultI2CConfig
             throw new ConfigMissingRequiredKeyException(DEVICE_KEY);
         }
 
+        // load optional PER-DEVICE-FILE property
+        if(properties.containsKey(PER_DEVICE_FILE_KEY)){
+            this.perDeviceFile = Boolean.parseBoolean(properties.get(PER_DEVICE_FILE_KEY));
+        }
+
         // define default property values if any are missing (based on the required address value)
         this.id = StringUtil.setIfNullOrEmpty(this.id, "I2C-" + this.bus() + "." + this.device(), true);
         this.name = StringUtil.setIfNullOrEmpty(this.name, "I2C-" + this.bus() + "." + this.device(), true);
@@ -96,4 +102,10 @@ public class DefaultI2CConfig
     public Integer device() {
         return this.device;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public Boolean perDeviceFile() {
+        return this.perDeviceFile;
+    }
 }
@@ -76,4 +76,11 @@ public class DefaultI2CConfigBuilder
         this.properties.put(I2CConfig.DEVICE_KEY, device.toString());
         return this;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public I2CConfigBuilder perDeviceFile(Boolean perDeviceFile){
+        this.properties.put(I2CConfig.PER_DEVICE_FILE_KEY, perDeviceFile.toString());
+        return this;
+    }
 }
@@ -35,6 +35,7 @@ import com.pi4j.provider.impl.RuntimeProviders;
 import com.pi4j.registry.impl.RuntimeRegistry;
 
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>Runtime interface.</p>
@@ -80,6 +81,20 @@ public interface Runtime extends InitializedEventProducer<Runtime>, ShutdownEven
 
     Future<?> submitTask(Runnable task);
 
+    /**
+     * Schedules the given task for async execution after the given delay
+     *
+     * @param task the task to execute asynchronously
+     * @param delay the time to wait before the task executes
+     * @param unit the unit of the delay
+     *
+     * @return the task to cancel later
+     * @throws UnsupportedOperationException if this runtime cannot schedule tasks
+     */
+    default Future<?> scheduleTask(Runnable task, long delay, TimeUnit unit) {
+        throw new UnsupportedOperationException("Scheduling tasks is not supported by " + getClass().getName());
+    }
+
     /**
      * <p>shutdown.</p>
      *
@@ -53,6 +53,8 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>DefaultRuntime class.</p>
@@ -74,6 +76,7 @@ public class DefaultRuntime implements Runtime {
     private final EventManager<Runtime, InitializedListener, InitializedEvent> initializedEventManager;
     private final ExecutorPool executorPool;
     private final ExecutorService runtimeExecutor;
+    private final ScheduledExecutorService runtimeScheduler;
 
     /**
      * <p>newInstance.</p>
@@ -105,6 +108,7 @@ public class DefaultRuntime implements Runtime {
         // initialize executor pool and runtime executor
         this.executorPool = new ExecutorPool();
         this.runtimeExecutor = this.executorPool.getExecutor("Pi4J.RUNTIME");
+        this.runtimeScheduler = this.executorPool.getScheduledExecutor("Pi4J.SCHEDULER");
 
         logger.debug("Pi4J runtime context successfully created & initialized.'");
 
@@ -168,6 +172,14 @@ public class DefaultRuntime implements Runtime {
         return this.runtimeExecutor.submit(task);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<?> scheduleTask(Runnable task, long delay, TimeUnit unit) {
+        return this.runtimeScheduler.schedule(task, delay, unit);
+    }
+
     /**
      * {@inheritDoc}
      */
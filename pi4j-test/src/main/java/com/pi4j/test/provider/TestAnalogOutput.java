@@ -27,6 +27,7 @@ package com.pi4j.test.provider;
 
 import com.pi4j.common.Metadata;
 import com.pi4j.context.Context;
+import com.pi4j.event.EventBatchListener;
 import com.pi4j.exception.InitializeException;
 import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.binding.AnalogBinding;
@@ -35,8 +36,11 @@ import com.pi4j.io.exception.IOIllegalValueException;
 import com.pi4j.io.gpio.analog.AnalogOutput;
 import com.pi4j.io.gpio.analog.AnalogOutputConfig;
 import com.pi4j.io.gpio.analog.AnalogOutputProvider;
+import com.pi4j.io.gpio.analog.AnalogValueChangeEvent;
 import com.pi4j.io.gpio.analog.AnalogValueChangeListener;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * <p>TestAnalogOutput class.</p>
  *
@@ -87,6 +91,24 @@ public class TestAnalogOutput implements AnalogOutput {
         return null;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public AnalogOutput addListener(AnalogValueChangeListener listener, double maxRate) {
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AnalogOutput addBatchListener(EventBatchListener<AnalogValueChangeEvent> listener, long period, TimeUnit unit) {
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AnalogOutput removeBatchListener(EventBatchListener<AnalogValueChangeEvent>... listener) {
+        return null;
+    }
+
     /** {@inheritDoc} */
     @Override
     public AnalogOutput bind(AnalogBinding... binding) {
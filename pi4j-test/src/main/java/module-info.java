@@ -47,6 +47,12 @@ module com.pi4j.test {
     uses com.pi4j.plugin.linuxfs.LinuxFsPlugin;
     uses com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutput;
     uses com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutputProvider;
+
+    requires com.pi4j.plugin.pigpio;
+    requires com.pi4j.library.pigpio;
+    uses com.pi4j.plugin.pigpio.PiGpioPlugin;
+    uses com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalInputProvider;
+    uses com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalOutputProvider;
     // TEST END
 
     uses com.pi4j.plugin.mock.platform.MockPlatform;
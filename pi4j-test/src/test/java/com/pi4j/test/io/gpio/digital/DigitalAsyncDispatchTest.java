@@ -0,0 +1,260 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalAsyncDispatchTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.event.EventDispatchMode;
+import com.pi4j.event.EventOverflowPolicy;
+import com.pi4j.event.EventQueue;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalAsyncDispatchTest extends MockDigitalTestBase {
+
+    private MockDigitalInput createInput(String id, EventDispatchMode mode, int capacity, EventOverflowPolicy policy) {
+        var config = DigitalInput.newConfigBuilder(pi4j).id(id).address(1)
+            .dispatch(mode).dispatchQueue(capacity).dispatchOverflow(policy).build();
+        return (MockDigitalInput) pi4j.din().create(config);
+    }
+
+    private static void await(CountDownLatch latch) throws InterruptedException {
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "timed out waiting for the dispatcher");
+    }
+
+    @Test
+    public void testSynchronousByDefault() {
+        var input = createInput("sync-input");
+        assertNull(input.eventQueue());
+        assertNull(input.config().dispatch());
+    }
+
+    @Test
+    public void testSlowListenerDoesNotBlockCaller() throws Exception {
+        var input = createInput("async-input", EventDispatchMode.ASYNCHRONOUS, 16, EventOverflowPolicy.BLOCK);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        input.addListener(event -> {
+            threads.add(Thread.currentThread());
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.countDown();
+        });
+
+        // returns although the listener waits
+        input.mockState(DigitalState.HIGH);
+        assertEquals(1, delivered.getCount());
+
+        release.countDown();
+        await(delivered);
+        assertNotEquals(Thread.currentThread(), threads.get(0));
+        assertEquals(1, input.eventQueue().maxDepth());
+        assertEquals(0, input.eventQueue().dropped());
+    }
+
+    @Test
+    public void testPerSourceOrder() throws Exception {
+        var input = createInput("ordered-input", EventDispatchMode.ASYNCHRONOUS, 1024, EventOverflowPolicy.BLOCK);
+        int count = 500;
+        CountDownLatch delivered = new CountDownLatch(count);
+        List<Long> sequences = new CopyOnWriteArrayList<>();
+        input.addListener(event -> {
+            sequences.add(event.sequence());
+            delivered.countDown();
+        });
+
+        toggle(input, count);
+        await(delivered);
+
+        assertEquals(count, sequences.size());
+        for (int i = 0; i < count; i++)
+            assertEquals(i, sequences.get(i));
+        assertEquals(0, input.eventQueue().dropped());
+    }
+
+    @Test
+    public void testContextProperties() {
+        pi4j.shutdown();
+        pi4j = Pi4J.newContextBuilder()
+            .add(MockDigitalInputProvider.newInstance())
+            .property("gpio.dispatch", "async")
+            .property("gpio.dispatch.queue", "8")
+            .property("gpio.dispatch.overflow", "coalesce")
+            .build();
+
+        var input = createInput("context-input");
+        EventQueue<?> queue = input.eventQueue();
+        assertNotNull(queue);
+        assertEquals(8, queue.capacity());
+        assertEquals(EventOverflowPolicy.COALESCE, queue.policy());
+
+        // the configuration of the instance takes precedence
+        var sync = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j).id("config-input").address(2)
+            .dispatch(EventDispatchMode.SYNCHRONOUS).build());
+        assertNull(sync.eventQueue());
+    }
+
+    @Test
+    public void testDropOldest() throws Exception {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        EventQueue<Integer> queue = pausedQueue(EventOverflowPolicy.DROP_OLDEST, handled);
+        try {
+            for (int i = 1; i <= 10; i++)
+                queue.offer(i);
+            assertEquals(4, queue.depth());
+            assertEquals(4, queue.maxDepth());
+            resume(queue, 5);
+
+            // the first event went to the dispatcher before the queue filled up
+            assertEquals(List.of(0, 7, 8, 9, 10), handled.subList(0, 5));
+            assertEquals(6, queue.dropped());
+            assertEquals(0, queue.coalesced());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCoalesce() throws Exception {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        EventQueue<Integer> queue = pausedQueue(EventOverflowPolicy.COALESCE, handled);
+        try {
+            for (int i = 1; i <= 10; i++)
+                queue.offer(i);
+            assertEquals(4, queue.depth());
+            resume(queue, 5);
+
+            // the newest queued event is replaced, so the last event delivered is the last event offered
+            assertEquals(List.of(0, 1, 2, 3, 10), handled.subList(0, 5));
+            assertEquals(6, queue.coalesced());
+            assertEquals(0, queue.dropped());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBlock() throws Exception {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        EventQueue<Integer> queue = pausedQueue(EventOverflowPolicy.BLOCK, handled);
+        try {
+            for (int i = 1; i <= 4; i++)
+                queue.offer(i);
+
+            // the producer waits for room in the queue
+            CountDownLatch offered = new CountDownLatch(1);
+            Thread producer = new Thread(() -> {
+                queue.offer(5);
+                offered.countDown();
+            });
+            producer.start();
+            assertFalse(offered.await(100, TimeUnit.MILLISECONDS));
+
+            resume(queue, 6);
+            await(offered);
+            producer.join();
+            assertEquals(List.of(0, 1, 2, 3, 4, 5), handled);
+            assertEquals(0, queue.dropped());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        EventQueue<Integer> queue = pausedQueue(EventOverflowPolicy.BLOCK, handled);
+        try {
+            for (int i = 1; i <= 3; i++)
+                queue.offer(i);
+            queue.close();
+            assertFalse(queue.offer(4));
+            assertEquals(0, queue.depth());
+            assertEquals(3, queue.dropped());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    // a queue of 4 events whose dispatcher waits in the handler of the first event until released
+    private ExecutorService executor;
+    private CountDownLatch release;
+
+    private EventQueue<Integer> pausedQueue(EventOverflowPolicy policy, List<Integer> handled) throws InterruptedException {
+        executor = Executors.newSingleThreadExecutor();
+        release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        EventQueue<Integer> queue = new EventQueue<>("test", 4, policy, executor, event -> {
+            handled.add(event);
+            if (event == 0) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (this) {
+                notifyAll();
+            }
+        });
+        queue.offer(0);
+        await(started);
+        return queue;
+    }
+
+    private void resume(EventQueue<Integer> queue, long dispatched) throws InterruptedException {
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        synchronized (this) {
+            while (queue.dispatched() < dispatched && System.nanoTime() < deadline)
+                wait(10);
+        }
+        assertEquals(dispatched, queue.dispatched());
+    }
+}
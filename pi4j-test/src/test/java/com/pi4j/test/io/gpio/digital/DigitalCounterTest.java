@@ -0,0 +1,169 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalCounterTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.event.EventDispatchMode;
+import com.pi4j.event.EventOverflowPolicy;
+import com.pi4j.io.gpio.digital.DigitalCounter;
+import com.pi4j.io.gpio.digital.DigitalCounterBase;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalCounterTest extends MockDigitalTestBase {
+
+    @Test
+    public void testCountEdges() {
+        var input = createInput("counter-input");
+        DigitalCounter rising = input.counter();
+        DigitalCounter falling = input.counter(DigitalCounter.Edge.FALLING, 1, TimeUnit.SECONDS);
+        DigitalCounter both = input.counter(DigitalCounter.Edge.BOTH, 1, TimeUnit.SECONDS);
+
+        // LOW -> HIGH -> LOW -> ... ; 5 rising and 4 falling edges
+        toggle(input, 9);
+        assertEquals(5, rising.count());
+        assertEquals(4, falling.count());
+        assertEquals(9, both.count());
+        assertSame(input, rising.source());
+        assertEquals(DigitalCounter.Edge.RISING, rising.edge());
+
+        assertEquals(5, rising.reset());
+        assertEquals(0, rising.count());
+        assertEquals(-1, rising.periodMin());
+        assertTrue(Double.isNaN(rising.periodAverage()));
+    }
+
+    @Test
+    public void testPeriods() {
+        var input = createInput("counter-input");
+        DigitalCounterBase counter = (DigitalCounterBase) input.counter(DigitalCounter.Edge.RISING, 1, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+        counter.edge(true, start);
+        counter.edge(false, start + 500);
+        counter.edge(true, start + 1_000);
+        counter.edge(true, start + 4_000);
+        counter.edge(true, start + 6_000);
+
+        assertEquals(4, counter.count());
+        assertEquals(1_000, counter.periodMin());
+        assertEquals(3_000, counter.periodMax());
+        assertEquals(2_000.0, counter.periodAverage(), 0.001);
+    }
+
+    @Test
+    public void testFrequency() throws Exception {
+        var input = createInput("counter-input");
+        DigitalCounterBase counter = (DigitalCounterBase) input.counter(DigitalCounter.Edge.RISING, 100, TimeUnit.MILLISECONDS);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), counter.window());
+
+        // 100 edges spread over the first 90% of the window, then the window completes
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++)
+            counter.edge(true, start + i * 900_000L);
+        long end = start + TimeUnit.MILLISECONDS.toNanos(100);
+        long remaining = end - System.nanoTime();
+        if (remaining > 0)
+            TimeUnit.NANOSECONDS.sleep(remaining);
+
+        double frequency = counter.frequency();
+        assertTrue(frequency > 100 && frequency <= 1000, frequency + " Hz");
+        assertEquals(900_000, counter.periodAverage(), 1);
+
+        // no edges during the next window
+        Thread.sleep(110);
+        assertEquals(0, counter.frequency());
+    }
+
+    @Test
+    public void testClose() {
+        var input = createInput("counter-input");
+        DigitalCounter counter = input.counter(DigitalCounter.Edge.BOTH, 1, TimeUnit.SECONDS);
+        toggle(input, 2);
+        counter.close();
+        toggle(input, 2);
+        assertEquals(2, counter.count());
+
+        DigitalCounter other = input.counter();
+        input.shutdown(pi4j);
+        toggle(input, 2);
+        assertEquals(0, other.count());
+    }
+
+    @Test
+    public void testCountsWithoutListeners() {
+        var input = createInput("counter-input");
+        DigitalCounter counter = input.counter();
+        toggle(input, 20_000);
+        assertEquals(10_000, counter.count());
+        assertTrue(counter.periodMin() >= 0);
+        assertTrue(counter.periodMax() >= counter.periodMin());
+    }
+
+    @Test
+    public void testUnknownStateIsNoEdge() {
+        var input = createInput("counter-input");
+        DigitalCounter both = input.counter(DigitalCounter.Edge.BOTH, 1, TimeUnit.SECONDS);
+        DigitalCounter falling = input.counter(DigitalCounter.Edge.FALLING, 1, TimeUnit.SECONDS);
+
+        input.mockState(DigitalState.HIGH);
+        input.mockState(DigitalState.UNKNOWN);
+        input.mockState(DigitalState.HIGH);
+        assertEquals(2, both.count());
+        assertEquals(0, falling.count());
+    }
+
+    @Test
+    public void testCountsEdgesDroppedByAsyncQueue() throws Exception {
+        var config = DigitalInput.newConfigBuilder(pi4j).id("async-counter-input").address(1)
+            .dispatch(EventDispatchMode.ASYNCHRONOUS).dispatchQueue(1).dispatchOverflow(EventOverflowPolicy.DROP_OLDEST)
+            .build();
+        var input = (MockDigitalInput) pi4j.din().create(config);
+        DigitalCounter counter = input.counter(DigitalCounter.Edge.BOTH, 1, TimeUnit.SECONDS);
+        CountDownLatch release = new CountDownLatch(1);
+        input.addListener(event -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // the listener holds the dispatcher, so the queue drops most events; the counter sees them all
+        toggle(input, 100);
+        assertEquals(100, counter.count());
+        assertTrue(input.eventQueue().dropped() > 0);
+        release.countDown();
+    }
+}
@@ -0,0 +1,173 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalEdgeListenerTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.Digital;
+import com.pi4j.io.gpio.digital.DigitalEdgeListener;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProvider;
+import com.pi4j.provider.Provider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalEdgeListenerTest extends MockDigitalTestBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(DigitalEdgeListenerTest.class);
+
+    private static final int EDGES = 100_000;
+
+    // edge counters updated by the allocation-free listener
+    private long highs;
+    private long lows;
+
+    @Override
+    protected Provider[] providers() {
+        return new Provider[] { MockDigitalInputProvider.newInstance(), MockDigitalOutputProvider.newInstance() };
+    }
+
+    @BeforeEach
+    public void resetCounters() {
+        highs = 0;
+        lows = 0;
+    }
+
+    @Test
+    public void testEdgeListener() {
+        var input = createInput("edge-input");
+        List<String> edges = new ArrayList<>();
+        DigitalEdgeListener listener = (source, high, timestamp) -> edges.add(source.id() + "=" + high);
+        input.addEdgeListener(listener);
+
+        input.mockState(DigitalState.HIGH);
+        input.mockState(DigitalState.LOW);
+        assertEquals(List.of("edge-input=true", "edge-input=false"), edges);
+
+        input.removeEdgeListener(listener);
+        input.mockState(DigitalState.HIGH);
+        assertEquals(2, edges.size());
+    }
+
+    @Test
+    public void testUnknownStateIsNoEdge() {
+        var input = createInput("edge-input");
+        List<Boolean> edges = new ArrayList<>();
+        input.addEdgeListener((source, high, timestamp) -> edges.add(high));
+
+        // e.g. a watchdog timeout reported by the provider; with and without event listeners registered
+        input.mockState(DigitalState.HIGH);
+        input.mockState(DigitalState.UNKNOWN);
+        input.addListener(event -> { });
+        input.mockState(DigitalState.UNKNOWN);
+        input.mockState(DigitalState.LOW);
+        assertEquals(List.of(true, false), edges);
+    }
+
+    @Test
+    public void testEdgeAndEventListeners() {
+        var input = createInput("edge-input");
+        List<Long> edgeTimestamps = new ArrayList<>();
+        List<DigitalStateChangeEvent> events = new ArrayList<>();
+        input.addEdgeListener((source, high, timestamp) -> edgeTimestamps.add(timestamp));
+
+        // the sequence keeps counting while no event objects are created
+        input.mockState(DigitalState.HIGH);
+        input.addListener(events::add);
+        input.mockState(DigitalState.LOW);
+
+        assertEquals(2, edgeTimestamps.size());
+        assertEquals(1, events.size());
+        assertEquals(1, events.get(0).sequence());
+        assertEquals(edgeTimestamps.get(1), events.get(0).timestamp());
+    }
+
+    @Test
+    public void testOutputEdges() throws Exception {
+        var output = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j).id("edge-output").address(2).build());
+        List<Digital<?, ?, ?>> sources = new ArrayList<>();
+        output.addEdgeListener((source, high, timestamp) -> sources.add(source));
+        output.high();
+        output.low();
+        assertEquals(2, sources.size());
+        assertSame(output, sources.get(0));
+    }
+
+    @Test
+    public void testNoAllocationPerEdge() throws Exception {
+        Method allocatedBytes = allocatedBytesMethod();
+        assumeTrue(allocatedBytes != null, "thread allocation counter not available");
+
+        var input = createInput("edge-input");
+        input.addEdgeListener((source, high, timestamp) -> {
+            if (high) highs++;
+            else lows++;
+        });
+
+        // warm up so the measured loop runs compiled code
+        toggle(input, EDGES);
+
+        long threadId = Thread.currentThread().getId();
+        Object bean = managementBean();
+        long begin = (long) allocatedBytes.invoke(bean, threadId);
+        toggle(input, EDGES);
+        long allocated = (long) allocatedBytes.invoke(bean, threadId) - begin;
+
+        logger.info("Allocated {} bytes for {} edges without event listeners", allocated, EDGES);
+        assertEquals(2L * EDGES, highs + lows);
+
+        // a DigitalStateChangeEvent per edge would take several megabytes; allow for the measurement itself
+        assertTrue(allocated < EDGES, "allocated " + allocated + " bytes for " + EDGES + " edges");
+    }
+
+    // the allocation counter lives in the jdk.management module, which this test module does not read
+    private static Method allocatedBytesMethod() {
+        try {
+            Method method = Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", long.class);
+            Object bean = managementBean();
+            return Class.forName("com.sun.management.ThreadMXBean").isInstance(bean) ? method : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object managementBean() throws ReflectiveOperationException {
+        return Class.forName("java.lang.management.ManagementFactory").getMethod("getThreadMXBean").invoke(null);
+    }
+}
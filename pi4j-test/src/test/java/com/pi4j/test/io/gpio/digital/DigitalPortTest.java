@@ -0,0 +1,136 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalPortTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import com.pi4j.io.gpio.digital.DigitalPort;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalPortTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        pi4j = Pi4J.newContextBuilder()
+            .add(MockDigitalOutputProvider.newInstance(), MockDigitalInputProvider.newInstance())
+            .build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private DigitalOutputConfig outputConfig(int address, DigitalState initial) {
+        return DigitalOutput.newConfigBuilder(pi4j).id("port-out-" + address).address(address).initial(initial).build();
+    }
+
+    private DigitalInputConfig inputConfig(int address) {
+        return DigitalInput.newConfigBuilder(pi4j).id("port-in-" + address).address(address).build();
+    }
+
+    @Test
+    public void testOutputPortFallback() {
+        DigitalPort port = pi4j.dout().createPort(
+            outputConfig(4, DigitalState.HIGH), outputConfig(5, DigitalState.LOW), outputConfig(6, DigitalState.LOW));
+
+        assertTrue(port.isOutput());
+        assertEquals(3, port.width());
+        assertEquals(5, port.address(1));
+        assertEquals(0b001, port.read());
+
+        port.write(0b110);
+        assertEquals(0b110, port.read());
+        assertEquals(DigitalState.LOW, pi4j.<DigitalOutput>io("port-out-4").state());
+        assertEquals(DigitalState.HIGH, pi4j.<DigitalOutput>io("port-out-6").state());
+
+        // only the masked pins change
+        port.write(0b001, 0b011);
+        assertEquals(0b101, port.read());
+
+        // toggling inverts the masked pins only
+        port.toggle(0b110);
+        assertEquals(0b011, port.read());
+
+        // closing a created port shuts down its pins
+        port.close();
+        assertFalse(pi4j.registry().exists("port-out-4"));
+    }
+
+    @Test
+    public void testInputPortFallback() {
+        DigitalPort port = pi4j.din().createPort(inputConfig(20), inputConfig(21));
+        assertFalse(port.isOutput());
+        assertEquals(0b00, port.read());
+
+        pi4j.<MockDigitalInput>io("port-in-21").mockState(DigitalState.HIGH);
+        assertEquals(0b10, port.read());
+        assertThrows(UnsupportedOperationException.class, () -> port.write(0b01));
+        port.close();
+    }
+
+    @Test
+    public void testPortOfExistingOutputs() {
+        DigitalOutput a = pi4j.dout().create(outputConfig(1, DigitalState.LOW));
+        DigitalOutput b = pi4j.dout().create(outputConfig(2, DigitalState.LOW));
+
+        DigitalPort port = DigitalPort.of(a, b);
+        port.write(0b10);
+        assertEquals(DigitalState.LOW, a.state());
+        assertEquals(DigitalState.HIGH, b.state());
+
+        // closing does not shut down outputs the port did not create
+        port.close();
+        assertTrue(pi4j.registry().exists("port-out-1"));
+    }
+
+    @Test
+    public void testInvalidWidth() {
+        assertThrows(IllegalArgumentException.class, () -> DigitalPort.of(new DigitalOutput[0]));
+    }
+}
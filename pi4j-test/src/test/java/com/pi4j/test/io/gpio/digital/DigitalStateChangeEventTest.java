@@ -0,0 +1,70 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  DigitalStateChangeEventTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class DigitalStateChangeEventTest extends MockDigitalTestBase {
+
+    @Test
+    public void testTimestampAndSequence() {
+        MockDigitalInput input = createInput("test-input");
+        List<DigitalStateChangeEvent> events = new ArrayList<>();
+        input.addListener(events::add);
+
+        long begin = System.nanoTime();
+        toggle(input, 3);
+        long end = System.nanoTime();
+
+        assertEquals(3, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            DigitalStateChangeEvent event = events.get(i);
+            assertEquals(i, event.sequence());
+            assertTrue(event.timestamp() >= begin && event.timestamp() <= end);
+            if (i > 0)
+                assertTrue(event.timestamp() >= events.get(i - 1).timestamp());
+        }
+    }
+
+    @Test
+    public void testProviderTimestamp() {
+        var input = createInput("test-input");
+        DigitalStateChangeEvent event = new DigitalStateChangeEvent(input, DigitalState.HIGH, 42L);
+        assertEquals(42L, event.timestamp());
+        assertEquals(DigitalStateChangeEvent.NO_SEQUENCE, event.sequence());
+    }
+}
@@ -0,0 +1,170 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  GpioDEventLoopTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.plugin.gpiod.provider.gpio.digital.GpioDDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Drives the shared GpioD event loop with edges on a simulated GPIO chip created through the kernel's gpio-sim
+ * configfs interface. All inputs must be served by one event loop thread, inputs shut down must stop receiving
+ * events without affecting the others, and the thread must end with the last input.
+ *
+ * <p>Requires root, the gpio-sim kernel module and the Pi4J gpiod native library; skipped otherwise.</p>
+ *
+ * @see "https://docs.kernel.org/admin-guide/gpio/gpio-sim.html"
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class GpioDEventLoopTest {
+
+    private static final Path GPIO_SIM = Paths.get("/sys/kernel/config/gpio-sim");
+    private static final String EVENT_LOOP_THREAD = "Pi4J.GPIOD-EVENT-LOOP";
+    private static final int LINES = 4;
+
+    private Path device;
+    private Path bank;
+    private Path lines;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        assumeTrue(Files.isDirectory(GPIO_SIM) && Files.isWritable(GPIO_SIM), "gpio-sim configfs not available");
+
+        // the GpioD context picks the first chip whose label contains 'pinctrl'
+        device = Files.createDirectory(GPIO_SIM.resolve("pi4j-event-loop"));
+        bank = Files.createDirectory(device.resolve("bank0"));
+        Files.writeString(bank.resolve("label"), "pi4j-sim-pinctrl");
+        Files.writeString(bank.resolve("num_lines"), Integer.toString(LINES));
+        Files.writeString(device.resolve("live"), "1");
+
+        lines = Paths.get("/sys/devices/platform", Files.readString(device.resolve("dev_name")).trim(),
+            Files.readString(bank.resolve("chip_name")).trim());
+        for (int line = 0; line < LINES; line++)
+            pull(line, false);
+
+        assumeTrue(nativeLibraryAvailable(), "GpioD native library not available");
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        if (device == null)
+            return;
+        Files.writeString(device.resolve("live"), "0");
+        Files.delete(bank);
+        Files.delete(device);
+        device = null;
+    }
+
+    @Test
+    public void testEventLoopServesAllInputs() throws Exception {
+        Context pi4j = Pi4J.newContextBuilder()
+            .add(GpioDDigitalInputProvider.newInstance())
+            .build();
+        try {
+            @SuppressWarnings("unchecked")
+            BlockingQueue<DigitalState>[] events = new BlockingQueue[LINES];
+            DigitalInput[] inputs = new DigitalInput[LINES];
+            for (int line = 0; line < LINES; line++) {
+                BlockingQueue<DigitalState> queue = events[line] = new LinkedBlockingQueue<>();
+                inputs[line] = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+                    .id("event-loop-input-" + line)
+                    .address(line)
+                    .pull(PullResistance.OFF)
+                    .build());
+                inputs[line].addListener(event -> queue.add(event.state()));
+            }
+
+            // one event loop thread for all inputs
+            assertEquals(1, countEventLoopThreads());
+
+            for (int line = 0; line < LINES; line++) {
+                pull(line, true);
+                assertEquals(DigitalState.HIGH, events[line].poll(5, TimeUnit.SECONDS), "rising edge on line " + line);
+                pull(line, false);
+                assertEquals(DigitalState.LOW, events[line].poll(5, TimeUnit.SECONDS), "falling edge on line " + line);
+            }
+
+            // a shut down input no longer receives events, the remaining ones still do
+            pi4j.shutdown(inputs[0].id());
+            pull(0, true);
+            pull(1, true);
+            assertEquals(DigitalState.HIGH, events[1].poll(5, TimeUnit.SECONDS));
+            assertNull(events[0].poll(200, TimeUnit.MILLISECONDS));
+            assertEquals(1, countEventLoopThreads());
+
+            for (int line = 0; line < LINES; line++)
+                assertTrue(events[line].isEmpty(), "unexpected events on line " + line);
+        } finally {
+            pi4j.shutdown();
+        }
+
+        // the event loop ends with the last input
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (countEventLoopThreads() > 0 && System.nanoTime() < deadline)
+            Thread.sleep(10);
+        assertEquals(0, countEventLoopThreads());
+    }
+
+    private void pull(int line, boolean up) throws IOException {
+        Files.writeString(lines.resolve("sim_gpio" + line).resolve("pull"), up ? "pull-up" : "pull-down");
+    }
+
+    private static long countEventLoopThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(t -> EVENT_LOOP_THREAD.equals(t.getName()) && t.isAlive())
+            .count();
+    }
+
+    private static boolean nativeLibraryAvailable() {
+        try {
+            Class.forName("com.pi4j.library.gpiod.internal.GpioD");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxFsDigitalInputReactorTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Exercises the lifecycle of the shared LinuxFS GPIO interrupt reactor against a fake sysfs GPIO tree: the reactor
+ * thread must stop and release its wakeup eventfd once the last monitored input has been shut down.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class LinuxFsDigitalInputReactorTest {
+
+    private static final String REACTOR_THREAD = "Pi4J.LINUXFS-GPIO-INTERRUPT";
+    private static final int[] ADDRESSES = { 17, 27 };
+    private static final int ROUNDS = 3;
+
+    private Path sysfs;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        // the reactor polls through the LinuxFS native library, which is only shipped for the Pi
+        assumeTrue(nativeLibraryAvailable(), "LinuxFS native library not available");
+        assumeTrue(Files.isDirectory(Paths.get("/proc/self/fd")), "/proc/self/fd not available");
+
+        sysfs = Files.createTempDirectory("pi4j-gpio");
+        Files.writeString(sysfs.resolve("export"), "");
+        Files.writeString(sysfs.resolve("unexport"), "");
+        for (int address : ADDRESSES) {
+            Path pin = Files.createDirectories(sysfs.resolve("gpio" + address));
+            Files.writeString(pin.resolve("direction"), "in");
+            Files.writeString(pin.resolve("edge"), "none");
+            Files.writeString(pin.resolve("active_low"), "0");
+            Files.writeString(pin.resolve("value"), "1");
+        }
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        if (sysfs == null)
+            return;
+        try (Stream<Path> paths = Files.walk(sysfs)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testReactorReleasesWakeupFdWhenLastInputShutsDown() throws Exception {
+        awaitReactorStopped();
+        long baseline = countEventFds();
+
+        // the reactor thread and its eventfd are created again for every new first registration
+        for (int round = 0; round < ROUNDS; round++) {
+            Context pi4j = Pi4J.newContextBuilder()
+                .add(LinuxFsDigitalInputProvider.newInstance(sysfs.toString()))
+                .build();
+            try {
+                for (int address : ADDRESSES) {
+                    DigitalInput input = pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+                        .id("reactor-input-" + address)
+                        .address(address)
+                        .build());
+                    assertEquals(DigitalState.HIGH, input.state());
+                    assertEquals("both", Files.readString(sysfs.resolve("gpio" + address).resolve("edge")).trim());
+                }
+
+                assertNotNull(reactorThread(), "reactor thread not started");
+                assertEquals(baseline + 1, countEventFds(), "expected a single wakeup eventfd for all inputs");
+            } finally {
+                pi4j.shutdown();
+            }
+
+            awaitReactorStopped();
+            assertEquals(baseline, countEventFds(), "wakeup eventfd leaked in round " + round);
+        }
+    }
+
+    private static boolean nativeLibraryAvailable() {
+        try {
+            Class.forName("com.pi4j.library.linuxfs.LinuxFile");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static Thread reactorThread() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(t -> REACTOR_THREAD.equals(t.getName()) && t.isAlive())
+            .findFirst().orElse(null);
+    }
+
+    private static void awaitReactorStopped() throws InterruptedException {
+        Thread thread = reactorThread();
+        if (thread != null)
+            thread.join(5000);
+        assertNull(reactorThread(), "reactor thread still running");
+    }
+
+    private static long countEventFds() throws IOException {
+        try (Stream<Path> fds = Files.list(Paths.get("/proc/self/fd"))) {
+            return fds.filter(fd -> {
+                try {
+                    return "anon_inode:[eventfd]".equals(Files.readSymbolicLink(fd).toString());
+                } catch (IOException e) {
+                    // the descriptor used to list the directory itself is gone by now
+                    return false;
+                }
+            }).count();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxFsDigitalOutputBenchmarkTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares LinuxFS digital output toggle throughput with and without a persistent GPIO 'value' file
+ * against a fake sysfs GPIO tree (on tmpfs when available).
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class LinuxFsDigitalOutputBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LinuxFsDigitalOutputBenchmarkTest.class);
+
+    private static final int ADDRESS = 17;
+    private static final int WARMUP = 2_000;
+    private static final int TOGGLES = 20_000;
+
+    private Path sysfs;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        // prefer a tmpfs-backed directory to get closer to sysfs file semantics
+        Path shm = Paths.get("/dev/shm");
+        sysfs = Files.isDirectory(shm) && Files.isWritable(shm)
+            ? Files.createTempDirectory(shm, "pi4j-gpio")
+            : Files.createTempDirectory("pi4j-gpio");
+
+        Path pin = Files.createDirectories(sysfs.resolve("gpio" + ADDRESS));
+        Files.writeString(sysfs.resolve("export"), "");
+        Files.writeString(sysfs.resolve("unexport"), "");
+        Files.writeString(pin.resolve("direction"), "in");
+        Files.writeString(pin.resolve("edge"), "none");
+        Files.writeString(pin.resolve("active_low"), "0");
+        Files.writeString(pin.resolve("value"), "0");
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        try (Stream<Path> paths = Files.walk(sysfs)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testPersistentValueToggleThroughput() throws IOException {
+        double perCallRate = toggleRate(false);
+        double persistentRate = toggleRate(true);
+
+        logger.info("LinuxFS digital output toggles/second: per-call file access = {}, persistent value file = {}",
+            Math.round(perCallRate), Math.round(persistentRate));
+
+        // a single positional write replaces open/write/close on every toggle
+        assertTrue(persistentRate >= 2 * perCallRate,
+            "expected the persistent value file to at least double toggle throughput; per-call = "
+                + Math.round(perCallRate) + "/s, persistent = " + Math.round(persistentRate) + "/s");
+    }
+
+    private double toggleRate(boolean persistentValue) throws IOException {
+        Context pi4j = Pi4J.newContextBuilder()
+            .add(LinuxFsDigitalOutputProvider.newInstance(sysfs.toString(), persistentValue))
+            .build();
+        try {
+            DigitalOutput output = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+                .id("bench-output-" + persistentValue)
+                .address(ADDRESS)
+                .shutdown(DigitalState.LOW)
+                .build());
+
+            for (int i = 0; i < WARMUP; i++) {
+                output.toggle();
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < TOGGLES; i++) {
+                output.toggle();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            // both access modes must leave the same value in the GPIO 'value' file
+            output.high();
+            assertEquals(DigitalState.HIGH, output.state());
+            assertEquals("1", Files.readString(sysfs.resolve("gpio" + ADDRESS).resolve("value")).trim());
+            output.low();
+            assertEquals(DigitalState.LOW, output.state());
+            assertEquals("0", Files.readString(sysfs.resolve("gpio" + ADDRESS).resolve("value")).trim());
+
+            return TOGGLES / (elapsed / 1_000_000_000.0);
+        } finally {
+            pi4j.shutdown();
+        }
+    }
+}
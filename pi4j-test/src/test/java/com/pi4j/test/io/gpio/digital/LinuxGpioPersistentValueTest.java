@@ -0,0 +1,112 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxGpioPersistentValueTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Checks that the persistent GPIO 'value' file of {@link LinuxGpio} is reopened when the pin direction changes,
+ * against a fake sysfs GPIO tree.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class LinuxGpioPersistentValueTest {
+
+    private static final int ADDRESS = 22;
+
+    private Path sysfs;
+    private Path value;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        sysfs = Files.createTempDirectory("pi4j-gpio");
+        Path pin = Files.createDirectories(sysfs.resolve("gpio" + ADDRESS));
+        Files.writeString(sysfs.resolve("export"), "");
+        Files.writeString(sysfs.resolve("unexport"), "");
+        Files.writeString(pin.resolve("direction"), "in");
+        Files.writeString(pin.resolve("edge"), "none");
+        value = Files.writeString(pin.resolve("value"), "1");
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        try (Stream<Path> paths = Files.walk(sysfs)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testValueFileReopenedOnDirectionChange() throws IOException {
+        LinuxGpio gpio = new LinuxGpio(sysfs.toString(), ADDRESS, true);
+        gpio.direction(LinuxGpio.Direction.IN);
+        assertEquals(DigitalState.HIGH, gpio.state());
+
+        // the kernel replaces the attribute files when a pin is re-configured; emulate with a new inode
+        Files.delete(value);
+        Files.writeString(value, "0");
+
+        gpio.direction(LinuxGpio.Direction.OUT);
+        gpio.state(DigitalState.HIGH);
+        assertEquals("1", Files.readString(value).trim());
+        assertEquals(DigitalState.HIGH, gpio.state());
+        gpio.unexport();
+    }
+
+    @Test
+    public void testReadOnlyValueFileReopenedForWriteAfterDirectionChange() throws IOException {
+        Files.setPosixFilePermissions(value, PosixFilePermissions.fromString("r--r--r--"));
+        assumeFalse(Files.isWritable(value), "file permissions are not enforced for this user");
+
+        // an input pin that only exposes a read-only 'value' file falls back to a read-only channel
+        LinuxGpio gpio = new LinuxGpio(sysfs.toString(), ADDRESS, true);
+        gpio.direction(LinuxGpio.Direction.IN);
+        assertEquals(DigitalState.HIGH, gpio.state());
+
+        // once switched to an output the file becomes writable and must be reopened for writing
+        Files.setPosixFilePermissions(value, PosixFilePermissions.fromString("rw-r--r--"));
+        gpio.direction(LinuxGpio.Direction.OUT);
+        gpio.state(DigitalState.LOW);
+        assertEquals("0", Files.readString(value).trim());
+        gpio.unexport();
+    }
+}
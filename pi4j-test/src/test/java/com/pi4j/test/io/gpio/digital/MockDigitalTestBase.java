@@ -0,0 +1,78 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  MockDigitalTestBase.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInput;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import com.pi4j.provider.Provider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * Common setup of the digital I/O tests running on the mock providers: a new context for each test, which is shut
+ * down after the test.
+ */
+public abstract class MockDigitalTestBase {
+
+    protected Context pi4j;
+
+    /**
+     * @return the providers of the context of each test; the mock digital input provider by default
+     */
+    protected Provider[] providers() {
+        return new Provider[] { MockDigitalInputProvider.newInstance() };
+    }
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        pi4j = Pi4J.newContextBuilder().add(providers()).build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    protected MockDigitalInput createInput(String id) {
+        return (MockDigitalInput) pi4j.din().create(DigitalInput.newConfigBuilder(pi4j).id(id).address(1).build());
+    }
+
+    /**
+     * Toggle the mock input the given number of times, starting with a rising edge from LOW.
+     */
+    protected static void toggle(MockDigitalInput input, int edges) {
+        for (int i = 0; i < edges; i++)
+            input.mockState(input.isHigh() ? DigitalState.LOW : DigitalState.HIGH);
+    }
+}
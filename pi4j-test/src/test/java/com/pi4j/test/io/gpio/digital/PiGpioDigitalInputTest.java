@@ -0,0 +1,126 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioDigitalInputTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalInputProvider;
+import com.pi4j.test.library.pigpio.FakePiGpioDaemon;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives a PiGpio digital input through the socket implementation of the PiGpio library against the
+ * {@link FakePiGpioDaemon}: the input must read the simulated pin level and dispatch an event for every level change
+ * reported on the notification stream.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class PiGpioDigitalInputTest {
+
+    private static final int ADDRESS = 4;
+
+    private FakePiGpioDaemon daemon;
+    private PiGpio piGpio;
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = FakePiGpioDaemon.start();
+        piGpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        pi4j = Pi4J.newContextBuilder()
+            .add(PiGpioDigitalInputProvider.newInstance(piGpio))
+            .build();
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        pi4j.shutdown();
+        if (piGpio.isInitialized())
+            piGpio.shutdown();
+        daemon.close();
+    }
+
+    private DigitalInput create() {
+        return pi4j.din().create(DigitalInput.newConfigBuilder(pi4j)
+            .id("pigpio-input")
+            .address(ADDRESS)
+            .pull(PullResistance.PULL_DOWN)
+            .build());
+    }
+
+    @Test
+    public void testStateReadFromPin() {
+        DigitalInput input = create();
+        assertEquals(PiGpioMode.INPUT, daemon.mode(ADDRESS));
+
+        assertEquals(DigitalState.LOW, input.state());
+        daemon.level(ADDRESS, true);
+        assertEquals(DigitalState.HIGH, input.state());
+        daemon.level(ADDRESS, false);
+        assertEquals(DigitalState.LOW, input.state());
+    }
+
+    @Test
+    public void testLevelChangesDispatched() throws Exception {
+        DigitalInput input = create();
+        BlockingQueue<DigitalState> events = new LinkedBlockingQueue<>();
+        input.addListener(event -> events.add(event.state()));
+
+        // the daemon starts monitoring the pin right after answering the notification command
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (daemon.monitored() == 0 && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        assertEquals(1 << ADDRESS, daemon.monitored());
+
+        for (int i = 0; i < 10; i++) {
+            daemon.level(ADDRESS, true);
+            assertEquals(DigitalState.HIGH, events.poll(5, TimeUnit.SECONDS), "rising edge " + i);
+            daemon.level(ADDRESS, false);
+            assertEquals(DigitalState.LOW, events.poll(5, TimeUnit.SECONDS), "falling edge " + i);
+        }
+
+        // a change of another pin is not dispatched to the input
+        daemon.level(ADDRESS + 1, true);
+        assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,165 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioDigitalOutputTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalOutputProvider;
+import com.pi4j.test.library.pigpio.FakePiGpioDaemon;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives a PiGpio digital output through the socket implementation of the PiGpio library against the
+ * {@link FakePiGpioDaemon}, checking the simulated pin after every change of the output and the waveform commands
+ * of pulse trains.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class PiGpioDigitalOutputTest {
+
+    private static final int ADDRESS = 17;
+    private static final int OTHER_ADDRESS = 18;
+
+    private FakePiGpioDaemon daemon;
+    private PiGpio piGpio;
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = FakePiGpioDaemon.start();
+        piGpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        pi4j = Pi4J.newContextBuilder()
+            .add(PiGpioDigitalOutputProvider.newInstance(piGpio))
+            .build();
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        pi4j.shutdown();
+        if (piGpio.isInitialized())
+            piGpio.shutdown();
+        daemon.close();
+    }
+
+    private DigitalOutput create(int address, DigitalState initial) {
+        return pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+            .id("pigpio-output-" + address)
+            .address(address)
+            .initial(initial)
+            .build());
+    }
+
+    @Test
+    public void testStateWrittenToPin() {
+        DigitalOutput output = create(ADDRESS, DigitalState.HIGH);
+
+        assertEquals(PiGpioMode.OUTPUT, daemon.mode(ADDRESS));
+        assertTrue(daemon.level(ADDRESS));
+        assertEquals(DigitalState.HIGH, output.state());
+
+        output.low();
+        assertFalse(daemon.level(ADDRESS));
+        assertEquals(DigitalState.LOW, output.state());
+
+        output.toggle();
+        assertTrue(daemon.level(ADDRESS));
+        assertEquals(DigitalState.HIGH, output.state());
+    }
+
+    @Test
+    public void testShutdownState() {
+        DigitalOutput output = pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+            .id("pigpio-output")
+            .address(ADDRESS)
+            .initial(DigitalState.HIGH)
+            .shutdown(DigitalState.LOW)
+            .build());
+        assertTrue(daemon.level(ADDRESS));
+
+        pi4j.shutdown(output.id());
+        assertFalse(daemon.level(ADDRESS));
+    }
+
+    @Test
+    public void testFinishedPulseTrainReleasedWithoutPolling() throws Exception {
+        DigitalOutput output = create(ADDRESS, DigitalState.LOW);
+        Future<?> playback = output.pulseTrain().high(100).low(100).high(100).play();
+        assertTrue(daemon.transmitting());
+
+        // the waveform is deleted once played, although nobody polls the playback
+        daemon.transmitted();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (daemon.commands(PiGpioCmd.WVDEL) == 0 && System.nanoTime() < deadline)
+            Thread.sleep(5);
+        assertEquals(1, daemon.commands(PiGpioCmd.WVDEL));
+        assertEquals(DigitalState.HIGH, output.state());
+        assertTrue(playback.isDone());
+        assertFalse(playback.isCancelled());
+    }
+
+    @Test
+    public void testPulseTrainSupersededByAnotherOutput() {
+        DigitalOutput first = create(ADDRESS, DigitalState.LOW);
+        DigitalOutput second = create(OTHER_ADDRESS, DigitalState.LOW);
+
+        Future<?> superseded = first.pulseTrain().high(100).low(100).loop().play();
+        assertTrue(daemon.transmitting());
+        int sent = daemon.commandLog().size();
+
+        // pigpio has a single transmitter: the train of the other output ends the first one
+        Future<?> playing = second.pulseTrain().high(100).low(300).loop().play();
+        assertTrue(superseded.isDone());
+        assertFalse(superseded.isCancelled());
+        assertFalse(playing.isDone());
+        assertEquals(DigitalState.LOW, first.state());
+
+        // the first waveform is stopped before it is deleted
+        List<PiGpioCmd> supersede = daemon.commandLog().subList(sent, sent + 3);
+        assertEquals(List.of(PiGpioCmd.WVBSY, PiGpioCmd.WVHLT, PiGpioCmd.WVDEL), supersede);
+        assertTrue(daemon.transmitting());
+
+        assertTrue(playing.cancel(true));
+        assertTrue(playing.isCancelled());
+        assertFalse(daemon.transmitting());
+    }
+}
@@ -0,0 +1,134 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PulseTrainTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.gpio.digital.DigitalOutput;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.PulseTrain;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalOutputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class PulseTrainTest {
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        pi4j = Pi4J.newContextBuilder()
+            .add(MockDigitalOutputProvider.newInstance())
+            .build();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private DigitalOutput createOutput() {
+        return pi4j.dout().create(DigitalOutput.newConfigBuilder(pi4j)
+            .id("pulse-train-out")
+            .address(4)
+            .initial(DigitalState.LOW)
+            .build());
+    }
+
+    @Test
+    public void testBuilder() {
+        PulseTrain train = createOutput().pulseTrain()
+            .pulses(3, 10, 20)
+            .high(100)
+            .repeat(4);
+
+        assertEquals(7, train.size());
+        assertEquals(3 * 30 + 100, train.micros());
+        assertEquals(4, train.repeat());
+        assertFalse(train.isLoop());
+        assertEquals(DigitalState.HIGH, train.step(0).state());
+        assertEquals(20, train.step(1).micros());
+        assertTrue(train.loop().isLoop());
+    }
+
+    @Test
+    public void testInvalidSteps() {
+        PulseTrain train = createOutput().pulseTrain();
+        assertThrows(IllegalArgumentException.class, () -> train.high(0));
+        assertThrows(IllegalArgumentException.class, () -> train.state(DigitalState.UNKNOWN, 10));
+        assertThrows(IllegalArgumentException.class, () -> train.repeat(0));
+        assertThrows(IllegalArgumentException.class, train::play);
+        assertThrows(IllegalArgumentException.class, () -> train.output().play(train));
+    }
+
+    @Test
+    public void testSoftwarePlayback() throws Exception {
+        DigitalOutput output = createOutput();
+        List<DigitalState> states = new CopyOnWriteArrayList<>();
+        output.addListener(event -> states.add(event.state()));
+
+        long start = System.nanoTime();
+        output.pulseTrain()
+            .high(500)
+            .low(500)
+            .repeat(3)
+            .play()
+            .get(5, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(List.of(DigitalState.HIGH, DigitalState.LOW, DigitalState.HIGH, DigitalState.LOW,
+            DigitalState.HIGH, DigitalState.LOW), states);
+        assertEquals(DigitalState.LOW, output.state());
+        assertTrue(elapsed >= TimeUnit.MICROSECONDS.toNanos(3_000), "played in " + elapsed + " ns");
+    }
+
+    @Test
+    public void testLoopUntilCancelled() throws Exception {
+        DigitalOutput output = createOutput();
+        Future<?> playback = output.pulseTrain().high(200).low(200).loop().play();
+
+        Thread.sleep(20);
+        assertFalse(playback.isDone());
+        assertTrue(playback.cancel(true));
+        assertTrue(playback.isCancelled());
+    }
+}
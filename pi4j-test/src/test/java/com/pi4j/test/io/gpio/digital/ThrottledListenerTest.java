@@ -0,0 +1,253 @@
+package com.pi4j.test.io.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  ThrottledListenerTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.event.BatchEventThrottle;
+import com.pi4j.event.LatestEventThrottle;
+import com.pi4j.io.gpio.analog.AnalogInput;
+import com.pi4j.io.gpio.analog.AnalogValueChangeEvent;
+import com.pi4j.io.gpio.analog.AnalogValueChangeListener;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.DigitalStateChangeEvent;
+import com.pi4j.io.gpio.digital.DigitalStateChangeListener;
+import com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogInput;
+import com.pi4j.plugin.mock.provider.gpio.analog.MockAnalogInputProvider;
+import com.pi4j.plugin.mock.provider.gpio.digital.MockDigitalInputProvider;
+import com.pi4j.provider.Provider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class ThrottledListenerTest extends MockDigitalTestBase {
+
+    private static final int EDGES = 10_001;
+
+    @Override
+    protected Provider[] providers() {
+        return new Provider[] { MockDigitalInputProvider.newInstance(), MockAnalogInputProvider.newInstance() };
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out waiting for delivery");
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    public void testLatestValueOnly() throws Exception {
+        var input = createInput("throttled-input");
+        List<DigitalStateChangeEvent> events = new CopyOnWriteArrayList<>();
+        input.addListener(events::add, 20);
+
+        toggle(input, EDGES);
+
+        // the last change is always delivered, the ones replaced before delivery are not
+        await(() -> !events.isEmpty() && events.get(events.size() - 1).sequence() == EDGES - 1);
+        assertTrue(events.size() < EDGES / 10, events.size() + " deliveries");
+        assertEquals(DigitalState.HIGH, events.get(events.size() - 1).state());
+        for (int i = 1; i < events.size(); i++)
+            assertTrue(events.get(i).sequence() > events.get(i - 1).sequence());
+    }
+
+    @Test
+    public void testRateLimit() {
+        // the scheduler records the delays instead of waiting, deliveries run when the test runs them
+        long period = TimeUnit.HOURS.toNanos(1);
+        List<Long> delays = new ArrayList<>();
+        List<Runnable> timers = new ArrayList<>();
+        List<Runnable> deliveries = new ArrayList<>();
+        List<Integer> delivered = new ArrayList<>();
+        LatestEventThrottle<Integer> throttle = new LatestEventThrottle<>(1, TimeUnit.HOURS, (task, delay, unit) -> {
+            delays.add(unit.toNanos(delay));
+            timers.add(task);
+            return null;
+        }, deliveries::add, delivered::add);
+
+        // the first event is delivered without waiting
+        throttle.offer(1);
+        assertTrue(delays.isEmpty());
+        assertEquals(1, deliveries.size());
+        deliveries.get(0).run();
+        assertEquals(List.of(1), delivered);
+
+        // the next ones wait out the rest of the period, the later replacing the earlier
+        throttle.offer(2);
+        throttle.offer(3);
+        assertEquals(1, delays.size());
+        assertEquals(1, deliveries.size());
+        assertTrue(delays.get(0) <= period && delays.get(0) > period - TimeUnit.MINUTES.toNanos(1),
+            delays.get(0) + "ns delay");
+        assertEquals(1, throttle.coalesced());
+
+        timers.get(0).run();
+        assertEquals(2, deliveries.size());
+        deliveries.get(1).run();
+        assertEquals(List.of(1, 3), delivered);
+
+        // nothing pending, so nothing is scheduled until the next event
+        assertEquals(1, delays.size());
+        throttle.offer(4);
+        assertEquals(2, delays.size());
+        assertTrue(delays.get(1) <= period && delays.get(1) > period - TimeUnit.MINUTES.toNanos(1));
+    }
+
+    @Test
+    public void testBatches() throws Exception {
+        var input = createInput("throttled-input");
+        List<List<DigitalStateChangeEvent>> batches = new CopyOnWriteArrayList<>();
+        AtomicLong received = new AtomicLong();
+        input.addBatchListener(events -> {
+            batches.add(events);
+            received.addAndGet(events.size());
+        }, 20, TimeUnit.MILLISECONDS);
+
+        toggle(input, EDGES);
+        await(() -> received.get() == EDGES);
+
+        long sequence = 0;
+        for (List<DigitalStateChangeEvent> batch : batches) {
+            assertFalse(batch.isEmpty());
+            for (DigitalStateChangeEvent event : batch)
+                assertEquals(sequence++, event.sequence());
+        }
+        assertTrue(batches.size() < EDGES);
+    }
+
+    @Test
+    public void testBatchCapacity() {
+        // deliveries run on the executor only; the scheduler is not needed for the first delivery
+        List<Runnable> deliveries = new ArrayList<>();
+        List<List<Integer>> batches = new ArrayList<>();
+        BatchEventThrottle<Integer> throttle = new BatchEventThrottle<>(1, TimeUnit.SECONDS, 4,
+            (task, delay, unit) -> fail("scheduled a delivery without pending events"), deliveries::add, batches::add);
+
+        for (int i = 0; i < 10; i++)
+            assertEquals(i < 4, throttle.offer(i));
+        assertEquals(6, throttle.dropped());
+        assertEquals(1, deliveries.size());
+        assertTrue(batches.isEmpty());
+
+        deliveries.get(0).run();
+        assertEquals(List.of(List.of(0, 1, 2, 3)), batches);
+        assertThrows(IllegalArgumentException.class, () -> new BatchEventThrottle<Integer>(1, TimeUnit.SECONDS, 0,
+            (task, delay, unit) -> null, Runnable::run, events -> { }));
+    }
+
+    @Test
+    public void testEdgeCount() throws Exception {
+        var input = createInput("throttled-input");
+        AtomicLong count = new AtomicLong();
+        AtomicLong calls = new AtomicLong();
+        AtomicBoolean high = new AtomicBoolean();
+        input.addEdgeCountListener((source, edges, state) -> {
+            assertSame(input, source);
+            calls.incrementAndGet();
+            high.set(state);
+            count.addAndGet(edges);
+        }, 20, TimeUnit.MILLISECONDS);
+
+        toggle(input, EDGES);
+        await(() -> count.get() == EDGES);
+        assertTrue(high.get());
+        assertTrue(calls.get() < EDGES / 10, calls.get() + " calls");
+    }
+
+    @Test
+    public void testEdgeCountIgnoresUnknown() throws Exception {
+        var input = createInput("throttled-input");
+        AtomicLong count = new AtomicLong();
+        AtomicBoolean high = new AtomicBoolean();
+        input.addEdgeCountListener((source, edges, state) -> {
+            high.set(state);
+            count.addAndGet(edges);
+        }, 1, TimeUnit.MILLISECONDS);
+
+        // a change to 'UNKNOWN' (e.g. a watchdog timeout) is no falling edge
+        input.mockState(DigitalState.HIGH);
+        input.mockState(DigitalState.UNKNOWN);
+        input.mockState(DigitalState.HIGH);
+        await(() -> count.get() >= 2);
+        assertTrue(high.get());
+        input.mockState(DigitalState.LOW);
+        await(() -> count.get() >= 3);
+        assertEquals(3, count.get());
+        assertFalse(high.get());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        var input = createInput("throttled-input");
+        List<DigitalStateChangeEvent> events = new CopyOnWriteArrayList<>();
+        AtomicLong count = new AtomicLong();
+        DigitalStateChangeListener listener = events::add;
+        input.addListener(listener, 1000);
+        input.addEdgeCountListener((source, edges, state) -> count.addAndGet(edges), 1, TimeUnit.MILLISECONDS);
+
+        input.mockState(DigitalState.HIGH);
+        await(() -> events.size() == 1 && count.get() == 1);
+
+        input.removeListener(listener);
+        input.shutdown(pi4j);
+        input.mockState(DigitalState.LOW);
+        Thread.sleep(50);
+        assertEquals(1, events.size());
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    public void testAnalogLatestValue() throws Exception {
+        var input = (MockAnalogInput) pi4j.ain().create(AnalogInput.newConfigBuilder(pi4j).id("throttled-analog").address(2).build());
+        List<AnalogValueChangeEvent> events = new CopyOnWriteArrayList<>();
+        AnalogValueChangeListener listener = events::add;
+        input.addListener(listener, 20);
+
+        for (int value = 1; value <= 1000; value++)
+            input.mockValue(value);
+
+        await(() -> !events.isEmpty() && events.get(events.size() - 1).value().intValue() == 1000);
+        assertTrue(events.size() < 100, events.size() + " deliveries");
+    }
+
+    @Test
+    public void testInvalidRate() {
+        var input = createInput("throttled-input");
+        assertThrows(IllegalArgumentException.class, () -> input.addListener(event -> { }, 0));
+        assertThrows(IllegalArgumentException.class, () -> input.addBatchListener(events -> { }, 0, TimeUnit.MILLISECONDS));
+    }
+}
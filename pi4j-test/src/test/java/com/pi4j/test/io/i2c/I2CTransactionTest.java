@@ -0,0 +1,128 @@
+package com.pi4j.test.io.i2c;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  I2CTransactionTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.exception.Pi4JException;
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.i2c.I2CTransaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(Lifecycle.PER_CLASS)
+public class I2CTransactionTest {
+
+    private static int I2C_BUS = 1;
+    private static int I2C_DEVICE = 0x04;
+
+    private Context pi4j;
+
+    @BeforeEach
+    public void beforeTest() throws Pi4JException {
+        pi4j = Pi4J.newAutoContext();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        try {
+            pi4j.shutdown();
+        } catch (Pi4JException e) { /* do nothing */ }
+    }
+
+    private I2C createI2C() {
+        var config = I2C.newConfigBuilder(pi4j)
+            .id("my-i2c-bus")
+            .name("My I2C Bus")
+            .bus(I2C_BUS)
+            .device(I2C_DEVICE)
+            .build();
+        return pi4j.i2c().create(config);
+    }
+
+    @Test
+    public void testSequentialTransaction() {
+        try (var i2c = createI2C()) {
+            byte[] read = new byte[4];
+
+            // the mock I2C device reads back the bytes previously written
+            int count = i2c.transaction()
+                .write(new byte[] { 1, 2 }, 0, 2)
+                .write((byte) 3, (byte) 4)
+                .read(read, 1, 3)
+                .execute();
+
+            assertEquals(3, count);
+            assertArrayEquals(new byte[] { 0, 1, 2, 3 }, read);
+        }
+    }
+
+    @Test
+    public void testWriteRead() {
+        try (var i2c = createI2C()) {
+            byte[] read = new byte[3];
+            assertEquals(3, i2c.writeRead(new byte[] { 7, 8, 9 }, read));
+            assertArrayEquals(new byte[] { 7, 8, 9 }, read);
+        }
+    }
+
+    @Test
+    public void testTransactionReuse() {
+        try (var i2c = createI2C()) {
+            byte[] write = new byte[1];
+            byte[] read = new byte[1];
+            I2CTransaction transaction = i2c.transaction().write(write).read(read);
+            for (byte b = 0; b < 5; b++) {
+                write[0] = b;
+                assertEquals(1, transaction.execute());
+                assertEquals(b, read[0]);
+            }
+        }
+    }
+
+    @Test
+    public void testOtherDeviceNotSupportedBySequentialFallback() {
+        try (var i2c = createI2C()) {
+            I2CTransaction transaction = i2c.transaction()
+                .write(I2C_DEVICE + 1, new byte[] { 1 }, 0, 1, I2CTransaction.Flag.IGNORE_NAK);
+            assertThrows(Pi4JException.class, transaction::execute);
+        }
+    }
+
+    @Test
+    public void testInvalidSegmentBounds() {
+        try (var i2c = createI2C()) {
+            assertThrows(IndexOutOfBoundsException.class, () -> i2c.transaction().read(new byte[2], 1, 2));
+        }
+    }
+}
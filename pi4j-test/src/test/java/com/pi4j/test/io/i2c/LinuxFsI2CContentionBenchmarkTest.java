@@ -0,0 +1,141 @@
+package com.pi4j.test.io.i2c;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxFsI2CContentionBenchmarkTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.Pi4J;
+import com.pi4j.context.Context;
+import com.pi4j.io.i2c.I2C;
+import com.pi4j.io.i2c.I2CConfig;
+import com.pi4j.plugin.linuxfs.provider.i2c.LinuxFsI2CProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares LinuxFS I2C register read throughput of several threads, each accessing another device on the same bus,
+ * with a shared bus file and with per-device files.
+ * <p>
+ * The throughput part needs real hardware and only runs when the devices to use are given, e.g.
+ * <code>-Dpi4j.test.i2c.bus=1 -Dpi4j.test.i2c.devices=0x48,0x49,0x4a,0x4b</code>; every device must answer a
+ * single byte read of register 0.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class LinuxFsI2CContentionBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LinuxFsI2CContentionBenchmarkTest.class);
+
+    private static final int WARMUP = 200;
+    private static final int READS = 2_000;
+
+    @Test
+    public void testPerDeviceFileConfig() {
+        Context pi4j = Pi4J.newContext();
+        I2CConfig config = I2C.newConfigBuilder(pi4j).bus(1).device(0x48).build();
+        assertFalse(config.perDeviceFile());
+
+        config = I2C.newConfigBuilder(pi4j).bus(1).device(0x48).perDeviceFile(true).build();
+        assertTrue(config.perDeviceFile());
+        assertTrue(config.getPerDeviceFile());
+    }
+
+    @Test
+    public void testPerDeviceFileContention() throws Exception {
+        String devices = System.getProperty("pi4j.test.i2c.devices");
+        int bus = Integer.getInteger("pi4j.test.i2c.bus", 1);
+        assumeTrue(devices != null && new File("/dev/i2c-" + bus).exists(),
+            "no I2C devices configured for the contention benchmark");
+
+        List<Integer> addresses = new ArrayList<>();
+        for (String device : devices.split(","))
+            addresses.add(Integer.decode(device.trim()));
+
+        double sharedRate = readRate(bus, addresses, false);
+        double perDeviceRate = readRate(bus, addresses, true);
+
+        logger.info("LinuxFS I2C register reads/second with {} threads: shared bus file = {}, per-device files = {}",
+            addresses.size(), Math.round(sharedRate), Math.round(perDeviceRate));
+    }
+
+    private double readRate(int bus, List<Integer> addresses, boolean perDeviceFile) throws Exception {
+        Context pi4j = Pi4J.newContextBuilder()
+            .add(LinuxFsI2CProvider.newInstance())
+            .build();
+        try {
+            List<I2C> devices = new ArrayList<>();
+            for (int address : addresses) {
+                devices.add(pi4j.i2c().create(I2C.newConfigBuilder(pi4j)
+                    .id("bench-i2c-" + address + "-" + perDeviceFile)
+                    .bus(bus)
+                    .device(address)
+                    .perDeviceFile(perDeviceFile)
+                    .build()));
+            }
+
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            List<Thread> threads = new ArrayList<>();
+            for (I2C device : devices) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < WARMUP; i++)
+                            device.readRegister(0);
+                        start.await();
+                        for (int i = 0; i < READS; i++)
+                            device.readRegister(0);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Thread thread : threads)
+                thread.join();
+            long elapsed = System.nanoTime() - begin;
+
+            assertNull(failure.get(), () -> "I2C read failed: " + failure.get());
+            return devices.size() * READS / (elapsed / 1_000_000_000.0);
+        } finally {
+            pi4j.shutdown();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.pi4j.test.io.serial;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  SerialRingBufferTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.plugin.linuxfs.provider.serial.SerialRingBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SerialRingBufferTest {
+
+    @Test
+    public void testCapacityRoundedToPowerOfTwo() {
+        assertEquals(8, new SerialRingBuffer(5).capacity());
+        assertEquals(16, new SerialRingBuffer(16).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new SerialRingBuffer(0));
+    }
+
+    @Test
+    public void testFullAndEmpty() {
+        SerialRingBuffer ring = new SerialRingBuffer(8);
+        assertEquals(-1, ring.read());
+        assertEquals(0, ring.read(new byte[4], 0, 4));
+
+        assertEquals(8, ring.write(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 }, 0, 10));
+        assertEquals(8, ring.available());
+        assertEquals(0, ring.free());
+        assertEquals(0, ring.write(new byte[] { 11 }, 0, 1));
+
+        assertEquals(1, ring.read());
+        assertEquals(1, ring.free());
+        assertEquals(7, ring.clear());
+        assertEquals(0, ring.available());
+        assertEquals(8, ring.free());
+    }
+
+    @Test
+    public void testWrapAround() {
+        SerialRingBuffer ring = new SerialRingBuffer(8);
+        byte[] read = new byte[8];
+        byte value = 0;
+        byte expected = 0;
+        for (int round = 0; round < 10; round++) {
+            byte[] write = new byte[5];
+            for (int i = 0; i < write.length; i++)
+                write[i] = value++;
+            assertEquals(5, ring.write(write, 0, 5));
+            assertEquals(5, ring.read(read, 1, 7));
+            for (int i = 0; i < 5; i++)
+                assertEquals(expected++, read[1 + i]);
+        }
+    }
+
+    @Test
+    public void testConcurrentConsumers() throws InterruptedException {
+        final int total = 200_000;
+        SerialRingBuffer ring = new SerialRingBuffer(256);
+        AtomicLong sum = new AtomicLong();
+        AtomicLong count = new AtomicLong();
+
+        List<Thread> consumers = new ArrayList<>();
+        for (int c = 0; c < 3; c++) {
+            Thread consumer = new Thread(() -> {
+                byte[] buffer = new byte[17];
+                while (count.get() < total) {
+                    int n = ring.read(buffer, 0, buffer.length);
+                    if (n == 0) {
+                        Thread.yield();
+                        continue;
+                    }
+                    long local = 0;
+                    for (int i = 0; i < n; i++)
+                        local += buffer[i] & 0xFF;
+                    sum.addAndGet(local);
+                    count.addAndGet(n);
+                }
+            });
+            consumer.start();
+            consumers.add(consumer);
+        }
+
+        // every byte must be taken exactly once
+        byte[] chunk = new byte[31];
+        long expected = 0;
+        int written = 0;
+        while (written < total) {
+            int length = Math.min(chunk.length, total - written);
+            for (int i = 0; i < length; i++)
+                chunk[i] = (byte) (written + i);
+            int n = ring.write(chunk, 0, length);
+            if (n == 0)
+                Thread.yield();
+            for (int i = 0; i < n; i++)
+                expected += (written + i) & 0xFF;
+            written += n;
+        }
+
+        for (Thread consumer : consumers)
+            consumer.join(10_000);
+        assertEquals(total, count.get());
+        assertEquals(expected, sum.get());
+    }
+}
@@ -0,0 +1,165 @@
+package com.pi4j.test.io.spi;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  LinuxFsSpiMessageTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.pi4j.plugin.linuxfs.provider.spi.LinuxFsSpi;
+import com.pi4j.plugin.linuxfs.provider.spi.LinuxFsSpiMessage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Reads back the <code>spi_ioc_transfer</code> structures encoded by {@link LinuxFsSpiMessage} without an SPI device.
+ *
+ * <pre>
+ * struct spi_ioc_transfer {
+ *     __u64 tx_buf;            // 0
+ *     __u64 rx_buf;            // 8
+ *     __u32 len;               // 16
+ *     __u32 speed_hz;          // 20
+ *     __u16 delay_usecs;       // 24
+ *     __u8  bits_per_word;     // 26
+ *     __u8  cs_change;         // 27
+ *     __u8  tx_nbits;          // 28
+ *     __u8  rx_nbits;          // 29
+ *     __u8  word_delay_usecs;  // 30
+ *     __u8  pad;               // 31
+ * };
+ * </pre>
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class LinuxFsSpiMessageTest {
+
+    private static final int TRANSFER_SIZE = 32;
+    private static final int BUFFER_SIZE = 4096;
+
+    private Constructor<LinuxFsSpiMessage> constructor;
+    private Method transfers;
+
+    @BeforeAll
+    public void beforeAll() throws Exception {
+        // buffer addresses are resolved through the LinuxFS native library, which is only shipped for the Pi
+        assumeTrue(nativeLibraryAvailable(), "LinuxFS native library not available");
+
+        constructor = LinuxFsSpiMessage.class.getDeclaredConstructor(LinuxFsSpi.class, int.class);
+        constructor.setAccessible(true);
+        transfers = LinuxFsSpiMessage.class.getDeclaredMethod("transfers");
+        transfers.setAccessible(true);
+    }
+
+    @Test
+    public void testTransferEncoding() throws Exception {
+        ByteBuffer data = ByteBuffer.allocateDirect(256);
+        LinuxFsSpiMessage message = newMessage()
+            .write(data, 0, 1)
+            .transfer(data, 16, data, 128, 64, 32_000_000, 250, true)
+            .read(data, 200, 8);
+
+        assertEquals(3, message.size());
+        assertEquals(73, message.length());
+
+        ByteBuffer encoded = transfers(message);
+        long base = encoded.getLong(0);
+        assertNotEquals(0, base);
+
+        // write-only: the received data is discarded
+        assertTransfer(encoded, 0, base, 0, 1, 0, 0, false);
+        // full duplex with individual settings
+        assertTransfer(encoded, 1, base + 16, base + 128, 64, 32_000_000, 250, true);
+        // read-only: zeros are written
+        assertTransfer(encoded, 2, 0, base + 200, 8, 0, 0, false);
+    }
+
+    @Test
+    public void testTransferEncodingSurvivesGrowth() throws Exception {
+        ByteBuffer data = ByteBuffer.allocateDirect(64);
+        LinuxFsSpiMessage message = newMessage();
+        int count = 9;
+        for (int i = 0; i < count; i++)
+            message.transfer(data, i, null, 0, 1, 1_000_000 + i, i, false);
+
+        ByteBuffer encoded = transfers(message);
+        assertTrue(encoded.capacity() >= count * TRANSFER_SIZE);
+        long base = encoded.getLong(0);
+        for (int i = 0; i < count; i++)
+            assertTransfer(encoded, i, base + i, 0, 1, 1_000_000 + i, i, false);
+    }
+
+    @Test
+    public void testTransferLimits() throws Exception {
+        ByteBuffer data = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        LinuxFsSpiMessage message = newMessage();
+
+        assertThrows(IllegalArgumentException.class, () -> message.transfer(null, 0, null, 0, 1, 0, 0, false));
+        assertThrows(IllegalArgumentException.class, () -> message.transfer(data, 0, null, 0, 1, 0, 0x10000, false));
+        assertThrows(IndexOutOfBoundsException.class, () -> message.write(data, BUFFER_SIZE - 1, 2));
+
+        // the data written and the data read are each limited to the spidev buffer size
+        message.write(data, 0, BUFFER_SIZE).read(data, 0, BUFFER_SIZE);
+        assertThrows(IllegalArgumentException.class, () -> message.write(data, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> message.read(data, 0, 1));
+        assertEquals(2, message.size());
+    }
+
+    private LinuxFsSpiMessage newMessage() throws Exception {
+        // a detached message; it only encodes transfers and is never executed
+        return constructor.newInstance(null, BUFFER_SIZE);
+    }
+
+    private ByteBuffer transfers(LinuxFsSpiMessage message) throws Exception {
+        return ((ByteBuffer) transfers.invoke(message)).duplicate().order(ByteOrder.nativeOrder());
+    }
+
+    private static void assertTransfer(ByteBuffer encoded, int index, long txBuf, long rxBuf, int len, int speedHz,
+                                       int delayUsecs, boolean csChange) {
+        int offset = index * TRANSFER_SIZE;
+        assertEquals(txBuf, encoded.getLong(offset), "tx_buf of transfer " + index);
+        assertEquals(rxBuf, encoded.getLong(offset + 8), "rx_buf of transfer " + index);
+        assertEquals(len, encoded.getInt(offset + 16), "len of transfer " + index);
+        assertEquals(speedHz, encoded.getInt(offset + 20), "speed_hz of transfer " + index);
+        assertEquals(delayUsecs, Short.toUnsignedInt(encoded.getShort(offset + 24)), "delay_usecs of transfer " + index);
+        assertEquals(0, encoded.get(offset + 26), "bits_per_word of transfer " + index);
+        assertEquals(csChange ? 1 : 0, encoded.get(offset + 27), "cs_change of transfer " + index);
+        assertEquals(0, encoded.getInt(offset + 28), "nbits/word_delay/pad of transfer " + index);
+    }
+
+    private static boolean nativeLibraryAvailable() {
+        try {
+            Class.forName("com.pi4j.library.linuxfs.LinuxFile");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,957 @@
+package com.pi4j.test.library.pigpio;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  FakePiGpioDaemon.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioError;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioScriptStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_MAX_SCRIPT_PARAMS;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_WDOG;
+
+/**
+ * In-process stand-in for the pigpiod daemon, speaking the pigpio socket protocol on the loopback interface, so that
+ * the socket implementation of {@link com.pi4j.library.pigpio.PiGpio} can be tested and benchmarked without a
+ * Raspberry Pi.
+ * <p>
+ * The daemon simulates:
+ * <ul>
+ *     <li>pin levels and modes of banks 1 and 2 ({@code READ}, {@code WRITE}, {@code MODES}, {@code MODEG},
+ *     {@code BR1}/{@code BR2}, {@code BS1}/{@code BS2} and {@code BC1}/{@code BC2}); input levels are driven with
+ *     {@link #level(int, boolean)}; bank 2 commands fail with {@code PI_BAD_GPIO} for bits beyond GPIO 53</li>
+ *     <li>I2C devices as 256 byte register files shared by all handles opened on the same bus and address; raw writes
+ *     set the register pointer with their first byte and store the remaining bytes from there, raw reads continue
+ *     at the register pointer; SMBus blocks are stored as count byte followed by the data; {@code I2CZ} executes
+ *     the address, flags, read and write steps of a zip command with the same register pointer</li>
+ *     <li>SPI handles looping written bytes back: {@code SPIX} returns the bytes it writes, {@code SPIR} returns the
+ *     bytes previously written with {@code SPIW}</li>
+ *     <li>serial handles looping written bytes back to all handles of the same device</li>
+ *     <li>notification streams ({@code NOIB}, {@code NB}, {@code NC}) receiving a report for every level change of a
+ *     monitored pin of bank 1, for every {@link #watchdog(int)} timeout of a monitored pin and for scripted
+ *     {@link #report(int[]...) reports}</li>
+ *     <li>a waveform transmitter: {@code WVCRE} creates numbered waveforms, {@code WVTX}, {@code WVTXR},
+ *     {@code WVTXM} and {@code WVCHA} start transmitting, which {@code WVBSY} reports until {@code WVHLT} stops it;
+ *     the pulses themselves are not played</li>
+ *     <li>scripts ({@code PROC}, {@code PROCR}, {@code PROCU}, {@code PROCP}, {@code PROCS}, {@code PROCD}), which
+ *     are stored with their parameters and run status but not executed</li>
+ * </ul>
+ * All other commands succeed with result 0. Every command can be delayed by an artificial processing latency, see
+ * {@link #latency(Duration)} and {@link #latency(PiGpioCmd, Duration)}. Like the real daemon, which serves every
+ * connection on a thread of its own, the commands of one connection are executed one after another while the latencies
+ * of commands on different connections overlap; see {@link #maxConcurrentCommands()}.
+ */
+public class FakePiGpioDaemon implements Closeable {
+
+    /** The pigpio version reported by {@code PIGPV} */
+    public static final int VERSION = 79;
+
+    /** The hardware revision reported by {@code HWVER} */
+    public static final int HARDWARE_REVISION = 0xa02082;
+
+    private static final int PINS = 54;
+    private static final int REGISTERS = 256;
+    private static final int REPORT_SIZE = 12;
+
+    private final ServerSocket server;
+    private final Thread acceptor;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong commands = new AtomicLong();
+    private final AtomicInteger busy = new AtomicInteger();
+    private final AtomicInteger maxBusy = new AtomicInteger();
+    private final Map<PiGpioCmd, AtomicLong> commandCounts = new ConcurrentHashMap<>();
+    private final List<PiGpioCmd> commandLog = new ArrayList<>();
+    private final long started = System.nanoTime();
+
+    private volatile long latency;
+    private final Map<PiGpioCmd, Long> commandLatency = new ConcurrentHashMap<>();
+
+    // simulated state, guarded by this daemon
+    private long levels;
+    private final int[] modes = new int[PINS];
+    private final Map<Integer, byte[]> i2cDevices = new HashMap<>();
+    private final Map<Integer, I2CHandle> i2cHandles = new HashMap<>();
+    private final Map<Integer, ByteQueue> spiHandles = new HashMap<>();
+    private final Map<String, ByteQueue> serialDevices = new HashMap<>();
+    private final Map<Integer, ByteQueue> serialHandles = new HashMap<>();
+    private final Map<Integer, Notifier> notifiers = new HashMap<>();
+    private final Map<Integer, Script> scripts = new HashMap<>();
+    private int nextI2CHandle;
+    private int nextSpiHandle;
+    private int nextSerialHandle;
+    private int nextNotifyHandle;
+    private int nextScriptId;
+    private int nextWaveId;
+    private boolean transmitting;
+
+    /**
+     * Start a daemon listening on an ephemeral port of the loopback interface.
+     *
+     * @return the running daemon
+     * @throws IOException if the server socket cannot be opened
+     */
+    public static FakePiGpioDaemon start() throws IOException {
+        return new FakePiGpioDaemon();
+    }
+
+    private FakePiGpioDaemon() throws IOException {
+        this.server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.acceptor = new Thread(this::accept, "fake-pigpiod-" + server.getLocalPort());
+        this.acceptor.setDaemon(true);
+        this.acceptor.start();
+    }
+
+    /**
+     * @return the host address to connect to
+     */
+    public String host() {
+        return server.getInetAddress().getHostAddress();
+    }
+
+    /**
+     * @return the port to connect to
+     */
+    public int port() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Delay the answer of every command by the given processing latency.
+     *
+     * @param latency the latency, zero to answer immediately
+     * @return this daemon
+     */
+    public FakePiGpioDaemon latency(Duration latency) {
+        this.latency = latency.toNanos();
+        return this;
+    }
+
+    /**
+     * Delay the answer of the given command by the given processing latency, instead of the latency of all commands.
+     *
+     * @param cmd     the command
+     * @param latency the latency, zero to answer immediately
+     * @return this daemon
+     */
+    public FakePiGpioDaemon latency(PiGpioCmd cmd, Duration latency) {
+        this.commandLatency.put(cmd, latency.toNanos());
+        return this;
+    }
+
+    /**
+     * @return the number of commands answered so far
+     */
+    public long commands() {
+        return commands.get();
+    }
+
+    /**
+     * @return the maximum number of commands processed at the same time so far, at most one per connection
+     */
+    public int maxConcurrentCommands() {
+        return maxBusy.get();
+    }
+
+    /**
+     * @param cmd the command
+     * @return the number of the given commands answered so far
+     */
+    public long commands(PiGpioCmd cmd) {
+        AtomicLong count = commandCounts.get(cmd);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * @return all commands answered so far, in the order they were executed
+     */
+    public synchronized List<PiGpioCmd> commandLog() {
+        return new ArrayList<>(commandLog);
+    }
+
+    /**
+     * @return the number of open client connections
+     */
+    public int connections() {
+        return connections.size();
+    }
+
+    /**
+     * @return the current tick in microseconds, as reported by {@code TICK} and in notification reports
+     */
+    public int tick() {
+        return (int) ((System.nanoTime() - started) / 1000);
+    }
+
+    /**
+     * @param pin the pin (0-53)
+     * @return true if the simulated level of the pin is high
+     */
+    public synchronized boolean level(int pin) {
+        return (levels & (1L << pin)) != 0;
+    }
+
+    /**
+     * Drive the simulated level of a pin, e.g. of an input, reporting the change to all notification streams
+     * monitoring the pin.
+     *
+     * @param pin  the pin (0-53)
+     * @param high the new level
+     */
+    public synchronized void level(int pin, boolean high) {
+        levels(high ? levels | (1L << pin) : levels & ~(1L << pin));
+    }
+
+    /**
+     * @param pin the pin (0-53)
+     * @return the simulated mode of the pin
+     */
+    public synchronized PiGpioMode mode(int pin) {
+        return PiGpioMode.from(modes[pin]);
+    }
+
+    /**
+     * @return the pins of bank 1 monitored by any notification stream, as bit mask
+     */
+    public synchronized int monitored() {
+        int bits = 0;
+        for (Notifier notifier : notifiers.values())
+            bits |= notifier.bits;
+        return bits;
+    }
+
+    /**
+     * Report a watchdog timeout of a pin to all notification streams monitoring the pin.
+     *
+     * @param pin the pin (0-31)
+     */
+    public synchronized void watchdog(int pin) {
+        for (Notifier notifier : notifiers.values()) {
+            if ((notifier.bits & (1 << pin)) != 0)
+                notifier.report(PI_NTFY_FLAGS_WDOG | pin, tick(), (int) levels);
+        }
+    }
+
+    /**
+     * Send scripted reports to all notification streams monitoring any pin, in a single write; e.g. to test the
+     * decoding of tick wraps, keep-alive reports or bursts, which the simulated pins do not produce.
+     *
+     * @param reports the reports, each given as flags, tick and level
+     */
+    public void report(int[]... reports) {
+        report(Integer.MAX_VALUE, Duration.ZERO, reports);
+    }
+
+    /**
+     * Send scripted reports to all notification streams monitoring any pin, split into writes of at most the given
+     * number of bytes with a pause after every write; e.g. to test reports split across several reads.
+     *
+     * @param chunk   the maximum number of bytes per write
+     * @param pause   the pause after every write
+     * @param reports the reports, each given as flags, tick and level
+     */
+    public void report(int chunk, Duration pause, int[]... reports) {
+        List<Notifier> targets = new ArrayList<>();
+        List<ByteBuffer> encoded = new ArrayList<>();
+        synchronized (this) {
+            for (Notifier notifier : notifiers.values()) {
+                if (notifier.bits == 0)
+                    continue;
+                ByteBuffer buffer = ByteBuffer.allocate(REPORT_SIZE * reports.length).order(ByteOrder.LITTLE_ENDIAN);
+                for (int[] report : reports)
+                    notifier.encode(buffer, report[0], report[1], report[2]);
+                targets.add(notifier);
+                encoded.add(buffer);
+            }
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            byte[] bytes = encoded.get(i).array();
+            for (int offset = 0; offset < bytes.length; offset += chunk) {
+                try {
+                    targets.get(i).connection.write(bytes, offset, Math.min(chunk, bytes.length - offset));
+                } catch (IOException e) {
+                    // the connection closes and removes this stream
+                    break;
+                }
+                LockSupport.parkNanos(pause.toNanos());
+            }
+        }
+    }
+
+    /**
+     * @return true while the simulated waveform transmitter is busy
+     */
+    public synchronized boolean transmitting() {
+        return transmitting;
+    }
+
+    /**
+     * End the transmission of the simulated waveform transmitter, as if the waveform had been played.
+     */
+    public synchronized void transmitted() {
+        transmitting = false;
+    }
+
+    /**
+     * @param id the script id
+     * @return the text of a stored script, or null if there is no script with the given id
+     */
+    public synchronized String script(int id) {
+        Script script = scripts.get(id);
+        return script == null ? null : script.text;
+    }
+
+    /**
+     * Access the register file of a simulated I2C device; the returned array is live and must only be accessed
+     * while no commands are being processed.
+     *
+     * @param bus     the I2C bus
+     * @param address the I2C device address
+     * @return the 256 registers of the device
+     */
+    public synchronized byte[] i2cRegisters(int bus, int address) {
+        return i2cDevice(bus, address);
+    }
+
+    /**
+     * Close all open client connections without answering their pending commands, e.g. to test the recovery from a
+     * lost connection; new connections are still accepted.
+     */
+    public void disconnect() {
+        for (Connection connection : connections)
+            connection.close();
+    }
+
+    /**
+     * Stop accepting connections and close all open connections.
+     */
+    @Override
+    public void close() throws IOException {
+        server.close();
+        for (Connection connection : connections)
+            connection.close();
+        try {
+            acceptor.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void accept() {
+        while (!server.isClosed()) {
+            try {
+                Connection connection = new Connection(server.accept());
+                connections.add(connection);
+                Thread handler = new Thread(connection::serve, acceptor.getName() + "-" + connection.socket.getPort());
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void levels(long value) {
+        long changed = (levels ^ value) & 0xFFFFFFFFL;
+        levels = value;
+        if (changed == 0)
+            return;
+        for (Notifier notifier : notifiers.values()) {
+            if ((notifier.bits & changed) != 0)
+                notifier.report(0, tick(), (int) value);
+        }
+    }
+
+    private byte[] i2cDevice(int bus, int address) {
+        return i2cDevices.computeIfAbsent(bus << 8 | address, key -> new byte[REGISTERS]);
+    }
+
+    private synchronized void execute(Connection connection, PiGpioCmd cmd, int p1, int p2, ByteBuffer ext, Response response) {
+        commandLog.add(cmd);
+        switch (cmd) {
+            case PIGPV: response.result(VERSION); break;
+            case HWVER: response.result(HARDWARE_REVISION); break;
+            case TICK: response.result(tick()); break;
+
+            // GPIO
+            case MODES:
+                if (validPin(p1, response)) modes[p1] = p2;
+                break;
+            case MODEG:
+                if (validPin(p1, response)) response.result(modes[p1]);
+                break;
+            case READ:
+                if (validPin(p1, response)) response.result((int) (levels >>> p1) & 1);
+                break;
+            case WRITE:
+                if (validPin(p1, response)) {
+                    modes[p1] = PiGpioMode.OUTPUT.value();
+                    level(p1, p2 != 0);
+                }
+                break;
+            case BR1: response.result((int) levels); break;
+            case BR2: response.result((int) (levels >>> 32) & 0x3FFFFF); break;
+            case BS1: levels(levels | Integer.toUnsignedLong(p1)); break;
+            case BC1: levels(levels & ~Integer.toUnsignedLong(p1)); break;
+            case BS2:
+            case BC2:
+                // bank 2 holds GPIO 32-53 only
+                if ((p1 & ~0x3FFFFF) != 0)
+                    response.result(PiGpioError.PI_BAD_GPIO.value());
+                else if (cmd == PiGpioCmd.BS2)
+                    levels(levels | (long) p1 << 32);
+                else
+                    levels(levels & ~((long) p1 << 32));
+                break;
+
+            // I2C
+            case I2CO:
+                i2cHandles.put(nextI2CHandle, new I2CHandle(i2cDevice(p1, p2)));
+                response.result(nextI2CHandle++);
+                break;
+            case I2CC:
+                if (i2cHandles.remove(p1) == null) response.result(PiGpioError.PI_BAD_HANDLE.value());
+                break;
+            case I2CWS:
+            case I2CRS:
+            case I2CWB:
+            case I2CRB:
+            case I2CWW:
+            case I2CRW:
+            case I2CPC:
+            case I2CWI:
+            case I2CRI:
+            case I2CWK:
+            case I2CRK:
+            case I2CPK:
+            case I2CWD:
+            case I2CRD:
+            case I2CZ:
+                I2CHandle i2c = i2cHandles.get(p1);
+                if (i2c == null)
+                    response.result(PiGpioError.PI_BAD_HANDLE.value());
+                else
+                    i2c.execute(cmd, p2, ext, response);
+                break;
+
+            // SPI
+            case SPIO:
+                spiHandles.put(nextSpiHandle, new ByteQueue());
+                response.result(nextSpiHandle++);
+                break;
+            case SPIC:
+                if (spiHandles.remove(p1) == null) response.result(PiGpioError.PI_BAD_HANDLE.value());
+                break;
+            case SPIW:
+            case SPIR:
+            case SPIX:
+                ByteQueue spi = spiHandles.get(p1);
+                if (spi == null) {
+                    response.result(PiGpioError.PI_BAD_HANDLE.value());
+                } else if (cmd == PiGpioCmd.SPIW) {
+                    response.result(ext.remaining());
+                    spi.write(ext);
+                } else if (cmd == PiGpioCmd.SPIR) {
+                    spi.read(p2, response, true);
+                } else {
+                    response.data(ext);
+                }
+                break;
+
+            // SERIAL
+            case SERO:
+                String device = StandardCharsets.US_ASCII.decode(ext).toString();
+                serialHandles.put(nextSerialHandle, serialDevices.computeIfAbsent(device, key -> new ByteQueue()));
+                response.result(nextSerialHandle++);
+                break;
+            case SERC:
+                if (serialHandles.remove(p1) == null) response.result(PiGpioError.PI_BAD_HANDLE.value());
+                break;
+            case SERW:
+            case SERWB:
+            case SERR:
+            case SERRB:
+            case SERDA:
+                ByteQueue serial = serialHandles.get(p1);
+                if (serial == null) {
+                    response.result(PiGpioError.PI_BAD_HANDLE.value());
+                } else if (cmd == PiGpioCmd.SERW) {
+                    serial.write(ext);
+                } else if (cmd == PiGpioCmd.SERWB) {
+                    serial.write((byte) p2);
+                } else if (cmd == PiGpioCmd.SERR) {
+                    serial.read(p2, response, false);
+                } else if (cmd == PiGpioCmd.SERRB) {
+                    response.result(serial.size() > 0 ? Byte.toUnsignedInt(serial.read()) : PiGpioError.PI_SER_READ_NO_DATA.value());
+                } else {
+                    response.result(serial.size());
+                }
+                break;
+
+            // NOTIFICATIONS
+            case NOIB:
+                connection.notifier = new Notifier(connection);
+                notifiers.put(nextNotifyHandle, connection.notifier);
+                response.result(nextNotifyHandle++);
+                break;
+            case NB:
+                Notifier notifier = notifiers.get(p1);
+                if (notifier == null)
+                    response.result(PiGpioError.PI_BAD_HANDLE.value());
+                else
+                    // applied after the answer was sent, see Connection#serve()
+                    response.monitor(notifier, p2);
+                break;
+            case NC:
+                if (notifiers.remove(p1) == null) response.result(PiGpioError.PI_BAD_HANDLE.value());
+                break;
+
+            // WAVEFORMS
+            case WVCRE: response.result(nextWaveId++); break;
+            case WVTX:
+            case WVTXR:
+            case WVTXM:
+            case WVCHA: transmitting = true; break;
+            case WVBSY: response.result(transmitting ? 1 : 0); break;
+            case WVHLT: transmitting = false; break;
+
+            // SCRIPTS
+            case PROC:
+                scripts.put(nextScriptId, new Script(StandardCharsets.US_ASCII.decode(ext).toString()));
+                response.result(nextScriptId++);
+                break;
+            case PROCR:
+            case PROCU:
+            case PROCP:
+            case PROCS:
+            case PROCD:
+                Script script = scripts.get(p1);
+                if (script == null) {
+                    response.result(PiGpioError.PI_BAD_SCRIPT_ID.value());
+                } else if (cmd == PiGpioCmd.PROCR) {
+                    script.params(ext);
+                    script.status = PiGpioScriptStatus.RUNNING;
+                } else if (cmd == PiGpioCmd.PROCU) {
+                    script.params(ext);
+                } else if (cmd == PiGpioCmd.PROCS) {
+                    script.status = PiGpioScriptStatus.HALTED;
+                } else if (cmd == PiGpioCmd.PROCD) {
+                    scripts.remove(p1);
+                } else {
+                    // the status is followed by the 10 script parameters
+                    ByteBuffer data = response.data(4 * (1 + PI_MAX_SCRIPT_PARAMS));
+                    data.putInt(script.status.value());
+                    for (int param : script.params)
+                        data.putInt(param);
+                }
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private static boolean validPin(int pin, Response response) {
+        if (pin >= 0 && pin < PINS)
+            return true;
+        response.result(PiGpioError.PI_BAD_GPIO.value());
+        return false;
+    }
+
+    /**
+     * A client connection, answering one command after the other like a pigpiod socket thread.
+     */
+    private final class Connection {
+        private final Socket socket;
+        private final OutputStream out;
+        private Notifier notifier;
+
+        private Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.socket.setTcpNoDelay(true);
+            this.out = socket.getOutputStream();
+        }
+
+        private void serve() {
+            try {
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                byte[] header = new byte[16];
+                ByteBuffer request = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+                byte[] payload = new byte[1024];
+                Response response = new Response();
+                while (true) {
+                    in.readFully(header);
+                    int value = request.getInt(0);
+                    int p1 = request.getInt(4);
+                    int p2 = request.getInt(8);
+                    int p3 = request.getInt(12);
+                    if (p3 > payload.length)
+                        payload = new byte[Math.max(p3, payload.length * 2)];
+                    in.readFully(payload, 0, p3);
+                    ByteBuffer ext = ByteBuffer.wrap(payload, 0, p3).order(ByteOrder.LITTLE_ENDIAN);
+
+                    PiGpioCmd cmd = PiGpioCmd.from(value);
+                    maxBusy.accumulateAndGet(busy.incrementAndGet(), Math::max);
+                    long delay = commandLatency.getOrDefault(cmd, latency);
+                    if (delay > 0)
+                        LockSupport.parkNanos(delay);
+
+                    response.reset(value, p1, p2);
+                    execute(this, cmd, p1, p2, ext, response);
+                    busy.decrementAndGet();
+                    // counted before the answer, so that a client sees the count of the commands it got answered
+                    commands.incrementAndGet();
+                    commandCounts.computeIfAbsent(cmd, key -> new AtomicLong()).incrementAndGet();
+                    write(response.buffer.array(), 0, response.buffer.position());
+
+                    // the answer to NB on a notification stream must precede the first report
+                    if (response.monitored != null) {
+                        synchronized (FakePiGpioDaemon.this) {
+                            response.monitored.bits = response.monitorBits;
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                // client disconnected or daemon closed
+            } finally {
+                close();
+            }
+        }
+
+        private synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        private void close() {
+            connections.remove(this);
+            synchronized (FakePiGpioDaemon.this) {
+                notifiers.values().remove(notifier);
+            }
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * The answer to a command: the echoed command and parameters, the result and optional extension data.
+     */
+    private static final class Response {
+        private ByteBuffer buffer = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        private Notifier monitored;
+        private int monitorBits;
+
+        private void reset(int cmd, int p1, int p2) {
+            buffer.clear();
+            buffer.putInt(cmd).putInt(p1).putInt(p2).putInt(0);
+            monitored = null;
+        }
+
+        private void result(int result) {
+            buffer.putInt(12, result);
+        }
+
+        private void monitor(Notifier notifier, int bits) {
+            monitored = notifier;
+            monitorBits = bits;
+        }
+
+        private ByteBuffer data(int length) {
+            if (buffer.capacity() < 16 + length) {
+                ByteBuffer grown = ByteBuffer.allocate(16 + length).order(ByteOrder.LITTLE_ENDIAN);
+                grown.put(buffer.array(), 0, 16);
+                buffer = grown;
+            }
+            result(length);
+            buffer.position(16);
+            return buffer;
+        }
+
+        private void data(ByteBuffer data) {
+            data(data.remaining()).put(data);
+        }
+    }
+
+    /**
+     * A handle of a simulated I2C device.
+     */
+    private static final class I2CHandle {
+        private final byte[] registers;
+        private int pointer;
+
+        private I2CHandle(byte[] registers) {
+            this.registers = registers;
+        }
+
+        private void execute(PiGpioCmd cmd, int p2, ByteBuffer ext, Response response) {
+            switch (cmd) {
+                case I2CWS: registers[pointer] = (byte) p2; break;
+                case I2CRS: response.result(Byte.toUnsignedInt(registers[pointer])); break;
+                case I2CWB: registers[p2 & 0xFF] = (byte) word(ext); break;
+                case I2CRB: response.result(Byte.toUnsignedInt(registers[p2 & 0xFF])); break;
+                case I2CWW:
+                    int word = word(ext);
+                    registers[p2 & 0xFF] = (byte) word;
+                    registers[(p2 + 1) & 0xFF] = (byte) (word >> 8);
+                    break;
+                case I2CRW:
+                    response.result(Byte.toUnsignedInt(registers[p2 & 0xFF])
+                        | Byte.toUnsignedInt(registers[(p2 + 1) & 0xFF]) << 8);
+                    break;
+                case I2CPC:
+                    // the process call answers with the word it wrote
+                    word = word(ext);
+                    registers[p2 & 0xFF] = (byte) word;
+                    registers[(p2 + 1) & 0xFF] = (byte) (word >> 8);
+                    response.result(word & 0xFFFF);
+                    break;
+                case I2CWI:
+                    pointer = p2 & 0xFF;
+                    store(ext);
+                    break;
+                case I2CRI:
+                    pointer = p2 & 0xFF;
+                    load(word(ext), response);
+                    break;
+                case I2CWK:
+                    // SMBus blocks are stored as count byte followed by the data
+                    pointer = p2 & 0xFF;
+                    registers[pointer] = (byte) ext.remaining();
+                    pointer = (pointer + 1) & 0xFF;
+                    store(ext);
+                    break;
+                case I2CRK:
+                    pointer = p2 & 0xFF;
+                    int count = Math.min(Byte.toUnsignedInt(registers[pointer]), 32);
+                    pointer = (pointer + 1) & 0xFF;
+                    load(count, response);
+                    break;
+                case I2CPK:
+                    // the block process call answers with the block it wrote
+                    pointer = p2 & 0xFF;
+                    registers[pointer] = (byte) ext.remaining();
+                    pointer = (pointer + 1) & 0xFF;
+                    store(ext.duplicate());
+                    response.data(ext);
+                    break;
+                case I2CWD:
+                    if (ext.hasRemaining()) {
+                        pointer = Byte.toUnsignedInt(ext.get());
+                        store(ext);
+                    }
+                    break;
+                case I2CRD:
+                    load(p2, response);
+                    break;
+                case I2CZ:
+                    zip(ext, response);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * Execute the steps of a zip command: 0 end, 1 escape (16-bit length), 2/3 combined flag on/off,
+         * 4 address, 5 flags, 6 read and 7 write; the bytes of all read steps are returned together.
+         */
+        private void zip(ByteBuffer steps, Response response) {
+            ByteArrayOutputStream read = new ByteArrayOutputStream();
+            boolean escaped = false;
+            while (steps.hasRemaining()) {
+                int step = steps.get();
+                if (step == 0)
+                    break;
+                switch (step) {
+                    case 1: escaped = true; continue;
+                    case 2:
+                    case 3: break;
+                    case 4: steps.get(); break;
+                    case 5: steps.getShort(); break;
+                    case 6:
+                    case 7:
+                        int length = escaped ? Short.toUnsignedInt(steps.getShort()) : Byte.toUnsignedInt(steps.get());
+                        for (int i = 0; i < length; i++) {
+                            if (step == 6) {
+                                read.write(registers[pointer]);
+                                pointer = (pointer + 1) & 0xFF;
+                            } else if (i == 0) {
+                                // like a raw write, the first byte written sets the register pointer
+                                pointer = Byte.toUnsignedInt(steps.get());
+                            } else {
+                                registers[pointer] = steps.get();
+                                pointer = (pointer + 1) & 0xFF;
+                            }
+                        }
+                        break;
+                    default:
+                        response.result(PiGpioError.PI_BAD_I2C_SEG.value());
+                        return;
+                }
+                escaped = false;
+            }
+            response.data(ByteBuffer.wrap(read.toByteArray()));
+        }
+
+        private static int word(ByteBuffer ext) {
+            // the client omits the parameter word if its value is 0
+            return ext.remaining() >= 4 ? ext.getInt() : 0;
+        }
+
+        private void store(ByteBuffer data) {
+            while (data.hasRemaining()) {
+                registers[pointer] = data.get();
+                pointer = (pointer + 1) & 0xFF;
+            }
+        }
+
+        private void load(int length, Response response) {
+            ByteBuffer data = response.data(length);
+            for (int i = 0; i < length; i++) {
+                data.put(registers[pointer]);
+                pointer = (pointer + 1) & 0xFF;
+            }
+        }
+    }
+
+    /**
+     * The loopback buffer of a simulated SPI handle or serial device.
+     */
+    private static final class ByteQueue {
+        private byte[] bytes = new byte[256];
+        private int head;
+        private int size;
+
+        private int size() {
+            return size;
+        }
+
+        private void write(byte value) {
+            if (size == bytes.length) {
+                byte[] grown = new byte[bytes.length * 2];
+                for (int i = 0; i < size; i++)
+                    grown[i] = bytes[(head + i) % bytes.length];
+                bytes = grown;
+                head = 0;
+            }
+            bytes[(head + size++) % bytes.length] = value;
+        }
+
+        private void write(ByteBuffer data) {
+            while (data.hasRemaining())
+                write(data.get());
+        }
+
+        private byte read() {
+            byte value = bytes[head];
+            head = (head + 1) % bytes.length;
+            size--;
+            return value;
+        }
+
+        /**
+         * @param pad true to pad a short read with zeros (SPI), false to return the available bytes only (serial)
+         */
+        private void read(int length, Response response, boolean pad) {
+            int count = pad ? length : Math.min(length, size);
+            ByteBuffer data = response.data(count);
+            for (int i = 0; i < count; i++)
+                data.put(size > 0 ? read() : 0);
+        }
+    }
+
+    /**
+     * A notification stream opened with {@code NOIB}, receiving 12 byte reports of the monitored pins of bank 1.
+     */
+    private static final class Notifier {
+        private final Connection connection;
+        private final ByteBuffer report = ByteBuffer.allocate(REPORT_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private int bits;
+        private int sequence;
+
+        private Notifier(Connection connection) {
+            this.connection = connection;
+        }
+
+        private void report(int flags, int tick, int level) {
+            report.clear();
+            encode(report, flags, tick, level);
+            try {
+                connection.write(report.array(), 0, report.position());
+            } catch (IOException e) {
+                // the connection closes and removes this stream
+            }
+        }
+
+        private void encode(ByteBuffer buffer, int flags, int tick, int level) {
+            buffer.putShort((short) sequence++).putShort((short) flags).putInt(tick).putInt(level);
+        }
+    }
+
+    /**
+     * A script stored with {@code PROC}, keeping its parameters and run status.
+     */
+    private static final class Script {
+        private final String text;
+        private final int[] params = new int[PI_MAX_SCRIPT_PARAMS];
+        private PiGpioScriptStatus status = PiGpioScriptStatus.HALTED;
+
+        private Script(String text) {
+            this.text = text;
+        }
+
+        private void params(ByteBuffer ext) {
+            // parameters not given keep their values
+            for (int i = 0; i < params.length && ext.remaining() >= 4; i++)
+                params[i] = ext.getInt();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.pi4j.test.library.pigpio;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  FakePiGpioDaemonTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioError;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the simulated pins, devices and notification streams of {@link FakePiGpioDaemon} through the PiGpio
+ * socket client.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class FakePiGpioDaemonTest {
+
+    private FakePiGpioDaemon daemon;
+    private PiGpio pigpio;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = FakePiGpioDaemon.start();
+        pigpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        assertEquals(FakePiGpioDaemon.VERSION, pigpio.gpioInitialise());
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        pigpio.gpioTerminate();
+        daemon.close();
+    }
+
+    @Test
+    public void testGpio() {
+        pigpio.gpioSetMode(17, PiGpioMode.OUTPUT);
+        assertEquals(PiGpioMode.OUTPUT, daemon.mode(17));
+        assertEquals(PiGpioMode.OUTPUT, pigpio.gpioGetMode(17));
+
+        pigpio.gpioWrite(17, PiGpioState.HIGH);
+        assertTrue(daemon.level(17));
+        assertEquals(PiGpioState.HIGH, pigpio.gpioRead(17));
+
+        daemon.level(22, true);
+        daemon.level(40, true);
+        assertEquals(PiGpioState.HIGH, pigpio.gpioRead(22));
+        assertEquals(1 << 17 | 1 << 22, pigpio.gpioRead_Bits_0_31());
+        assertEquals(1 << (40 - 32), pigpio.gpioRead_Bits_32_53());
+
+        pigpio.gpioWrite_Bits_0_31_Clear(1 << 17 | 1 << 22);
+        pigpio.gpioWrite_Bits_32_53_Set(1 << (41 - 32));
+        assertEquals(0, pigpio.gpioRead_Bits_0_31());
+        assertTrue(daemon.level(41));
+    }
+
+    @Test
+    public void testI2C() {
+        int handle = pigpio.i2cOpen(1, 0x48);
+        pigpio.i2cWriteByteData(handle, 0x05, (byte) 0x2A);
+        assertEquals(0x2A, pigpio.i2cReadByteData(handle, 0x05));
+        assertEquals(0x2A, daemon.i2cRegisters(1, 0x48)[0x05]);
+
+        pigpio.i2cWriteWordData(handle, 0x06, 0xBEEF);
+        assertEquals(0xBEEF, pigpio.i2cReadWordData(handle, 0x06));
+
+        // raw writes set the register pointer with their first byte, raw reads continue there
+        pigpio.i2cWriteDevice(handle, new byte[] { 0x10, 1, 2, 3 });
+        pigpio.i2cWriteDevice(handle, new byte[] { 0x10 });
+        byte[] read = new byte[3];
+        assertEquals(3, pigpio.i2cReadDevice(handle, read));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, read);
+
+        pigpio.i2cWriteBlockData(handle, 0x20, new byte[] { 9, 8, 7, 6 });
+        byte[] block = new byte[4];
+        assertEquals(4, pigpio.i2cReadBlockData(handle, 0x20, block));
+        assertArrayEquals(new byte[] { 9, 8, 7, 6 }, block);
+
+        // handles of the same device share its registers
+        int other = pigpio.i2cOpen(1, 0x48);
+        assertEquals(0x2A, pigpio.i2cReadByteData(other, 0x05));
+        assertEquals(0, pigpio.i2cReadByteData(pigpio.i2cOpen(2, 0x48), 0x05));
+
+        pigpio.i2cClose(handle);
+        assertEquals(PiGpioError.PI_BAD_HANDLE.value(), pigpio.i2cReadByteData(handle, 0x05));
+    }
+
+    @Test
+    public void testSpi() {
+        int handle = pigpio.spiOpen(0, 1_000_000, 0);
+        byte[] write = { 1, 2, 3, 4 };
+        byte[] read = new byte[4];
+        assertEquals(4, pigpio.spiXfer(handle, write, 0, read, 0, 4));
+        assertArrayEquals(write, read);
+
+        pigpio.spiWrite(handle, new byte[] { 5, 6 }, 0, 2);
+        assertEquals(3, pigpio.spiRead(handle, read, 0, 3));
+        assertArrayEquals(new byte[] { 5, 6, 0, 4 }, read);
+        pigpio.spiClose(handle);
+    }
+
+    @Test
+    public void testSerial() {
+        int handle = pigpio.serOpen("/dev/ttyS0", 115200, 0);
+        byte[] data = "hello".getBytes(StandardCharsets.US_ASCII);
+        pigpio.serWrite(handle, data, 0, data.length);
+        pigpio.serWriteByte(handle, (byte) '!');
+        assertEquals(6, pigpio.serDataAvailable(handle));
+
+        byte[] read = new byte[16];
+        assertEquals(5, pigpio.serRead(handle, read, 0, 5));
+        assertEquals("hello", new String(read, 0, 5, StandardCharsets.US_ASCII));
+        assertEquals('!', pigpio.serReadByte(handle));
+        assertEquals(PiGpioError.PI_SER_READ_NO_DATA.value(), pigpio.serReadByte(handle));
+        pigpio.serClose(handle);
+    }
+
+    @Test
+    public void testNotifications() throws InterruptedException {
+        BlockingQueue<PiGpioStateChangeEvent> events = new LinkedBlockingQueue<>();
+        pigpio.addPinListener(4, events::add);
+        awaitMonitored(4);
+
+        daemon.level(4, true);
+        daemon.level(5, true);
+        daemon.level(4, false);
+        daemon.watchdog(4);
+
+        PiGpioStateChangeEvent high = events.poll(5, TimeUnit.SECONDS);
+        PiGpioStateChangeEvent low = events.poll(5, TimeUnit.SECONDS);
+        PiGpioStateChangeEvent timeout = events.poll(5, TimeUnit.SECONDS);
+        assertNotNull(timeout);
+        assertEquals(PiGpioState.HIGH, high.state());
+        assertEquals(PiGpioState.LOW, low.state());
+        assertEquals(PiGpioState.UNKNOWN, timeout.state());
+        assertTrue(low.tick() >= high.tick());
+
+        // timestamps are the ticks on the time scale of System.nanoTime(), no later than the delivery; a report
+        // delivered faster than the ones before may only move the time scale back
+        long elapsed = low.timestamp() - high.timestamp();
+        assertTrue(elapsed >= 0 && elapsed <= (low.tick() - high.tick()) * 1000);
+        assertTrue(timeout.timestamp() >= low.timestamp());
+        assertTrue(timeout.timestamp() <= System.nanoTime());
+        assertNull(events.poll(50, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testLatency() {
+        daemon.latency(PiGpioCmd.READ, Duration.ofMillis(100));
+        long begin = System.nanoTime();
+        pigpio.gpioRead(4);
+        assertTrue(System.nanoTime() - begin >= TimeUnit.MILLISECONDS.toNanos(100));
+
+        begin = System.nanoTime();
+        pigpio.gpioWrite(4, PiGpioState.HIGH);
+        assertTrue(System.nanoTime() - begin < TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    private void awaitMonitored(int pin) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((daemon.monitored() & (1 << pin)) == 0) {
+            assertTrue(System.nanoTime() < deadline, "pin " + pin + " not monitored");
+            Thread.sleep(1);
+        }
+    }
+}
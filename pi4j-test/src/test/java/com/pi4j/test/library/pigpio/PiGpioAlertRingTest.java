@@ -0,0 +1,120 @@
+package com.pi4j.test.library.pigpio;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioAlertRingTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpioAlertRing;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the bounded single-producer alert ring used between pigpio's alert thread and the alert dispatcher.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class PiGpioAlertRingTest {
+
+    private static final int ALERTS = 1_000_000;
+
+    @Test
+    public void testCapacity() {
+        assertEquals(128, new PiGpioAlertRing(100).capacity());
+        assertEquals(1, new PiGpioAlertRing(1).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new PiGpioAlertRing(0));
+    }
+
+    @Test
+    public void testOverflow() {
+        PiGpioAlertRing ring = new PiGpioAlertRing(8);
+        for (int i = 0; i < 8; i++)
+            assertTrue(ring.offer(i, i & 1, 1000 + i));
+        assertFalse(ring.offer(8, 0, 1008));
+        assertEquals(1, ring.overflows());
+        assertEquals(8, ring.size());
+
+        // records are drained in order, and drained slots are reused
+        List<Long> ticks = new ArrayList<>();
+        assertEquals(3, ring.drain((pin, level, tick) -> ticks.add(tick), 3));
+        assertEquals(List.of(1000L, 1001L, 1002L), ticks);
+        assertTrue(ring.offer(9, 1, 1009));
+        assertEquals(6, ring.drain((pin, level, tick) -> {
+            assertEquals(tick - 1000, pin);
+            ticks.add(tick);
+        }, Integer.MAX_VALUE));
+        assertEquals(List.of(1000L, 1001L, 1002L, 1003L, 1004L, 1005L, 1006L, 1007L, 1009L), ticks);
+        assertEquals(0, ring.size());
+        assertEquals(1, ring.overflows());
+    }
+
+    @Test
+    public void testSlowConsumerDoesNotBlockProducer() throws Exception {
+        PiGpioAlertRing ring = new PiGpioAlertRing(1024);
+        AtomicBoolean producing = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long[] received = new long[2]; // count, last tick
+
+        Thread consumer = new Thread(() -> {
+            received[1] = -1;
+            try {
+                while (producing.get() || ring.size() > 0) {
+                    if (ring.drain((pin, level, tick) -> {
+                        // the order is kept, even though records are dropped on overflow
+                        assertTrue(tick > received[1]);
+                        assertEquals((int) (tick & 31), pin);
+                        received[1] = tick;
+                        received[0]++;
+                        // a listener stalling now and then
+                        if ((tick & 4095) == 0)
+                            LockSupport.parkNanos(100_000);
+                    }, 256) == 0)
+                        ring.await(TimeUnit.MILLISECONDS.toNanos(10));
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+        consumer.start();
+
+        for (int i = 0; i < ALERTS; i++)
+            ring.offer(i & 31, i & 1, i);
+        producing.set(false);
+        consumer.join(10_000);
+
+        assertFalse(consumer.isAlive());
+        assertNull(failure.get(), () -> "alert consumer failed: " + failure.get());
+        assertEquals(ALERTS, received[0] + ring.overflows());
+    }
+}
@@ -0,0 +1,87 @@
+package com.pi4j.test.library.pigpio;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioBankTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the socket encoding of the PiGpio bank read/set/clear commands against the {@link FakePiGpioDaemon},
+ * which holds the levels of both GPIO banks.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class PiGpioBankTest {
+
+    private FakePiGpioDaemon daemon;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = FakePiGpioDaemon.start();
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        daemon.close();
+    }
+
+    @Test
+    public void testSocketBankCommands() {
+        PiGpio pigpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        try {
+            assertEquals(FakePiGpioDaemon.VERSION, pigpio.gpioInitialise());
+            long commands = daemon.commands();
+
+            // one command switches several pins of a bank
+            pigpio.gpioWrite_Bits_0_31_Set((1 << 4) | (1 << 17) | (1 << 31));
+            assertEquals(commands + 1, daemon.commands());
+            assertEquals(1, daemon.commands(PiGpioCmd.BS1));
+            assertTrue(daemon.level(4) && daemon.level(17) && daemon.level(31));
+            pigpio.gpioWrite_Bits_0_31_Clear(1 << 4);
+            pigpio.gpioWrite_Bits_32_53_Set(0b101);
+            pigpio.gpioWrite_Bits_32_53_Clear(0b001);
+
+            // GPIO 31 is reported in the sign bit without being mistaken for an error
+            assertEquals((1 << 17) | (1 << 31), pigpio.gpioRead_Bits_0_31());
+            assertEquals(0b100, pigpio.gpioRead_Bits_32_53());
+
+            assertThrows(PiGpioException.class, () -> pigpio.gpioWrite_Bits_32_53_Set(1 << 22));
+        } finally {
+            pigpio.gpioTerminate();
+        }
+    }
+}
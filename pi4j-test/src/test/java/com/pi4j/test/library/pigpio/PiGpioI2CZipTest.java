@@ -0,0 +1,111 @@
+package com.pi4j.test.library.pigpio;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioI2CZipTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioI2CZip;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the PiGpio I2C zip step encoding and the socket I2CZ command against the {@link FakePiGpioDaemon}, which
+ * executes the steps on a simulated device of 256 registers with an auto-incrementing register pointer.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class PiGpioI2CZipTest {
+
+    private static final int BUS = 1;
+    private static final int ADDRESS = 0x48;
+
+    private FakePiGpioDaemon daemon;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = FakePiGpioDaemon.start();
+        byte[] registers = daemon.i2cRegisters(BUS, ADDRESS);
+        for (int i = 0; i < registers.length; i++)
+            registers[i] = (byte) (i * 3);
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        daemon.close();
+    }
+
+    @Test
+    public void testStepEncoding() {
+        PiGpioI2CZip steps = PiGpioI2CZip.newBuilder()
+            .address(0x48)
+            .flags(0x1000)
+            .write((byte) 0x10, (byte) 0x20)
+            .read(300);
+
+        assertArrayEquals(new byte[] {
+            4, 0x48,
+            5, 0x00, 0x10,
+            7, 2, 0x10, 0x20,
+            1, 6, 0x2C, 0x01,
+            0 }, steps.build());
+        assertEquals(300, steps.readLength());
+        assertEquals(0, steps.clear().readLength());
+        assertThrows(IllegalArgumentException.class, () -> PiGpioI2CZip.newBuilder().read(70000));
+    }
+
+    @Test
+    public void testSocketZip() {
+        PiGpio pigpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        try {
+            assertEquals(FakePiGpioDaemon.VERSION, pigpio.gpioInitialise());
+            int handle = pigpio.i2cOpen(BUS, ADDRESS);
+
+            // a register write followed by a burst read of 6 registers is one command
+            byte[] burst = pigpio.i2cZip(handle, PiGpioI2CZip.newBuilder().write((byte) 0x3B).read(6));
+            assertArrayEquals(new byte[] { (byte) 0xB1, (byte) 0xB4, (byte) 0xB7, (byte) 0xBA, (byte) 0xBD, (byte) 0xC0 }, burst);
+            assertEquals(1, daemon.commands(PiGpioCmd.I2CZ));
+
+            // read steps are returned together, in step order, at the given offset
+            byte[] buffer = new byte[5];
+            PiGpioI2CZip steps = PiGpioI2CZip.newBuilder()
+                .write((byte) 0x01, (byte) 0x7F).write((byte) 0x01).read(1)
+                .write((byte) 0x02).read(3);
+            assertEquals(4, pigpio.i2cZip(handle, steps, buffer, 1));
+            assertArrayEquals(new byte[] { 0, 0x7F, 6, 9, 12 }, buffer);
+            assertEquals(2, daemon.commands(PiGpioCmd.I2CZ));
+        } finally {
+            pigpio.gpioTerminate();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.pi4j.test.library.pigpio;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioScriptTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioMode;
+import com.pi4j.library.pigpio.PiGpioPud;
+import com.pi4j.library.pigpio.PiGpioScript;
+import com.pi4j.library.pigpio.PiGpioScriptStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the PiGpio script builder and the socket encoding of the script commands against the
+ * {@link FakePiGpioDaemon}, which stores the scripts and reports the parameters they were run with in the script
+ * status.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class PiGpioScriptTest {
+
+    private FakePiGpioDaemon daemon;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = FakePiGpioDaemon.start();
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        daemon.close();
+    }
+
+    @Test
+    public void testBuilder() {
+        String script = PiGpioScript.newBuilder()
+            .mode(PiGpioScript.param(1), PiGpioMode.OUTPUT)
+            .pud(PiGpioScript.param(0), PiGpioPud.UP)
+            .tag(1).read(PiGpioScript.param(0)).jz(2)
+            .write(PiGpioScript.param(1), 1).jmp(3)
+            .tag(2).write(PiGpioScript.param(1), 0)
+            .tag(3).inr(PiGpioScript.var(0)).delayMicros(100).jmp(1)
+            .build();
+
+        assertEquals("M p1 W PUD p0 U TAG 1 R p0 JZ 2 W p1 1 JMP 3 TAG 2 W p1 0 TAG 3 INR v0 DLY 100 JMP 1", script);
+        assertEquals("M 4 3", PiGpioScript.newBuilder().mode(4, PiGpioMode.ALT3).build());
+        assertThrows(IllegalArgumentException.class, () -> PiGpioScript.param(10));
+        assertThrows(IllegalArgumentException.class, () -> PiGpioScript.var(150));
+    }
+
+    @Test
+    public void testSocketScriptCommands() {
+        PiGpio pigpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        try {
+            assertEquals(FakePiGpioDaemon.VERSION, pigpio.gpioInitialise());
+
+            String script = PiGpioScript.newBuilder().tag(1).delayMillis(PiGpioScript.param(0)).jmp(1).build();
+            int id = pigpio.gpioStoreScript(script);
+            assertEquals(script, daemon.script(id));
+            assertEquals(PiGpioScriptStatus.HALTED, pigpio.gpioScriptStatus(id, null));
+
+            pigpio.gpioRunScript(id, 250, -1, 3);
+            int[] params = new int[10];
+            assertEquals(PiGpioScriptStatus.RUNNING, pigpio.gpioScriptStatus(id, params));
+            assertArrayEquals(new int[] { 250, -1, 3, 0, 0, 0, 0, 0, 0, 0 }, params);
+
+            pigpio.gpioStopScript(id);
+            assertEquals(PiGpioScriptStatus.HALTED, pigpio.gpioScriptStatus(id, null));
+            pigpio.gpioDeleteScript(id);
+            assertNull(daemon.script(id));
+
+            assertThrows(IllegalArgumentException.class, () -> pigpio.gpioRunScript(id, new int[11]));
+        } finally {
+            pigpio.gpioTerminate();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.pi4j.test.library.pigpio;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioSocketAllocationBenchmarkTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the heap allocation and throughput of steady-state synchronous PiGpio socket commands, on the calling
+ * thread and on the reader thread of the connection, against the {@link FakePiGpioDaemon}. The registers of the
+ * simulated I2C device count up from 0, so every raw read returns consecutive bytes.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class PiGpioSocketAllocationBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketAllocationBenchmarkTest.class);
+
+    private static final int WARMUP = 20_000;
+    private static final int CALLS = 20_000;
+    private static final int ROUNDS = 3;
+
+    /** Tolerated average allocation per command, e.g. for code still being compiled after the warmup */
+    private static final double MAX_BYTES_PER_CALL = 8;
+
+    private static final int BUS = 1;
+    private static final int ADDRESS = 0x48;
+
+    private FakePiGpioDaemon daemon;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = FakePiGpioDaemon.start();
+        daemon.level(17, true);
+        byte[] registers = daemon.i2cRegisters(BUS, ADDRESS);
+        for (int i = 0; i < registers.length; i++)
+            registers[i] = (byte) i;
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        daemon.close();
+    }
+
+    @Test
+    public void testSteadyStateAllocation() throws Exception {
+        Object threads = threadBean();
+        Method allocatedBytes = allocatedBytesMethod(threads);
+
+        PiGpio pigpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        assertEquals(FakePiGpioDaemon.VERSION, pigpio.gpioInitialise());
+        try {
+            int handle = pigpio.i2cOpen(BUS, ADDRESS);
+            byte[] read = new byte[16];
+            byte[] write = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+            Command[] commands = {
+                new Command("gpioWrite", i -> pigpio.gpioWrite(18, (i & 1) == 0 ? PiGpioState.LOW : PiGpioState.HIGH)),
+                new Command("gpioRead", i -> assertEquals(PiGpioState.HIGH, pigpio.gpioRead(17))),
+                new Command("i2cReadDevice", i -> {
+                    assertEquals(read.length, pigpio.i2cReadDevice(handle, read, 0, read.length));
+                    assertEquals((byte) (read[0] + read.length - 1), read[read.length - 1]);
+                }),
+                new Command("i2cWriteDevice", i -> pigpio.i2cWriteDevice(handle, write, 0, write.length))
+            };
+
+            Thread reader = readerThread();
+            for (Command command : commands) {
+                for (int i = 0; i < WARMUP; i++)
+                    command.call.run(i);
+
+                // a compilation finishing during a round may allocate, so the leanest round counts
+                double callerBytes = Double.MAX_VALUE;
+                double readerBytes = Double.MAX_VALUE;
+                for (int round = 0; round < ROUNDS && (callerBytes >= MAX_BYTES_PER_CALL || readerBytes >= MAX_BYTES_PER_CALL); round++) {
+                    long callerBefore = (long) allocatedBytes.invoke(threads, Thread.currentThread().getId());
+                    long readerBefore = (long) allocatedBytes.invoke(threads, reader.getId());
+                    long begin = System.nanoTime();
+                    for (int i = 0; i < CALLS; i++)
+                        command.call.run(i);
+                    long elapsed = System.nanoTime() - begin;
+                    callerBytes = Math.min(callerBytes, ((long) allocatedBytes.invoke(threads, Thread.currentThread().getId()) - callerBefore) / (double) CALLS);
+                    readerBytes = Math.min(readerBytes, ((long) allocatedBytes.invoke(threads, reader.getId()) - readerBefore) / (double) CALLS);
+
+                    logger.info("PiGpio socket {}: {} calls/second; allocated bytes/call: caller = {}, reader = {}",
+                        command.name, Math.round(CALLS / (elapsed / 1_000_000_000.0)), callerBytes, readerBytes);
+                }
+                double callerBytesPerCall = callerBytes;
+                double readerBytesPerCall = readerBytes;
+                assertTrue(callerBytesPerCall < MAX_BYTES_PER_CALL, () -> command.name + " allocates " + callerBytesPerCall + " bytes/call");
+                assertTrue(readerBytesPerCall < MAX_BYTES_PER_CALL, () -> command.name + " reader allocates " + readerBytesPerCall + " bytes/call");
+            }
+        } finally {
+            pigpio.gpioTerminate();
+        }
+    }
+
+    private static Object threadBean() throws ReflectiveOperationException {
+        // java.management is not required by the test module, so the thread bean is accessed reflectively
+        return Class.forName("java.lang.management.ManagementFactory").getMethod("getThreadMXBean").invoke(null);
+    }
+
+    private static Method allocatedBytesMethod(Object threads) {
+        try {
+            Class<?> type = Class.forName("com.sun.management.ThreadMXBean");
+            assumeTrue(type.isInstance(threads), "thread allocation accounting not available");
+            assumeTrue((boolean) type.getMethod("isThreadAllocatedMemoryEnabled").invoke(threads),
+                "thread allocation accounting not enabled");
+            return type.getMethod("getThreadAllocatedBytes", long.class);
+        } catch (ReflectiveOperationException e) {
+            assumeTrue(false, "thread allocation accounting not available: " + e);
+            return null;
+        }
+    }
+
+    private Thread readerThread() {
+        String prefix = "pigpio-" + daemon.host() + ":" + daemon.port() + "-";
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith(prefix) && thread.getName().endsWith("-reader"))
+                return thread;
+        }
+        fail("no PiGpio socket reader thread");
+        return null;
+    }
+
+    private interface Call {
+        void run(int i) throws Exception;
+    }
+
+    private static final class Command {
+        private final String name;
+        private final Call call;
+
+        private Command(String name, Call call) {
+            this.name = name;
+            this.call = call;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.pi4j.test.library.pigpio;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioSocketLatencyBenchmarkTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the throughput and round trip latency of the PiGpio socket client features against a
+ * {@link FakePiGpioDaemon}, so the remote path can be compared between changes on any machine. The numbers include
+ * the loopback network stack and the simulation of the daemon, but no hardware access.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class PiGpioSocketLatencyBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketLatencyBenchmarkTest.class);
+
+    private static final int WARMUP = 5_000;
+    private static final int CALLS = 10_000;
+    private static final int TOGGLES = 2_000;
+    private static final int PIN = 4;
+
+    private FakePiGpioDaemon daemon;
+    private PiGpio pigpio;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = FakePiGpioDaemon.start();
+        pigpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        assertEquals(FakePiGpioDaemon.VERSION, pigpio.gpioInitialise());
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        pigpio.gpioTerminate();
+        daemon.close();
+    }
+
+    @Test
+    public void testCommandLatency() throws Exception {
+        int i2c = pigpio.i2cOpen(1, 0x48);
+        int spi = pigpio.spiOpen(0, 1_000_000, 0);
+        int serial = pigpio.serOpen("/dev/ttyS0", 115200, 0);
+        byte[] write = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 };
+        byte[] read = new byte[write.length];
+
+        Command[] commands = {
+            new Command("gpioWrite", i -> pigpio.gpioWrite(PIN, (i & 1) == 0 ? PiGpioState.LOW : PiGpioState.HIGH)),
+            new Command("gpioRead", i -> pigpio.gpioRead(PIN)),
+            new Command("gpioRead_Bits_0_31", i -> pigpio.gpioRead_Bits_0_31()),
+            new Command("i2cReadByteData", i -> pigpio.i2cReadByteData(i2c, 0x10)),
+            new Command("i2cWriteByteData", i -> pigpio.i2cWriteByteData(i2c, 0x10, (byte) i)),
+            new Command("i2cWriteBlockData", i -> pigpio.i2cWriteBlockData(i2c, 0x20, write)),
+            new Command("i2cReadBlockData", i -> assertEquals(read.length, pigpio.i2cReadBlockData(i2c, 0x20, read))),
+            new Command("spiXfer", i -> assertEquals(write.length, pigpio.spiXfer(spi, write, 0, read, 0, write.length))),
+            new Command("serWrite+serRead", i -> {
+                pigpio.serWrite(serial, write, 0, write.length);
+                assertEquals(write.length, pigpio.serRead(serial, read, 0, write.length));
+            })
+        };
+        for (Command command : commands) {
+            long[] nanos = measure(command);
+            logger.info("PiGpio socket {}: {} calls/second; latency p50 = {} us, p99 = {} us",
+                command.name, rate(nanos), micros(nanos, 0.50), micros(nanos, 0.99));
+        }
+    }
+
+    @Test
+    public void testDaemonLatency() throws Exception {
+        Duration latency = Duration.ofMillis(1);
+        daemon.latency(latency);
+        Command command = new Command("gpioRead with 1 ms daemon latency", i -> pigpio.gpioRead(PIN));
+        long[] nanos = measure(command, 100, 500);
+        logger.info("PiGpio socket {}: {} calls/second; latency p50 = {} us, p99 = {} us",
+            command.name, rate(nanos), micros(nanos, 0.50), micros(nanos, 0.99));
+        assertTrue(nanos[0] >= latency.toNanos(), "round trip shorter than the daemon latency");
+    }
+
+    @Test
+    public void testNotificationLatency() throws InterruptedException {
+        BlockingQueue<Long> received = new LinkedBlockingQueue<>();
+        pigpio.addPinListener(PIN, event -> received.add(System.nanoTime()));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((daemon.monitored() & (1 << PIN)) == 0) {
+            assertTrue(System.nanoTime() < deadline, "pin not monitored");
+            Thread.sleep(1);
+        }
+
+        long[] nanos = new long[TOGGLES];
+        for (int i = 0; i < TOGGLES; i++) {
+            long begin = System.nanoTime();
+            daemon.level(PIN, (i & 1) == 0);
+            Long end = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(end, "no notification for toggle " + i);
+            nanos[i] = end - begin;
+        }
+        Arrays.sort(nanos);
+        logger.info("PiGpio socket notifications: {} changes/second; latency p50 = {} us, p99 = {} us",
+            rate(nanos), micros(nanos, 0.50), micros(nanos, 0.99));
+    }
+
+    private static long[] measure(Command command) throws Exception {
+        return measure(command, WARMUP, CALLS);
+    }
+
+    private static long[] measure(Command command, int warmup, int calls) throws Exception {
+        for (int i = 0; i < warmup; i++)
+            command.call.run(i);
+        long[] nanos = new long[calls];
+        for (int i = 0; i < calls; i++) {
+            long begin = System.nanoTime();
+            command.call.run(i);
+            nanos[i] = System.nanoTime() - begin;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static long rate(long[] sortedNanos) {
+        long total = 0;
+        for (long nanos : sortedNanos)
+            total += nanos;
+        return Math.round(sortedNanos.length / (total / 1_000_000_000.0));
+    }
+
+    private static double micros(long[] sortedNanos, double percentile) {
+        long nanos = sortedNanos[(int) Math.min(sortedNanos.length - 1, Math.round(percentile * sortedNanos.length))];
+        return Math.round(nanos / 100.0) / 10.0;
+    }
+
+    private interface Call {
+        void run(int i) throws Exception;
+    }
+
+    private static final class Command {
+        private final String name;
+        private final Call call;
+
+        private Command(String name, Call call) {
+            this.name = name;
+            this.call = call;
+        }
+    }
+}
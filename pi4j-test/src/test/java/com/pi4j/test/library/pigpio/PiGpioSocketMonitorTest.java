@@ -0,0 +1,224 @@
+package com.pi4j.test.library.pigpio;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioSocketMonitorTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioStateChangeEvent;
+import com.pi4j.library.pigpio.PiGpioStateChangeListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_ALIVE;
+import static com.pi4j.library.pigpio.PiGpioConst.PI_NTFY_FLAGS_WDOG;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the decoding of GPIO notification reports against the {@link FakePiGpioDaemon}, which streams a scripted
+ * sequence of reports on the notification socket: a tick wrap, keep-alive and watchdog reports, a burst of reports
+ * in a single write, and a report split across several writes.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class PiGpioSocketMonitorTest {
+
+    private static final int PIN = 4;
+    private static final int OTHER_PIN = 5;
+    private static final int BURST = 2_000;
+
+    private FakePiGpioDaemon daemon;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = FakePiGpioDaemon.start();
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        daemon.close();
+    }
+
+    private void streamReports() {
+        // the 32-bit tick wraps between the first and the second report
+        daemon.report(
+            new int[] { 0, 0xFFFFFF00, 1 << PIN },
+            new int[] { 0, 0x10, 0 },
+            // keep-alive reports carry no level change
+            new int[] { PI_NTFY_FLAGS_ALIVE, 0x20, 1 << PIN },
+            // watchdog timeout of the monitored pin
+            new int[] { PI_NTFY_FLAGS_WDOG | PIN, 0x30, 0 },
+            // a change of a pin which is not monitored
+            new int[] { 0, 0x40, 1 << OTHER_PIN });
+
+        // a burst of edges written at once
+        int[][] burst = new int[BURST][];
+        for (int i = 0; i < BURST; i++)
+            burst[i] = new int[] { 0, 0x100 + i, (i % 2 == 0) ? 1 << PIN : 0 };
+        daemon.report(burst);
+
+        // a single report split across several writes
+        daemon.report(5, Duration.ofMillis(20), new int[] { 0, 0x10000, 1 << PIN });
+    }
+
+    @Test
+    public void testNotificationDecoding() throws Exception {
+        PiGpio pigpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        assertEquals(FakePiGpioDaemon.VERSION, pigpio.gpioInitialise());
+        List<PiGpioStateChangeEvent> events = new CopyOnWriteArrayList<>();
+        try {
+            pigpio.addPinListener(PIN, events::add);
+            pigpio.gpioNotifications(PIN, true);
+            // the daemon starts monitoring right after answering the NB command
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (daemon.monitored() == 0 && System.currentTimeMillis() < deadline)
+                Thread.sleep(10);
+            assertEquals(1 << PIN, daemon.monitored());
+            streamReports();
+
+            int expected = 3 + BURST + 1;
+            deadline = System.currentTimeMillis() + 10_000;
+            while (events.size() < expected && System.currentTimeMillis() < deadline)
+                Thread.sleep(10);
+            assertEquals(expected, events.size());
+
+            // the tick is unwrapped into 64 bits
+            assertEvent(events.get(0), PiGpioState.HIGH, 0xFFFFFF00L);
+            assertEvent(events.get(1), PiGpioState.LOW, 0x1_0000_0010L);
+            assertEvent(events.get(2), PiGpioState.UNKNOWN, 0x1_0000_0030L);
+            for (int i = 0; i < BURST; i++)
+                assertEvent(events.get(3 + i), (i % 2 == 0) ? PiGpioState.HIGH : PiGpioState.LOW, 0x1_0000_0100L + i);
+            assertEvent(events.get(3 + BURST), PiGpioState.HIGH, 0x1_0001_0000L);
+        } finally {
+            pigpio.gpioTerminate();
+        }
+    }
+
+    @Test
+    public void testLevelListener() throws Exception {
+        PiGpio pigpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        assertEquals(FakePiGpioDaemon.VERSION, pigpio.gpioInitialise());
+        List<PiGpioState> states = new CopyOnWriteArrayList<>();
+        List<Long> ticks = new CopyOnWriteArrayList<>();
+        try {
+            // the level listener alone enables the notifications of its pin
+            pigpio.addPinLevelListener(PIN, (pin, state, tick, timestamp) -> {
+                assertEquals(PIN, pin);
+                states.add(state);
+                ticks.add(tick);
+            });
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (daemon.monitored() == 0 && System.currentTimeMillis() < deadline)
+                Thread.sleep(10);
+            assertEquals(1 << PIN, daemon.monitored());
+            streamReports();
+
+            int expected = 3 + BURST + 1;
+            deadline = System.currentTimeMillis() + 10_000;
+            while (states.size() < expected && System.currentTimeMillis() < deadline)
+                Thread.sleep(10);
+            assertEquals(expected, states.size());
+
+            assertEquals(List.of(PiGpioState.HIGH, PiGpioState.LOW, PiGpioState.UNKNOWN), states.subList(0, 3));
+            assertEquals(List.of(0xFFFFFF00L, 0x1_0000_0010L, 0x1_0000_0030L), ticks.subList(0, 3));
+            for (int i = 0; i < BURST; i++) {
+                assertEquals((i % 2 == 0) ? PiGpioState.HIGH : PiGpioState.LOW, states.get(3 + i));
+                assertEquals(0x1_0000_0100L + i, ticks.get(3 + i));
+            }
+            assertEquals(PiGpioState.HIGH, states.get(3 + BURST));
+        } finally {
+            pigpio.gpioTerminate();
+        }
+    }
+
+    @Test
+    public void testBurstDispatchedInBatches() throws Exception {
+        PiGpio pigpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        assertEquals(FakePiGpioDaemon.VERSION, pigpio.gpioInitialise());
+        List<Integer> batches = new CopyOnWriteArrayList<>();
+        List<PiGpioStateChangeEvent> events = new CopyOnWriteArrayList<>();
+        try {
+            pigpio.addPinListener(PIN, new PiGpioStateChangeListener() {
+                @Override
+                public void onChange(PiGpioStateChangeEvent event) {
+                    fail("changes of a burst are delivered together");
+                }
+
+                @Override
+                public void onChanges(List<PiGpioStateChangeEvent> changes) {
+                    batches.add(changes.size());
+                    events.addAll(changes);
+                }
+            });
+            pigpio.gpioNotifications(PIN, true);
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (daemon.monitored() == 0 && System.currentTimeMillis() < deadline)
+                Thread.sleep(10);
+            assertEquals(1 << PIN, daemon.monitored());
+
+            int[][] burst = new int[BURST][];
+            for (int i = 0; i < BURST; i++)
+                burst[i] = new int[] { 0, 0x100 + i, (i % 2 == 0) ? 1 << PIN : 0 };
+            daemon.report(burst);
+
+            deadline = System.currentTimeMillis() + 10_000;
+            while (events.size() < BURST && System.currentTimeMillis() < deadline)
+                Thread.sleep(10);
+            assertEquals(BURST, events.size());
+            assertTrue(batches.size() < BURST / 10, () -> "burst dispatched in " + batches.size() + " calls");
+            assertEquals(BURST, batches.stream().mapToInt(Integer::intValue).sum());
+            for (int i = 0; i < BURST; i++)
+                assertEvent(events.get(i), (i % 2 == 0) ? PiGpioState.HIGH : PiGpioState.LOW, 0x100L + i);
+        } finally {
+            pigpio.gpioTerminate();
+        }
+    }
+
+    @Test
+    public void testBank2PinsCannotBeMonitored() {
+        PiGpio pigpio = PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        assertEquals(FakePiGpioDaemon.VERSION, pigpio.gpioInitialise());
+        try {
+            assertThrows(IllegalArgumentException.class, () -> pigpio.gpioNotifications(40, true));
+        } finally {
+            pigpio.gpioTerminate();
+        }
+    }
+
+    private static void assertEvent(PiGpioStateChangeEvent event, PiGpioState state, long tick) {
+        assertEquals(PIN, event.pin());
+        assertEquals(state, event.state());
+        assertEquals(tick, event.tick());
+    }
+}
@@ -0,0 +1,185 @@
+package com.pi4j.test.library.pigpio;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioSocketPipelineTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioSocket;
+import com.pi4j.library.pigpio.PiGpioState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the pipelined PiGpio socket transport against the {@link FakePiGpioDaemon}. Every response echoes the
+ * parameters of its command, and GPIO reads answer the simulated level of the pin, which is high for odd pins.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class PiGpioSocketPipelineTest {
+
+    private static final int PINS = 54;
+
+    private FakePiGpioDaemon daemon;
+    private PiGpioSocket pigpio;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = FakePiGpioDaemon.start();
+        for (int pin = 0; pin < PINS; pin++)
+            daemon.level(pin, (pin & 1) != 0);
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException, InterruptedException {
+        try {
+            if (pigpio != null)
+                pigpio.gpioTerminate();
+            pigpio = null;
+
+            // the reader threads of the connections end with them
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (readerThreads() > 0 && System.currentTimeMillis() < deadline)
+                Thread.sleep(10);
+            assertEquals(0, readerThreads());
+        } finally {
+            daemon.close();
+        }
+    }
+
+    private PiGpioSocket connect() {
+        pigpio = (PiGpioSocket) PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        assertEquals(FakePiGpioDaemon.VERSION, pigpio.gpioInitialise());
+        return pigpio;
+    }
+
+    private long readerThreads() {
+        String prefix = "pigpio-" + daemon.host() + ":" + daemon.port() + "-";
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(t -> t.getName().startsWith(prefix) && t.getName().endsWith("-reader") && t.isAlive())
+            .count();
+    }
+
+    @Test
+    public void testPipelinedResponsesInOrder() throws Exception {
+        PiGpioSocket pigpio = connect();
+        List<CompletableFuture<PiGpioPacket>> responses = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++)
+            responses.add(pigpio.sendPacketAsync(new PiGpioPacket(PiGpioCmd.READ, i % PINS, i)));
+
+        for (int i = 0; i < responses.size(); i++) {
+            PiGpioPacket rx = responses.get(i).get(5, TimeUnit.SECONDS);
+            assertEquals(i, rx.p2());
+            assertEquals(i % PINS & 1, rx.result());
+        }
+    }
+
+    @Test
+    public void testConcurrentSynchronousCallers() throws Exception {
+        PiGpioSocket pigpio = connect();
+        List<CompletableFuture<Void>> callers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            final int thread = t;
+            callers.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    // every caller waits for each response in turn; the echoed parameters reveal mixed-up responses
+                    PiGpioPacket rx = pigpio.sendPacketAsync(new PiGpioPacket(PiGpioCmd.READ, thread, i)).join();
+                    assertEquals(thread, rx.p1());
+                    assertEquals(i, rx.p2());
+                    assertEquals(thread & 1, rx.result());
+                }
+            }));
+        }
+        CompletableFuture.allOf(callers.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testInterruptedWriterKeepsConnection() throws Exception {
+        PiGpioSocket pigpio = connect();
+        List<CompletableFuture<PiGpioPacket>> responses = new ArrayList<>();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++)
+                responses.add(pigpio.sendPacketAsync(new PiGpioPacket(PiGpioCmd.READ, 1, i)));
+        });
+        writer.start();
+        while (writer.isAlive())
+            writer.interrupt();
+        writer.join();
+
+        // an interrupt while writing the commands must not close the connection the sent commands wait on; only
+        // commands interrupted waiting for a free in-flight slot fail, without being sent
+        int answered = 0;
+        for (CompletableFuture<PiGpioPacket> response : responses) {
+            try {
+                assertEquals(1, response.get(5, TimeUnit.SECONDS).result());
+                answered++;
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause().getCause() instanceof InterruptedException, () -> "command failed: " + e);
+            }
+        }
+        assertTrue(answered > 0);
+    }
+
+    @Test
+    public void testTimedOutCommandIsAbandoned() throws Exception {
+        PiGpioSocket pigpio = connect();
+        daemon.latency(PiGpioCmd.TICK, Duration.ofSeconds(1));
+        assertThrows(PiGpioException.class, () -> pigpio.gpioTick());
+        daemon.latency(PiGpioCmd.TICK, Duration.ZERO);
+
+        // the next synchronous commands of this thread reconnect and get their own responses
+        for (int pin = 0; pin < PINS; pin++)
+            assertEquals((pin & 1) != 0 ? PiGpioState.HIGH : PiGpioState.LOW, pigpio.gpioRead(pin));
+    }
+
+    @Test
+    public void testConnectionLossFailsPendingCommands() throws Exception {
+        PiGpioSocket pigpio = connect();
+        daemon.latency(PiGpioCmd.TICK, Duration.ofSeconds(1));
+        CompletableFuture<PiGpioPacket> lost = pigpio.sendPacketAsync(new PiGpioPacket(PiGpioCmd.TICK));
+        daemon.disconnect();
+        ExecutionException e = assertThrows(ExecutionException.class, () -> lost.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof PiGpioException);
+
+        // the next command reconnects
+        assertEquals(1, pigpio.sendPacketAsync(new PiGpioPacket(PiGpioCmd.READ, 1)).get(5, TimeUnit.SECONDS).result());
+    }
+}
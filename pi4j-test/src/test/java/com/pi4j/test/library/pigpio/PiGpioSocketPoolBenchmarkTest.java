@@ -0,0 +1,173 @@
+package com.pi4j.test.library.pigpio;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: TESTING  :: Unit/Integration Tests
+ * FILENAME      :  PiGpioSocketPoolBenchmarkTest.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioCmd;
+import com.pi4j.library.pigpio.PiGpioPacket;
+import com.pi4j.library.pigpio.PiGpioSocket;
+import com.pi4j.library.pigpio.PiGpioSocket.ConnectionAssignment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares concurrent synchronous PiGpio callers sharing one connection with a pool of connections, against the
+ * {@link FakePiGpioDaemon}. Like the real daemon, the fake executes the commands of each connection one after another,
+ * and it is given a processing latency of a millisecond per command. What a pool gains is that the daemon processes
+ * commands of several connections at the same time; the throughput is only logged, as it depends on the machine.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public class PiGpioSocketPoolBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioSocketPoolBenchmarkTest.class);
+
+    private static final int THREADS = 8;
+    private static final int CALLS = 100;
+
+    private FakePiGpioDaemon daemon;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        daemon = FakePiGpioDaemon.start().latency(Duration.ofMillis(1));
+        for (int pin = 0; pin < THREADS; pin++)
+            daemon.level(pin, (pin & 1) != 0);
+    }
+
+    @AfterEach
+    public void afterTest() throws IOException {
+        daemon.close();
+    }
+
+    private PiGpioSocket connect(int connections, ConnectionAssignment assignment) {
+        PiGpioSocket pigpio = (PiGpioSocket) PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        pigpio.connections(connections, assignment);
+        assertEquals(FakePiGpioDaemon.VERSION, pigpio.gpioInitialise());
+        return pigpio;
+    }
+
+    @Test
+    public void testInvalidConnectionCount() {
+        PiGpioSocket pigpio = (PiGpioSocket) PiGpio.newSocketInstance(daemon.host(), daemon.port());
+        assertEquals(1, pigpio.connections());
+        assertEquals(ConnectionAssignment.LEAST_BUSY, pigpio.connectionAssignment());
+        assertThrows(IllegalArgumentException.class, () -> pigpio.connections(0, ConnectionAssignment.LEAST_BUSY));
+    }
+
+    @Test
+    public void testPerThreadAssignment() throws Exception {
+        PiGpioSocket pigpio = connect(4, ConnectionAssignment.PER_THREAD);
+        try {
+            callRate(pigpio);
+            // every connection of the pool serves two of the threads
+            assertEquals(4, daemon.connections());
+        } finally {
+            pigpio.gpioTerminate();
+        }
+    }
+
+    @Test
+    public void testPooledConcurrency() throws Exception {
+        double singleRate;
+        PiGpioSocket pigpio = connect(1, ConnectionAssignment.LEAST_BUSY);
+        try {
+            singleRate = callRate(pigpio);
+            assertEquals(1, daemon.connections());
+            assertEquals(1, daemon.maxConcurrentCommands());
+        } finally {
+            pigpio.gpioTerminate();
+        }
+
+        // the daemon notices the closed connection asynchronously
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (daemon.connections() > 0 && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+
+        double pooledRate;
+        pigpio = connect(4, ConnectionAssignment.LEAST_BUSY);
+        try {
+            pooledRate = callRate(pigpio);
+            assertTrue(daemon.connections() <= 4, () -> "pool opened " + daemon.connections() + " connections");
+        } finally {
+            pigpio.gpioTerminate();
+        }
+        int concurrency = daemon.maxConcurrentCommands();
+
+        logger.info("PiGpio socket commands/second with {} threads: single connection = {}, pool of 4 = {} "
+            + "({} commands processed at once)", THREADS, Math.round(singleRate), Math.round(pooledRate), concurrency);
+
+        // with the daemon busy for a millisecond per command, four connections serve up to four callers at once
+        assertTrue(concurrency > 1 && concurrency <= 4, concurrency + " commands processed at once");
+    }
+
+    private double callRate(PiGpioSocket pigpio) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            Thread caller = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < CALLS; i++) {
+                        // the echoed parameters reveal mixed-up responses
+                        PiGpioPacket rx = pigpio.sendPacketAsync(new PiGpioPacket(PiGpioCmd.READ, thread, i)).join();
+                        assertEquals(i, rx.p2());
+                        assertEquals(thread & 1, rx.result());
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            caller.start();
+            threads.add(caller);
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+        long elapsed = System.nanoTime() - begin;
+
+        assertNull(failure.get(), () -> "PiGpio command failed: " + failure.get());
+        return THREADS * CALLS / (elapsed / 1_000_000_000.0);
+    }
+}
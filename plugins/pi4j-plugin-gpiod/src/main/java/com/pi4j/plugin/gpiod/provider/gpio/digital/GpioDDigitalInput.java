@@ -8,8 +8,6 @@ import com.pi4j.library.gpiod.internal.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.Future;
-
 /**
  * <p>PiGpioDigitalOutput class.</p>
  *
@@ -18,22 +16,28 @@ import java.util.concurrent.Future;
  */
 public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput {
     private static final Logger logger = LoggerFactory.getLogger(GpioDDigitalInput.class);
-    private static final long inputMaxWaitNs = 10 * 1000 * 1000; // 10 ms
+    private final GpioDEventLoop eventLoop;
     private final GpioLine line;
     private final long debounceNs;
-    private volatile boolean inputListenerRun;
-    private volatile boolean inputListenerActive;
-    private Future<?> inputListener;
+    private int eventFd = -1;
+
+    // debounce state, only accessed by the event loop thread
+    private DigitalState lastState;
+    private DigitalState pendingState;
+    private long pendingTimeNs;
+    private volatile long debounceDeadline = Long.MAX_VALUE;
 
     /**
      * <p>Constructor for GpioDDigitalInput.</p>
      *
-     * @param line     a {@link com.pi4j.library.gpiod.internal.GpioLine} object.
-     * @param provider a {@link DigitalInputProvider} object.
-     * @param config   a {@link DigitalInputConfig} object.
+     * @param eventLoop the {@link GpioDEventLoop} delivering the line events
+     * @param line      a {@link com.pi4j.library.gpiod.internal.GpioLine} object.
+     * @param provider  a {@link DigitalInputProvider} object.
+     * @param config    a {@link DigitalInputConfig} object.
      */
-    public GpioDDigitalInput(GpioLine line, DigitalInputProvider provider, DigitalInputConfig config) {
+    GpioDDigitalInput(GpioDEventLoop eventLoop, GpioLine line, DigitalInputProvider provider, DigitalInputConfig config) {
         super(provider, config);
+        this.eventLoop = eventLoop;
         this.line = line;
         if (config.getDebounce() == 0) {
             this.debounceNs = 0;
@@ -60,46 +64,25 @@ public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput
                     this.line.requestBothEdgeEventsFlags(this.config.getId(), LineRequestFlag.BIAS_DISABLE.getVal());
                     break;
             }
+            this.eventFd = this.line.eventGetFd();
         } catch (GpioDException e) {
             throw new InitializeException("Failed to initialize input " + this.id, e);
         }
         super.initialize(context);
 
-        this.inputListenerRun = true;
-        this.inputListener = context.submitTask(this::monitorLineEvents);
+        this.eventLoop.register(this);
         return this;
     }
 
     @Override
     public DigitalInput shutdown(Context context) throws ShutdownException {
         super.shutdown(context);
-        if (this.inputListener != null)
-            shutdownInputListener();
-        return this;
-    }
-
-    private void shutdownInputListener() {
-        this.inputListenerRun = true;
-        if (!this.inputListenerActive)
-            return;
-        if (this.inputListener.isDone())
-            return;
-
-        if (!this.inputListener.cancel(true))
-            logger.error("Failed to cancel input listener!");
-
-        long start = System.currentTimeMillis();
-        while (this.inputListenerActive) {
-            if (System.currentTimeMillis() - start > 5000L)
-                throw new IllegalArgumentException("Input listener didn't stop in 5s");
-            try {
-                Thread.sleep(0L, 500);
-            } catch (InterruptedException e) {
-                logger.warn("Interrupted, while waiting for input listener to stop");
-            }
+        if (this.eventFd >= 0) {
+            this.eventLoop.unregister(this);
+            this.eventFd = -1;
+            logger.info("Shutdown input listener for {}", this.id);
         }
-
-        logger.info("Shutdown input listener for {}", this.id);
+        return this;
     }
 
     @Override
@@ -107,52 +90,67 @@ public class GpioDDigitalInput extends DigitalInputBase implements DigitalInput
         return DigitalState.getState(this.line.getValue());
     }
 
-    private void monitorLineEvents() {
-        this.inputListenerActive = true;
-        GpioDContext gpioDContext = GpioDContext.getInstance();
-        DigitalState lastState = null;
-        GpioLineEvent lineEvent = GpioDContext.getInstance().openLineEvent();
-
-        try {
-            while (this.inputListenerRun && this.inputListener != null && !this.inputListener.isCancelled()) {
-                long debounceNs = this.debounceNs;
-                // We have to use this function before calling eventRead() directly, since native methods can't be interrupted.
-                // eventRead() is blocking and prevents thread interrupt while running
-                while (!this.line.eventWait(inputMaxWaitNs)) {
-                    if (!this.inputListenerRun || this.inputListener == null || this.inputListener.isCancelled())
-                        return;
-                }
-
-                this.line.eventRead(lineEvent);
-                long currentTime = System.nanoTime();
+    /**
+     * @return the file descriptor delivering the edge events of the line
+     */
+    int eventFd() {
+        return this.eventFd;
+    }
 
-                // Perform debouncing
-                // If the event is too new to be sure that it is debounced then ...
-                while (lineEvent.getTimeNs() + debounceNs >= currentTime) {
-                    if (!this.inputListenerRun || this.inputListener == null || this.inputListener.isCancelled())
-                        return;
+    /**
+     * @return the {@link System#nanoTime()} at which a pending debounced state settles, or {@link Long#MAX_VALUE}
+     */
+    long debounceDeadline() {
+        return this.debounceDeadline;
+    }
 
-                    // ... wait for remaining debounce time and watch out for new event(s)
-                    if (this.line.eventWait(
-                        Math.min(inputMaxWaitNs, lineEvent.getTimeNs() + debounceNs - currentTime))) {
-                        // Repeat if a second event occurred withing debounce interval
-                        this.line.eventRead(lineEvent);
-                    }
+    /**
+     * Called by the event loop with the events read from the line.
+     *
+     * @param events the events, oldest first
+     * @param count  the number of events
+     * @param nowNs  the current {@link System#nanoTime()}
+     */
+    void onLineEvents(GpioLineEventBuffer events, int count, long nowNs) {
+        for (int i = 0; i < count; i++) {
+            boolean rising = events.getType(i) == LineEvent.RISING_EDGE;
+            DigitalState newState = DigitalState.getState(rising);
+            // kernel event times use the same clock as System.nanoTime()
+            long timeNs = events.getTimeNs(i);
+            if (this.debounceNs == 0) {
+                apply(newState, timeNs);
+            } else {
+                // every event (re)starts the debounce interval
+                this.pendingState = newState;
+                this.pendingTimeNs = timeNs;
+                this.debounceDeadline = timeNs + this.debounceNs;
+            }
+        }
+        onDebounceTimeout(nowNs);
+    }
 
-                    currentTime = System.nanoTime();
-                }
+    /**
+     * Called by the event loop to apply a pending debounced state once no further event occurred within the
+     * debounce interval.
+     *
+     * @param nowNs the current {@link System#nanoTime()}
+     */
+    void onDebounceTimeout(long nowNs) {
+        if (this.pendingState != null && nowNs > this.debounceDeadline) {
+            DigitalState newState = this.pendingState;
+            this.pendingState = null;
+            this.debounceDeadline = Long.MAX_VALUE;
+            // the debounced change is timestamped with the edge that settled
+            apply(newState, this.pendingTimeNs);
+        }
+    }
 
-                // Apply event only if the new state is not the same as the last state.
-                DigitalState newState = DigitalState.getState(lineEvent.getType() == LineEvent.RISING_EDGE);
-                if (lastState != newState) {
-                    lastState = newState;
-                    this.dispatch(new DigitalStateChangeEvent<>(this, newState));
-                }
-            }
-        } finally {
-            if (lineEvent != null)
-                gpioDContext.closeLineEvent(lineEvent);
-            this.inputListenerActive = false;
+    private void apply(DigitalState newState, long timeNs) {
+        // Apply event only if the new state is not the same as the last state; counters of this input count the
+        // debounced changes dispatched here, like those of any other input.
+        if (this.lastState != newState) {
+            this.lastState = newState;
+            this.dispatch(newState, timeNs);
         }
     }
 }
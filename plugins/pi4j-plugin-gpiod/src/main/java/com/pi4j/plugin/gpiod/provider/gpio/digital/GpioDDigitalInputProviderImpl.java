@@ -9,11 +9,14 @@ import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
 import com.pi4j.io.gpio.digital.DigitalInputProvider;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalPort;
 import com.pi4j.library.gpiod.internal.GpioDContext;
 import com.pi4j.library.gpiod.internal.GpioLine;
 
 public class GpioDDigitalInputProviderImpl extends DigitalInputProviderBase implements GpioDDigitalInputProvider {
 
+    private final GpioDEventLoop eventLoop = new GpioDEventLoop();
+
     /**
      * <p>Constructor for GpioDDigitalInputProviderImpl.</p>
      */
@@ -29,11 +32,21 @@ public class GpioDDigitalInputProviderImpl extends DigitalInputProviderBase impl
     public DigitalInput create(DigitalInputConfig config) {
         // create new I/O instance based on I/O config
         GpioLine line = GpioDContext.getInstance().getOrOpenLine(config.address());
-        GpioDDigitalInput digitalInput = new GpioDDigitalInput(line, this, config);
+        GpioDDigitalInput digitalInput = new GpioDDigitalInput(this.eventLoop, line, this, config);
         this.context.registry().add(digitalInput);
         return digitalInput;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The lines of the port are requested together, so the port is read with a single ioctl.
+     */
+    @Override
+    public DigitalPort createPort(DigitalInputConfig... configs) {
+        return GpioDDigitalPort.newInputPort(this.context, configs);
+    }
+
     @Override
     public int getPriority() {
         // the gpioD driver should be higher priority always
@@ -52,6 +65,7 @@ public class GpioDDigitalInputProviderImpl extends DigitalInputProviderBase impl
 
     @Override
     public DigitalInputProvider shutdown(Context context) throws ShutdownException {
+        this.eventLoop.shutdown();
         GpioDContext.getInstance().close();
         return super.shutdown(context);
     }
@@ -35,6 +35,7 @@ import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalOutputConfig;
 import com.pi4j.io.gpio.digital.DigitalOutputProvider;
 import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalPort;
 import com.pi4j.library.gpiod.internal.GpioDContext;
 import com.pi4j.library.gpiod.internal.GpioLine;
 
@@ -66,6 +67,16 @@ public class GpioDDigitalOutputProviderImpl extends DigitalOutputProviderBase im
         return digitalOutput;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The lines of the port are requested together, so the port is read and written with a single ioctl.
+     */
+    @Override
+    public DigitalPort createPort(DigitalOutputConfig... configs) {
+        return GpioDDigitalPort.newOutputPort(this.context, configs);
+    }
+
     @Override
     public int getPriority() {
         // the gpioD driver should be higher priority always
@@ -0,0 +1,212 @@
+package com.pi4j.plugin.gpiod.provider.gpio.digital;
+
+import com.pi4j.context.Context;
+import com.pi4j.event.ShutdownEvent;
+import com.pi4j.event.ShutdownListener;
+import com.pi4j.io.IO;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.Digital;
+import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import com.pi4j.io.gpio.digital.DigitalPort;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.io.gpio.digital.PullResistance;
+import com.pi4j.library.gpiod.internal.GpioDContext;
+import com.pi4j.library.gpiod.internal.GpioDException;
+import com.pi4j.library.gpiod.internal.GpioLineBulk;
+import com.pi4j.library.gpiod.internal.GpioLine;
+import com.pi4j.library.gpiod.internal.LineRequestFlag;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * <p>GpioDDigitalPort class.</p>
+ * <p>
+ * {@link DigitalPort} whose lines are requested together as one gpiod line bulk, so all pins are read or written
+ * with a single ioctl and output pins change at the same time.
+ * <p>
+ * A line used by a digital input or output that has not been shut down, or by another open port, can't join a port.
+ * Open ports are closed when their Pi4J context shuts down.
+ */
+public class GpioDDigitalPort implements DigitalPort {
+    private static final Set<GpioDDigitalPort> OPEN_PORTS = new CopyOnWriteArraySet<>();
+
+    private final Context context;
+    private final String id;
+    private final int[] addresses;
+    private final boolean output;
+    private final GpioLineBulk bulk;
+    private final ShutdownListener shutdownListener;
+    private long state;
+    private boolean closed;
+
+    private GpioDDigitalPort(Context context, String id, int[] addresses, boolean output) {
+        this.context = context;
+        this.id = id;
+        this.addresses = addresses;
+        this.output = output;
+        this.bulk = GpioDContext.getInstance().getOrOpenLines(addresses);
+        this.shutdownListener = new ShutdownListener() {
+            @Override
+            public void beforeShutdown(ShutdownEvent event) {
+                // release the lines before the providers close the gpiod chip
+                close();
+            }
+
+            @Override
+            public void onShutdown(ShutdownEvent event) {
+            }
+        };
+    }
+
+    static GpioDDigitalPort newOutputPort(Context context, DigitalOutputConfig... configs) {
+        checkWidth(configs.length);
+        int[] addresses = new int[configs.length];
+        long initial = 0;
+        for (int i = 0; i < configs.length; i++) {
+            addresses[i] = configs[i].address();
+            if (configs[i].initialState() == DigitalState.HIGH)
+                initial |= 1L << i;
+        }
+
+        GpioDDigitalPort port = new GpioDDigitalPort(context, portId(configs[0].id()), addresses, true);
+        synchronized (OPEN_PORTS) {
+            try {
+                port.releaseRequestedLines();
+                port.bulk.requestOutputFlags(port.id, 0, initial);
+            } catch (GpioDException e) {
+                throw new IOException("Failed to request output port " + port.id, e);
+            }
+            port.state = initial;
+            port.open();
+        }
+        return port;
+    }
+
+    static GpioDDigitalPort newInputPort(Context context, DigitalInputConfig... configs) {
+        checkWidth(configs.length);
+        int[] addresses = new int[configs.length];
+        PullResistance pull = configs[0].pull();
+        for (int i = 0; i < configs.length; i++) {
+            addresses[i] = configs[i].address();
+            // one bulk request applies the same flags to all lines
+            if (configs[i].pull() != pull)
+                throw new IllegalArgumentException("All pins of a GpioD input port must use the same pull resistance");
+        }
+
+        GpioDDigitalPort port = new GpioDDigitalPort(context, portId(configs[0].id()), addresses, false);
+        synchronized (OPEN_PORTS) {
+            try {
+                port.releaseRequestedLines();
+                port.bulk.requestInputFlags(port.id, pullFlags(pull));
+            } catch (GpioDException e) {
+                throw new IOException("Failed to request input port " + port.id, e);
+            }
+            port.open();
+        }
+        return port;
+    }
+
+    @Override
+    public int width() {
+        return this.addresses.length;
+    }
+
+    @Override
+    public int address(int bit) {
+        return this.addresses[bit];
+    }
+
+    @Override
+    public boolean isOutput() {
+        return this.output;
+    }
+
+    @Override
+    public long read() {
+        try {
+            return this.bulk.getValues();
+        } catch (GpioDException e) {
+            throw new IOException("Failed to read port " + this.id, e);
+        }
+    }
+
+    @Override
+    public synchronized DigitalPort write(long value, long mask) {
+        if (!this.output)
+            throw new UnsupportedOperationException("Can't write a digital input port");
+        long newState = (this.state & ~mask) | (value & mask);
+        try {
+            this.bulk.setValues(newState);
+        } catch (GpioDException e) {
+            throw new IOException("Failed to write port " + this.id, e);
+        }
+        this.state = newState;
+        return this;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.closed)
+            return;
+        this.closed = true;
+        this.context.removeListener(this.shutdownListener);
+        synchronized (OPEN_PORTS) {
+            OPEN_PORTS.remove(this);
+            this.bulk.release();
+        }
+    }
+
+    private void open() {
+        // caller must hold 'OPEN_PORTS'
+        OPEN_PORTS.add(this);
+        this.context.addListener(this.shutdownListener);
+    }
+
+    private void releaseRequestedLines() {
+        // caller must hold 'OPEN_PORTS'; check all lines before releasing any of them
+        for (int address : this.addresses) {
+            for (GpioDDigitalPort port : OPEN_PORTS) {
+                for (int used : port.addresses) {
+                    if (used == address)
+                        throw new IllegalStateException("GpioD line " + address + " is in use by port '" + port.id
+                            + "'; close it before creating port '" + this.id + "'");
+                }
+            }
+            for (IO<?, ?, ?> io : this.context.registry().all().values()) {
+                if ((io instanceof GpioDDigitalInput || io instanceof GpioDDigitalOutput)
+                    && ((Digital<?, ?, ?>) io).address().intValue() == address)
+                    throw new IllegalStateException("GpioD line " + address + " is in use by digital I/O '" + io.id()
+                        + "'; shut it down before creating port '" + this.id + "'");
+            }
+        }
+
+        // lines left requested by digital I/Os that have been shut down can't join a bulk request
+        for (int i = 0; i < this.bulk.size(); i++) {
+            GpioLine line = this.bulk.getLine(i);
+            if (line.isRequested())
+                GpioDContext.getInstance().closeLine(line);
+        }
+    }
+
+    private static void checkWidth(int width) {
+        if (width == 0 || width > MAX_WIDTH)
+            throw new IllegalArgumentException("A digital port must have 1 to " + MAX_WIDTH + " pins, not " + width);
+    }
+
+    private static String portId(String firstPinId) {
+        return firstPinId + "-port";
+    }
+
+    private static int pullFlags(PullResistance pull) {
+        switch (pull) {
+            case PULL_UP:
+                return LineRequestFlag.BIAS_PULL_UP.getVal();
+            case PULL_DOWN:
+                return LineRequestFlag.BIAS_PULL_DOWN.getVal();
+            default:
+                return LineRequestFlag.BIAS_DISABLE.getVal();
+        }
+    }
+}
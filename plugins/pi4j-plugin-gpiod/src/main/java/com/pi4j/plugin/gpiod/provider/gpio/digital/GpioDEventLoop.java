@@ -0,0 +1,173 @@
+package com.pi4j.plugin.gpiod.provider.gpio.digital;
+
+import com.pi4j.library.gpiod.internal.GpioDContext;
+import com.pi4j.library.gpiod.internal.GpioDPoller;
+import com.pi4j.library.gpiod.internal.GpioLineEventBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>GpioDEventLoop class.</p>
+ * <p>
+ * Single thread waiting for edge events of all registered {@link GpioDDigitalInput}s at once: the line event file
+ * descriptors are polled together, pending events are read in bulk and handed to the owning input. Inputs with
+ * debouncing return the deadline at which their pending state settles, which bounds the poll timeout; without
+ * pending debounces the thread blocks until the next event, so an idle loop uses no CPU.
+ */
+class GpioDEventLoop {
+
+    private static final Logger logger = LoggerFactory.getLogger(GpioDEventLoop.class);
+    private static final int EVENT_BATCH_SIZE = 16;
+    private static final int ERROR_EVENTS = GpioDPoller.POLLERR | GpioDPoller.POLLHUP | GpioDPoller.POLLNVAL;
+
+    private final Object lock = new Object();
+    private final List<GpioDDigitalInput> inputs = new ArrayList<>();
+    private boolean dirty;
+    private Thread thread;
+    private GpioDPoller poller;
+
+    /**
+     * Start delivering the edge events of the input's line to it, starting the event loop thread if needed.
+     *
+     * @param input the input, its line must already be requested for edge events
+     */
+    void register(GpioDDigitalInput input) {
+        synchronized (this.lock) {
+            if (this.poller == null)
+                this.poller = new GpioDPoller();
+            this.inputs.add(input);
+            this.dirty = true;
+            if (this.thread == null) {
+                this.thread = new Thread(this::run, "Pi4J.GPIOD-EVENT-LOOP");
+                this.thread.setDaemon(true);
+                this.thread.start();
+            } else {
+                this.poller.wakeup();
+            }
+        }
+        logger.trace("registered input; {}", input.id());
+    }
+
+    /**
+     * Stop delivering events to the input. Returns once the event loop no longer polls the input's line.
+     *
+     * @param input the input to remove
+     */
+    void unregister(GpioDDigitalInput input) {
+        synchronized (this.lock) {
+            if (!this.inputs.remove(input))
+                return;
+            this.dirty = true;
+            if (this.thread == null || this.thread == Thread.currentThread())
+                return;
+            this.poller.wakeup();
+            while (this.dirty && this.thread != null) {
+                try {
+                    this.lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        logger.trace("unregistered input; {}", input.id());
+    }
+
+    /**
+     * Stop the event loop thread and release its native resources. Inputs still registered no longer receive events.
+     */
+    void shutdown() {
+        Thread stopping;
+        synchronized (this.lock) {
+            this.inputs.clear();
+            this.dirty = true;
+            stopping = this.thread;
+            if (this.poller != null)
+                this.poller.wakeup();
+        }
+        if (stopping != null && stopping != Thread.currentThread()) {
+            try {
+                stopping.join(5000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this.lock) {
+            if (this.thread == null && this.poller != null) {
+                this.poller.close();
+                this.poller = null;
+            }
+        }
+    }
+
+    private void run() {
+        GpioDContext gpioDContext = GpioDContext.getInstance();
+        GpioLineEventBuffer events = gpioDContext.openLineEventBuffer(EVENT_BATCH_SIZE);
+        GpioDDigitalInput[] active = new GpioDDigitalInput[0];
+        int[] fds = new int[0];
+        int[] revents = new int[0];
+        GpioDPoller poller;
+
+        try {
+            while (true) {
+                // rebuild the poll set whenever inputs have been added or removed
+                synchronized (this.lock) {
+                    poller = this.poller;
+                    if (this.dirty) {
+                        this.dirty = false;
+                        this.lock.notifyAll();
+                        if (this.inputs.isEmpty()) {
+                            this.thread = null;
+                            return;
+                        }
+                        active = this.inputs.toArray(new GpioDDigitalInput[0]);
+                        if (fds.length < active.length) {
+                            fds = new int[active.length];
+                            revents = new int[active.length];
+                        }
+                        for (int i = 0; i < active.length; i++)
+                            fds[i] = active[i].eventFd();
+                    }
+                }
+
+                long now = System.nanoTime();
+                long deadline = Long.MAX_VALUE;
+                for (GpioDDigitalInput input : active)
+                    deadline = Math.min(deadline, input.debounceDeadline());
+                long timeoutNs = deadline == Long.MAX_VALUE ? -1 : Math.max(0, deadline - now);
+
+                poller.poll(fds, revents, active.length, timeoutNs);
+
+                for (int i = 0; i < active.length; i++) {
+                    GpioDDigitalInput input = active[i];
+                    try {
+                        if ((revents[i] & (GpioDPoller.POLLIN | GpioDPoller.POLLPRI)) != 0) {
+                            int count = events.readFd(fds[i]);
+                            input.onLineEvents(events, count, System.nanoTime());
+                        } else if ((revents[i] & ERROR_EVENTS) != 0) {
+                            logger.error("Line events of input {} reported an error; no longer receiving events",
+                                input.id());
+                            unregister(input);
+                        } else if (input.debounceDeadline() != Long.MAX_VALUE) {
+                            input.onDebounceTimeout(System.nanoTime());
+                        }
+                    } catch (Exception e) {
+                        logger.error("Failed to handle line events of input {}; {}", input.id(), e.getMessage(), e);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.error("GpioD event loop stopped; {}", e.getMessage(), e);
+            synchronized (this.lock) {
+                this.thread = null;
+                this.dirty = true;
+                this.lock.notifyAll();
+            }
+        } finally {
+            gpioDContext.closeLineEventBuffer(events);
+        }
+    }
+}
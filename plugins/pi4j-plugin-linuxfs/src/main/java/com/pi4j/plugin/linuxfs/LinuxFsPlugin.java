@@ -36,6 +36,8 @@ import com.pi4j.plugin.linuxfs.provider.i2c.LinuxFsI2CProvider;
 import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalInputProvider;
 import com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutputProvider;
 import com.pi4j.plugin.linuxfs.provider.pwm.LinuxFsPwmProvider;
+import com.pi4j.plugin.linuxfs.provider.serial.LinuxFsSerialProvider;
+import com.pi4j.plugin.linuxfs.provider.spi.LinuxFsSpiProvider;
 import com.pi4j.plugin.linuxfs.internal.LinuxPwm;
 import com.pi4j.provider.Provider;
 import org.slf4j.Logger;
@@ -100,16 +102,17 @@ public class LinuxFsPlugin implements Plugin {
     public static final String I2C_PROVIDER_NAME = NAME + " I2C Provider";
     public static final String I2C_PROVIDER_ID = ID + "-i2c";
 
-//    // SPI Provider name and unique ID
-//    public static final String SPI_PROVIDER_NAME = NAME + " SPI Provider";
-//    public static final String SPI_PROVIDER_ID = ID + "-spi";
-//
-//    // Serial Provider name and unique ID
-//    public static final String SERIAL_PROVIDER_NAME = NAME + " Serial Provider";
-//    public static final String SERIAL_PROVIDER_ID = ID + "-serial";
+    // SPI Provider name and unique ID
+    public static final String SPI_PROVIDER_NAME = NAME + " SPI Provider";
+    public static final String SPI_PROVIDER_ID = ID + "-spi";
+
+    // Serial Provider name and unique ID
+    public static final String SERIAL_PROVIDER_NAME = NAME + " Serial Provider";
+    public static final String SERIAL_PROVIDER_ID = ID + "-serial";
 
     public static String DEFAULT_GPIO_FILESYSTEM_PATH = LinuxGpio.DEFAULT_SYSTEM_PATH;
     public static String DEFAULT_PWM_FILESYSTEM_PATH = LinuxPwm.DEFAULT_SYSTEM_PATH;
+    public static boolean DEFAULT_GPIO_PERSISTENT_VALUE = true;
 
     private Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -122,6 +125,7 @@ public class LinuxFsPlugin implements Plugin {
         // get Linux file system path for GPIO & PWM
         String gpioFileSystemPath = DEFAULT_GPIO_FILESYSTEM_PATH;
         String pwmFileSystemPath = DEFAULT_PWM_FILESYSTEM_PATH;
+        boolean gpioPersistentValue = DEFAULT_GPIO_PERSISTENT_VALUE;
 
         int pwmChip;
         if(BoardInfoHelper.usesRP1()) {
@@ -135,6 +139,11 @@ public class LinuxFsPlugin implements Plugin {
             gpioFileSystemPath = service.context().properties().get("linux.gpio.system.path", gpioFileSystemPath);
         }
 
+        // [GPIO] get overriding custom 'linux.gpio.persistent.value' setting from Pi4J context
+        if(service.context().properties().has("linux.gpio.persistent.value")){
+            gpioPersistentValue = Boolean.parseBoolean(service.context().properties().get("linux.gpio.persistent.value", Boolean.toString(gpioPersistentValue)));
+        }
+
         // [PWM] get overriding custom 'linux.gpio.system.path' setting from Pi4J context
         if(service.context().properties().has("linux.pwm.system.path")){
             pwmFileSystemPath = service.context().properties().get("linux.pwm.system.path", pwmFileSystemPath);
@@ -152,10 +161,12 @@ public class LinuxFsPlugin implements Plugin {
 
         // create & define supported Linux file system I/O providers that will be exposed to Pi4J via this plugin
         Provider[] providers = {
-            LinuxFsDigitalInputProvider.newInstance(gpioFileSystemPath),
-            LinuxFsDigitalOutputProvider.newInstance(gpioFileSystemPath),
+            LinuxFsDigitalInputProvider.newInstance(gpioFileSystemPath, gpioPersistentValue),
+            LinuxFsDigitalOutputProvider.newInstance(gpioFileSystemPath, gpioPersistentValue),
             LinuxFsPwmProvider.newInstance(pwmFileSystemPath, pwmChip),
-            LinuxFsI2CProvider.newInstance()
+            LinuxFsI2CProvider.newInstance(),
+            LinuxFsSpiProvider.newInstance(),
+            LinuxFsSerialProvider.newInstance()
         };
 
         // register the LinuxFS I/O Providers with the plugin service
@@ -30,8 +30,11 @@ package com.pi4j.plugin.linuxfs.internal;
 import com.pi4j.io.gpio.digital.DigitalState;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * <p>LinuxGpio class.</p>
@@ -48,6 +51,13 @@ public class LinuxGpio {
     protected final String systemPath;
     protected final int address;
     protected final String pinPath;
+    protected final boolean persistentValue;
+
+    // persistent 'value' file access; opened lazily on first state access and closed on unexport
+    private final Object valueLock = new Object();
+    private final ByteBuffer valueBuffer = ByteBuffer.allocateDirect(1);
+    private FileChannel valueChannel;
+    private boolean valueWritable;
 
     public enum Direction{
         IN,
@@ -70,9 +80,25 @@ public class LinuxGpio {
      * @param address a int.
      */
     public LinuxGpio(String systemPath, int address){
+        this(systemPath, address, false);
+    }
+
+    /**
+     * <p>Constructor for LinuxGpio.</p>
+     *
+     * When <code>persistentValue</code> is enabled, the GPIO <code>value</code> file is opened once and
+     * kept open until {@link #unexport()}, so that state reads and writes are single positional byte
+     * operations instead of opening, reading/writing and closing the file on every call.
+     *
+     * @param systemPath a {@link java.lang.String} object.
+     * @param address a int.
+     * @param persistentValue keep the GPIO 'value' file open between state accesses
+     */
+    public LinuxGpio(String systemPath, int address, boolean persistentValue){
         this.address = address;
         this.systemPath = systemPath;
         this.pinPath = Paths.get(systemPath, String.format("gpio%d", address)).toString();
+        this.persistentValue = persistentValue;
     }
 
     /**
@@ -100,6 +126,7 @@ public class LinuxGpio {
      * @throws java.io.IOException if any.
      */
     public void unexport() throws IOException {
+        closeValue();
         var path = Paths.get(systemPath, "unexport");
         Files.writeString(path, Integer.toString(address));
     }
@@ -142,6 +169,9 @@ public class LinuxGpio {
     public void setDirection(Direction direction) throws IOException {
         var path = Paths.get(pinPath, "direction");
         Files.writeString(path, direction.name().toLowerCase());
+
+        // the 'value' file may have been opened read-only for the previous direction; reopen on next access
+        closeValue();
     }
 
     /**
@@ -184,6 +214,15 @@ public class LinuxGpio {
      * @throws java.io.IOException if any.
      */
     public void setState(DigitalState state) throws IOException {
+        if(persistentValue) {
+            synchronized (valueLock) {
+                valueBuffer.clear();
+                valueBuffer.put(state.isHigh() ? (byte) '1' : (byte) '0');
+                valueBuffer.flip();
+                valueChannel(true).write(valueBuffer, 0);
+            }
+            return;
+        }
         var path = Paths.get(pinPath,"value");
         Files.writeString(path, (state.isHigh() ? "1" : "0"));
     }
@@ -204,6 +243,14 @@ public class LinuxGpio {
      * @throws java.io.IOException if any.
      */
     public DigitalState getState() throws IOException {
+        if(persistentValue) {
+            synchronized (valueLock) {
+                valueBuffer.clear();
+                if (valueChannel(false).read(valueBuffer, 0) < 1)
+                    return DigitalState.UNKNOWN;
+                return valueBuffer.get(0) == '1' ? DigitalState.HIGH : DigitalState.LOW;
+            }
+        }
         var path = Paths.get(pinPath,"value");
         return DigitalState.parse(Files.readString(path).trim());
     }
@@ -296,6 +343,53 @@ public class LinuxGpio {
         return Files.readString(path).trim().equalsIgnoreCase("1");
     }
 
+    /**
+     * <p>isPersistentValue.</p>
+     *
+     * @return true if the GPIO 'value' file is kept open between state accesses
+     */
+    public boolean isPersistentValue() {
+        return this.persistentValue;
+    }
+
+    /**
+     * Close the persistent GPIO 'value' file if it is currently open.
+     *
+     * @throws java.io.IOException if any.
+     */
+    public void closeValue() throws IOException {
+        synchronized (valueLock) {
+            if (valueChannel != null) {
+                try {
+                    valueChannel.close();
+                } finally {
+                    valueChannel = null;
+                    valueWritable = false;
+                }
+            }
+        }
+    }
+
+    private FileChannel valueChannel(boolean write) throws IOException {
+        // caller must hold 'valueLock'
+        if (valueChannel != null && valueChannel.isOpen() && (valueWritable || !write))
+            return valueChannel;
+
+        // (re)open the 'value' file; a read-only channel is replaced once a write is requested
+        closeValue();
+        var path = Paths.get(pinPath, "value");
+        try {
+            valueChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            valueWritable = true;
+        } catch (java.nio.file.AccessDeniedException e) {
+            // input pins may only expose a read-only 'value' file
+            if (write) throw e;
+            valueChannel = FileChannel.open(path, StandardOpenOption.READ);
+            valueWritable = false;
+        }
+        return valueChannel;
+    }
+
     /**
      * Get Linux File System path for GPIO
      * @return Linux File System path for GPIO
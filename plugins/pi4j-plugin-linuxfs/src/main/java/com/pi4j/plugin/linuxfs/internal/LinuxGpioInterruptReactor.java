@@ -0,0 +1,296 @@
+package com.pi4j.plugin.linuxfs.internal;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxGpioInterruptReactor.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.library.linuxfs.LinuxFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Shared edge interrupt reactor for Linux file system (sysfs) GPIO inputs.</p>
+ *
+ * <p>Each registered GPIO keeps its <code>value</code> file open and all of them are waited on together with
+ * poll(2) for <code>POLLPRI</code> from a single background thread. The sysfs GPIO driver raises
+ * <code>POLLPRI</code> whenever a configured edge occurs, after which the value is re-read from the start of the
+ * file and handed to the registered listener. The thread is started on the first registration and ends once the
+ * last GPIO has been unregistered, so the number of threads does not depend on the number of inputs.</p>
+ *
+ * @see "https://www.kernel.org/doc/Documentation/gpio/sysfs.txt"
+ */
+public class LinuxGpioInterruptReactor {
+
+    /**
+     * Listener invoked on the reactor thread for every edge reported by the kernel, with the state read after the
+     * edge and the {@link System#nanoTime()} at which poll(2) returned for it.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onInterrupt(DigitalState state, long timestamp);
+
+        /**
+         * Invoked on the reactor thread if the reactor stopped on an error; the GPIO is no longer monitored and
+         * must be registered again to receive further edges.
+         *
+         * @param cause the error that stopped the reactor
+         */
+        default void onStopped(IOException cause) {
+        }
+    }
+
+    private static final String THREAD_NAME = "Pi4J.LINUXFS-GPIO-INTERRUPT";
+    private static final int EVENTS = LinuxFile.POLLPRI | LinuxFile.POLLERR;
+
+    private static LinuxGpioInterruptReactor instance;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Object lock = new Object();
+    private final Map<String, Registration> registrations = new LinkedHashMap<>();
+    private final List<Registration> pendingClose = new ArrayList<>();
+
+    private int wakeupFd = -1;
+    private boolean dirty;
+    private Thread thread;
+
+    /**
+     * <p>Get the shared reactor instance.</p>
+     *
+     * @return the {@link LinuxGpioInterruptReactor} singleton
+     */
+    public static synchronized LinuxGpioInterruptReactor getInstance() {
+        if (instance == null)
+            instance = new LinuxGpioInterruptReactor();
+        return instance;
+    }
+
+    private LinuxGpioInterruptReactor() {
+    }
+
+    /**
+     * <p>Start monitoring edge interrupts on the given GPIO.</p>
+     *
+     * The GPIO must already be exported and have its interrupt edge configured.
+     *
+     * @param gpio     the {@link LinuxGpio} to monitor
+     * @param listener the {@link Listener} notified with the new pin state on every edge
+     * @throws java.io.IOException if the value file could not be opened
+     */
+    public void register(LinuxGpio gpio, Listener listener) throws IOException {
+        String valuePath = Paths.get(gpio.getPinPath(), "value").toString();
+        LinuxFile file = new LinuxFile(valuePath, "r");
+        Registration registration;
+        try {
+            registration = new Registration(valuePath, file, file.getPosixFD(), listener);
+
+            // consume the current value; sysfs reports POLLPRI until the value has been read once
+            readState(registration);
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+
+        synchronized (this.lock) {
+            if (this.wakeupFd < 0)
+                this.wakeupFd = LinuxFile.eventFd();
+
+            Registration previous = this.registrations.put(valuePath, registration);
+            if (previous != null)
+                this.pendingClose.add(previous);
+
+            this.dirty = true;
+            if (this.thread == null) {
+                this.thread = new Thread(this::run, THREAD_NAME);
+                this.thread.setDaemon(true);
+                this.thread.start();
+            } else {
+                LinuxFile.eventFdSignal(this.wakeupFd);
+            }
+        }
+        logger.trace("registered GPIO interrupt monitoring; {}", valuePath);
+    }
+
+    /**
+     * <p>Stop monitoring edge interrupts on the given GPIO.</p>
+     *
+     * The value file is closed by the reactor thread once it no longer polls on it.
+     *
+     * @param gpio the {@link LinuxGpio} to stop monitoring
+     */
+    public void unregister(LinuxGpio gpio) {
+        String valuePath = Paths.get(gpio.getPinPath(), "value").toString();
+        synchronized (this.lock) {
+            Registration registration = this.registrations.remove(valuePath);
+            if (registration == null)
+                return;
+            this.pendingClose.add(registration);
+            this.dirty = true;
+            try {
+                if (this.thread != null)
+                    LinuxFile.eventFdSignal(this.wakeupFd);
+            } catch (IOException e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+        logger.trace("unregistered GPIO interrupt monitoring; {}", valuePath);
+    }
+
+    private void run() {
+        Registration[] active = new Registration[0];
+        int[] fds = new int[1];
+        int[] events = new int[1];
+        int[] revents = new int[1];
+        int count = 1;
+
+        try {
+            while (true) {
+                // rebuild the poll set whenever GPIOs have been added or removed
+                List<Registration> closing = null;
+                synchronized (this.lock) {
+                    if (this.dirty) {
+                        this.dirty = false;
+                        if (this.registrations.isEmpty()) {
+                            this.thread = null;
+                            closeWakeup();
+                            closeAll(this.pendingClose);
+                            return;
+                        }
+                        active = this.registrations.values().toArray(new Registration[0]);
+                        count = active.length + 1;
+                        if (fds.length < count) {
+                            fds = new int[count];
+                            events = new int[count];
+                            revents = new int[count];
+                        }
+                        fds[0] = this.wakeupFd;
+                        events[0] = LinuxFile.POLLIN;
+                        for (int i = 0; i < active.length; i++) {
+                            fds[i + 1] = active[i].fd;
+                            events[i + 1] = EVENTS;
+                        }
+                        if (!this.pendingClose.isEmpty()) {
+                            closing = new ArrayList<>(this.pendingClose);
+                            this.pendingClose.clear();
+                        }
+                    }
+                }
+                if (closing != null)
+                    closeAll(closing);
+
+                if (LinuxFile.poll(fds, events, revents, count, -1) <= 0)
+                    continue;
+                long timestamp = System.nanoTime();
+
+                if ((revents[0] & LinuxFile.POLLIN) != 0)
+                    LinuxFile.eventFdClear(fds[0]);
+
+                for (int i = 1; i < count; i++) {
+                    if ((revents[i] & EVENTS) == 0)
+                        continue;
+                    Registration registration = active[i - 1];
+                    try {
+                        registration.listener.onInterrupt(readState(registration), timestamp);
+                    } catch (Exception e) {
+                        logger.error("Failed to handle GPIO interrupt on {}; {}", registration.valuePath, e.getMessage(), e);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.error("GPIO interrupt reactor stopped; {}", e.getMessage(), e);
+            // drop all registrations, so the next registration starts a new thread instead of inputs silently
+            // waiting on a thread that no longer polls
+            List<Registration> stopped;
+            synchronized (this.lock) {
+                stopped = new ArrayList<>(this.registrations.values());
+                this.registrations.clear();
+                this.pendingClose.addAll(stopped);
+                this.thread = null;
+                this.dirty = false;
+                closeWakeup();
+                closeAll(this.pendingClose);
+            }
+            for (Registration registration : stopped) {
+                try {
+                    registration.listener.onStopped(e);
+                } catch (Exception ex) {
+                    logger.error("Failed to report stopped GPIO interrupt monitoring on {}; {}",
+                        registration.valuePath, ex.getMessage(), ex);
+                }
+            }
+        }
+    }
+
+    private void closeWakeup() {
+        // caller must hold 'lock'; a new eventfd is created by the next registration that starts the thread
+        if (this.wakeupFd < 0)
+            return;
+        try {
+            LinuxFile.closeFd(this.wakeupFd);
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+        } finally {
+            this.wakeupFd = -1;
+        }
+    }
+
+    private static DigitalState readState(Registration registration) throws IOException {
+        registration.file.seek(0);
+        return registration.file.read() == '1' ? DigitalState.HIGH : DigitalState.LOW;
+    }
+
+    private void closeAll(List<Registration> closing) {
+        for (Registration registration : closing) {
+            try {
+                registration.file.close();
+            } catch (IOException e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+        closing.clear();
+    }
+
+    private static class Registration {
+        private final String valuePath;
+        private final LinuxFile file;
+        private final int fd;
+        private final Listener listener;
+
+        private Registration(String valuePath, LinuxFile file, int fd, Listener listener) {
+            this.valuePath = valuePath;
+            this.file = file;
+            this.fd = fd;
+            this.listener = listener;
+        }
+    }
+}
@@ -33,12 +33,10 @@ import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.exception.IOException;
 import com.pi4j.io.gpio.digital.*;
 import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
+import com.pi4j.plugin.linuxfs.internal.LinuxGpioInterruptReactor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.file.*;
-import java.util.concurrent.Future;
-
 /**
  * <p>LinuxFsDigitalInput class.</p>
  *
@@ -49,8 +47,9 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
 
     protected final LinuxGpio gpio;
     private Logger logger = LoggerFactory.getLogger(this.getClass());
-    protected DigitalState state = DigitalState.UNKNOWN;
-    private Future<?> inputListener;
+    // written by the shared interrupt reactor thread
+    protected volatile DigitalState state = DigitalState.UNKNOWN;
+    private volatile boolean monitored = false;
 
     /**
      * <p>Constructor for LinuxFsDigitalInput.</p>
@@ -120,47 +119,30 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
         // [INITIALIZE] perform any further initialization on GPIO  via superclass impl
         super.initialize(context);
 
-        // [MONITOR] start background monitoring thread for GPIO state changes
-        logger.trace("start monitoring thread for GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
-        Runnable monitorTask = () -> {
-			try {
-				// create file system watcher
-                logger.trace("monitoring thread watching GPIO [{}]; {}",
-                             LinuxFsDigitalInput.this.config.address(),
-                             gpio.getPinPath());
-				WatchService watchService = FileSystems.getDefault().newWatchService();
-				WatchKey key;
-
-				// create GPIO path to monitor
-				Path path = Paths.get(gpio.getPinPath());
-
-				// only watch for modified files in this path
-				path.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY);
-
-				// dispatch value change event
-				while ((key = watchService.take()) != null) {
-					for (WatchEvent<?> event : key.pollEvents()) {
-						if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
-							if (event.context().toString().equalsIgnoreCase("value")) {
-								// filter out any redundant event notifications for same state
-								DigitalState newState = LinuxFsDigitalInput.this.gpio.state();
-								if (newState != LinuxFsDigitalInput.this.state) {
-									LinuxFsDigitalInput.this.state = newState;
-									LinuxFsDigitalInput.this.dispatch(
-										new DigitalStateChangeEvent(LinuxFsDigitalInput.this, newState));
-								}
-							}
-						}
-					}
-					key.reset();
-				}
-			} catch (java.io.IOException e) {
-				logger.error(e.getMessage(), e);
-			} catch (InterruptedException e) {
-				// thread interrupted; likely exiting on shutdown
-			}
-		};
-        this.inputListener = context.submitTask(monitorTask);
+        // [MONITOR] register GPIO with the shared interrupt reactor to receive state changes
+        try {
+            if (gpio.isInterruptSupported()) {
+                logger.trace("register interrupt monitoring for GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
+                LinuxGpioInterruptReactor.getInstance().register(gpio, new LinuxGpioInterruptReactor.Listener() {
+                    @Override
+                    public void onInterrupt(DigitalState state, long timestamp) {
+                        LinuxFsDigitalInput.this.onInterrupt(state, timestamp);
+                    }
+
+                    @Override
+                    public void onStopped(java.io.IOException cause) {
+                        LinuxFsDigitalInput.this.onMonitoringStopped(cause);
+                    }
+                });
+                this.monitored = true;
+            } else {
+                logger.warn("GPIO [{}] does not support interrupts; state changes will not be dispatched; {}",
+                    this.config.address(), gpio.getPinPath());
+            }
+        } catch (java.io.IOException e) {
+            logger.error(e.getMessage(), e);
+            throw new InitializeException("Unable to monitor GPIO [" + config.address() + "] interrupts @ <" + gpio.pinPath() + ">; " + e.getMessage(), e);
+        }
 
         // return this I/O instance
         return this;
@@ -171,11 +153,11 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
     public DigitalInput shutdown(Context context) throws ShutdownException {
         logger.trace("shutdown GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
 
-        // this line will execute immediately, not waiting for your task to complete
-        logger.trace("shutdown monitoring thread for GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
-        if (this.inputListener != null) {
-            if (!this.inputListener.cancel(true))
-                logger.error("Failed to cancel input listener!");
+        // stop receiving interrupts for this GPIO from the shared reactor
+        logger.trace("shutdown interrupt monitoring for GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
+        if (this.monitored) {
+            LinuxGpioInterruptReactor.getInstance().unregister(gpio);
+            this.monitored = false;
         }
 
         // perform any shutdown cleanup via superclass
@@ -194,6 +176,34 @@ public class LinuxFsDigitalInput extends DigitalInputBase implements DigitalInpu
         return this;
     }
 
+    /**
+     * Invoked on the shared interrupt reactor thread for every edge on this GPIO.
+     *
+     * @param newState  the GPIO state read after the edge
+     * @param timestamp the {@link System#nanoTime()} at which the edge was detected
+     */
+    private void onInterrupt(DigitalState newState, long timestamp) {
+        // filter out any redundant event notifications for same state
+        if (newState != this.state) {
+            this.state = newState;
+            this.dispatch(newState, timestamp);
+        }
+    }
+
+    /**
+     * Invoked on the shared interrupt reactor thread if it stopped on an error and no longer monitors this GPIO.
+     *
+     * @param cause the error that stopped the reactor
+     */
+    private void onMonitoringStopped(java.io.IOException cause) {
+        logger.error("GPIO [{}] interrupt monitoring stopped; state changes will not be dispatched; {}",
+            this.config.address(), cause.getMessage());
+        this.monitored = false;
+        // the state is no longer followed; listeners see the change to 'UNKNOWN', which is no edge
+        this.state = DigitalState.UNKNOWN;
+        this.dispatch(DigitalState.UNKNOWN, System.nanoTime());
+    }
+
     @Override
     public DigitalState state() {
         logger.trace("get state on GPIO [{}]; {}", this.config.address(), gpio.getPinPath());
@@ -51,6 +51,17 @@ public interface LinuxFsDigitalInputProvider extends DigitalInputProvider {
         return new LinuxFsDigitalInputProviderImpl(gpioFileSystemPath);
     }
 
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param gpioFileSystemPath Linux file system path for GPIO
+     * @param persistentValue keep each GPIO 'value' file open between state accesses
+     * @return a {@link com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalInputProvider} object.
+     */
+    static LinuxFsDigitalInputProvider newInstance(String gpioFileSystemPath, boolean persistentValue) {
+        return new LinuxFsDigitalInputProviderImpl(gpioFileSystemPath, persistentValue);
+    }
+
     /**
      * <p>newInstance.</p>
      *
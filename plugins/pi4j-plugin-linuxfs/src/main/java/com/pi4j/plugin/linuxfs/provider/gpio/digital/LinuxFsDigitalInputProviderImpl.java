@@ -32,6 +32,7 @@ import com.pi4j.boardinfo.util.BoardInfoHelper;
 import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import com.pi4j.plugin.linuxfs.LinuxFsPlugin;
 import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
 
 /**
@@ -43,14 +44,23 @@ import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
 public class LinuxFsDigitalInputProviderImpl extends DigitalInputProviderBase implements LinuxFsDigitalInputProvider {
 
     final String gpioFileSystemPath;
+    final boolean persistentValue;
 
     /**
      * <p>Constructor for LinuxFsDigitalInputProviderImpl.</p>
      */
     public LinuxFsDigitalInputProviderImpl(String gpioFileSystemPath) {
+        this(gpioFileSystemPath, LinuxFsPlugin.DEFAULT_GPIO_PERSISTENT_VALUE);
+    }
+
+    /**
+     * <p>Constructor for LinuxFsDigitalInputProviderImpl.</p>
+     */
+    public LinuxFsDigitalInputProviderImpl(String gpioFileSystemPath, boolean persistentValue) {
         this.id = ID;
         this.name = NAME;
         this.gpioFileSystemPath = gpioFileSystemPath;
+        this.persistentValue = persistentValue;
     }
 
     @Override
@@ -65,7 +75,7 @@ public class LinuxFsDigitalInputProviderImpl extends DigitalInputProviderBase im
     @Override
     public DigitalInput create(DigitalInputConfig config) {
         // create filesystem based GPIO instance using instance address (GPIO NUMBER)
-        LinuxGpio gpio = new LinuxGpio(this.gpioFileSystemPath, config.address());
+        LinuxGpio gpio = new LinuxGpio(this.gpioFileSystemPath, config.address(), this.persistentValue);
         LinuxFsDigitalInput digitalInput = new LinuxFsDigitalInput(gpio, this, config);
         this.context.registry().add(digitalInput);
         return digitalInput;
@@ -51,6 +51,17 @@ public interface LinuxFsDigitalOutputProvider extends DigitalOutputProvider {
         return new LinuxFsDigitalOutputProviderImpl(gpioFileSystemPath);
     }
 
+    /**
+     * <p>newInstance.</p>
+     *
+     * @param gpioFileSystemPath Linux file system path for GPIO
+     * @param persistentValue keep each GPIO 'value' file open between state accesses
+     * @return a {@link com.pi4j.plugin.linuxfs.provider.gpio.digital.LinuxFsDigitalOutputProvider} object.
+     */
+    static LinuxFsDigitalOutputProvider newInstance(String gpioFileSystemPath, boolean persistentValue) {
+        return new LinuxFsDigitalOutputProviderImpl(gpioFileSystemPath, persistentValue);
+    }
+
     /**
      * <p>newInstance.</p>
      *
@@ -32,6 +32,7 @@ import com.pi4j.boardinfo.util.BoardInfoHelper;
 import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalOutputConfig;
 import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+import com.pi4j.plugin.linuxfs.LinuxFsPlugin;
 import com.pi4j.plugin.linuxfs.internal.LinuxGpio;
 
 /**
@@ -44,14 +45,23 @@ public class LinuxFsDigitalOutputProviderImpl extends DigitalOutputProviderBase
     implements LinuxFsDigitalOutputProvider {
 
     final String gpioFileSystemPath;
+    final boolean persistentValue;
 
     /**
      * <p>Constructor for LinuxFsDigitalOutputProviderImpl.</p>
      */
     public LinuxFsDigitalOutputProviderImpl(String gpioFileSystemPath) {
+        this(gpioFileSystemPath, LinuxFsPlugin.DEFAULT_GPIO_PERSISTENT_VALUE);
+    }
+
+    /**
+     * <p>Constructor for LinuxFsDigitalOutputProviderImpl.</p>
+     */
+    public LinuxFsDigitalOutputProviderImpl(String gpioFileSystemPath, boolean persistentValue) {
         this.id = ID;
         this.name = NAME;
         this.gpioFileSystemPath = gpioFileSystemPath;
+        this.persistentValue = persistentValue;
     }
 
     @Override
@@ -66,7 +76,7 @@ public class LinuxFsDigitalOutputProviderImpl extends DigitalOutputProviderBase
     @Override
     public DigitalOutput create(DigitalOutputConfig config) {
         // create filesystem based GPIO instance using instance address (GPIO NUMBER)
-        LinuxGpio gpio = new LinuxGpio(this.gpioFileSystemPath, config.address());
+        LinuxGpio gpio = new LinuxGpio(this.gpioFileSystemPath, config.address(), this.persistentValue);
         LinuxFsDigitalOutput digitalOutput = new LinuxFsDigitalOutput(gpio, this, config);
         this.context.registry().add(digitalOutput);
         return digitalOutput;
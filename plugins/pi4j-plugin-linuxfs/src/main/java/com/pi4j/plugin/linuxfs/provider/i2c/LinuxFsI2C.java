@@ -26,12 +26,9 @@ import com.pi4j.io.i2c.I2C;
 import com.pi4j.io.i2c.I2CBase;
 import com.pi4j.io.i2c.I2CConfig;
 import com.pi4j.io.i2c.I2CProvider;
-import com.pi4j.plugin.linuxfs.util.SystemUtil;
+import com.pi4j.io.i2c.I2CTransaction;
 
-import java.io.RandomAccessFile;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.nio.IntBuffer;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -43,6 +40,8 @@ import java.util.Objects;
 public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
 
     private final LinuxFsI2CBus i2CBus;
+    private final LinuxFsI2CFile deviceFile;
+    private volatile boolean pec;
 
     /**
      * <p>Constructor for PiGpioI2C.</p>
@@ -55,6 +54,32 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
     public LinuxFsI2C(LinuxFsI2CBus i2CBus, I2CProvider provider, I2CConfig config) {
         super(provider, config, i2CBus);
         this.i2CBus = i2CBus;
+        this.deviceFile = Boolean.TRUE.equals(config.perDeviceFile()) ? i2CBus.openDeviceFile(config.device()) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        super.close();
+        if (this.deviceFile != null) {
+            this.deviceFile.lock();
+            try {
+                this.deviceFile.close();
+            } catch (IOException e) {
+                logger.error("Failed to close I2C device file for {}", this.id, e);
+            } finally {
+                this.deviceFile.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return the file dedicated to this device, or null if the file of the {@link LinuxFsI2CBus} is shared
+     */
+    LinuxFsI2CFile getDeviceFile() {
+        return this.deviceFile;
     }
 
     // -------------------------------------------------------------------
@@ -66,10 +91,8 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
      */
     @Override
     public int write(byte b) {
-        return this.i2CBus.execute(this, file -> {
-            file.write(b);
-            return 1;
-        });
+        this.i2CBus.smbusWriteByte(this, b & 0xff);
+        return 1;
     }
 
     /**
@@ -93,7 +116,7 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
      */
     @Override
     public int read() {
-        return this.i2CBus.execute(this, RandomAccessFile::read);
+        return this.i2CBus.smbusReadByte(this);
     }
 
     /**
@@ -105,6 +128,21 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
         return this.i2CBus.execute(this, file -> file.read(buffer, offset, length));
     }
 
+    // -------------------------------------------------------------------
+    // COMBINED TRANSFER FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>All segments are submitted to the kernel as one I2C_RDWR ioctl (at most
+     * {@link LinuxFsI2CBus#I2C_RDWR_MAX_MSGS} segments), honoring the segment flags.</p>
+     */
+    @Override
+    public int transfer(I2CTransaction transaction) {
+        return this.i2CBus.transfer(this, transaction);
+    }
+
     // -------------------------------------------------------------------
     // DEVICE REGISTER WRITE FUNCTIONS
     // -------------------------------------------------------------------
@@ -114,7 +152,19 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
      */
     @Override
     public int writeRegister(int register, byte b) {
-        return write((byte) register, b);
+        this.i2CBus.smbusWriteByteData(this, register & 0xff, b & 0xff);
+        return 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This function uses a single SMBus write word data ioctl, sending the high byte of the word first.</p>
+     */
+    @Override
+    public int writeRegisterWord(int register, int word) {
+        this.i2CBus.smbusWriteWordData(this, register & 0xff, swapBytes(word));
+        return 2;
     }
 
     /**
@@ -154,182 +204,117 @@ public class LinuxFsI2C extends I2CBase<LinuxFsI2CBus> implements I2C {
      */
     @Override
     public int readRegister(int register) {
-        byte reg[] = new byte[1];
-        reg[0] = (byte) (register & 0xff);
-        byte buffer[] = new byte[1];
-        this.readRegister(reg, buffer,0,buffer.length);
-        int rVal =  buffer[0] & 0xff;
-        return rVal;
+        return this.i2CBus.smbusReadByteData(this, register & 0xff);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This function uses a single SMBus read word data ioctl, the first byte received is the high byte of the
+     * returned word.</p>
+     */
+    @Override
+    public int readRegisterWord(int register) {
+        return swapBytes(this.i2CBus.smbusReadWordData(this, register & 0xff));
     }
 
     /**
      * {@inheritDoc}
      */
-     @Override
+    @Override
     public int readRegister(int register, byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
-         byte reg[] = new byte[1];
-         reg[0] = (byte) (register & 0xff);
-         int rCode = this.readRegister(reg, buffer, offset, length);
-         return rCode;
+        return this.i2CBus.readRegister(this, register & 0xff, buffer, offset, length);
     }
 
-
-     /**
+    /**
      * {@inheritDoc}
-      *
-      * <p>  This function uses the IOCTL interface to the LinuxFS. This
-      * is required so the I2C transaction uses an I2C RESTART.
-      * The following details explain creating the ByteBuffers used
-      * to create the 'C" structures for the IOCTL. </p>
-      * <p>i2c_msg: The space *buf will be used to set a pointer to the data buffer.
-      * This pointer must be aligned to the machines 4 or 8 byte alignment.
-      * </p>
-      * <p>
-      * This alignment is accomplished when the pointer is 'put' into the
-      * ByteBuffer
-      * </p>
-      *
-      *<ul>
-      *<li> struct i2c_msg {</li>
-      * <li>        __u16 addr;</li>
-      * <li>        __u16 flags;</li>
-      * <li>        __u16 len;</li>
-      * <li>        __u8 *buf;    wordSize</li>
-      * <li>        u8 buffer</li>
-      * <li>};</li>
-      *</ul>
-      * <p>
-      *     The ioctl command is  I2CConstants.I2C_RDWR, this command requires
-      *     two i2c_msg entries.
-      *</p>
-      * <p> The following describes the ByteBuffer, ioctlData,  contents:  </p>
-      *
-      * <ul>
-      * <li>     two byte address entry one</li>
-      * <li>     two byte len entry one</li>
-      * <li>     Possible padding for alignment</li>
-      * <li>     word size area for pointer to write data buffer</li>
-      * <li>     two byte address entry two</li>
-      * <li>     two byte flags entry two</li>
-      * <li>     two byte len entry two</li>
-      * <li>     Possible padding for alignment</li>
-      * <li>     word size area for pointer to read data buffer</li>
-      * <li>     Bytes required to contain write buffer contents</li>
-      * <li>     Bytes required to contain read data buffer</li>
-      *</ul>
-      *
-      * <p> There is a second byte buffer, offsets, this specifies the
-      *     ByteBuffer offset of any pointer paired with the ByteBuffer offset
-      *     of the data pointed to. </p>
-      *
-      *     This ByteBuffer contents
-      *<ul>
-      *<li>      ByteBuffer position start of pointer to write data buffer</li>
-      *<li>      ByteBuffer position start of write buffer contents</li>
-      *<li>      ByteBuffer position start of pointer to read data buffer</li>
-      * <li>     ByteBuffer position start of read buffer contents</li>
-      *</ul>
-      *
-      */
+     *
+     * <p>This function uses a single I2C_RDWR ioctl so the transaction uses an I2C RESTART between writing
+     * the register address and reading the data. The ioctl structures are staged in direct buffers owned by
+     * the {@link LinuxFsI2CBus}, so no buffers are allocated per call.</p>
+     */
     @Override
     public int readRegister(byte[] register, byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
-        // command I2C_RDWR
-        long command = I2CConstants.I2C_RDWR;
-        // create byte buffer containing the i2c messages
-        // address,flags, number of bytes data, pointer
-        // First message to write device register
-        short deviceAddr = (short) (this.config.device()& 0xff);
-        short writeFlags = (short) (I2CConstants.I2C_SMBUS_WRITE & 0xff);
-        short writeLength = (short) register.length;
-        // two pointers will be used so 2 pairs of offset entries
-        IntBuffer offsets = IntBuffer.allocate(4);
-         // create ByteBuffer, load with the write details Matches i2c provider
-        ByteBuffer ioctlData = ByteBuffer.allocate(2048);
-        // Ensures Pi BCM little_endian
-        ioctlData.order(ByteOrder.nativeOrder());
-        ioctlData.putShort(deviceAddr);
-        ioctlData.putShort(writeFlags);
-        ioctlData.putShort(writeLength);
-        // Before creating the pointer entry space, see if we are properly aligned
-        int wrtAlignValue = ioctlData.position()%SystemUtil.getWordSize();
-        // test if current position is less than word size, if less move position to word boundary
-        //  If greater than word size set position to next word boundary
-        if(ioctlData.position() <SystemUtil.getWordSize()) {
-            ioctlData.position( (SystemUtil.getWordSize() - ioctlData.position()) +  ioctlData.position());
-        }else if(wrtAlignValue != 0){
-            ioctlData.position(ioctlData.position()+ (SystemUtil.getWordSize() - wrtAlignValue) );
-        }
-        // first pair of offset info
-        offsets.put(ioctlData.position());
-        byte[] wrtPtrData = new byte[SystemUtil.getWordSize()];
-        ioctlData.put(wrtPtrData);
-
-        // second message to read back from device
-        short readFlags = (short) (I2CConstants.I2C_M_RD & 0xff);
-        short readLength = (short) length;
-        byte[] readBuff =  new byte[length];
-        //  load ByteBuffer with read details
-        ioctlData.putShort(deviceAddr);
-        ioctlData.putShort(readFlags);
-        ioctlData.putShort(readLength);
-        // Before creating the pointer entry space, see if we are properly aligned
-        // If not aligned, the pointer entry will be moved right the required number
-        // of byte to be properly aligned
-        // For consistency, test if current position is less than word size, if less move position to word boundary
-        //  If greater than word size set position to next word boundary
-        int rdAlignValue = ioctlData.position()%SystemUtil.getWordSize();
-        if(ioctlData.position() <SystemUtil.getWordSize()) {
-            ioctlData.position( (SystemUtil.getWordSize() - ioctlData.position()) +  ioctlData.position());
-        }else if(rdAlignValue != 0){
-            ioctlData.position(ioctlData.position()+(SystemUtil.getWordSize() - rdAlignValue));
-        }
-
-        byte[] rdPtrData = new byte[SystemUtil.getWordSize()];
-        // second pair of offset info, position 2
-        offsets.put(2,ioctlData.position());
-        ioctlData.put(rdPtrData);
-
-
-
-        int regBuffPosition = ioctlData.position();
-        // part of first pair, position 1
-        offsets.put(1, regBuffPosition);
-        ioctlData.put(register);
-        int readBuffPosition = ioctlData.position();
-        // last section of second pair, position 3
-        offsets.put(3,readBuffPosition);
-        ioctlData.put(readBuff);
-        // restore offset position to expected value, It was not at 4 as we put data into offset
-        // out of order
-        offsets.position(4);
-        // set to start of your data
-        ioctlData.flip();
-        offsets.flip();
-
-       this.i2CBus.executeIOCTL(this, command, ioctlData, offsets);
-
-        // move results back into user buffer
-        for (int i = 0; i < length; i++) {   // can I assume length is safe and the readBuff data is not shorter ??   I think yes
-            buffer[i] = ioctlData.get(readBuffPosition + i);
-        }
-
-        return readLength;
+        return this.i2CBus.readRegister(this, register, buffer, offset, length);
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>This function uses a single SMBus process call ioctl, so the word is written and the result read back in
+     * one transaction. Both words are transferred high byte first.</p>
      */
     @Override
     public int writeReadRegisterWord(int register, int word) {
-        byte reg[] = new byte[3];
-        reg[0] = (byte) (register & 0xff);
-        reg[1] = (byte) (word & 0xff);
-        reg[2] = (byte) ((word >> 8) & 0xff);
-        byte buff[] = new byte[2];
-        word = (buff[1] << 8)  | buff[0];
-        return word;
+        return swapBytes(this.i2CBus.smbusProcessCall(this, register & 0xff, swapBytes(word)));
+    }
+
+    // -------------------------------------------------------------------
+    // SMBUS FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * Executes an SMBus quick command, e.g. to probe for the device or switch it on or off.
+     *
+     * @param read true to send the read bit, false to send the write bit
+     */
+    public void quick(boolean read) {
+        this.i2CBus.smbusQuick(this, read);
+    }
+
+    /**
+     * Reads an SMBus block from the device register; the device determines the number of bytes returned,
+     * at most {@link I2CConstants#I2C_SMBUS_BLOCK_MAX}.
+     *
+     * @param register the register address to read from
+     * @param buffer   the buffer receiving the read data
+     * @param offset   the offset in the buffer to start storing data
+     * @param length   the maximum number of bytes to store
+     * @return the number of bytes returned by the device
+     */
+    public int readBlockData(int register, byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        return this.i2CBus.smbusReadBlockData(this, register & 0xff, buffer, offset, length);
+    }
+
+    /**
+     * Writes an SMBus block of at most {@link I2CConstants#I2C_SMBUS_BLOCK_MAX} bytes to the device register.
+     *
+     * @param register the register address to write to
+     * @param data     the data to write
+     * @param offset   the offset in the data to start writing from
+     * @param length   the number of bytes to write
+     * @return the number of bytes written
+     */
+    public int writeBlockData(int register, byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        this.i2CBus.smbusWriteBlockData(this, register & 0xff, data, offset, length);
+        return length;
+    }
+
+    /**
+     * Enables or disables SMBus packet error checking (PEC) for all SMBus transfers of this device. The adapter must
+     * support {@link I2CConstants#I2C_FUNC_SMBUS_PEC}.
+     *
+     * @param pec true to enable packet error checking
+     */
+    public void setPec(boolean pec) {
+        this.pec = pec;
+    }
+
+    /**
+     * @return true if SMBus packet error checking is enabled for this device
+     */
+    public boolean isPec() {
+        return this.pec;
+    }
 
+    /**
+     * SMBus transfers words low byte first, while the register word functions use high byte first.
+     */
+    private static int swapBytes(int word) {
+        return ((word & 0xff) << 8) | ((word >> 8) & 0xff);
     }
 }
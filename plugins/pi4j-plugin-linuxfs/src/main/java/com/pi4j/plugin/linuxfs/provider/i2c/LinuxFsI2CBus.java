@@ -5,6 +5,7 @@ import com.pi4j.exception.Pi4JException;
 import com.pi4j.io.i2c.I2C;
 import com.pi4j.io.i2c.I2CBusBase;
 import com.pi4j.io.i2c.I2CConfig;
+import com.pi4j.io.i2c.I2CTransaction;
 import com.pi4j.library.linuxfs.LinuxFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,13 +18,27 @@ import java.util.concurrent.Callable;
 
 public class LinuxFsI2CBus extends I2CBusBase {
 
+    /**
+     * Size in bytes of the preallocated ioctl structure buffer owned by each I2C file (about 1 page)
+     */
+    public static final int IOCTL_BUFFER_SIZE = LinuxFsI2CFile.IOCTL_BUFFER_SIZE;
+
+    /**
+     * Maximum number of i2c_msg entries the kernel accepts in a single I2C_RDWR ioctl
+     */
+    public static final int I2C_RDWR_MAX_MSGS = LinuxFsI2CFile.I2C_RDWR_MAX_MSGS;
+
     protected Logger logger = LoggerFactory.getLogger(this.getClass());
 
     /**
-     * File handle for this i2c bus
+     * Canonical path of the i2c bus character device
      */
-    protected LinuxFile file;
-    private int lastAddress;
+    protected final String fileName;
+
+    /**
+     * File handle for this i2c bus, shared by all devices without a per-device file
+     */
+    protected final LinuxFsI2CFile file;
 
     public LinuxFsI2CBus(I2CConfig config) {
         super(config);
@@ -37,40 +52,70 @@ public class LinuxFsI2CBus extends I2CBusBase {
             throw new Pi4JException("I2C bus " + this.bus + " does not exist.");
 
         try {
-            String fileName = devfs.getCanonicalPath();
-            this.file = new LinuxFile(fileName, "rw");
+            this.fileName = devfs.getCanonicalPath();
+            this.file = new LinuxFsI2CFile(this.fileName);
         } catch (IOException e) {
             throw new Pi4JException(e);
         }
     }
 
-    @Override
-    public <R> R execute(I2C i2c, Callable<R> action) {
-        return _execute(i2c, () -> {
+    /**
+     * <p>Opens a new file on this i2c bus which is bound to the given device address once. Devices using their own
+     * file do not need to re-select their slave address and do not take the bus lock, as the kernel serializes
+     * transfers on the i2c adapter.</p>
+     *
+     * @param address the i2c device address to bind the file to
+     * @return the new {@link LinuxFsI2CFile}
+     */
+    LinuxFsI2CFile openDeviceFile(int address) {
+        try {
+            LinuxFsI2CFile deviceFile = new LinuxFsI2CFile(this.fileName);
             try {
-                selectBusSlave(i2c);
-                return action.call();
-            } catch (RuntimeException e) {
+                deviceFile.select(address, false);
+            } catch (IOException e) {
+                deviceFile.close();
                 throw e;
-            } catch (Exception e) {
-                throw new Pi4JException("Failed to execute action for device " + i2c.device() + " on bus " + this.bus,
-                    e);
             }
-        });
+            return deviceFile;
+        } catch (IOException e) {
+            throw new Pi4JException("Failed to open I2C device " + address + " on bus " + this.bus, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>For devices using their own file only the device is blocked till the action is completed.</p>
+     */
+    @Override
+    public <R> R execute(I2C i2c, Callable<R> action) {
+        if (action == null)
+            throw new NullPointerException("Parameter 'action' is mandatory!");
+        lock(i2c);
+        try {
+            return action.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new Pi4JException("Failed to execute action for device " + i2c.device() + " on bus " + this.bus, e);
+        } finally {
+            unlock(i2c);
+        }
     }
 
     public <R> R execute(final I2C i2c, final CheckedFunction<LinuxFile, R> action) {
-        return _execute(i2c, () -> {
-            try {
-                selectBusSlave(i2c);
-                return action.apply(this.file);
-            } catch (RuntimeException e) {
-                throw e;
-            } catch (Exception e) {
-                throw new Pi4JException("Failed to execute action for device " + i2c.device() + " on bus " + this.bus,
-                    e);
-            }
-        });
+        if (action == null)
+            throw new NullPointerException("Parameter 'action' is mandatory!");
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            return action.apply(i2cFile.file());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new Pi4JException("Failed to execute action for device " + i2c.device() + " on bus " + this.bus, e);
+        } finally {
+            unlock(i2c);
+        }
     }
 
     /**
@@ -81,40 +126,322 @@ public class LinuxFsI2CBus extends I2CBusBase {
      * @param offsets ByteBuffer: offsets of pointer/ byte offset of pointedToData
      */
     public void executeIOCTL(final I2C i2c, long command, ByteBuffer data, IntBuffer offsets) {
-        _execute(i2c, () -> {
-            try {
-                selectBusSlave(i2c);
-                this.file.ioctl(command, data, offsets);
-            } catch (RuntimeException e) {
-                throw e;
-            } catch (Exception e) {
-                throw new Pi4JException("Failed to execute ioctl for device " + i2c.device() + " on bus " + this.bus,
-                    e);
-            }
-            return null;
-        });
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            i2cFile.file().ioctl(command, data, offsets);
+        } catch (IOException e) {
+            throw ioctlFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
     }
 
     /**
-     * Selects the slave device if not already selected on this bus. Runs the required ioctl's via JNI.
+     * Writes the register address and reads back data using a single I2C_RDWR ioctl, so the transaction uses an
+     * I2C RESTART instead of a STOP between the write and the read.
      *
-     * @param i2c Device to select
+     * @param i2c      the device to read from
+     * @param register the register address bytes to write before reading
+     * @param buffer   the buffer receiving the read data
+     * @param offset   the offset in the buffer to start storing data
+     * @param length   the number of bytes to read
+     * @return the number of bytes read
      */
-    protected void selectBusSlave(I2C i2c) throws IOException {
-        if (this.lastAddress == i2c.device())
-            return;
+    public int readRegister(final I2C i2c, byte[] register, byte[] buffer, int offset, int length) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            return i2cFile.readRegister(register, 0, buffer, offset, length);
+        } catch (IOException e) {
+            throw ioctlFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
+
+    /**
+     * Writes a single byte register address and reads back data using a single I2C_RDWR ioctl.
+     *
+     * @param i2c      the device to read from
+     * @param register the register address
+     * @param buffer   the buffer receiving the read data
+     * @param offset   the offset in the buffer to start storing data
+     * @param length   the number of bytes to read
+     * @return the number of bytes read
+     */
+    public int readRegister(final I2C i2c, int register, byte[] buffer, int offset, int length) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            return i2cFile.readRegister(null, register, buffer, offset, length);
+        } catch (IOException e) {
+            throw ioctlFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
+
+    /**
+     * Executes all segments of the given transaction as a single I2C_RDWR ioctl, staged in the preallocated direct
+     * buffers of the device or bus file.
+     *
+     * @param i2c         the device owning the transaction
+     * @param transaction the transaction to execute
+     * @return the total number of bytes read by all read segments
+     */
+    public int transfer(final I2C i2c, I2CTransaction transaction) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            return i2cFile.transfer(transaction);
+        } catch (IOException e) {
+            throw new Pi4JException("Failed to execute I2C transaction for device " + i2c.device() + " on bus " + this.bus, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
+
+    /**
+     * Executes an SMBus quick command, transferring the read/write bit as the only data.
+     *
+     * @param i2c  the device to address
+     * @param read true to send the read bit, false to send the write bit
+     */
+    public void smbusQuick(final LinuxFsI2C i2c, boolean read) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            i2cFile.smbusQuick(read);
+        } catch (IOException e) {
+            throw smbusFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
+
+    /**
+     * Executes an SMBus receive byte command.
+     *
+     * @param i2c the device to read from
+     * @return the unsigned byte value read
+     */
+    public int smbusReadByte(final LinuxFsI2C i2c) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            return i2cFile.smbusReadByte();
+        } catch (IOException e) {
+            throw smbusFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
 
-        this.lastAddress = i2c.device();
-        this.file.ioctl(I2CConstants.I2C_SLAVE, i2c.device() & 0xFF);
+    /**
+     * Executes an SMBus send byte command.
+     *
+     * @param i2c   the device to write to
+     * @param value the byte value to send
+     */
+    public void smbusWriteByte(final LinuxFsI2C i2c, int value) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            i2cFile.smbusWriteByte(value);
+        } catch (IOException e) {
+            throw smbusFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
+
+    /**
+     * Executes an SMBus read byte data command.
+     *
+     * @param i2c      the device to read from
+     * @param register the register (command) address
+     * @return the unsigned byte value read from the register
+     */
+    public int smbusReadByteData(final LinuxFsI2C i2c, int register) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            return i2cFile.smbusReadByteData(register);
+        } catch (IOException e) {
+            throw smbusFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
+
+    /**
+     * Executes an SMBus write byte data command.
+     *
+     * @param i2c      the device to write to
+     * @param register the register (command) address
+     * @param value    the byte value to write
+     */
+    public void smbusWriteByteData(final LinuxFsI2C i2c, int register, int value) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            i2cFile.smbusWriteByteData(register, value);
+        } catch (IOException e) {
+            throw smbusFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
+
+    /**
+     * Executes an SMBus read word data command. As defined by SMBus, the first byte on the wire is the low byte of
+     * the returned word.
+     *
+     * @param i2c      the device to read from
+     * @param register the register (command) address
+     * @return the unsigned 16-bit word value read from the register
+     */
+    public int smbusReadWordData(final LinuxFsI2C i2c, int register) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            return i2cFile.smbusReadWordData(register);
+        } catch (IOException e) {
+            throw smbusFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
+
+    /**
+     * Executes an SMBus write word data command. As defined by SMBus, the low byte of the word is sent first.
+     *
+     * @param i2c      the device to write to
+     * @param register the register (command) address
+     * @param word     the 16-bit word value to write
+     */
+    public void smbusWriteWordData(final LinuxFsI2C i2c, int register, int word) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            i2cFile.smbusWriteWordData(register, word);
+        } catch (IOException e) {
+            throw smbusFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
+
+    /**
+     * Executes an SMBus process call: writes a word to the register and reads back a word in the same transaction.
+     *
+     * @param i2c      the device to address
+     * @param register the register (command) address
+     * @param word     the 16-bit word value to write
+     * @return the unsigned 16-bit word value returned by the device
+     */
+    public int smbusProcessCall(final LinuxFsI2C i2c, int register, int word) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            return i2cFile.smbusProcessCall(register, word);
+        } catch (IOException e) {
+            throw smbusFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
+
+    /**
+     * Executes an SMBus block read command. The device determines the number of bytes returned, at most
+     * {@link I2CConstants#I2C_SMBUS_BLOCK_MAX}; bytes not fitting the given length are discarded.
+     *
+     * @param i2c      the device to read from
+     * @param register the register (command) address
+     * @param buffer   the buffer receiving the read data
+     * @param offset   the offset in the buffer to start storing data
+     * @param length   the maximum number of bytes to store
+     * @return the number of bytes returned by the device
+     */
+    public int smbusReadBlockData(final LinuxFsI2C i2c, int register, byte[] buffer, int offset, int length) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            return i2cFile.smbusReadBlockData(register, buffer, offset, length);
+        } catch (IOException e) {
+            throw smbusFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
+
+    /**
+     * Executes an SMBus block write command of at most {@link I2CConstants#I2C_SMBUS_BLOCK_MAX} bytes.
+     *
+     * @param i2c      the device to write to
+     * @param register the register (command) address
+     * @param data     the data to write
+     * @param offset   the offset in the data to start writing from
+     * @param length   the number of bytes to write
+     */
+    public void smbusWriteBlockData(final LinuxFsI2C i2c, int register, byte[] data, int offset, int length) {
+        LinuxFsI2CFile i2cFile = lock(i2c);
+        try {
+            i2cFile.smbusWriteBlockData(register, data, offset, length);
+        } catch (IOException e) {
+            throw smbusFailure(i2c, e);
+        } finally {
+            unlock(i2c);
+        }
+    }
+
+    /**
+     * <p>Locks the file used by the given device and selects the device on it. Devices with their own file only take
+     * their device lock, all others take the bus lock and share the bus file. Every call must be paired with
+     * {@link #unlock(I2C)} in a finally block.</p>
+     *
+     * @param i2c the device to lock the file for
+     * @return the locked file with the device selected
+     */
+    private LinuxFsI2CFile lock(I2C i2c) {
+        if (i2c == null)
+            throw new NullPointerException("Parameter 'i2c' is mandatory!");
+
+        LinuxFsI2C device = i2c instanceof LinuxFsI2C ? (LinuxFsI2C) i2c : null;
+        LinuxFsI2CFile deviceFile = device != null ? device.getDeviceFile() : null;
+        LinuxFsI2CFile i2cFile;
+        if (deviceFile != null) {
+            deviceFile.lock();
+            i2cFile = deviceFile;
+        } else {
+            acquireLock();
+            i2cFile = this.file;
+        }
+
+        try {
+            i2cFile.select(i2c.device(), device != null && device.isPec());
+            return i2cFile;
+        } catch (IOException e) {
+            unlock(i2c);
+            throw new Pi4JException("Failed to select device " + i2c.device() + " on bus " + this.bus, e);
+        }
+    }
+
+    /**
+     * Releases the lock acquired by {@link #lock(I2C)}.
+     *
+     * @param i2c the device to unlock the file for
+     */
+    private void unlock(I2C i2c) {
+        LinuxFsI2CFile deviceFile = i2c instanceof LinuxFsI2C ? ((LinuxFsI2C) i2c).getDeviceFile() : null;
+        if (deviceFile != null)
+            deviceFile.unlock();
+        else
+            releaseLock();
+    }
+
+    private Pi4JException ioctlFailure(I2C i2c, IOException e) {
+        return new Pi4JException("Failed to execute ioctl for device " + i2c.device() + " on bus " + this.bus, e);
+    }
+
+    private Pi4JException smbusFailure(I2C i2c, IOException e) {
+        return new Pi4JException("Failed to execute SMBus transfer for device " + i2c.device() + " on bus " + this.bus,
+            e);
     }
 
     public void close() {
-        if (this.file != null) {
-            try {
-                this.file.close();
-            } catch (IOException e) {
-                logger.error("Failed to close file {} for {}-{}", this.file, getClass().getSimpleName(), this.bus, e);
-            }
+        try {
+            this.file.close();
+        } catch (IOException e) {
+            logger.error("Failed to close file {} for {}-{}", this.fileName, getClass().getSimpleName(), this.bus, e);
         }
     }
 }
@@ -0,0 +1,421 @@
+package com.pi4j.plugin.linuxfs.provider.i2c;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsI2CFile.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.i2c.I2CTransaction;
+import com.pi4j.library.linuxfs.LinuxFile;
+import com.pi4j.plugin.linuxfs.util.SystemUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>An open <code>/dev/i2c-N</code> character device together with the preallocated, native ordered direct buffers
+ * used to stage I2C_RDWR and I2C_SMBUS ioctl structures.</p>
+ *
+ * <p>A file is either shared by all devices of a {@link LinuxFsI2CBus} and guarded by the bus lock, or owned by a
+ * single {@link LinuxFsI2C} with its slave address bound once and guarded by its own {@link #lock()}. All other
+ * methods must only be called while holding the applicable lock.</p>
+ */
+class LinuxFsI2CFile {
+
+    /**
+     * Size in bytes of the preallocated ioctl structure buffer (about 1 page)
+     */
+    static final int IOCTL_BUFFER_SIZE = LinuxFile.localBufferSize;
+
+    /**
+     * Maximum number of i2c_msg entries the kernel accepts in a single I2C_RDWR ioctl
+     */
+    static final int I2C_RDWR_MAX_MSGS = 42;
+
+    // struct i2c_msg: addr, flags and len (u16 each) padded to 8 bytes, followed by the word sized buf pointer
+    private static final int I2C_MSG_BUF_OFFSET = 8;
+    private static final int I2C_MSG_SIZE = I2C_MSG_BUF_OFFSET + SystemUtil.getWordSize();
+
+    // struct i2c_smbus_ioctl_data: read_write (u8), command (u8), size (u32) and the data pointer at offset 8; the
+    // union i2c_smbus_data (byte, word or block[I2C_SMBUS_BLOCK_MAX + 2]) is staged right behind it
+    private static final int I2C_SMBUS_DATA_POINTER_OFFSET = 8;
+    private static final int I2C_SMBUS_DATA_OFFSET = 16;
+
+    private final LinuxFile file;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ByteBuffer ioctlData = ByteBuffer.allocateDirect(IOCTL_BUFFER_SIZE).order(ByteOrder.nativeOrder());
+    private final IntBuffer ioctlOffsets = ByteBuffer.allocateDirect(2 * I2C_RDWR_MAX_MSGS * Integer.BYTES)
+        .order(ByteOrder.nativeOrder()).asIntBuffer();
+
+    private int address = -1;
+    private boolean pec;
+
+    /**
+     * <p>Constructor for LinuxFsI2CFile.</p>
+     *
+     * @param fileName the canonical path of the I2C character device
+     * @throws IOException if the device could not be opened
+     */
+    LinuxFsI2CFile(String fileName) throws IOException {
+        this.file = new LinuxFile(fileName, "rw");
+    }
+
+    /**
+     * @return the underlying {@link LinuxFile}
+     */
+    LinuxFile file() {
+        return this.file;
+    }
+
+    /**
+     * Acquires the lock of a device owned file. Not used for bus shared files.
+     */
+    void lock() {
+        this.lock.lock();
+    }
+
+    /**
+     * Releases the lock acquired by {@link #lock()}.
+     */
+    void unlock() {
+        this.lock.unlock();
+    }
+
+    /**
+     * Selects the slave device and packet error checking mode, only running the I2C_SLAVE and I2C_PEC ioctls
+     * when they differ from the current state of this file.
+     *
+     * @param address the slave device address
+     * @param pec     true to enable SMBus packet error checking
+     */
+    void select(int address, boolean pec) throws IOException {
+        if (this.address != address) {
+            this.file.ioctl(I2CConstants.I2C_SLAVE, address & 0xFF);
+            this.address = address;
+        }
+        if (this.pec != pec) {
+            this.file.ioctl(I2CConstants.I2C_PEC, pec ? 1 : 0);
+            this.pec = pec;
+        }
+    }
+
+    /**
+     * Writes the register address and reads back data from the selected device using a single I2C_RDWR ioctl.
+     *
+     * @param register     the register address bytes, or null to write the single byte 'registerByte'
+     * @param registerByte the register address used when 'register' is null
+     * @param buffer       the buffer receiving the read data
+     * @param offset       the offset in the buffer to start storing data
+     * @param length       the number of bytes to read
+     * @return the number of bytes read
+     */
+    int readRegister(byte[] register, int registerByte, byte[] buffer, int offset, int length) throws IOException {
+        int readPosition = transferRegisterRead(register, registerByte, length);
+        this.ioctlData.position(readPosition);
+        this.ioctlData.get(buffer, offset, length);
+        return length;
+    }
+
+    /**
+     * Executes all segments of the given transaction as a single I2C_RDWR ioctl. Write data is copied into the
+     * ioctl buffer before, and read data copied back into the segment buffers after the transfer.
+     *
+     * @param transaction the transaction to execute
+     * @return the total number of bytes read by all read segments
+     */
+    int transfer(I2CTransaction transaction) throws IOException {
+        final int count = transaction.size();
+        if (count == 0)
+            return 0;
+        if (count > I2C_RDWR_MAX_MSGS)
+            throw new IllegalArgumentException("I2C transaction has " + count + " segments, the kernel supports at most "
+                + I2C_RDWR_MAX_MSGS + " messages per I2C_RDWR ioctl");
+
+        this.ioctlData.clear();
+        this.ioctlOffsets.clear();
+
+        // stage all i2c_msg entries followed by their data areas
+        int position = count * I2C_MSG_SIZE;
+        for (int i = 0; i < count; i++) {
+            I2CTransaction.Segment segment = transaction.segment(i);
+            if (position + segment.length() > IOCTL_BUFFER_SIZE)
+                throw new IllegalArgumentException("I2C transaction data exceeds the " + IOCTL_BUFFER_SIZE
+                    + " byte ioctl buffer");
+
+            int flags = 0;
+            if (segment.isRead()) {
+                flags |= I2CConstants.I2C_M_RD;
+            } else {
+                this.ioctlData.position(position);
+                this.ioctlData.put(segment.buffer(), segment.offset(), segment.length());
+            }
+            if (segment.isNoStart())
+                flags |= I2CConstants.I2C_M_NOSTART;
+            if (segment.isIgnoreNak())
+                flags |= I2CConstants.I2C_M_IGNORE_NAK;
+
+            putMessage(i, segment.address(), flags, segment.length(), position);
+            position += segment.length();
+        }
+
+        executeRdwr(count);
+
+        // copy read data back into the segment buffers
+        int total = 0;
+        position = count * I2C_MSG_SIZE;
+        for (int i = 0; i < count; i++) {
+            I2CTransaction.Segment segment = transaction.segment(i);
+            if (segment.isRead()) {
+                this.ioctlData.position(position);
+                this.ioctlData.get(segment.buffer(), segment.offset(), segment.length());
+                total += segment.length();
+            }
+            position += segment.length();
+        }
+        return total;
+    }
+
+    /**
+     * Executes an SMBus quick command on the selected device.
+     *
+     * @param read true to send the read bit, false to send the write bit
+     */
+    void smbusQuick(boolean read) throws IOException {
+        executeSmbus(read ? I2CConstants.I2C_SMBUS_READ : I2CConstants.I2C_SMBUS_WRITE, 0,
+            I2CConstants.I2C_SMBUS_QUICK);
+    }
+
+    /**
+     * Executes an SMBus receive byte command on the selected device.
+     *
+     * @return the unsigned byte value read
+     */
+    int smbusReadByte() throws IOException {
+        executeSmbus(I2CConstants.I2C_SMBUS_READ, 0, I2CConstants.I2C_SMBUS_BYTE);
+        return this.ioctlData.get(I2C_SMBUS_DATA_OFFSET) & 0xFF;
+    }
+
+    /**
+     * Executes an SMBus send byte command on the selected device.
+     *
+     * @param value the byte value to send
+     */
+    void smbusWriteByte(int value) throws IOException {
+        executeSmbus(I2CConstants.I2C_SMBUS_WRITE, value, I2CConstants.I2C_SMBUS_BYTE);
+    }
+
+    /**
+     * Executes an SMBus read byte data command on the selected device.
+     *
+     * @param register the register (command) address
+     * @return the unsigned byte value read from the register
+     */
+    int smbusReadByteData(int register) throws IOException {
+        executeSmbus(I2CConstants.I2C_SMBUS_READ, register, I2CConstants.I2C_SMBUS_BYTE_DATA);
+        return this.ioctlData.get(I2C_SMBUS_DATA_OFFSET) & 0xFF;
+    }
+
+    /**
+     * Executes an SMBus write byte data command on the selected device.
+     *
+     * @param register the register (command) address
+     * @param value    the byte value to write
+     */
+    void smbusWriteByteData(int register, int value) throws IOException {
+        this.ioctlData.put(I2C_SMBUS_DATA_OFFSET, (byte) value);
+        executeSmbus(I2CConstants.I2C_SMBUS_WRITE, register, I2CConstants.I2C_SMBUS_BYTE_DATA);
+    }
+
+    /**
+     * Executes an SMBus read word data command on the selected device, the first byte on the wire is the low byte.
+     *
+     * @param register the register (command) address
+     * @return the unsigned 16-bit word value read from the register
+     */
+    int smbusReadWordData(int register) throws IOException {
+        executeSmbus(I2CConstants.I2C_SMBUS_READ, register, I2CConstants.I2C_SMBUS_WORD_DATA);
+        return this.ioctlData.getShort(I2C_SMBUS_DATA_OFFSET) & 0xFFFF;
+    }
+
+    /**
+     * Executes an SMBus write word data command on the selected device, the low byte is sent first.
+     *
+     * @param register the register (command) address
+     * @param word     the 16-bit word value to write
+     */
+    void smbusWriteWordData(int register, int word) throws IOException {
+        this.ioctlData.putShort(I2C_SMBUS_DATA_OFFSET, (short) word);
+        executeSmbus(I2CConstants.I2C_SMBUS_WRITE, register, I2CConstants.I2C_SMBUS_WORD_DATA);
+    }
+
+    /**
+     * Executes an SMBus process call on the selected device.
+     *
+     * @param register the register (command) address
+     * @param word     the 16-bit word value to write
+     * @return the unsigned 16-bit word value returned by the device
+     */
+    int smbusProcessCall(int register, int word) throws IOException {
+        this.ioctlData.putShort(I2C_SMBUS_DATA_OFFSET, (short) word);
+        executeSmbus(I2CConstants.I2C_SMBUS_WRITE, register, I2CConstants.I2C_SMBUS_PROC_CALL);
+        return this.ioctlData.getShort(I2C_SMBUS_DATA_OFFSET) & 0xFFFF;
+    }
+
+    /**
+     * Executes an SMBus block read command on the selected device; bytes not fitting the given length are discarded.
+     *
+     * @param register the register (command) address
+     * @param buffer   the buffer receiving the read data
+     * @param offset   the offset in the buffer to start storing data
+     * @param length   the maximum number of bytes to store
+     * @return the number of bytes returned by the device
+     */
+    int smbusReadBlockData(int register, byte[] buffer, int offset, int length) throws IOException {
+        executeSmbus(I2CConstants.I2C_SMBUS_READ, register, I2CConstants.I2C_SMBUS_BLOCK_DATA);
+        int count = Math.min(this.ioctlData.get(I2C_SMBUS_DATA_OFFSET) & 0xFF, I2CConstants.I2C_SMBUS_BLOCK_MAX);
+        this.ioctlData.position(I2C_SMBUS_DATA_OFFSET + 1);
+        this.ioctlData.get(buffer, offset, Math.min(count, length));
+        return count;
+    }
+
+    /**
+     * Executes an SMBus block write command of at most {@link I2CConstants#I2C_SMBUS_BLOCK_MAX} bytes on the
+     * selected device.
+     *
+     * @param register the register (command) address
+     * @param data     the data to write
+     * @param offset   the offset in the data to start writing from
+     * @param length   the number of bytes to write
+     */
+    void smbusWriteBlockData(int register, byte[] data, int offset, int length) throws IOException {
+        if (length > I2CConstants.I2C_SMBUS_BLOCK_MAX)
+            throw new IllegalArgumentException("SMBus block write of " + length + " bytes exceeds the maximum of "
+                + I2CConstants.I2C_SMBUS_BLOCK_MAX + " bytes");
+
+        this.ioctlData.put(I2C_SMBUS_DATA_OFFSET, (byte) length);
+        this.ioctlData.position(I2C_SMBUS_DATA_OFFSET + 1);
+        this.ioctlData.put(data, offset, length);
+        executeSmbus(I2CConstants.I2C_SMBUS_WRITE, register, I2CConstants.I2C_SMBUS_BLOCK_DATA);
+    }
+
+    /**
+     * Closes the underlying I2C character device.
+     */
+    void close() throws IOException {
+        this.file.close();
+    }
+
+    /**
+     * Stages and executes a single I2C_SMBUS ioctl. The data union must already be staged at its fixed position for
+     * write transfers and holds the result after read transfers.
+     *
+     * @param readWrite {@link I2CConstants#I2C_SMBUS_READ} or {@link I2CConstants#I2C_SMBUS_WRITE}
+     * @param command   the SMBus command (register) byte
+     * @param size      the SMBus transaction type
+     */
+    private void executeSmbus(int readWrite, int command, int size) throws IOException {
+        this.ioctlData.clear();
+        this.ioctlData.put(0, (byte) readWrite);
+        this.ioctlData.put(1, (byte) command);
+        this.ioctlData.putInt(4, size);
+
+        this.ioctlOffsets.clear();
+        this.ioctlOffsets.put(0, I2C_SMBUS_DATA_POINTER_OFFSET);
+        this.ioctlOffsets.put(1, I2C_SMBUS_DATA_OFFSET);
+        this.ioctlOffsets.limit(2);
+
+        this.file.ioctl(I2CConstants.I2C_SMBUS, this.ioctlData, this.ioctlOffsets);
+    }
+
+    /**
+     * <p>Stages and executes a two message I2C_RDWR ioctl for the selected device.</p>
+     *
+     * <p>The data buffer holds both 'struct i2c_msg' entries followed by the register address bytes and the
+     * read area. Each i2c_msg is laid out as gcc would on this platform:</p>
+     *
+     * <ul>
+     * <li>        __u16 addr;</li>
+     * <li>        __u16 flags;</li>
+     * <li>        __u16 len;</li>
+     * <li>        padding up to 8 bytes</li>
+     * <li>        __u8 *buf;    wordSize</li>
+     * </ul>
+     *
+     * <p>The offsets buffer pairs the position of each buf pointer with the position of the data it points to,
+     * the native layer resolves them to real addresses.</p>
+     *
+     * @param register     the register address bytes, or null to write the single byte 'registerByte'
+     * @param registerByte the register address used when 'register' is null
+     * @param length       the number of bytes to read
+     * @return the position of the read data in the data buffer
+     */
+    private int transferRegisterRead(byte[] register, int registerByte, int length) throws IOException {
+        int registerLength = register == null ? 1 : register.length;
+        int writePosition = 2 * I2C_MSG_SIZE;
+        int readPosition = writePosition + registerLength;
+        if (length < 0 || readPosition + length > IOCTL_BUFFER_SIZE)
+            throw new IllegalArgumentException("I2C register read of " + length + " bytes exceeds the "
+                + (IOCTL_BUFFER_SIZE - readPosition) + " byte ioctl buffer");
+
+        this.ioctlData.clear();
+        if (register == null) {
+            this.ioctlData.put(writePosition, (byte) registerByte);
+        } else {
+            this.ioctlData.position(writePosition);
+            this.ioctlData.put(register);
+        }
+
+        this.ioctlOffsets.clear();
+        putMessage(0, this.address, I2CConstants.I2C_SMBUS_WRITE, registerLength, writePosition);
+        putMessage(1, this.address, I2CConstants.I2C_M_RD, length, readPosition);
+        executeRdwr(2);
+        return readPosition;
+    }
+
+    /**
+     * Stages one 'struct i2c_msg' entry and its pointer offset pair.
+     */
+    private void putMessage(int index, int address, int flags, int length, int dataPosition) {
+        int position = index * I2C_MSG_SIZE;
+        this.ioctlData.putShort(position, (short) (address & 0xFFFF));
+        this.ioctlData.putShort(position + 2, (short) (flags & 0xFFFF));
+        this.ioctlData.putShort(position + 4, (short) (length & 0xFFFF));
+        this.ioctlOffsets.put(2 * index, position + I2C_MSG_BUF_OFFSET);
+        this.ioctlOffsets.put(2 * index + 1, dataPosition);
+    }
+
+    /**
+     * Executes the staged I2C_RDWR messages.
+     */
+    private void executeRdwr(int messages) throws IOException {
+        this.ioctlData.clear();
+        this.ioctlOffsets.position(0);
+        this.ioctlOffsets.limit(2 * messages);
+        this.file.ioctl(I2CConstants.I2C_RDWR, this.ioctlData, this.ioctlOffsets);
+    }
+}
@@ -0,0 +1,314 @@
+package com.pi4j.plugin.linuxfs.provider.serial;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsSerial.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.exception.ShutdownException;
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.serial.Serial;
+import com.pi4j.io.serial.SerialBase;
+import com.pi4j.io.serial.SerialConfig;
+import com.pi4j.io.serial.SerialProvider;
+import com.pi4j.library.linuxfs.LinuxFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * <p>Serial port accessed directly through its Linux tty device, e.g. <code>/dev/ttyAMA0</code> or
+ * <code>/dev/ttyUSB0</code>.</p>
+ *
+ * <p>The port is configured through termios for raw I/O with the baud rate, data bits, parity, stop bits and flow
+ * control of the {@link SerialConfig}. Incoming data is received by the shared reader thread of the provider into a
+ * {@link SerialRingBuffer}, so {@link #available()} and the read functions never access the device and never block;
+ * {@link DataListener}s are notified when data arrives. Writes go straight to the device.</p>
+ */
+public class LinuxFsSerial extends SerialBase implements Serial {
+
+    /**
+     * Default capacity in bytes of the receive ring buffer, about 1 second of data at 921600 baud
+     */
+    public static final int DEFAULT_RECEIVE_BUFFER_SIZE = 128 * 1024;
+
+    /**
+     * Listener notified on the reader thread whenever data has been received.
+     */
+    @FunctionalInterface
+    public interface DataListener {
+        /**
+         * @param serial    the serial port having received data
+         * @param available the number of bytes available to read
+         */
+        void onDataReceived(LinuxFsSerial serial, int available);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final LinuxFsSerialReader reader;
+    private final int fd;
+    private final Object writeLock = new Object();
+    private final byte[] writeByte = new byte[1];
+    private final int[] writeFds = new int[1];
+    private final int[] writeEvents = { LinuxFile.POLLOUT };
+    private final int[] writeRevents = new int[1];
+    private final SerialRingBuffer receiveBuffer;
+    private final List<DataListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean paused;
+
+    /**
+     * <p>Constructor for LinuxFsSerial.</p>
+     *
+     * @param reader   the {@link LinuxFsSerialReader} receiving data for this port
+     * @param provider a {@link SerialProvider} object.
+     * @param config   a {@link SerialConfig} object.
+     */
+    LinuxFsSerial(LinuxFsSerialReader reader, SerialProvider provider, SerialConfig config) {
+        super(provider, config);
+        this.reader = reader;
+        this.receiveBuffer = new SerialRingBuffer(DEFAULT_RECEIVE_BUFFER_SIZE);
+
+        File device = new File(config.device());
+        if (!device.exists())
+            throw new IOException("Serial device " + device + " does not exist.");
+
+        // never become the controlling terminal and don't wait for carrier detect (DCD) while opening
+        try {
+            this.fd = LinuxFile.open(device.getCanonicalPath(),
+                LinuxFile.O_RDWR | LinuxFile.O_NOCTTY | LinuxFile.O_NONBLOCK);
+        } catch (java.io.IOException e) {
+            throw new IOException("Failed to open serial device " + device, e);
+        }
+        this.writeFds[0] = this.fd;
+
+        try {
+            LinuxFile.setSerialAttributes(this.fd, config.baud(), config.dataBits().getValue(),
+                config.parity().getIndex(), config.stopBits().getValue(), config.flowControl().getIndex());
+            this.reader.register(this);
+        } catch (java.io.IOException e) {
+            closeFile();
+            throw new IOException("Failed to configure serial device " + device, e);
+        }
+
+        // set open state flag
+        this.isOpen = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int available() {
+        return this.receiveBuffer.available();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (this.isOpen) {
+            this.reader.unregister(this);
+            closeFile();
+        }
+        super.close();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Serial shutdown(Context context) throws ShutdownException {
+        // release the device and, with the last port, the reader thread of the provider
+        close();
+        return super.shutdown(context);
+    }
+
+    /**
+     * Add a listener notified on the reader thread whenever data has been received. Listeners should return quickly,
+     * as data of all serial ports is received on the same thread.
+     *
+     * @param listener the {@link DataListener} to add
+     * @return this serial port
+     */
+    public LinuxFsSerial addListener(DataListener listener) {
+        this.listeners.add(Objects.requireNonNull(listener, "listener"));
+        return this;
+    }
+
+    /**
+     * Remove a listener added with {@link #addListener(DataListener)}.
+     *
+     * @param listener the {@link DataListener} to remove
+     * @return this serial port
+     */
+    public LinuxFsSerial removeListener(DataListener listener) {
+        this.listeners.remove(listener);
+        return this;
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE WRITE FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte b) {
+        synchronized (this.writeLock) {
+            this.writeByte[0] = b;
+            return write(this.writeByte, 0, 1);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        synchronized (this.writeLock) {
+            try {
+                // the device is non-blocking; wait for room in the kernel transmit buffer when it is full
+                for (int done = 0; done < length; ) {
+                    int count = LinuxFile.write(this.fd, data, offset + done, length - done);
+                    if (count == 0)
+                        LinuxFile.poll(this.writeFds, this.writeEvents, this.writeRevents, 1, -1);
+                    done += count;
+                }
+                return length;
+            } catch (java.io.IOException e) {
+                throw new IOException("Failed to write to serial device " + config().device(), e);
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // RAW DEVICE READ FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Returns -1 if no data has been received.</p>
+     */
+    @Override
+    public int read() {
+        int value = this.receiveBuffer.read();
+        if (value >= 0)
+            resumeIfPaused();
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only returns data already received, 0 if there is none.</p>
+     */
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        int count = this.receiveBuffer.read(buffer, offset, length);
+        if (count > 0)
+            resumeIfPaused();
+        return count;
+    }
+
+    // -------------------------------------------------------------------
+    // MISC I/O FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int drain() {
+        int count = this.receiveBuffer.clear();
+        resumeIfPaused();
+        return count;
+    }
+
+    /**
+     * @return the POSIX file descriptor of the serial device
+     */
+    int fd() {
+        return this.fd;
+    }
+
+    /**
+     * Called by the reader thread before waiting for data; marks this port as paused if its receive buffer is full.
+     *
+     * @return true if the receive buffer is full and the port must not be polled for data
+     */
+    boolean pauseIfFull() {
+        // publish the paused state before checking for space, so a concurrent consumer either sees it or has
+        // already released space observed here
+        this.paused = true;
+        if (this.receiveBuffer.free() > 0) {
+            this.paused = false;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Called by the reader thread when data is available on the device; reads all of it that fits into the
+     * receive buffer without blocking and notifies the listeners.
+     *
+     * @param chunk a reusable transfer buffer of the reader thread
+     */
+    void receive(byte[] chunk) throws java.io.IOException {
+        int received = 0;
+        int free;
+        while ((free = this.receiveBuffer.free()) > 0) {
+            int count = LinuxFile.read(this.fd, chunk, 0, Math.min(chunk.length, free));
+            if (count <= 0)
+                break;
+            received += this.receiveBuffer.write(chunk, 0, count);
+            if (count < Math.min(chunk.length, free))
+                break;
+        }
+        if (received == 0)
+            return;
+
+        int available = this.receiveBuffer.available();
+        for (DataListener listener : this.listeners) {
+            try {
+                listener.onDataReceived(this, available);
+            } catch (Exception e) {
+                logger.error("Serial data listener failed on {}; {}", config().device(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private void resumeIfPaused() {
+        if (this.paused) {
+            this.paused = false;
+            this.reader.wakeup();
+        }
+    }
+
+    private void closeFile() {
+        try {
+            LinuxFile.closeFd(this.fd);
+        } catch (java.io.IOException e) {
+            logger.error("Failed to close serial device {}", config().device(), e);
+        }
+    }
+}
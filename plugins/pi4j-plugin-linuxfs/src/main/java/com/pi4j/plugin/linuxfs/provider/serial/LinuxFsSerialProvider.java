@@ -0,0 +1,53 @@
+package com.pi4j.plugin.linuxfs.provider.serial;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsSerialProvider.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.serial.SerialProvider;
+import com.pi4j.plugin.linuxfs.LinuxFsPlugin;
+
+/**
+ * <p>LinuxFsSerialProvider interface.</p>
+ *
+ * @version $Id: $Id
+ */
+public interface LinuxFsSerialProvider extends SerialProvider {
+
+    /** Constant <code>NAME="LinuxFsPlugin.SERIAL_PROVIDER_NAME"</code> */
+    String NAME = LinuxFsPlugin.SERIAL_PROVIDER_NAME;
+    /** Constant <code>ID="LinuxFsPlugin.SERIAL_PROVIDER_ID"</code> */
+    String ID = LinuxFsPlugin.SERIAL_PROVIDER_ID;
+
+    /**
+     * <p>newInstance.</p>
+     *
+     * @return a {@link LinuxFsSerialProvider} object.
+     */
+    static LinuxFsSerialProvider newInstance() {
+        return new LinuxFsSerialProviderImpl();
+    }
+}
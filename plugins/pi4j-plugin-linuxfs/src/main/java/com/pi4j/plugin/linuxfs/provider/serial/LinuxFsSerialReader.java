@@ -0,0 +1,211 @@
+package com.pi4j.plugin.linuxfs.provider.serial;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsSerialReader.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.linuxfs.LinuxFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Single background thread receiving data for all serial ports of a {@link LinuxFsSerialProvider}.</p>
+ *
+ * <p>All open ports are waited on together with poll(2). Whenever a port reports <code>POLLIN</code>, the available
+ * bytes are read without blocking and appended to the ring buffer of the port, after which its listeners are
+ * notified. A port whose ring buffer is full is left out of the poll set until a consumer has taken data, so the
+ * kernel buffers (and applies flow control) instead of data being dropped. The thread is started when the first port
+ * is opened and ends once the last port has been closed.</p>
+ */
+class LinuxFsSerialReader {
+
+    private static final String THREAD_NAME = "Pi4J.LINUXFS-SERIAL-READER";
+    private static final int ERROR_EVENTS = LinuxFile.POLLERR | LinuxFile.POLLHUP | LinuxFile.POLLNVAL;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Object lock = new Object();
+    private final List<LinuxFsSerial> ports = new ArrayList<>();
+
+    private int wakeupFd = -1;
+    private boolean dirty;
+    private Thread thread;
+
+    /**
+     * <p>Start receiving data for the given serial port.</p>
+     *
+     * @param serial the opened {@link LinuxFsSerial}
+     * @throws IOException if the wakeup event could not be created
+     */
+    void register(LinuxFsSerial serial) throws IOException {
+        synchronized (this.lock) {
+            if (this.wakeupFd < 0)
+                this.wakeupFd = LinuxFile.eventFd();
+
+            this.ports.add(serial);
+            this.dirty = true;
+            if (this.thread == null) {
+                this.thread = new Thread(this::run, THREAD_NAME);
+                this.thread.setDaemon(true);
+                this.thread.start();
+            } else {
+                LinuxFile.eventFdSignal(this.wakeupFd);
+            }
+        }
+        logger.trace("registered serial port; {}", serial.config().device());
+    }
+
+    /**
+     * <p>Stop receiving data for the given serial port. Once this method returns, the reader thread no longer
+     * accesses the port, so its file may be closed.</p>
+     *
+     * @param serial the {@link LinuxFsSerial} to stop receiving data for
+     */
+    void unregister(LinuxFsSerial serial) {
+        synchronized (this.lock) {
+            if (!this.ports.remove(serial))
+                return;
+            this.dirty = true;
+            wakeup();
+
+            // wait for the reader thread to pick up the new port set, unless called from the reader itself
+            while (this.dirty && this.thread != null && this.thread != Thread.currentThread()) {
+                try {
+                    this.lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        logger.trace("unregistered serial port; {}", serial.config().device());
+    }
+
+    /**
+     * Wake up the reader thread, e.g. after a consumer released ring buffer space of a paused port.
+     */
+    void wakeup() {
+        try {
+            synchronized (this.lock) {
+                if (this.thread != null)
+                    LinuxFile.eventFdSignal(this.wakeupFd);
+            }
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    private void run() {
+        LinuxFsSerial[] active = new LinuxFsSerial[0];
+        int[] fds = new int[1];
+        int[] events = new int[1];
+        int[] revents = new int[1];
+        byte[] chunk = new byte[4096];
+        int count = 1;
+
+        try {
+            while (true) {
+                // rebuild the poll set whenever ports have been opened or closed
+                synchronized (this.lock) {
+                    if (this.dirty) {
+                        this.dirty = false;
+                        this.lock.notifyAll();
+                        if (this.ports.isEmpty()) {
+                            this.thread = null;
+                            closeWakeup();
+                            return;
+                        }
+                        active = this.ports.toArray(new LinuxFsSerial[0]);
+                        count = active.length + 1;
+                        if (fds.length < count) {
+                            fds = new int[count];
+                            events = new int[count];
+                            revents = new int[count];
+                        }
+                        fds[0] = this.wakeupFd;
+                        events[0] = LinuxFile.POLLIN;
+                        for (int i = 0; i < active.length; i++)
+                            fds[i + 1] = active[i].fd();
+                    }
+                }
+
+                // only wait for data on ports with free ring buffer space
+                for (int i = 0; i < active.length; i++)
+                    events[i + 1] = active[i].pauseIfFull() ? 0 : LinuxFile.POLLIN;
+
+                if (LinuxFile.poll(fds, events, revents, count, -1) <= 0)
+                    continue;
+
+                if ((revents[0] & LinuxFile.POLLIN) != 0)
+                    LinuxFile.eventFdClear(fds[0]);
+
+                for (int i = 1; i < count; i++) {
+                    if (revents[i] == 0)
+                        continue;
+                    LinuxFsSerial serial = active[i - 1];
+                    try {
+                        if ((revents[i] & LinuxFile.POLLIN) != 0)
+                            serial.receive(chunk);
+                        if ((revents[i] & ERROR_EVENTS) != 0 && (revents[i] & LinuxFile.POLLIN) == 0) {
+                            logger.error("Serial port {} reported an error or hang-up; no longer receiving data",
+                                serial.config().device());
+                            unregister(serial);
+                        }
+                    } catch (Exception e) {
+                        // a failing port would otherwise be reported by every poll(2) again
+                        logger.error("Failed to receive data on serial port {}; no longer receiving data; {}",
+                            serial.config().device(), e.getMessage(), e);
+                        unregister(serial);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Serial reader stopped; {}", e.getMessage(), e);
+            synchronized (this.lock) {
+                this.thread = null;
+                this.dirty = true;
+                closeWakeup();
+                this.lock.notifyAll();
+            }
+        }
+    }
+
+    private void closeWakeup() {
+        // caller must hold 'lock'; a new eventfd is created by the next registration that starts the thread
+        if (this.wakeupFd < 0)
+            return;
+        try {
+            LinuxFile.closeFd(this.wakeupFd);
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+        } finally {
+            this.wakeupFd = -1;
+        }
+    }
+}
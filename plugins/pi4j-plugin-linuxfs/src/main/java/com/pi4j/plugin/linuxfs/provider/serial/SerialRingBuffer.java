@@ -0,0 +1,165 @@
+package com.pi4j.plugin.linuxfs.provider.serial;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  SerialRingBuffer.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Lock-free byte ring buffer between a single producer thread and any number of consumer threads.</p>
+ *
+ * <p>The producer (the serial reader thread) appends data with {@link #write(byte[], int, int)}, consumers take data
+ * with {@link #read()} and {@link #read(byte[], int, int)}. Read and write positions are ever increasing counters;
+ * the producer publishes new data by advancing the write position after copying, consumers claim data by advancing the
+ * read position with a compare-and-set after copying, so a consumer losing a race simply retries. Data is never
+ * overwritten: the producer only writes into the space consumers have released.</p>
+ */
+public class SerialRingBuffer {
+
+    private final byte[] data;
+    private final int mask;
+    private final AtomicLong readPosition = new AtomicLong();
+    private final AtomicLong writePosition = new AtomicLong();
+
+    /**
+     * <p>Constructor for SerialRingBuffer.</p>
+     *
+     * @param capacity the minimum capacity in bytes, rounded up to the next power of two
+     */
+    public SerialRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30))
+            throw new IllegalArgumentException("Invalid ring buffer capacity: " + capacity);
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity)
+            size <<= 1;
+        this.data = new byte[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return the capacity of this ring buffer in bytes
+     */
+    public int capacity() {
+        return this.data.length;
+    }
+
+    /**
+     * @return the number of bytes available to read
+     */
+    public int available() {
+        // read the read position first; it never passes the write position read afterwards
+        long read = this.readPosition.get();
+        return (int) (this.writePosition.get() - read);
+    }
+
+    /**
+     * @return the number of bytes that can be written without overwriting unread data
+     */
+    public int free() {
+        return this.data.length - available();
+    }
+
+    /**
+     * Append data to this ring buffer. Must only be called by the single producer thread.
+     *
+     * @param buffer the data to append
+     * @param offset the offset in the data
+     * @param length the number of bytes to append
+     * @return the number of bytes appended, less than 'length' if the ring buffer is full
+     */
+    public int write(byte[] buffer, int offset, int length) {
+        long write = this.writePosition.get();
+        int count = Math.min(length, this.data.length - (int) (write - this.readPosition.get()));
+        if (count <= 0)
+            return 0;
+
+        int start = (int) (write & this.mask);
+        int first = Math.min(count, this.data.length - start);
+        System.arraycopy(buffer, offset, this.data, start, first);
+        System.arraycopy(buffer, offset + first, this.data, 0, count - first);
+
+        // publish the copied data to consumers
+        this.writePosition.set(write + count);
+        return count;
+    }
+
+    /**
+     * Take a single byte from this ring buffer.
+     *
+     * @return the unsigned byte value, or -1 if no data is available
+     */
+    public int read() {
+        while (true) {
+            long read = this.readPosition.get();
+            if (read == this.writePosition.get())
+                return -1;
+            int value = this.data[(int) (read & this.mask)] & 0xFF;
+            if (this.readPosition.compareAndSet(read, read + 1))
+                return value;
+        }
+    }
+
+    /**
+     * Take up to 'length' bytes from this ring buffer.
+     *
+     * @param buffer the buffer receiving the data
+     * @param offset the offset in the buffer
+     * @param length the maximum number of bytes to take
+     * @return the number of bytes taken, 0 if no data is available
+     */
+    public int read(byte[] buffer, int offset, int length) {
+        while (true) {
+            long read = this.readPosition.get();
+            int count = Math.min(length, (int) (this.writePosition.get() - read));
+            if (count <= 0)
+                return 0;
+
+            int start = (int) (read & this.mask);
+            int first = Math.min(count, this.data.length - start);
+            System.arraycopy(this.data, start, buffer, offset, first);
+            System.arraycopy(this.data, 0, buffer, offset + first, count - first);
+
+            // the copy is only valid if no other consumer claimed the data (allowing the producer to reuse it) meanwhile
+            if (this.readPosition.compareAndSet(read, read + count))
+                return count;
+        }
+    }
+
+    /**
+     * Discard all data currently available.
+     *
+     * @return the number of bytes discarded
+     */
+    public int clear() {
+        while (true) {
+            long read = this.readPosition.get();
+            long write = this.writePosition.get();
+            if (this.readPosition.compareAndSet(read, write))
+                return (int) (write - read);
+        }
+    }
+}
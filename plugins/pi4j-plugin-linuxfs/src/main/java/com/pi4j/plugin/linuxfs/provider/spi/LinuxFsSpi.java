@@ -0,0 +1,339 @@
+package com.pi4j.plugin.linuxfs.provider.spi;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsSpi.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiBase;
+import com.pi4j.io.spi.SpiConfig;
+import com.pi4j.io.spi.SpiProvider;
+import com.pi4j.library.linuxfs.LinuxFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+import static com.pi4j.plugin.linuxfs.provider.spi.SpiConstants.*;
+
+/**
+ * <p>SPI device accessed through the Linux spidev driver (<code>/dev/spidevB.C</code>).</p>
+ *
+ * <p>Every transfer is a <code>SPI_IOC_MESSAGE</code> ioctl. Byte array transfers are staged in direct buffers
+ * owned by this device, transfers of direct {@link ByteBuffer}s reference the buffers without copying, and
+ * {@link #message()} batches several transfers with individual settings into a single ioctl.</p>
+ *
+ * <p>The SPI mode and clock speed are taken from the {@link SpiConfig}. When flags are provided, the chip select
+ * polarity ('px'), LSB first ('T') and word size ('bbbbbb') bits are applied as documented in
+ * {@link SpiConfig#flags()}.</p>
+ */
+public class LinuxFsSpi extends SpiBase implements Spi {
+
+    /**
+     * Default spidev buffer size, used when the 'bufsiz' module parameter can not be read
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    private static final Path BUFFER_SIZE_PATH = Paths.get("/sys/module/spidev/parameters/bufsiz");
+    private static final int FLAGS_LSB_FIRST = 1 << 14;
+    private static final int FLAGS_CS_HIGH_SHIFT = 2;
+    private static final int FLAGS_WORD_SIZE_SHIFT = 16;
+    private static final int FLAGS_WORD_SIZE_MASK = 0x3F;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    protected final LinuxFile file;
+    protected final int bufferSize;
+    protected final int speedHz;
+    protected final int bitsPerWord;
+
+    // native ordered, direct buffers reused for every byte array transfer; only accessed while synchronized
+    private final ByteBuffer transfer = ByteBuffer.allocateDirect(SPI_IOC_TRANSFER_SIZE).order(ByteOrder.nativeOrder());
+    private final ByteBuffer txBuffer;
+    private final ByteBuffer rxBuffer;
+    private final long txAddress;
+    private final long rxAddress;
+    private final IntBuffer noOffsets = ByteBuffer.allocateDirect(0).order(ByteOrder.nativeOrder()).asIntBuffer();
+
+    /**
+     * <p>Constructor for LinuxFsSpi.</p>
+     *
+     * @param provider a {@link SpiProvider} object.
+     * @param config   a {@link SpiConfig} object.
+     */
+    public LinuxFsSpi(SpiProvider provider, SpiConfig config) {
+        super(provider, config);
+
+        int mode = config.mode().getMode();
+        int bitsPerWord = 8;
+        if (config.flags() != null) {
+            long flags = config.flags();
+            if ((flags & (1L << (FLAGS_CS_HIGH_SHIFT + config.address()))) != 0)
+                mode |= SPI_CS_HIGH;
+            if ((flags & FLAGS_LSB_FIRST) != 0)
+                mode |= SPI_LSB_FIRST;
+            int wordSize = (int) ((flags >> FLAGS_WORD_SIZE_SHIFT) & FLAGS_WORD_SIZE_MASK);
+            if (wordSize != 0)
+                bitsPerWord = wordSize;
+        }
+        this.speedHz = config.baud();
+        this.bitsPerWord = bitsPerWord;
+        this.bufferSize = readBufferSize();
+
+        File device = new File("/dev/spidev" + config.bus().getBus() + "." + config.address());
+        if (!device.exists())
+            throw new IOException("SPI device " + device + " does not exist.");
+
+        try {
+            this.file = new LinuxFile(device.getCanonicalPath(), "rw");
+        } catch (java.io.IOException e) {
+            throw new IOException("Failed to open SPI device " + device, e);
+        }
+
+        try {
+            configure(SPI_IOC_WR_MODE, mode, Byte.BYTES);
+            configure(SPI_IOC_WR_BITS_PER_WORD, this.bitsPerWord, Byte.BYTES);
+            configure(SPI_IOC_WR_MAX_SPEED_HZ, this.speedHz, Integer.BYTES);
+        } catch (java.io.IOException e) {
+            closeFile();
+            throw new IOException("Failed to configure SPI device " + device, e);
+        }
+
+        this.txBuffer = ByteBuffer.allocateDirect(this.bufferSize);
+        this.rxBuffer = ByteBuffer.allocateDirect(this.bufferSize);
+        this.txAddress = LinuxFile.getDirectBufferAddress(this.txBuffer);
+        this.rxAddress = LinuxFile.getDirectBufferAddress(this.rxBuffer);
+
+        // set open state flag
+        this.isOpen = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        closeFile();
+        super.close();
+    }
+
+    /**
+     * @return the maximum number of bytes written or read by a single spidev ioctl
+     */
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+
+    /**
+     * Create a new, empty message to batch several transfers into a single ioctl.
+     *
+     * @return a new {@link LinuxFsSpiMessage}
+     */
+    public LinuxFsSpiMessage message() {
+        return new LinuxFsSpiMessage(this);
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE TRANSFER FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int transfer(byte[] write, int writeOffset, byte[] read, int readOffset, int numberOfBytes) {
+        Objects.checkFromIndexSize(writeOffset, numberOfBytes, write.length);
+        Objects.checkFromIndexSize(readOffset, numberOfBytes, read.length);
+        return transferArrays(write, writeOffset, read, readOffset, numberOfBytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Direct buffers are transferred without copying, in chunks of at most {@link #getBufferSize()} bytes.</p>
+     */
+    @Override
+    public int transfer(ByteBuffer write, int writeOffset, ByteBuffer read, int readOffset, int numberOfBytes) {
+        if (!write.isDirect() || !read.isDirect())
+            return super.transfer(write, writeOffset, read, readOffset, numberOfBytes);
+
+        // perform bounds checking on requested length versus total remaining size available
+        numberOfBytes = Math.min(numberOfBytes, Math.min(write.capacity() - writeOffset, read.capacity() - readOffset));
+        long writeAddress = LinuxFile.getDirectBufferAddress(write) + writeOffset;
+        long readAddress = LinuxFile.getDirectBufferAddress(read) + readOffset;
+        synchronized (this) {
+            for (int done = 0; done < numberOfBytes; done += this.bufferSize) {
+                int length = Math.min(this.bufferSize, numberOfBytes - done);
+                transferSingle(writeAddress + done, readAddress + done, length);
+            }
+        }
+        return numberOfBytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Direct buffers are transferred in place without copying.</p>
+     */
+    @Override
+    public int transfer(ByteBuffer buffer, int offset, int length) {
+        if (!buffer.isDirect())
+            return super.transfer(buffer, offset, length);
+        return transfer(buffer, offset, buffer, offset, length);
+    }
+
+    /**
+     * Execute all transfers of the given message as a single SPI_IOC_MESSAGE ioctl.
+     *
+     * @param message the message to execute
+     * @return the total number of bytes transferred
+     */
+    public int transfer(LinuxFsSpiMessage message) {
+        if (message.spi() != this)
+            throw new IllegalArgumentException("SPI message belongs to another SPI device");
+        if (message.size() == 0)
+            return 0;
+
+        synchronized (this) {
+            ByteBuffer transfers = message.transfers();
+            transfers.clear();
+            try {
+                this.file.ioctl(SPI_IOC_MESSAGE(message.size()), transfers, this.noOffsets);
+            } catch (java.io.IOException e) {
+                throw new IOException("Failed to transfer SPI message of " + message.size() + " transfers", e);
+            }
+        }
+        return message.length();
+    }
+
+    // -------------------------------------------------------------------
+    // DEVICE WRITE FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte b) {
+        return transferArrays(new byte[] { b }, 0, null, 0, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        return transferArrays(data, offset, null, 0, length);
+    }
+
+    // -------------------------------------------------------------------
+    // RAW DEVICE READ FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() {
+        byte[] buffer = new byte[1];
+        transferArrays(null, 0, buffer, 0, 1);
+        return buffer[0] & 0xFF;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        return transferArrays(null, 0, buffer, offset, length);
+    }
+
+    /**
+     * Transfers byte arrays through the staging buffers in chunks of at most {@link #getBufferSize()} bytes. Zeros
+     * are written if 'write' is null, the received data is discarded if 'read' is null.
+     */
+    private synchronized int transferArrays(byte[] write, int writeOffset, byte[] read, int readOffset,
+                                            int numberOfBytes) {
+        for (int done = 0; done < numberOfBytes; done += this.bufferSize) {
+            int length = Math.min(this.bufferSize, numberOfBytes - done);
+            if (write != null) {
+                this.txBuffer.clear();
+                this.txBuffer.put(write, writeOffset + done, length);
+            }
+
+            transferSingle(write != null ? this.txAddress : 0, read != null ? this.rxAddress : 0, length);
+
+            if (read != null) {
+                this.rxBuffer.clear();
+                this.rxBuffer.get(read, readOffset + done, length);
+            }
+        }
+        return numberOfBytes;
+    }
+
+    /**
+     * Executes a single spi_ioc_transfer with the configured settings. Caller must be synchronized on this device.
+     */
+    private void transferSingle(long writeAddress, long readAddress, int length) {
+        for (int i = 0; i < SPI_IOC_TRANSFER_SIZE; i += Long.BYTES)
+            this.transfer.putLong(i, 0);
+        this.transfer.putLong(SPI_IOC_TRANSFER_TX_BUF, writeAddress);
+        this.transfer.putLong(SPI_IOC_TRANSFER_RX_BUF, readAddress);
+        this.transfer.putInt(SPI_IOC_TRANSFER_LEN, length);
+        this.transfer.clear();
+        try {
+            this.file.ioctl(SPI_IOC_MESSAGE(1), this.transfer, this.noOffsets);
+        } catch (java.io.IOException e) {
+            throw new IOException("Failed to transfer " + length + " bytes on SPI device " + this.id, e);
+        }
+    }
+
+    /**
+     * Writes a u8 or u32 configuration value of the SPI device.
+     */
+    private void configure(long command, int value, int size) throws java.io.IOException {
+        this.transfer.clear();
+        if (size == Byte.BYTES)
+            this.transfer.put(0, (byte) value);
+        else
+            this.transfer.putInt(0, value);
+        this.file.ioctl(command, this.transfer, this.noOffsets);
+    }
+
+    private void closeFile() {
+        try {
+            this.file.close();
+        } catch (java.io.IOException e) {
+            logger.error("Failed to close SPI device {}", this.id, e);
+        }
+    }
+
+    private static int readBufferSize() {
+        try {
+            return Integer.parseInt(Files.readString(BUFFER_SIZE_PATH).trim());
+        } catch (Exception e) {
+            return DEFAULT_BUFFER_SIZE;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.pi4j.plugin.linuxfs.provider.spi;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsSpiMessage.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.library.linuxfs.LinuxFile;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.pi4j.plugin.linuxfs.provider.spi.SpiConstants.*;
+
+/**
+ * <p>A batch of SPI transfers submitted to spidev as a single <code>SPI_IOC_MESSAGE(n)</code> ioctl.</p>
+ *
+ * <p>Each transfer references direct {@link ByteBuffer}s, so no data is copied. The <code>spi_ioc_transfer</code>
+ * structures are encoded when a transfer is added, which makes executing a message a single system call; a message
+ * may be built once and executed repeatedly. By default chip select stays asserted between the transfers of a message
+ * and is released after the last one. As with all spidev transfers, the total number of bytes written and the total
+ * number of bytes read by a message are each limited by the spidev <code>bufsiz</code> module parameter.</p>
+ *
+ * <pre>
+ * {@code
+ *    ByteBuffer command = ByteBuffer.allocateDirect(1);
+ *    ByteBuffer pixels = ByteBuffer.allocateDirect(1024);
+ *    spi.message()
+ *       .write(command, 0, 1)
+ *       .transfer(pixels, 0, null, 0, 1024, 32_000_000, 0, false)
+ *       .execute();
+ * }
+ * </pre>
+ *
+ * @see LinuxFsSpi#message()
+ */
+public class LinuxFsSpiMessage {
+
+    private final LinuxFsSpi spi;
+    private final int bufferSize;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private ByteBuffer transfers = ByteBuffer.allocateDirect(4 * SPI_IOC_TRANSFER_SIZE).order(ByteOrder.nativeOrder());
+    private int count;
+    private int writeTotal;
+    private int readTotal;
+    private int length;
+
+    /**
+     * <p>Constructor for LinuxFsSpiMessage.</p>
+     *
+     * @param spi the SPI device executing this message
+     */
+    public LinuxFsSpiMessage(LinuxFsSpi spi) {
+        this(spi, Objects.requireNonNull(spi, "spi").getBufferSize());
+    }
+
+    /**
+     * <p>Constructor for LinuxFsSpiMessage.</p>
+     *
+     * @param spi        the SPI device executing this message
+     * @param bufferSize the spidev <code>bufsiz</code> limiting the data written and read by this message
+     */
+    LinuxFsSpiMessage(LinuxFsSpi spi, int bufferSize) {
+        this.spi = spi;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Append a full-duplex transfer using the configured speed of the device.
+     *
+     * @param write  the direct buffer to write from
+     * @param read   the direct buffer to read into
+     * @param length the number of bytes to transfer, starting at position zero of both buffers
+     * @return this message
+     */
+    public LinuxFsSpiMessage transfer(ByteBuffer write, ByteBuffer read, int length) {
+        return transfer(write, 0, read, 0, length, 0, 0, false);
+    }
+
+    /**
+     * Append a write-only transfer using the configured speed of the device, the received data is discarded.
+     *
+     * @param data   the direct buffer to write from
+     * @param offset the offset in the buffer
+     * @param length the number of bytes to write
+     * @return this message
+     */
+    public LinuxFsSpiMessage write(ByteBuffer data, int offset, int length) {
+        return transfer(data, offset, null, 0, length, 0, 0, false);
+    }
+
+    /**
+     * Append a read-only transfer using the configured speed of the device, zeros are written.
+     *
+     * @param buffer the direct buffer to read into
+     * @param offset the offset in the buffer
+     * @param length the number of bytes to read
+     * @return this message
+     */
+    public LinuxFsSpiMessage read(ByteBuffer buffer, int offset, int length) {
+        return transfer(null, 0, buffer, offset, length, 0, 0, false);
+    }
+
+    /**
+     * Append a transfer with individual settings.
+     *
+     * @param write       the direct buffer to write from, or null to write zeros
+     * @param writeOffset the offset in the write buffer
+     * @param read        the direct buffer to read into, or null to discard the received data
+     * @param readOffset  the offset in the read buffer
+     * @param length      the number of bytes to transfer
+     * @param speedHz     the clock speed of this transfer, or 0 to use the configured speed of the device
+     * @param delayUsecs  the delay in microseconds after this transfer, before chip select changes or the next
+     *                    transfer starts
+     * @param csChange    true to release chip select after this transfer (or, after the last transfer, to keep it
+     *                    asserted)
+     * @return this message
+     */
+    public LinuxFsSpiMessage transfer(ByteBuffer write, int writeOffset, ByteBuffer read, int readOffset, int length,
+                                      int speedHz, int delayUsecs, boolean csChange) {
+        if (write == null && read == null)
+            throw new IllegalArgumentException("SPI transfer requires a write and/or a read buffer");
+        if (this.count == SPI_IOC_MESSAGE_MAX)
+            throw new IllegalArgumentException("SPI message supports at most " + SPI_IOC_MESSAGE_MAX + " transfers");
+        if (delayUsecs < 0 || delayUsecs > 0xFFFF)
+            throw new IllegalArgumentException("SPI transfer delay must be 0 to 65535 microseconds: " + delayUsecs);
+        if (write != null)
+            Objects.checkFromIndexSize(writeOffset, length, write.capacity());
+        if (read != null)
+            Objects.checkFromIndexSize(readOffset, length, read.capacity());
+
+        int writeTotal = this.writeTotal + (write != null ? length : 0);
+        int readTotal = this.readTotal + (read != null ? length : 0);
+        if (writeTotal > this.bufferSize || readTotal > this.bufferSize)
+            throw new IllegalArgumentException("SPI message data exceeds the " + this.bufferSize
+                + " byte spidev buffer size");
+
+        long writeAddress = write != null ? LinuxFile.getDirectBufferAddress(write) + writeOffset : 0;
+        long readAddress = read != null ? LinuxFile.getDirectBufferAddress(read) + readOffset : 0;
+
+        if (this.transfers.capacity() < (this.count + 1) * SPI_IOC_TRANSFER_SIZE) {
+            ByteBuffer grown = ByteBuffer.allocateDirect(2 * this.transfers.capacity()).order(ByteOrder.nativeOrder());
+            this.transfers.clear();
+            grown.put(this.transfers);
+            this.transfers = grown;
+        }
+
+        int position = this.count * SPI_IOC_TRANSFER_SIZE;
+        for (int i = 0; i < SPI_IOC_TRANSFER_SIZE; i += Long.BYTES)
+            this.transfers.putLong(position + i, 0);
+        this.transfers.putLong(position + SPI_IOC_TRANSFER_TX_BUF, writeAddress);
+        this.transfers.putLong(position + SPI_IOC_TRANSFER_RX_BUF, readAddress);
+        this.transfers.putInt(position + SPI_IOC_TRANSFER_LEN, length);
+        this.transfers.putInt(position + SPI_IOC_TRANSFER_SPEED_HZ, speedHz);
+        this.transfers.putShort(position + SPI_IOC_TRANSFER_DELAY_USECS, (short) delayUsecs);
+        this.transfers.put(position + SPI_IOC_TRANSFER_CS_CHANGE, (byte) (csChange ? 1 : 0));
+
+        // keep the referenced buffers reachable for as long as this message is
+        if (write != null)
+            this.buffers.add(write);
+        if (read != null)
+            this.buffers.add(read);
+
+        this.writeTotal = writeTotal;
+        this.readTotal = readTotal;
+        this.length += length;
+        this.count++;
+        return this;
+    }
+
+    /**
+     * @return the number of transfers in this message
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * @return the total number of bytes transferred by all transfers of this message
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * @return the SPI device executing this message
+     */
+    public LinuxFsSpi spi() {
+        return this.spi;
+    }
+
+    /**
+     * Execute all transfers of this message as a single SPI_IOC_MESSAGE ioctl.
+     *
+     * @return the total number of bytes transferred
+     */
+    public int execute() {
+        return this.spi.transfer(this);
+    }
+
+    /**
+     * @return the encoded spi_ioc_transfer structures
+     */
+    ByteBuffer transfers() {
+        return this.transfers;
+    }
+}
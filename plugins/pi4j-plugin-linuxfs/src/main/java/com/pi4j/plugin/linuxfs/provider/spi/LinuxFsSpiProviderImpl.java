@@ -0,0 +1,66 @@
+package com.pi4j.plugin.linuxfs.provider.spi;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  LinuxFsSpiProviderImpl.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.boardinfo.util.BoardInfoHelper;
+import com.pi4j.io.spi.Spi;
+import com.pi4j.io.spi.SpiConfig;
+import com.pi4j.io.spi.SpiProviderBase;
+
+/**
+ * <p>LinuxFsSpiProviderImpl class.</p>
+ *
+ * @version $Id: $Id
+ */
+public class LinuxFsSpiProviderImpl extends SpiProviderBase implements LinuxFsSpiProvider {
+
+    /**
+     * <p>Constructor for LinuxFsSpiProviderImpl.</p>
+     */
+    public LinuxFsSpiProviderImpl() {
+        this.id = ID;
+        this.name = NAME;
+    }
+
+    @Override
+    public int getPriority() {
+        // the linux FS driver should be higher priority when on RP1 chip
+        return BoardInfoHelper.usesRP1() ? 100 : 50;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Spi create(SpiConfig config) {
+        // create new I/O instance based on I/O config
+        LinuxFsSpi spi = new LinuxFsSpi(this, config);
+        this.context.registry().add(spi);
+        return spi;
+    }
+}
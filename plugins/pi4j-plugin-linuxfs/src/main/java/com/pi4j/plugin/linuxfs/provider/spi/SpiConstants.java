@@ -0,0 +1,83 @@
+package com.pi4j.plugin.linuxfs.provider.spi;
+
+/*
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: LinuxFS I/O Providers
+ * FILENAME      :  SpiConstants.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+/**
+ * Constants from the Linux spidev user space API, see linux/spi/spidev.h and linux/spi/spi.h
+ */
+public class SpiConstants {
+
+    /* spi_ioc_transfer: tx_buf (u64), rx_buf (u64), len, speed_hz (u32), delay_usecs (u16), bits_per_word,
+       cs_change, tx_nbits, rx_nbits, word_delay_usecs, pad (u8) */
+    public static final int SPI_IOC_TRANSFER_SIZE       = 32;
+    public static final int SPI_IOC_TRANSFER_TX_BUF     = 0;
+    public static final int SPI_IOC_TRANSFER_RX_BUF     = 8;
+    public static final int SPI_IOC_TRANSFER_LEN        = 16;
+    public static final int SPI_IOC_TRANSFER_SPEED_HZ   = 20;
+    public static final int SPI_IOC_TRANSFER_DELAY_USECS = 24;
+    public static final int SPI_IOC_TRANSFER_BITS_PER_WORD = 26;
+    public static final int SPI_IOC_TRANSFER_CS_CHANGE  = 27;
+
+    /* the ioctl size field has 14 bits, limiting SPI_IOC_MESSAGE(n) to 511 transfers */
+    public static final int SPI_IOC_MESSAGE_MAX         = ((1 << 14) - 1) / SPI_IOC_TRANSFER_SIZE;
+
+    /* mode bits */
+    public static final int SPI_CPHA                    = 0x01;
+    public static final int SPI_CPOL                    = 0x02;
+    public static final int SPI_CS_HIGH                 = 0x04;
+    public static final int SPI_LSB_FIRST               = 0x08;
+    public static final int SPI_3WIRE                   = 0x10;
+    public static final int SPI_LOOP                    = 0x20;
+    public static final int SPI_NO_CS                   = 0x40;
+    public static final int SPI_READY                   = 0x80;
+
+    /* _IOR / _IOW('k', nr, size) */
+    public static final long SPI_IOC_RD_MODE            = 0x80016B01L;
+    public static final long SPI_IOC_WR_MODE            = 0x40016B01L;
+    public static final long SPI_IOC_RD_LSB_FIRST       = 0x80016B02L;
+    public static final long SPI_IOC_WR_LSB_FIRST       = 0x40016B02L;
+    public static final long SPI_IOC_RD_BITS_PER_WORD   = 0x80016B03L;
+    public static final long SPI_IOC_WR_BITS_PER_WORD   = 0x40016B03L;
+    public static final long SPI_IOC_RD_MAX_SPEED_HZ    = 0x80046B04L;
+    public static final long SPI_IOC_WR_MAX_SPEED_HZ    = 0x40046B04L;
+
+    /**
+     * SPI_IOC_MESSAGE(n): _IOW('k', 0, char[n * sizeof(struct spi_ioc_transfer)])
+     *
+     * @param n the number of spi_ioc_transfer entries
+     * @return the ioctl request code
+     */
+    public static long SPI_IOC_MESSAGE(int n) {
+        if (n < 1 || n > SPI_IOC_MESSAGE_MAX)
+            throw new IllegalArgumentException("SPI_IOC_MESSAGE supports 1 to " + SPI_IOC_MESSAGE_MAX + " transfers");
+        return 0x40006B00L | ((long) (n * SPI_IOC_TRANSFER_SIZE) << 16);
+    }
+
+    private SpiConstants() {
+    }
+}
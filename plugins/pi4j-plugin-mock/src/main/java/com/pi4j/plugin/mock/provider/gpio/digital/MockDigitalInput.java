@@ -65,7 +65,7 @@ public class MockDigitalInput extends DigitalInputBase implements DigitalInput {
     public MockDigitalInput mockState(DigitalState state){
         if(!this.state.equals(state)) {
             this.state = state;
-            this.dispatch(new DigitalStateChangeEvent(this, this.state));
+            this.dispatch(this.state, System.nanoTime());
         }
         return this;
     }
@@ -33,6 +33,7 @@ import com.pi4j.exception.ShutdownException;
 import com.pi4j.extension.Plugin;
 import com.pi4j.extension.PluginService;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioSocket;
 import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalInputProvider;
 import com.pi4j.plugin.pigpio.provider.gpio.digital.PiGpioDigitalOutputProvider;
 import com.pi4j.plugin.pigpio.provider.i2c.PiGpioI2CProvider;
@@ -104,6 +105,10 @@ public class PiGpioPlugin implements Plugin {
     public static String PIGPIO_HOST_PROPERTY = "pi4j.pigpio.host";
     /** Constant <code>PIGPIO_PORT_PROPERTY="pi4j.pigpio.port"</code> */
     public static String PIGPIO_PORT_PROPERTY = "pi4j.pigpio.port";
+    /** Constant <code>PIGPIO_CONNECTIONS_PROPERTY="pi4j.pigpio.connections"</code> */
+    public static String PIGPIO_CONNECTIONS_PROPERTY = "pi4j.pigpio.connections";
+    /** Constant <code>PIGPIO_CONNECTION_ASSIGNMENT_PROPERTY="pi4j.pigpio.connection.assignment"</code> */
+    public static String PIGPIO_CONNECTION_ASSIGNMENT_PROPERTY = "pi4j.pigpio.connection.assignment";
     /** Constant <code>DEFAULT_PIGPIO_HOST="127.0.0.1"</code> */
     public static String DEFAULT_PIGPIO_HOST = "127.0.0.1";
     /** Constant <code>DEFAULT_PIGPIO_PORT</code> */
@@ -153,7 +158,17 @@ public class PiGpioPlugin implements Plugin {
             }
 
             // create remote socket connected instance of PIGPIO
-            piGpio = PiGpio.newSocketInstance(host, port);
+            PiGpioSocket piGpioSocket = (PiGpioSocket) PiGpio.newSocketInstance(host, port);
+
+            // optionally spread the commands of concurrent threads over a pool of connections
+            if(service.context().properties().has("pigpio.connections")){
+                int connections = Integer.parseInt(service.context().properties().get("pigpio.connections", "1"));
+                PiGpioSocket.ConnectionAssignment assignment = PiGpioSocket.ConnectionAssignment.valueOf(
+                        service.context().properties().get("pigpio.connection.assignment",
+                                PiGpioSocket.ConnectionAssignment.LEAST_BUSY.name()).toUpperCase());
+                piGpioSocket.connections(connections, assignment);
+            }
+            piGpio = piGpioSocket;
         } else {
             // create a local/native binding instance of PIGPIO
             piGpio = PiGpio.newNativeInstance();
@@ -35,7 +35,7 @@ import com.pi4j.io.gpio.digital.*;
 import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.library.pigpio.PiGpioMode;
 import com.pi4j.library.pigpio.PiGpioPud;
-import com.pi4j.library.pigpio.PiGpioStateChangeListener;
+import com.pi4j.library.pigpio.PiGpioPinLevelListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,13 +66,14 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
     }
 
     /**
-     * PIGPIO Pin Change Event Handler
+     * PIGPIO Pin Level Handler
      *
-     * This listener implementation will forward pin change events received from PIGPIO
-     * to registered Pi4J 'DigitalChangeEvent' event listeners on this digital pin.
+     * This listener implementation will forward pin level changes received from PIGPIO
+     * to registered Pi4J 'DigitalChangeEvent' event listeners on this digital pin, without
+     * a PIGPIO event object being created for each change.
      */
-    private PiGpioStateChangeListener piGpioPinListener =
-            event -> dispatch(new DigitalStateChangeEvent(PiGpioDigitalInput.this, DigitalState.getState(event.state().value())));
+    private PiGpioPinLevelListener piGpioPinListener =
+            (pin, state, tick, timestamp) -> dispatch(DigitalState.getState(state.value()), timestamp);
 
     /** {@inheritDoc} */
     @Override
@@ -107,7 +108,7 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
         }
 
         // add this pin listener
-        this.piGpio.addPinListener(pin, piGpioPinListener);
+        this.piGpio.addPinLevelListener(pin, piGpioPinListener);
         return this;
     }
 
@@ -140,7 +141,7 @@ public class PiGpioDigitalInput extends DigitalInputBase implements DigitalInput
     @Override
     public DigitalInput shutdown(Context context) throws ShutdownException {
         // remove this pin listener
-        this.piGpio.removePinListener(pin, piGpioPinListener);
+        this.piGpio.removePinLevelListener(pin, piGpioPinListener);
         return super.shutdown(context);
     }
 }
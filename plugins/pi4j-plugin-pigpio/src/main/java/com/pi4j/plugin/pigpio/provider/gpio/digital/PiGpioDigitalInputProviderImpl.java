@@ -32,6 +32,7 @@ import com.pi4j.boardinfo.util.BoardInfoHelper;
 import com.pi4j.io.gpio.digital.DigitalInput;
 import com.pi4j.io.gpio.digital.DigitalInputConfig;
 import com.pi4j.io.gpio.digital.DigitalInputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalPort;
 import com.pi4j.library.pigpio.PiGpio;
 
 /**
@@ -77,4 +78,20 @@ public class PiGpioDigitalInputProviderImpl extends DigitalInputProviderBase imp
             return digitalInput;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The pins of the port are accessed with the PiGpio bank commands, so the whole port is read with one command
+     * per bank.
+     */
+    @Override
+    public DigitalPort createPort(DigitalInputConfig... configs) {
+        synchronized (this.piGpio) {
+            // initialize the PIGPIO library
+            if (!this.piGpio.isInitialized())
+                this.piGpio.initialize();
+            return PiGpioDigitalPort.newInputPort(this.piGpio, this, configs);
+        }
+    }
 }
@@ -30,15 +30,21 @@ package com.pi4j.plugin.pigpio.provider.gpio.digital;
 
 import com.pi4j.context.Context;
 import com.pi4j.exception.InitializeException;
+import com.pi4j.exception.ShutdownException;
 import com.pi4j.io.exception.IOException;
 import com.pi4j.io.gpio.digital.*;
 import com.pi4j.library.pigpio.PiGpio;
 import com.pi4j.library.pigpio.PiGpioException;
 import com.pi4j.library.pigpio.PiGpioMode;
 import com.pi4j.library.pigpio.PiGpioState;
+import com.pi4j.library.pigpio.PiGpioWaveMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.Future;
+
+import static com.pi4j.library.pigpio.PiGpioConst.PI_WAVE_MAX_PULSES;
+
 /**
  * <p>PiGpioDigitalOutput class.</p>
  *
@@ -49,6 +55,7 @@ public class PiGpioDigitalOutput extends DigitalOutputBase implements DigitalOut
     private final PiGpio piGpio;
     private final int pin;
     private Logger logger = LoggerFactory.getLogger(this.getClass());
+    private PiGpioWavePlayback playback = null;
 
     /**
      * <p>Constructor for PiGpioDigitalOutput.</p>
@@ -88,4 +95,85 @@ public class PiGpioDigitalOutput extends DigitalOutputBase implements DigitalOut
         }
         return super.state(state);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Pulse trains on GPIO 0-31 are compiled to a PiGpio waveform and transmitted by DMA; repeats use a waveform
+     * chain loop. Note that PiGpio transmits a single waveform at a time: playing a train on another output ends
+     * the train playing on this one, and this output then does not take the final state of its train. Trains the
+     * waveform hardware cannot represent are played in software.
+     */
+    @Override
+    public Future<?> play(PulseTrain train) {
+        if(pin > 31 || train.size() == 0 || train.size() > PI_WAVE_MAX_PULSES || train.repeat() > 0xFFFF)
+            return super.play(train);
+        int mask = 1 << pin;
+        int[] pulses = new int[train.size() * 3];
+        for(int i = 0; i < train.size(); i++){
+            PulseTrain.Step step = train.step(i);
+            if(step.micros() > 0xFFFFFFFFL)
+                return super.play(train);
+            boolean high = step.state() == DigitalState.HIGH;
+            pulses[i * 3]     = high ? mask : 0;
+            pulses[i * 3 + 1] = high ? 0 : mask;
+            pulses[i * 3 + 2] = (int) step.micros();
+        }
+
+        synchronized (piGpio) {
+            try {
+                PiGpioWavePlayback.supersede(piGpio);
+                piGpio.gpioWaveAddNew();
+                piGpio.gpioWaveAddGeneric(pulses, 0, train.size());
+                int wave = piGpio.gpioWaveCreate();
+                try {
+                    if(train.isLoop())
+                        piGpio.gpioWaveTxSend(wave, PiGpioWaveMode.REPEAT);
+                    else if(train.repeat() == 1)
+                        piGpio.gpioWaveTxSend(wave, PiGpioWaveMode.ONE_SHOT);
+                    else
+                        piGpio.gpioWaveChain((byte) 255, (byte) 0, (byte) wave,
+                                (byte) 255, (byte) 1, (byte) train.repeat(), (byte) (train.repeat() >> 8));
+                } catch (PiGpioException e) {
+                    piGpio.gpioWaveDelete(wave);
+                    throw e;
+                }
+                DigitalState last = train.step(train.size() - 1).state();
+                playback = new PiGpioWavePlayback(piGpio, provider().context(), this, wave,
+                        train.micros() * train.repeat(), train.isLoop(), last);
+                return playback;
+            } catch (PiGpioException e) {
+                logger.error(e.getMessage(), e);
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Track the output state left by a finished waveform.
+     */
+    void playbackFinished(PiGpioWavePlayback finished, DigitalState state) {
+        if(playback == finished) {
+            playback = null;
+            super.state(state);
+        }
+    }
+
+    /**
+     * Track the output state written by a {@link PiGpioDigitalPort} bank command.
+     */
+    void portWritten(DigitalState state) {
+        super.state(state);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DigitalOutput shutdown(Context context) throws ShutdownException {
+        synchronized (piGpio) {
+            if(playback != null)
+                playback.cancel(false);
+            playback = null;
+        }
+        return super.shutdown(context);
+    }
 }
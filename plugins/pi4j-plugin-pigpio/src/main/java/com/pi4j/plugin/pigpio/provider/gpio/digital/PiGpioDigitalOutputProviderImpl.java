@@ -32,6 +32,7 @@ import com.pi4j.boardinfo.util.BoardInfoHelper;
 import com.pi4j.io.gpio.digital.DigitalOutput;
 import com.pi4j.io.gpio.digital.DigitalOutputConfig;
 import com.pi4j.io.gpio.digital.DigitalOutputProviderBase;
+import com.pi4j.io.gpio.digital.DigitalPort;
 import com.pi4j.library.pigpio.PiGpio;
 
 /**
@@ -77,4 +78,20 @@ public class PiGpioDigitalOutputProviderImpl extends DigitalOutputProviderBase i
             return digitalOutput;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The pins of the port are accessed with the PiGpio bank commands, so the whole port is read with one command
+     * per bank and output pins set to the same level switch simultaneously.
+     */
+    @Override
+    public DigitalPort createPort(DigitalOutputConfig... configs) {
+        synchronized (this.piGpio) {
+            // initialize the PIGPIO library
+            if (!piGpio.isInitialized())
+                piGpio.initialize();
+            return PiGpioDigitalPort.newOutputPort(this.piGpio, this, configs);
+        }
+    }
 }
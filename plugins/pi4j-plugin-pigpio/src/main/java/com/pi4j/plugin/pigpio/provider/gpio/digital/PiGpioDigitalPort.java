@@ -0,0 +1,204 @@
+package com.pi4j.plugin.pigpio.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioDigitalPort.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.io.exception.IOException;
+import com.pi4j.io.gpio.digital.Digital;
+import com.pi4j.io.gpio.digital.DigitalInput;
+import com.pi4j.io.gpio.digital.DigitalInputConfig;
+import com.pi4j.io.gpio.digital.DigitalInputProvider;
+import com.pi4j.io.gpio.digital.DigitalOutputConfig;
+import com.pi4j.io.gpio.digital.DigitalOutputProvider;
+import com.pi4j.io.gpio.digital.DigitalPort;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioException;
+import com.pi4j.provider.Provider;
+
+/**
+ * <p>PiGpioDigitalPort class.</p>
+ * <p>
+ * {@link DigitalPort} accessing its pins through the PiGpio bank commands: all pins of a bank are read with a single
+ * BR1/BR2 and written with one BS1/BS2 (set) and one BC1/BC2 (clear) command, so the output pins driven to the same
+ * level switch simultaneously.
+ */
+public class PiGpioDigitalPort implements DigitalPort {
+
+    /** Highest GPIO of bank 1 */
+    private static final int BANK_1_LAST = 31;
+    /** Highest GPIO of bank 2 */
+    private static final int BANK_2_LAST = 53;
+
+    private final PiGpio piGpio;
+    private final Digital<?, ?, ?>[] pins;
+    private final int[] addresses;
+    private final boolean output;
+    private final boolean bank2;
+    private boolean closed;
+
+    private PiGpioDigitalPort(PiGpio piGpio, Digital<?, ?, ?>[] pins, boolean output) {
+        this.piGpio = piGpio;
+        this.pins = pins;
+        this.output = output;
+        this.addresses = new int[pins.length];
+        boolean bank2 = false;
+        for (int i = 0; i < pins.length; i++) {
+            this.addresses[i] = pins[i].address().intValue();
+            if (this.addresses[i] > BANK_1_LAST)
+                bank2 = true;
+        }
+        this.bank2 = bank2;
+    }
+
+    static PiGpioDigitalPort newOutputPort(PiGpio piGpio, DigitalOutputProvider provider, DigitalOutputConfig... configs) {
+        checkConfigs(configs.length);
+        for (DigitalOutputConfig config : configs)
+            checkAddress(config.address());
+        PiGpioDigitalOutput[] pins = new PiGpioDigitalOutput[configs.length];
+        try {
+            for (int i = 0; i < configs.length; i++)
+                pins[i] = (PiGpioDigitalOutput) provider.create(configs[i]);
+        } catch (RuntimeException e) {
+            shutdown(provider, pins);
+            throw e;
+        }
+        return new PiGpioDigitalPort(piGpio, pins, true);
+    }
+
+    static PiGpioDigitalPort newInputPort(PiGpio piGpio, DigitalInputProvider provider, DigitalInputConfig... configs) {
+        checkConfigs(configs.length);
+        for (DigitalInputConfig config : configs)
+            checkAddress(config.address());
+        DigitalInput[] pins = new DigitalInput[configs.length];
+        try {
+            for (int i = 0; i < configs.length; i++)
+                pins[i] = provider.create(configs[i]);
+        } catch (RuntimeException e) {
+            shutdown(provider, pins);
+            throw e;
+        }
+        return new PiGpioDigitalPort(piGpio, pins, false);
+    }
+
+    @Override
+    public int width() {
+        return this.pins.length;
+    }
+
+    @Override
+    public int address(int bit) {
+        return this.addresses[bit];
+    }
+
+    @Override
+    public boolean isOutput() {
+        return this.output;
+    }
+
+    @Override
+    public long read() {
+        long levels;
+        try {
+            levels = this.piGpio.gpioRead_Bits_0_31() & 0xFFFFFFFFL;
+            if (this.bank2)
+                levels |= (long) this.piGpio.gpioRead_Bits_32_53() << 32;
+        } catch (PiGpioException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        long value = 0;
+        for (int bit = 0; bit < this.addresses.length; bit++) {
+            if ((levels & (1L << this.addresses[bit])) != 0)
+                value |= 1L << bit;
+        }
+        return value;
+    }
+
+    @Override
+    public synchronized DigitalPort write(long value, long mask) {
+        if (!this.output)
+            throw new UnsupportedOperationException("Can't write a digital input port");
+
+        // map the port bits onto the GPIO banks
+        long set = 0;
+        long clear = 0;
+        for (int bit = 0; bit < this.addresses.length; bit++) {
+            if ((mask & (1L << bit)) == 0)
+                continue;
+            if ((value & (1L << bit)) != 0)
+                set |= 1L << this.addresses[bit];
+            else
+                clear |= 1L << this.addresses[bit];
+        }
+
+        try {
+            if ((int) set != 0)
+                this.piGpio.gpioWrite_Bits_0_31_Set((int) set);
+            if ((int) clear != 0)
+                this.piGpio.gpioWrite_Bits_0_31_Clear((int) clear);
+            if ((int) (set >>> 32) != 0)
+                this.piGpio.gpioWrite_Bits_32_53_Set((int) (set >>> 32));
+            if ((int) (clear >>> 32) != 0)
+                this.piGpio.gpioWrite_Bits_32_53_Clear((int) (clear >>> 32));
+        } catch (PiGpioException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        // keep the state of the individual outputs in sync
+        for (int bit = 0; bit < this.pins.length; bit++) {
+            if ((mask & (1L << bit)) != 0)
+                ((PiGpioDigitalOutput) this.pins[bit]).portWritten(DigitalState.getState((value & (1L << bit)) != 0));
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.closed)
+            return;
+        this.closed = true;
+        for (Digital<?, ?, ?> pin : this.pins)
+            pin.provider().context().shutdown(pin.id());
+    }
+
+    private static void shutdown(Provider<?, ?, ?> provider, Digital<?, ?, ?>[] pins) {
+        for (Digital<?, ?, ?> pin : pins) {
+            if (pin != null)
+                provider.context().shutdown(pin.id());
+        }
+    }
+
+    private static void checkConfigs(int width) {
+        if (width == 0 || width > MAX_WIDTH)
+            throw new IllegalArgumentException("A digital port must have 1 to " + MAX_WIDTH + " pins, not " + width);
+    }
+
+    private static void checkAddress(Integer address) {
+        if (address == null || address < 0 || address > BANK_2_LAST)
+            throw new IllegalArgumentException("PiGpio digital port pins must be GPIO 0-" + BANK_2_LAST + ", not " + address);
+    }
+}
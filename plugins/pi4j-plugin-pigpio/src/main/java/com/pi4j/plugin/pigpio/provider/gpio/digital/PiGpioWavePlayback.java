@@ -0,0 +1,218 @@
+package com.pi4j.plugin.pigpio.provider.gpio.digital;
+
+/*-
+ * #%L
+ * **********************************************************************
+ * ORGANIZATION  :  Pi4J
+ * PROJECT       :  Pi4J :: PLUGIN   :: PIGPIO I/O Providers
+ * FILENAME      :  PiGpioWavePlayback.java
+ *
+ * This file is part of the Pi4J project. More information about
+ * this project can be found here:  https://pi4j.com/
+ * **********************************************************************
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU General Lesser Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/lgpl-3.0.html>.
+ * #L%
+ */
+
+import com.pi4j.context.Context;
+import com.pi4j.io.gpio.digital.DigitalState;
+import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Playback of a pulse train compiled to a PiGpio waveform. The PiGpio library transmits the waveform by DMA;
+ * completion is only checked against the daemon once the expected playing time has passed. A finite playback is
+ * also checked by a task of the Pi4J scheduler, so its waveform is deleted even if the future is never polled.
+ * <p>
+ * PiGpio has a single waveform transmitter, so the playback transmitted by each PiGpio instance is tracked across
+ * all outputs: a new waveform supersedes the current one, whichever output it plays on.
+ */
+class PiGpioWavePlayback implements Future<Void> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PiGpioWavePlayback.class);
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /** Interval of the scheduled completion checks once the expected playing time has passed */
+    private static final long CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** The playback currently transmitted by each PiGpio instance, guarded by the lock of the instance */
+    private static final Map<PiGpio, PiGpioWavePlayback> TRANSMITTING = new ConcurrentHashMap<>();
+
+    private final PiGpio piGpio;
+    private final Context context;
+    private final PiGpioDigitalOutput output;
+    private final int wave;
+    private final boolean loop;
+    private final long end;
+    private final DigitalState finalState;
+    private volatile boolean done = false;
+    private volatile boolean cancelled = false;
+
+    /**
+     * @param piGpio     the PiGpio instance transmitting the waveform
+     * @param context    the context scheduling the completion checks
+     * @param output     the output the waveform plays on
+     * @param wave       the id of the transmitted waveform, deleted when the playback ends
+     * @param micros     the expected playing time in microseconds, ignored when looping
+     * @param loop       true if the waveform repeats until cancelled
+     * @param finalState the output state after the last pulse
+     */
+    PiGpioWavePlayback(PiGpio piGpio, Context context, PiGpioDigitalOutput output, int wave, long micros,
+                       boolean loop, DigitalState finalState) {
+        this.piGpio = piGpio;
+        this.context = context;
+        this.output = output;
+        this.wave = wave;
+        this.loop = loop;
+        this.end = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(micros);
+        this.finalState = finalState;
+        TRANSMITTING.put(piGpio, this);
+        if (!loop)
+            scheduleCheck(Math.max(end - System.nanoTime(), 0));
+    }
+
+    /**
+     * End the playback transmitted by the given PiGpio instance, on whichever output, because a new waveform is
+     * about to replace it; the superseded output does not take the final state of its train. The caller must hold
+     * the lock of the PiGpio instance.
+     *
+     * @param piGpio the PiGpio instance
+     */
+    static void supersede(PiGpio piGpio) {
+        PiGpioWavePlayback current = TRANSMITTING.get(piGpio);
+        if (current != null)
+            current.release();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        synchronized (piGpio) {
+            if (done)
+                return false;
+            cancelled = true;
+            release();
+            return true;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isDone() {
+        if (done)
+            return true;
+        if (loop || System.nanoTime() - end < 0)
+            return false;
+        synchronized (piGpio) {
+            // a playback superseded by another waveform is already done
+            if (!done && !piGpio.gpioWaveTxBusy()) {
+                release();
+                output.playbackFinished(this, finalState);
+            }
+        }
+        return done;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Void get() throws InterruptedException {
+        while (!isDone())
+            park(Long.MAX_VALUE);
+        return result();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Void get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isDone()) {
+            if (System.nanoTime() - deadline >= 0)
+                throw new TimeoutException("PIGPIO waveform " + wave + " still playing");
+            park(deadline);
+        }
+        return result();
+    }
+
+    private void scheduleCheck(long delay) {
+        try {
+            context.scheduleTask(this::check, delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // the context is shutting down, which cancels the playback
+            logger.debug("Cannot schedule completion check of PIGPIO waveform {}: {}", wave, e.getMessage());
+        }
+    }
+
+    // runs on the scheduler until the playback is done, releasing the waveform of a finished one-shot
+    private void check() {
+        try {
+            if (!isDone())
+                scheduleCheck(CHECK_NANOS);
+        } catch (PiGpioException e) {
+            logger.warn("Failed to check completion of PIGPIO waveform {}: {}", wave, e.getMessage());
+        }
+    }
+
+    private void park(long deadline) throws InterruptedException {
+        // sleep through the expected playing time, then poll the daemon
+        long now = System.nanoTime();
+        long wait = loop ? POLL_NANOS * 10 : Math.max(end - now, POLL_NANOS);
+        LockSupport.parkNanos(deadline == Long.MAX_VALUE ? wait : Math.min(wait, Math.max(deadline - now, 0)));
+        if (Thread.interrupted())
+            throw new InterruptedException();
+    }
+
+    private Void result() {
+        if (cancelled)
+            throw new CancellationException("PIGPIO waveform " + wave + " was cancelled");
+        return null;
+    }
+
+    private void release() {
+        done = true;
+        // the transmitter still plays this waveform: stop it before the waveform is deleted
+        if (TRANSMITTING.remove(piGpio, this)) {
+            try {
+                if (piGpio.gpioWaveTxBusy())
+                    piGpio.gpioWaveTxStop();
+            } catch (PiGpioException e) {
+                logger.warn("Failed to stop PIGPIO waveform {}: {}", wave, e.getMessage());
+            }
+        }
+        try {
+            piGpio.gpioWaveDelete(wave);
+        } catch (PiGpioException e) {
+            logger.warn("Failed to delete PIGPIO waveform {}: {}", wave, e.getMessage());
+        }
+    }
+}
@@ -33,7 +33,9 @@ import com.pi4j.io.i2c.I2C;
 import com.pi4j.io.i2c.I2CBase;
 import com.pi4j.io.i2c.I2CConfig;
 import com.pi4j.io.i2c.I2CProvider;
+import com.pi4j.io.i2c.I2CTransaction;
 import com.pi4j.library.pigpio.PiGpio;
+import com.pi4j.library.pigpio.PiGpioI2CZip;
 import com.pi4j.library.pigpio.PiGpioMode;
 
 import java.util.Objects;
@@ -46,6 +48,14 @@ import java.util.Objects;
  */
 public class PiGpioI2C extends I2CBase<PiGpioI2CBus> implements I2C {
 
+    /** Linux i2c_msg flag: do not issue a (repeated) START before the message */
+    private static final int I2C_M_NOSTART = 0x4000;
+    /** Linux i2c_msg flag: treat a NAK from the device as an ACK */
+    private static final int I2C_M_IGNORE_NAK = 0x1000;
+
+    /** The maximum register block length of the SMBus block commands */
+    private static final int SMBUS_BLOCK_MAX = 32;
+
     protected final PiGpio piGpio;
     protected final int handle;
 
@@ -144,6 +154,62 @@ public class PiGpioI2C extends I2CBase<PiGpioI2CBus> implements I2C {
         return piGpio.i2cReadDevice(this.handle, buffer, offset, length);
     }
 
+    // -------------------------------------------------------------------
+    // COMBINED TRANSFER FUNCTIONS
+    // -------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The whole transaction is sent as a single PiGpio I2C zip command, honoring the segment flags.</p>
+     */
+    @Override
+    public int transfer(I2CTransaction transaction) {
+        PiGpioI2CZip steps = PiGpioI2CZip.newBuilder();
+        int address = device();
+        int flags = 0;
+        I2CTransaction.Segment lastRead = null;
+        int reads = 0;
+        for (int i = 0; i < transaction.size(); i++) {
+            I2CTransaction.Segment segment = transaction.segment(i);
+            if (segment.address() != address) {
+                address = segment.address();
+                steps.address(address);
+            }
+            int segmentFlags = (segment.isNoStart() ? I2C_M_NOSTART : 0) | (segment.isIgnoreNak() ? I2C_M_IGNORE_NAK : 0);
+            if (segmentFlags != flags) {
+                flags = segmentFlags;
+                steps.flags(flags);
+            }
+            if (segment.isRead()) {
+                steps.read(segment.length());
+                lastRead = segment;
+                reads++;
+            } else {
+                steps.write(segment.buffer(), segment.offset(), segment.length());
+            }
+        }
+
+        // a single read segment receives the data directly
+        if (reads == 1)
+            return piGpio.i2cZip(this.handle, steps, lastRead.buffer(), lastRead.offset());
+
+        byte[] data = new byte[steps.readLength()];
+        int result = piGpio.i2cZip(this.handle, steps, data, 0);
+        if (result < 0)
+            return result;
+        int position = 0;
+        for (int i = 0; i < transaction.size() && position < result; i++) {
+            I2CTransaction.Segment segment = transaction.segment(i);
+            if (segment.isRead()) {
+                int count = Math.min(segment.length(), result - position);
+                System.arraycopy(data, position, segment.buffer(), segment.offset(), count);
+                position += count;
+            }
+        }
+        return result;
+    }
+
     // -------------------------------------------------------------------
     // DEVICE REGISTER WRITE FUNCTIONS
     // -------------------------------------------------------------------
@@ -191,22 +257,29 @@ public class PiGpioI2C extends I2CBase<PiGpioI2CBus> implements I2C {
 
     /**
      * {@inheritDoc}
-     * <p> Note: Function not supported with PIGPIO provider.
-     * This method 'is' supported in the LinuxFS provider
-     * </p>
+     *
+     * <p>The register address write and the data read are sent as a single PiGpio I2C zip command.</p>
      */
     @Override
     public int readRegister(byte[] register, byte[] buffer, int offset, int length) {
-        throw new IllegalStateException("Not supported, please use LinuxFS plugin");
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        PiGpioI2CZip steps = PiGpioI2CZip.newBuilder().write(register).read(length);
+        return piGpio.i2cZip(this.handle, steps, buffer, offset);
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Blocks of up to 32 bytes are read with an SMBus block read; longer blocks with a single PiGpio
+     * I2C zip command.</p>
      */
     @Override
     public int readRegister(int register, byte[] buffer, int offset, int length) {
         Objects.checkFromIndexSize(offset, length, buffer.length);
-        return piGpio.i2cReadI2CBlockData(this.handle, register, buffer, offset, length);
+        if (length <= SMBUS_BLOCK_MAX)
+            return piGpio.i2cReadI2CBlockData(this.handle, register, buffer, offset, length);
+        PiGpioI2CZip steps = PiGpioI2CZip.newBuilder().write((byte) register).read(length);
+        return piGpio.i2cZip(this.handle, steps, buffer, offset);
     }
 
     /**